@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.action.bulk;
+
+import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkItemRouter;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses bulk request bodies into {@link BulkRequest}s, either from a single array or from the many chunks an HTTP request body
+ * is received in. The items can also be grouped by shard, either in a second pass over the parsed request the way
+ * {@code TransportBulkAction} does it without a {@link BulkItemRouter}, or with a router while they are parsed.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class BulkRequestParserBenchmark {
+
+    @Param({ "10000" })
+    public int items;
+
+    @Param({ "256", "2048" })
+    public int docSize;
+
+    /**
+     * The size of the chunks the body is split into, {@code 0} for a single array.
+     */
+    @Param({ "0", "65536" })
+    public int chunkSize;
+
+    private BytesReference body;
+    private ClusterState clusterState;
+    private IndexNameExpressionResolver indexNameExpressionResolver;
+    private OperationRouting operationRouting;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < items; i++) {
+            builder.append("{\"index\":{\"_index\":\"index-").append(i % 3).append("\",\"_id\":\"").append(i).append("\"}}\n");
+            final int docStart = builder.length();
+            builder.append("{\"@timestamp\":").append(1600000000000L + i).append(",\"message\":\"");
+            while (builder.length() - docStart < docSize) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+            builder.append("\"}\n");
+        }
+        final byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        if (chunkSize == 0) {
+            body = new BytesArray(bytes);
+        } else {
+            final List<BytesReference> chunks = new ArrayList<>();
+            for (int from = 0; from < bytes.length; from += chunkSize) {
+                chunks.add(new BytesArray(bytes, from, Math.min(chunkSize, bytes.length - from)));
+            }
+            body = CompositeBytesReference.of(chunks.toArray(new BytesReference[0]));
+        }
+
+        final Metadata.Builder metadata = Metadata.builder();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (int i = 0; i < 3; i++) {
+            final IndexMetadata indexMetadata = IndexMetadata.builder("index-" + i)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(5)
+                .numberOfReplicas(0)
+                .build();
+            metadata.put(indexMetadata, false);
+            routingTable.addAsNew(indexMetadata);
+        }
+        clusterState = ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).routingTable(routingTable.build()).build();
+        indexNameExpressionResolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+        operationRouting = new OperationRouting(Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+
+    @Benchmark
+    public BulkRequest parse() throws IOException {
+        return new BulkRequest().add(body, null, XContentType.JSON);
+    }
+
+    @Benchmark
+    public Map<ShardId, List<BulkItemRequest>> parseThenRoute() throws IOException {
+        final BulkRequest bulkRequest = new BulkRequest().add(body, null, XContentType.JSON);
+        final Map<String, Index> concreteIndices = new HashMap<>();
+        final Map<ShardId, List<BulkItemRequest>> requestsByShard = new HashMap<>();
+        for (int i = 0; i < bulkRequest.requests().size(); i++) {
+            final DocWriteRequest<?> request = bulkRequest.requests().get(i);
+            final Index concreteIndex = concreteIndices.computeIfAbsent(request.index(), index -> indexNameExpressionResolver
+                .concreteWriteIndex(clusterState, request.indicesOptions(), index, false, false));
+            final String routing = clusterState.metadata().resolveWriteIndexRouting(request.routing(), request.index());
+            final ShardId shardId = operationRouting.indexShards(clusterState, concreteIndex.getName(), request.id(), routing).shardId();
+            requestsByShard.computeIfAbsent(shardId, shard -> new ArrayList<>()).add(new BulkItemRequest(i, request));
+        }
+        return requestsByShard;
+    }
+
+    @Benchmark
+    public BulkRequest routeWhileParsing() throws IOException {
+        return new BulkRequest().itemRouter(new BulkItemRouter(clusterState, indexNameExpressionResolver, operationRouting))
+            .add(body, null, XContentType.JSON);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.cluster.metadata;
+
+import org.opensearch.Version;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves wildcard expressions against clusters with many daily indices, as done on every search and bulk request.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IndexNameExpressionResolverBenchmark {
+
+    private static final int DAYS = 100;
+
+    @Param({ "10000", "50000", "100000" })
+    public int numIndices = 10000;
+
+    @Param({
+        // suffix wildcard, resolved through a range of the sorted indices lookup
+        "app-17-*",
+        // wildcard in the middle of the expression
+        "app-*-2020.01.15",
+        // leading wildcard, which cannot use the literal prefix
+        "*-2020.01.15",
+        // several wildcards
+        "app-1*-2020.01.1*" })
+    public String expression = "app-*-2020.01.15";
+
+    private IndexNameExpressionResolver resolver;
+    private ClusterState state;
+    private IndicesOptions indicesOptions;
+
+    @Setup
+    public void setUp() {
+        final Metadata.Builder metadata = Metadata.builder();
+        final int numApps = Math.max(1, numIndices / DAYS);
+        for (int app = 0; app < numApps; app++) {
+            for (int day = 0; day < DAYS; day++) {
+                final String name = String.format(Locale.ROOT, "app-%d-2020.%02d.%02d", app, 1 + day / 28, 1 + day % 28);
+                final IndexMetadata.Builder index = IndexMetadata.builder(name)
+                    .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0);
+                if (day == DAYS - 1) {
+                    index.putAlias(AliasMetadata.builder("app-" + app + "-latest"));
+                }
+                metadata.put(index);
+            }
+        }
+        state = ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+        resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+        indicesOptions = IndicesOptions.lenientExpandOpen();
+    }
+
+    @Benchmark
+    public String[] resolve() {
+        return resolver.concreteIndexNames(state, indicesOptions, expression);
+    }
+
+    @Benchmark
+    public String[] resolveAfterMetadataChange() {
+        // a fresh metadata instance is built on every cluster state update that touches indices, so this measures the cost
+        // of resolving an expression for the first time
+        final ClusterState updated = ClusterState.builder(state).metadata(Metadata.builder(state.metadata())).build();
+        return resolver.concreteIndexNames(updated, indicesOptions, expression);
+    }
+}
@@ -0,0 +1,552 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.cache.bitset.BitsetFilterCache;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ObjectMapper;
+import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.collapse.CollapseContext;
+import org.opensearch.search.dfs.DfsSearchResult;
+import org.opensearch.search.fetch.FetchPhase;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.StoredFieldsContext;
+import org.opensearch.search.fetch.subphase.FetchDocValuesContext;
+import org.opensearch.search.fetch.subphase.FetchFieldsContext;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.ScriptFieldsContext;
+import org.opensearch.search.fetch.subphase.highlight.SearchHighlightContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.ReaderContext;
+import org.opensearch.search.internal.ScrollContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.profile.Profilers;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.rescore.RescoreContext;
+import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.suggest.SuggestionSearchContext;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The bare minimum of a {@link SearchContext} needed to build and run a top level aggregation against a searcher outside of a node.
+ */
+final class BenchmarkSearchContext extends SearchContext {
+
+    private final ContextIndexSearcher searcher;
+    private final QueryShardContext queryShardContext;
+    private final BigArrays bigArrays;
+    private final Query query = new MatchAllDocsQuery();
+    private SearchContextAggregations aggregations;
+
+    BenchmarkSearchContext(ContextIndexSearcher searcher, QueryShardContext queryShardContext, BigArrays bigArrays) {
+        this.searcher = searcher;
+        this.queryShardContext = queryShardContext;
+        this.bigArrays = bigArrays;
+    }
+
+    @Override
+    public void setTask(SearchShardTask task) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchShardTask getTask() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    @Override
+    public void preProcess(boolean rewrite) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Query buildFilteredQuery(Query query) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ShardSearchContextId id() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String source() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ShardSearchRequest request() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchType searchType() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchShardTarget shardTarget() {
+        return null;
+    }
+
+    @Override
+    public int numberOfShards() {
+        return 1;
+    }
+
+    @Override
+    public float queryBoost() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScrollContext scrollContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContextAggregations aggregations() {
+        return aggregations;
+    }
+
+    @Override
+    public SearchContext aggregations(SearchContextAggregations aggregations) {
+        this.aggregations = aggregations;
+        return this;
+    }
+
+    @Override
+    public void addSearchExt(SearchExtBuilder searchExtBuilder) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchExtBuilder getSearchExt(String name) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchHighlightContext highlight() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void highlight(SearchHighlightContext highlight) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SuggestionSearchContext suggest() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void suggest(SuggestionSearchContext suggest) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<RescoreContext> rescore() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addRescore(RescoreContext rescore) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hasScriptFields() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScriptFieldsContext scriptFields() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean sourceRequested() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hasFetchSourceContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FetchSourceContext fetchSourceContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext fetchSourceContext(FetchSourceContext fetchSourceContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FetchDocValuesContext docValuesContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext docValuesContext(FetchDocValuesContext docValuesContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FetchFieldsContext fetchFieldsContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext fetchFieldsContext(FetchFieldsContext fetchFieldsContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ContextIndexSearcher searcher() {
+        return searcher;
+    }
+
+    @Override
+    public IndexShard indexShard() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MapperService mapperService() {
+        return queryShardContext.getMapperService();
+    }
+
+    @Override
+    public SimilarityService similarityService() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BigArrays bigArrays() {
+        return bigArrays;
+    }
+
+    @Override
+    public Path spillDirectory() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BitsetFilterCache bitsetFilterCache() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TimeValue timeout() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void timeout(TimeValue timeout) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int terminateAfter() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void terminateAfter(int terminateAfter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean lowLevelCancellation() {
+        return false;
+    }
+
+    @Override
+    public SearchContext minimumScore(float minimumScore) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Float minimumScore() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext sort(SortAndFormats sort) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SortAndFormats sort() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext trackScores(boolean trackScores) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean trackScores() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext trackTotalHitsUpTo(int trackTotalHits) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int trackTotalHitsUpTo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext searchAfter(FieldDoc searchAfter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FieldDoc searchAfter() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext collapse(CollapseContext collapse) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CollapseContext collapse() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext parsedPostFilter(ParsedQuery postFilter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ParsedQuery parsedPostFilter() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Query aliasFilter() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext parsedQuery(ParsedQuery query) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ParsedQuery parsedQuery() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Query query() {
+        return query;
+    }
+
+    @Override
+    public int from() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext from(int from) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext size(int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hasStoredFields() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hasStoredFieldsContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean storedFieldsRequested() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public StoredFieldsContext storedFieldsContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext storedFieldsContext(StoredFieldsContext storedFieldsContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean explain() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void explain(boolean explain) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> groupStats() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void groupStats(List<String> groupStats) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean version() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void version(boolean version) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean seqNoAndPrimaryTerm() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void seqNoAndPrimaryTerm(boolean seqNoAndPrimaryTerm) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int[] docIdsToLoad() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int docIdsToLoadFrom() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int docIdsToLoadSize() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SearchContext docIdsToLoad(int[] docIdsToLoad, int docsIdsToLoadFrom, int docsIdsToLoadSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DfsSearchResult dfsResult() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public QuerySearchResult queryResult() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FetchPhase fetchPhase() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FetchSearchResult fetchResult() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Profilers getProfilers() {
+        return null;
+    }
+
+    @Override
+    public MappedFieldType fieldType(String name) {
+        return queryShardContext.fieldMapper(name);
+    }
+
+    @Override
+    public ObjectMapper getObjectMapper(String name) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getRelativeTimeInMillis() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<Class<?>, Collector> queryCollectors() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public QueryShardContext getQueryShardContext() {
+        return queryShardContext;
+    }
+
+    @Override
+    public ReaderContext readerContext() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AbstractAggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a top level {@code terms} (ordered by key) and {@code date_histogram} aggregation on a segment that is sorted on the
+ * aggregated field against the same documents in an unsorted segment.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IndexSortedAggregationBenchmark {
+
+    private static final String FIELD = "value";
+
+    @Param({ "500000" })
+    public int numDocs;
+
+    @Param({ "terms", "date_histogram" })
+    public String agg;
+
+    @Param({ "true", "false" })
+    public boolean sorted;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private MapperService mapperService;
+    private BigArrays bigArrays;
+    private ContextIndexSearcher searcher;
+    private QueryShardContext queryShardContext;
+    private AbstractAggregationBuilder<?> builder;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        final IndexWriterConfig config = new IndexWriterConfig();
+        if (sorted) {
+            config.setIndexSort(new Sort(new SortedNumericSortField(FIELD, SortField.Type.LONG)));
+        }
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < numDocs; i++) {
+                final Document document = new Document();
+                // a hundred thousand distinct values a hundred milliseconds apart, so a bit under three hours of minutes
+                document.add(new SortedNumericDocValuesField(FIELD, random.nextInt(100_000) * 100L));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("benchmark")
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build(), Settings.EMPTY);
+        final SimilarityService similarityService = new SimilarityService(indexSettings, null, Collections.emptyMap());
+        mapperService = newMapperService(indexSettings, similarityService, new DateFieldType(FIELD));
+        final NoneCircuitBreakerService breakerService = new NoneCircuitBreakerService();
+        bigArrays = new BigArrays(null, breakerService, CircuitBreaker.REQUEST);
+        searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(), IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(), false);
+        queryShardContext = new QueryShardContext(0, indexSettings, bigArrays, null,
+            (ft, index, lookup) -> ft.fielddataBuilder(index, lookup).build(new IndexFieldDataCache.None(), breakerService),
+            mapperService, similarityService, null, NamedXContentRegistry.EMPTY, null, null, searcher, () -> 0L, null, null, () -> true,
+            new SearchModule(Settings.EMPTY, false, Collections.emptyList()).getValuesSourceRegistry());
+
+        if ("terms".equals(agg)) {
+            builder = new TermsAggregationBuilder("terms").field(FIELD).order(BucketOrder.key(true)).size(10);
+        } else {
+            builder = new DateHistogramAggregationBuilder("date_histogram").field(FIELD)
+                .fixedInterval(new DateHistogramInterval("1m"));
+        }
+    }
+
+    /**
+     * A mapper service that only knows the benchmarked field, without parsing any mappings.
+     */
+    private static MapperService newMapperService(IndexSettings indexSettings, SimilarityService similarityService,
+                                                  MappedFieldType fieldType) {
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+            Collections.emptyMap(), Collections.emptyMap());
+        return new MapperService(indexSettings, indexAnalyzers, NamedXContentRegistry.EMPTY, similarityService,
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(), () -> null, () -> false, null) {
+            @Override
+            public MappedFieldType fieldType(String fullName) {
+                return fieldType.name().equals(fullName) ? fieldType : null;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+        mapperService.close();
+    }
+
+    @Benchmark
+    public InternalAggregation aggregate() throws IOException {
+        final BenchmarkSearchContext context = new BenchmarkSearchContext(searcher, queryShardContext, bigArrays);
+        try {
+            context.aggregations(new SearchContextAggregations(AggregatorFactories.EMPTY,
+                new MultiBucketConsumer(Integer.MAX_VALUE, new NoopCircuitBreaker(CircuitBreaker.REQUEST))));
+            final Aggregator aggregator = builder.build(queryShardContext, null).create(context, null, CardinalityUpperBound.ONE);
+            aggregator.preCollection();
+            searcher.search(new MatchAllDocsQuery(), aggregator);
+            aggregator.postCollection();
+            return aggregator.buildTopLevel();
+        } finally {
+            // releases the aggregator and its big arrays
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.metrics;
+
+import org.HdrHistogram.DoubleHistogram;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.search.aggregations.metrics.DDSketchState;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the percentiles sketches on the operations that dominate aggregations with many buckets: adding the values
+ * of a bucket, merging the sketches of many buckets or shards together, reading the quantiles and serializing.
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PercentilesSketchBenchmark {
+    private static final double[] QUANTILES = new double[] { 0.01, 0.05, 0.25, 0.5, 0.75, 0.95, 0.99 };
+
+    private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
+    private final BigArrays bigArrays = new BigArrays(recycler, null, "REQUEST");
+
+    @Param({ "tdigest", "hdr", "ddsketch" })
+    public String method;
+
+    /**
+     * The number of sketches, one per bucket, that the values are spread over.
+     */
+    @Param({ "1", "1000" })
+    public int buckets;
+
+    @Param({ "1000000" })
+    public int values;
+
+    private double[] data;
+    private Sketch[] sketches;
+    private Sketch merged;
+
+    @Setup
+    public void setup() {
+        // latencies are roughly log-normal, which stresses the relative accuracy of the sketches
+        final Random random = new Random(0);
+        data = new double[values];
+        for (int i = 0; i < values; i++) {
+            data[i] = Math.exp(random.nextGaussian() * 2 + 5);
+        }
+        sketches = new Sketch[buckets];
+        for (int i = 0; i < buckets; i++) {
+            sketches[i] = newSketch();
+        }
+        for (int i = 0; i < values; i++) {
+            sketches[i % buckets].add(data[i]);
+        }
+        merged = merge();
+    }
+
+    @Benchmark
+    public void add(Blackhole bh) {
+        final Sketch[] bucketSketches = new Sketch[buckets];
+        for (int i = 0; i < buckets; i++) {
+            bucketSketches[i] = newSketch();
+        }
+        for (int i = 0; i < values; i++) {
+            bucketSketches[i % buckets].add(data[i]);
+        }
+        for (Sketch sketch : bucketSketches) {
+            bh.consume(sketch.quantile(0.5));
+            sketch.close();
+        }
+    }
+
+    @Benchmark
+    public void merge(Blackhole bh) {
+        final Sketch sketch = merge();
+        bh.consume(sketch.quantile(0.99));
+        sketch.close();
+    }
+
+    @Benchmark
+    public void quantiles(Blackhole bh) {
+        for (double q : QUANTILES) {
+            bh.consume(merged.quantile(q));
+        }
+    }
+
+    /**
+     * Serializes the sketches of all buckets, the size of the output is what is sent from the shards to the coordinating
+     * node.
+     */
+    @Benchmark
+    public long serialize() throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            for (Sketch sketch : sketches) {
+                sketch.writeTo(out);
+            }
+            return out.size();
+        }
+    }
+
+    private Sketch merge() {
+        final Sketch merged = newSketch();
+        for (Sketch sketch : sketches) {
+            merged.merge(sketch);
+        }
+        return merged;
+    }
+
+    private Sketch newSketch() {
+        switch (method) {
+            case "tdigest":
+                return new TDigestSketch();
+            case "hdr":
+                return new HdrSketch();
+            case "ddsketch":
+                return new DDSketch(bigArrays);
+            default:
+                throw new IllegalArgumentException("Unknown method [" + method + "]");
+        }
+    }
+
+    private interface Sketch {
+        void add(double value);
+
+        void merge(Sketch other);
+
+        double quantile(double q);
+
+        void writeTo(StreamOutput out) throws IOException;
+
+        default void close() {}
+    }
+
+    private static class TDigestSketch implements Sketch {
+        private final TDigestState state = new TDigestState(100);
+
+        @Override
+        public void add(double value) {
+            state.add(value);
+        }
+
+        @Override
+        public void merge(Sketch other) {
+            state.add(((TDigestSketch) other).state);
+        }
+
+        @Override
+        public double quantile(double q) {
+            return state.quantile(q);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            TDigestState.write(state, out);
+        }
+    }
+
+    private static class HdrSketch implements Sketch {
+        private final DoubleHistogram state = new DoubleHistogram(3);
+
+        HdrSketch() {
+            state.setAutoResize(true);
+        }
+
+        @Override
+        public void add(double value) {
+            state.recordValue(value);
+        }
+
+        @Override
+        public void merge(Sketch other) {
+            state.add(((HdrSketch) other).state);
+        }
+
+        @Override
+        public double quantile(double q) {
+            return state.getValueAtPercentile(q * 100);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(state.getNeededByteBufferCapacity());
+            final int length = state.encodeIntoCompressedByteBuffer(buffer);
+            out.writeVInt(length);
+            out.writeBytes(buffer.array(), 0, length);
+        }
+    }
+
+    private static class DDSketch implements Sketch {
+        private final DDSketchState state;
+
+        DDSketch(BigArrays bigArrays) {
+            state = new DDSketchState(0.01, bigArrays);
+        }
+
+        @Override
+        public void add(double value) {
+            state.add(value);
+        }
+
+        @Override
+        public void merge(Sketch other) {
+            state.add(((DDSketch) other).state);
+        }
+
+        @Override
+        public double quantile(double q) {
+            return state.quantile(q);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            DDSketchState.write(state, out);
+        }
+
+        @Override
+        public void close() {
+            state.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.lookup;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberType;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.indices.mapper.MapperRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the doc value accesses a typical {@code function_score} script performs for every matching document, e.g.
+ * {@code doc['popularity'].size() == 0 ? 0 : Math.log1p(doc['popularity'].value)}, without the overhead of compiling and
+ * invoking the script itself.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LeafDocLookupBenchmark {
+
+    private static final String FIELD = "popularity";
+
+    @Param({ "10000" })
+    public int numDocs;
+
+    @Param({ "long", "double" })
+    public String type;
+
+    @Param({ "1", "3" })
+    public int valuesPerDoc;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private MapperService mapperService;
+    private NumericType numericType;
+
+    @Setup
+    public void setup() throws IOException {
+        final boolean isDouble = "double".equals(type);
+        mapperService = newMapperService(new NumberFieldType(FIELD, isDouble ? NumberType.DOUBLE : NumberType.LONG));
+        numericType = isDouble ? NumericType.DOUBLE : NumericType.LONG;
+
+        directory = new ByteBuffersDirectory();
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                final Document document = new Document();
+                for (int v = 0; v < valuesPerDoc; v++) {
+                    final long value = isDouble ? NumericUtils.doubleToSortableLong(random.nextDouble() * 1000) : random.nextInt(1000);
+                    document.add(new SortedNumericDocValuesField(FIELD, value));
+                }
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+    }
+
+    /**
+     * A mapper service that only knows the benchmarked field, without parsing any mappings.
+     */
+    private static MapperService newMapperService(MappedFieldType fieldType) {
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("benchmark")
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build(), Settings.EMPTY);
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+            Collections.emptyMap(), Collections.emptyMap());
+        final SimilarityService similarityService = new SimilarityService(indexSettings, null, Collections.emptyMap());
+        final MapperRegistry mapperRegistry = new IndicesModule(Collections.emptyList()).getMapperRegistry();
+        return new MapperService(indexSettings, indexAnalyzers, NamedXContentRegistry.EMPTY, similarityService, mapperRegistry,
+            () -> null, () -> false, null) {
+            @Override
+            public MappedFieldType fieldType(String fullName) {
+                return fieldType.name().equals(fullName) ? fieldType : null;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+        mapperService.close();
+    }
+
+    @Benchmark
+    public double scoreAllDocs() {
+        final LeafReaderContext context = reader.leaves().get(0);
+        final LeafDocLookup lookup = new LeafDocLookup(mapperService,
+            ft -> new SortedNumericIndexFieldData(ft.name(), numericType), null, context);
+        double score = 0;
+        for (int doc = 0; doc < context.reader().maxDoc(); doc++) {
+            lookup.setDocument(doc);
+            if (lookup.get(FIELD).size() == 0) {
+                continue;
+            }
+            final ScriptDocValues<?> values = lookup.get(FIELD);
+            if (values instanceof ScriptDocValues.Doubles) {
+                score += Math.log1p(((ScriptDocValues.Doubles) values).getValue());
+            } else {
+                score += Math.log1p(((ScriptDocValues.Longs) values).getValue());
+            }
+        }
+        return score;
+    }
+}
@@ -165,6 +165,8 @@ import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.GeoBoundsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.GeoCentroidAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalDDSketchPercentileRanks;
+import org.opensearch.search.aggregations.metrics.InternalDDSketchPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalHDRPercentileRanks;
 import org.opensearch.search.aggregations.metrics.InternalHDRPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalTDigestPercentileRanks;
@@ -174,6 +176,8 @@ import org.opensearch.search.aggregations.metrics.MedianAbsoluteDeviationAggrega
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ParsedAvg;
 import org.opensearch.search.aggregations.metrics.ParsedCardinality;
+import org.opensearch.search.aggregations.metrics.ParsedDDSketchPercentileRanks;
+import org.opensearch.search.aggregations.metrics.ParsedDDSketchPercentiles;
 import org.opensearch.search.aggregations.metrics.ParsedExtendedStats;
 import org.opensearch.search.aggregations.metrics.ParsedGeoBounds;
 import org.opensearch.search.aggregations.metrics.ParsedGeoCentroid;
@@ -1770,6 +1774,8 @@ public class RestHighLevelClient implements Closeable {
         map.put(InternalHDRPercentileRanks.NAME, (p, c) -> ParsedHDRPercentileRanks.fromXContent(p, (String) c));
         map.put(InternalTDigestPercentiles.NAME, (p, c) -> ParsedTDigestPercentiles.fromXContent(p, (String) c));
         map.put(InternalTDigestPercentileRanks.NAME, (p, c) -> ParsedTDigestPercentileRanks.fromXContent(p, (String) c));
+        map.put(InternalDDSketchPercentiles.NAME, (p, c) -> ParsedDDSketchPercentiles.fromXContent(p, (String) c));
+        map.put(InternalDDSketchPercentileRanks.NAME, (p, c) -> ParsedDDSketchPercentileRanks.fromXContent(p, (String) c));
         map.put(PercentilesBucketPipelineAggregationBuilder.NAME, (p, c) -> ParsedPercentilesBucket.fromXContent(p, (String) c));
         map.put(MedianAbsoluteDeviationAggregationBuilder.NAME, (p, c) -> ParsedMedianAbsoluteDeviation.fromXContent(p, (String) c));
         map.put(MinAggregationBuilder.NAME, (p, c) -> ParsedMin.fromXContent(p, (String) c));
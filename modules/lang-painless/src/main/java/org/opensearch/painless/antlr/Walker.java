@@ -33,6 +33,7 @@
 package org.opensearch.painless.antlr;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.DiagnosticErrorListener;
@@ -40,6 +41,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.painless.CompilerSettings;
 import org.opensearch.painless.Location;
@@ -206,7 +208,8 @@ public final class Walker extends PainlessParserBaseVisitor<ANode> {
     private SourceContext buildAntlrTree(String source) {
         ANTLRInputStream stream = new ANTLRInputStream(source);
         PainlessLexer lexer = new EnhancedPainlessLexer(stream, sourceName);
-        PainlessParser parser = new PainlessParser(new CommonTokenStream(lexer));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        PainlessParser parser = new PainlessParser(tokens);
         ParserErrorStrategy strategy = new ParserErrorStrategy(sourceName);
 
         lexer.removeErrorListeners();
@@ -214,11 +217,24 @@ public final class Walker extends PainlessParserBaseVisitor<ANode> {
 
         if (settings.isPicky()) {
             setupPicky(parser);
+            parser.setErrorHandler(strategy);
+            return parser.source();
         }
 
-        parser.setErrorHandler(strategy);
-
-        return parser.source();
+        // Try the much cheaper SLL prediction first, which succeeds for virtually all valid scripts. It bails out on syntax
+        // errors and on the rare input that needs full context, in which case the tokens are parsed again with full LL
+        // prediction, which also reports syntax errors with the usual messages.
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parser.source();
+        } catch (ParseCancellationException e) {
+            tokens.seek(0);
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(strategy);
+            return parser.source();
+        }
     }
 
     private void setupPicky(PainlessParser parser) {
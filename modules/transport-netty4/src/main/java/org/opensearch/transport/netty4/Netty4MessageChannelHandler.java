@@ -59,9 +59,21 @@ import java.util.Queue;
  */
 final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
 
+    // the maximum number of bytes handed to the channel in a single write
+    static final int MAX_WRITE_SIZE = 1 << 18;
+
+    // the maximum number of priority writes flushed in a row while larger messages are queued, so that a steady stream of small
+    // messages cannot hold back larger messages forever
+    static final int MAX_CONSECUTIVE_PRIORITY_WRITES = 16;
+
     private final Netty4Transport transport;
 
+    // Messages that fit into a single write are flushed ahead of queued larger messages. Messages are independent of each other on
+    // the wire, so this is safe, and it keeps small latency sensitive messages such as pings, acks and error responses from waiting
+    // until every large response queued before them has been written.
+    private final Queue<WriteOperation> queuedPriorityWrites = new ArrayDeque<>();
     private final Queue<WriteOperation> queuedWrites = new ArrayDeque<>();
+    private int consecutivePriorityWrites;
 
     private WriteOperation currentWrite;
     private final InboundPipeline pipeline;
@@ -106,7 +118,9 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
         assert msg instanceof ByteBuf;
         assert Transports.assertDefaultThreadContext(transport.getThreadPool().getThreadContext());
-        final boolean queued = queuedWrites.offer(new WriteOperation((ByteBuf) msg, promise));
+        final ByteBuf buf = (ByteBuf) msg;
+        final Queue<WriteOperation> queue = buf.readableBytes() <= MAX_WRITE_SIZE ? queuedPriorityWrites : queuedWrites;
+        final boolean queued = queue.offer(new WriteOperation(buf, promise));
         assert queued;
         assert Transports.assertDefaultThreadContext(transport.getThreadPool().getThreadContext());
     }
@@ -149,7 +163,7 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
         }
         while (channel.isWritable()) {
             if (currentWrite == null) {
-                currentWrite = queuedWrites.poll();
+                currentWrite = nextWrite();
             }
             if (currentWrite == null) {
                 break;
@@ -161,7 +175,7 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
                 continue;
             }
             final int readableBytes = write.buf.readableBytes();
-            final int bufferSize = Math.min(readableBytes, 1 << 18);
+            final int bufferSize = Math.min(readableBytes, MAX_WRITE_SIZE);
             final int readerIndex = write.buf.readerIndex();
             final boolean sliced = readableBytes != bufferSize;
             final ByteBuf writeBuffer;
@@ -198,8 +212,27 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
         }
     }
 
+    private WriteOperation nextWrite() {
+        if (queuedWrites.isEmpty()) {
+            consecutivePriorityWrites = 0;
+            return queuedPriorityWrites.poll();
+        }
+        if (consecutivePriorityWrites < MAX_CONSECUTIVE_PRIORITY_WRITES) {
+            final WriteOperation write = queuedPriorityWrites.poll();
+            if (write != null) {
+                consecutivePriorityWrites++;
+                return write;
+            }
+        }
+        consecutivePriorityWrites = 0;
+        return queuedWrites.poll();
+    }
+
     private void failQueuedWrites() {
         WriteOperation queuedWrite;
+        while ((queuedWrite = queuedPriorityWrites.poll()) != null) {
+            queuedWrite.promise.tryFailure(new ClosedChannelException());
+        }
         while ((queuedWrite = queuedWrites.poll()) != null) {
             queuedWrite.promise.tryFailure(new ClosedChannelException());
         }
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport.netty4;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.network.NetworkService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.SharedGroupFactory;
+import org.junit.After;
+import org.junit.Before;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class Netty4MessageChannelHandlerTests extends OpenSearchTestCase {
+
+    private static final int LARGE_MESSAGE_SIZE = Netty4MessageChannelHandler.MAX_WRITE_SIZE + 1;
+
+    private ThreadPool threadPool;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUpChannel() {
+        threadPool = new TestThreadPool(getTestName());
+        final PageCacheRecycler recycler = new MockPageCacheRecycler(Settings.EMPTY);
+        final Netty4Transport transport = new Netty4Transport(Settings.EMPTY, Version.CURRENT, threadPool,
+            new NetworkService(Collections.emptyList()), recycler, new NamedWriteableRegistry(Collections.emptyList()),
+            new NoneCircuitBreakerService(), new SharedGroupFactory(Settings.EMPTY));
+        channel = new EmbeddedChannel(new Netty4MessageChannelHandler(recycler, transport));
+    }
+
+    @After
+    public void closeChannel() {
+        channel.finishAndReleaseAll();
+        terminate(threadPool);
+    }
+
+    public void testSmallMessagesAreFlushedAheadOfLargeMessages() {
+        final ChannelFuture large = channel.write(message('L', LARGE_MESSAGE_SIZE));
+        final List<ChannelFuture> small = new ArrayList<>();
+        for (char marker = 'a'; marker < 'd'; marker++) {
+            small.add(channel.write(message(marker, between(1, 1024))));
+        }
+        channel.flush();
+
+        // small messages keep their relative order, the large message is written in slices once they are all written
+        assertThat(readOutboundMarkers(), equalTo(Arrays.asList("a", "b", "c", "L", "L")));
+        assertTrue(large.isSuccess());
+        small.forEach(future -> assertTrue(future.isSuccess()));
+    }
+
+    public void testLargeMessagesAreNotStarved() {
+        channel.write(message('L', LARGE_MESSAGE_SIZE));
+        final int extraSmallMessages = between(1, 10);
+        for (int i = 0; i < Netty4MessageChannelHandler.MAX_CONSECUTIVE_PRIORITY_WRITES + extraSmallMessages; i++) {
+            channel.write(message('s', between(1, 1024)));
+        }
+        channel.flush();
+
+        final List<String> expected = new ArrayList<>();
+        expected.addAll(Collections.nCopies(Netty4MessageChannelHandler.MAX_CONSECUTIVE_PRIORITY_WRITES, "s"));
+        expected.addAll(Arrays.asList("L", "L"));
+        expected.addAll(Collections.nCopies(extraSmallMessages, "s"));
+        assertThat(readOutboundMarkers(), equalTo(expected));
+    }
+
+    public void testMessageAtMaxWriteSizeIsAPriorityWrite() {
+        channel.write(message('L', LARGE_MESSAGE_SIZE));
+        channel.write(message('m', Netty4MessageChannelHandler.MAX_WRITE_SIZE));
+        channel.flush();
+        assertThat(readOutboundMarkers(), equalTo(Arrays.asList("m", "L", "L")));
+    }
+
+    public void testQueuedWritesFailOnClose() {
+        final List<ChannelFuture> futures = new ArrayList<>();
+        final List<ByteBuf> messages = new ArrayList<>();
+        final int count = between(1, 5);
+        for (int i = 0; i < count; i++) {
+            final ByteBuf message = randomBoolean() ? message('L', LARGE_MESSAGE_SIZE) : message('s', between(1, 1024));
+            messages.add(message);
+            futures.add(channel.write(message));
+        }
+        channel.close();
+
+        assertNull(channel.readOutbound());
+        for (ChannelFuture future : futures) {
+            assertTrue(future.isDone());
+            assertThat(future.cause(), instanceOf(ClosedChannelException.class));
+        }
+        messages.forEach(ByteBuf::release);
+    }
+
+    private static ByteBuf message(char marker, int size) {
+        final byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) marker);
+        return Unpooled.wrappedBuffer(bytes);
+    }
+
+    /**
+     * Reads all flushed buffers and returns the marker of the message each of them belongs to.
+     */
+    private List<String> readOutboundMarkers() {
+        final List<String> markers = new ArrayList<>();
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            try {
+                assertThat(buf.readableBytes(), lessThanOrEqualTo(Netty4MessageChannelHandler.MAX_WRITE_SIZE));
+                markers.add(String.valueOf((char) buf.getByte(buf.readerIndex())));
+            } finally {
+                buf.release();
+            }
+        }
+        return markers;
+    }
+}
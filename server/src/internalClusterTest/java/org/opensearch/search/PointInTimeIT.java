@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.action.search.ClearScrollResponse;
+import org.opensearch.action.search.ClosePointInTimeAction;
+import org.opensearch.action.search.ClosePointInTimeRequest;
+import org.opensearch.action.search.OpenPointInTimeAction;
+import org.opensearch.action.search.OpenPointInTimeRequest;
+import org.opensearch.action.search.SearchPhaseExecutionException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class PointInTimeIT extends OpenSearchIntegTestCase {
+
+    private String openPointInTime(String[] indices, TimeValue keepAlive) {
+        final OpenPointInTimeRequest request = new OpenPointInTimeRequest(indices, OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS,
+            keepAlive, null, null);
+        return client().execute(OpenPointInTimeAction.INSTANCE, request).actionGet().getPointInTimeId();
+    }
+
+    private ClearScrollResponse closePointInTime(String id) {
+        return client().execute(ClosePointInTimeAction.INSTANCE, new ClosePointInTimeRequest(id)).actionGet();
+    }
+
+    public void testSearchSeesPointInTimeSnapshot() {
+        createIndex("test", Settings.builder().put("index.number_of_shards", randomIntBetween(1, 3)).build());
+        final int numDocs = randomIntBetween(10, 50);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("value", i).get();
+        }
+        refresh("test");
+        final String pitId = openPointInTime(new String[] { "test" }, TimeValue.timeValueMinutes(2));
+        try {
+            final int moreDocs = randomIntBetween(1, 10);
+            for (int i = 0; i < moreDocs; i++) {
+                client().prepareIndex("test", "_doc", Integer.toString(numDocs + i)).setSource("value", numDocs + i).get();
+            }
+            refresh("test");
+            assertHitCount(client().prepareSearch("test").setSize(0).get(), numDocs + moreDocs);
+
+            // concurrent searches against the same point in time all see the original documents
+            for (int i = 0; i < randomIntBetween(2, 5); i++) {
+                final SearchResponse response = client().prepareSearch()
+                    .setPointInTime(new PointInTimeBuilder(pitId).setKeepAlive(TimeValue.timeValueMinutes(2)))
+                    .setSize(0)
+                    .get();
+                assertHitCount(response, numDocs);
+                assertThat(response.pointInTimeId(), equalTo(pitId));
+            }
+        } finally {
+            closePointInTime(pitId);
+        }
+    }
+
+    public void testSearchAfterPagination() {
+        createIndex("test", Settings.builder().put("index.number_of_shards", randomIntBetween(1, 3)).build());
+        final int numDocs = randomIntBetween(10, 100);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("value", i).get();
+        }
+        refresh("test");
+        final String pitId = openPointInTime(new String[] { "test" }, TimeValue.timeValueMinutes(2));
+        try {
+            final Set<String> seen = new HashSet<>();
+            final int pageSize = randomIntBetween(1, 10);
+            Object[] searchAfter = null;
+            while (true) {
+                final SearchResponse response = client().prepareSearch()
+                    .setPointInTime(new PointInTimeBuilder(pitId).setKeepAlive(TimeValue.timeValueMinutes(2)))
+                    .addSort("value", SortOrder.ASC)
+                    .searchAfter(searchAfter)
+                    .setSize(pageSize)
+                    .get();
+                final SearchHit[] hits = response.getHits().getHits();
+                if (hits.length == 0) {
+                    break;
+                }
+                for (SearchHit hit : hits) {
+                    assertTrue("duplicate hit [" + hit.getId() + "]", seen.add(hit.getId()));
+                }
+                searchAfter = hits[hits.length - 1].getSortValues();
+            }
+            assertThat(seen.size(), equalTo(numDocs));
+        } finally {
+            closePointInTime(pitId);
+        }
+    }
+
+    public void testClosePointInTime() {
+        createIndex("test");
+        client().prepareIndex("test", "_doc", "1").setSource("value", 1).get();
+        refresh("test");
+        final String pitId = openPointInTime(new String[] { "test" }, TimeValue.timeValueMinutes(2));
+        final ClearScrollResponse closeResponse = closePointInTime(pitId);
+        assertTrue(closeResponse.isSucceeded());
+        assertThat(closeResponse.getNumFreed(), greaterThan(0));
+
+        expectThrows(SearchPhaseExecutionException.class, () -> client().prepareSearch()
+            .setPointInTime(new PointInTimeBuilder(pitId).setKeepAlive(TimeValue.timeValueMinutes(2)))
+            .get());
+    }
+}
@@ -42,6 +42,8 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.monitor.jvm.HotThreads;
+import org.opensearch.monitor.jvm.HotThreadsSampler;
+import org.opensearch.node.NodeService;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -53,11 +55,19 @@ public class TransportNodesHotThreadsAction extends TransportNodesAction<NodesHo
                                                                          TransportNodesHotThreadsAction.NodeRequest,
                                                                          NodeHotThreads> {
 
+    /**
+     * The type that returns the collapsed stacks recorded by the {@link HotThreadsSampler} instead of sampling on demand.
+     */
+    public static final String SAMPLED_TYPE = "sampled";
+
+    private final NodeService nodeService;
+
     @Inject
     public TransportNodesHotThreadsAction(ThreadPool threadPool, ClusterService clusterService,
-                                          TransportService transportService, ActionFilters actionFilters) {
+                                          TransportService transportService, ActionFilters actionFilters, NodeService nodeService) {
         super(NodesHotThreadsAction.NAME, threadPool, clusterService, transportService, actionFilters,
             NodesHotThreadsRequest::new, NodeRequest::new, ThreadPool.Names.GENERIC, NodeHotThreads.class);
+        this.nodeService = nodeService;
     }
 
     @Override
@@ -78,6 +88,14 @@ public class TransportNodesHotThreadsAction extends TransportNodesAction<NodesHo
 
     @Override
     protected NodeHotThreads nodeOperation(NodeRequest request) {
+        if (SAMPLED_TYPE.equals(request.request.type)) {
+            final HotThreadsSampler sampler = nodeService.getMonitorService().hotThreadsSampler();
+            if (sampler.isEnabled() == false) {
+                throw new IllegalArgumentException("continuous sampling of hot threads is disabled, set ["
+                    + HotThreadsSampler.ENABLED_SETTING.getKey() + "] to enable it");
+            }
+            return new NodeHotThreads(clusterService.localNode(), sampler.collapsedStacks(request.request.interval));
+        }
         HotThreads hotThreads = new HotThreads()
                 .busiestThreads(request.request.threads)
                 .type(request.request.type)
@@ -32,8 +32,11 @@
 
 package org.opensearch.action.admin.cluster.tasks;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionResponse;
+import org.opensearch.cluster.service.MasterTaskStats;
 import org.opensearch.cluster.service.PendingClusterTask;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.xcontent.ToXContentObject;
@@ -46,14 +49,22 @@ import java.util.List;
 public class PendingClusterTasksResponse extends ActionResponse implements Iterable<PendingClusterTask>, ToXContentObject {
 
     private final List<PendingClusterTask> pendingTasks;
+    @Nullable
+    private final MasterTaskStats taskStats;
 
     public PendingClusterTasksResponse(StreamInput in) throws IOException {
         super(in);
         pendingTasks = in.readList(PendingClusterTask::new);
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            taskStats = in.readOptionalWriteable(MasterTaskStats::new);
+        } else {
+            taskStats = null;
+        }
     }
 
-    PendingClusterTasksResponse(List<PendingClusterTask> pendingTasks) {
+    PendingClusterTasksResponse(List<PendingClusterTask> pendingTasks, @Nullable MasterTaskStats taskStats) {
         this.pendingTasks = pendingTasks;
+        this.taskStats = taskStats;
     }
 
     public List<PendingClusterTask> pendingTasks() {
@@ -67,6 +78,14 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
         return pendingTasks();
     }
 
+    /**
+     * The statistics of the tasks the master has executed so far, or {@code null} if the master is on an older version
+     */
+    @Nullable
+    public MasterTaskStats getTaskStats() {
+        return taskStats;
+    }
+
     @Override
     public Iterator<PendingClusterTask> iterator() {
         return pendingTasks.iterator();
@@ -98,6 +117,9 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
             builder.endObject();
         }
         builder.endArray();
+        if (taskStats != null) {
+            taskStats.toXContent(builder, params);
+        }
         builder.endObject();
         return builder;
     }
@@ -117,6 +139,9 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeList(pendingTasks);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeOptionalWriteable(taskStats);
+        }
     }
 
 }
@@ -41,6 +41,7 @@ import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.index.engine.CommitStats;
+import org.opensearch.index.seqno.ReplicationLagStats;
 import org.opensearch.index.seqno.RetentionLeaseStats;
 import org.opensearch.index.seqno.SeqNoStats;
 import org.opensearch.index.shard.ShardPath;
@@ -68,6 +69,19 @@ public class ShardStats implements Writeable, ToXContentFragment {
         return retentionLeaseStats;
     }
 
+    @Nullable
+    private ReplicationLagStats replicationLagStats;
+
+    /**
+     * Gets how far the replicas of this shard lag behind it, only available on primaries.
+     *
+     * @return the replication lag stats, or {@code null} if not available
+     */
+    @Nullable
+    public ReplicationLagStats getReplicationLagStats() {
+        return replicationLagStats;
+    }
+
     private String dataPath;
     private String statePath;
     private boolean isCustomDataPath;
@@ -85,6 +99,9 @@ public class ShardStats implements Writeable, ToXContentFragment {
         if (in.getVersion().onOrAfter(Version.V_6_7_0)) {
             retentionLeaseStats = in.readOptionalWriteable(RetentionLeaseStats::new);
         }
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            replicationLagStats = in.readOptionalWriteable(ReplicationLagStats::new);
+        }
     }
 
     public ShardStats(
@@ -94,6 +111,17 @@ public class ShardStats implements Writeable, ToXContentFragment {
             final CommitStats commitStats,
             final SeqNoStats seqNoStats,
             final RetentionLeaseStats retentionLeaseStats) {
+        this(routing, shardPath, commonStats, commitStats, seqNoStats, retentionLeaseStats, null);
+    }
+
+    public ShardStats(
+            final ShardRouting routing,
+            final ShardPath shardPath,
+            final CommonStats commonStats,
+            final CommitStats commitStats,
+            final SeqNoStats seqNoStats,
+            final RetentionLeaseStats retentionLeaseStats,
+            final ReplicationLagStats replicationLagStats) {
         this.shardRouting = routing;
         this.dataPath = shardPath.getRootDataPath().toString();
         this.statePath = shardPath.getRootStatePath().toString();
@@ -102,6 +130,7 @@ public class ShardStats implements Writeable, ToXContentFragment {
         this.commonStats = commonStats;
         this.seqNoStats = seqNoStats;
         this.retentionLeaseStats = retentionLeaseStats;
+        this.replicationLagStats = replicationLagStats;
     }
 
     /**
@@ -151,6 +180,9 @@ public class ShardStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_6_7_0)) {
             out.writeOptionalWriteable(retentionLeaseStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeOptionalWriteable(replicationLagStats);
+        }
     }
 
     @Override
@@ -172,6 +204,9 @@ public class ShardStats implements Writeable, ToXContentFragment {
         if (retentionLeaseStats != null) {
             retentionLeaseStats.toXContent(builder, params);
         }
+        if (replicationLagStats != null) {
+            replicationLagStats.toXContent(builder, params);
+        }
         builder.startObject(Fields.SHARD_PATH);
         builder.field(Fields.STATE_PATH, statePath);
         builder.field(Fields.DATA_PATH, dataPath);
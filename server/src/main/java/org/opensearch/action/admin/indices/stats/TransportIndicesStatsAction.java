@@ -47,6 +47,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.CommitStats;
+import org.opensearch.index.seqno.ReplicationLagStats;
 import org.opensearch.index.seqno.RetentionLeaseStats;
 import org.opensearch.index.seqno.SeqNoStats;
 import org.opensearch.index.shard.IndexShard;
@@ -119,15 +120,18 @@ public class TransportIndicesStatsAction extends TransportBroadcastByNodeAction<
         CommitStats commitStats;
         SeqNoStats seqNoStats;
         RetentionLeaseStats retentionLeaseStats;
+        ReplicationLagStats replicationLagStats;
         try {
             commitStats = indexShard.commitStats();
             seqNoStats = indexShard.seqNoStats();
             retentionLeaseStats = indexShard.getRetentionLeaseStats();
+            replicationLagStats = indexShard.getReplicationLagStats();
         } catch (final AlreadyClosedException e) {
             // shard is closed - no stats is fine
             commitStats = null;
             seqNoStats = null;
             retentionLeaseStats = null;
+            replicationLagStats = null;
         }
         return new ShardStats(
                 indexShard.routingEntry(),
@@ -135,6 +139,7 @@ public class TransportIndicesStatsAction extends TransportBroadcastByNodeAction<
                 commonStats,
                 commitStats,
                 seqNoStats,
-                retentionLeaseStats);
+                retentionLeaseStats,
+                replicationLagStats);
     }
 }
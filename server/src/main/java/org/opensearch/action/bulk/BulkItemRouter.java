@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.index.Index;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.ingest.IngestService;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the items of a {@link BulkRequest} by the shard they are executed on while the request is being parsed, so that
+ * {@link TransportBulkAction} does not need another pass over all items to build its shard level requests. The items are routed
+ * against the cluster state the router was created with and the requests are never modified: if the cluster state changed by the
+ * time the bulk request is executed, or an item goes through an ingest pipeline, all items are routed as usual instead.
+ * <p>
+ * Items which cannot be routed upfront are left to {@link TransportBulkAction}, namely items targeting indices that do not exist or
+ * cannot be written to and index requests without an id, whose id is only generated when the request is executed.
+ */
+public final class BulkItemRouter {
+
+    private final ClusterState clusterState;
+    private final IndexNameExpressionResolver indexNameExpressionResolver;
+    private final OperationRouting operationRouting;
+    private final Map<String, Index> concreteIndices = new HashMap<>();
+    private final Map<ShardId, List<BulkItemRequest>> requestsByShard = new HashMap<>();
+    private final BitSet routedItems = new BitSet();
+    private boolean stopped;
+
+    public BulkItemRouter(ClusterState clusterState, IndexNameExpressionResolver indexNameExpressionResolver,
+                          OperationRouting operationRouting) {
+        this.clusterState = clusterState;
+        this.indexNameExpressionResolver = indexNameExpressionResolver;
+        this.operationRouting = operationRouting;
+    }
+
+    /**
+     * Routes the item at the given slot of the bulk request, if possible.
+     */
+    void route(int slot, DocWriteRequest<?> request) {
+        if (stopped) {
+            return;
+        }
+        final IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(request);
+        if (indexRequest != null && indexRequest.getPipeline() != null
+            && IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getPipeline()) == false) {
+            stop();
+            return;
+        }
+        if (request.id() == null) {
+            return;
+        }
+        final Metadata metadata = clusterState.metadata();
+        final Index concreteIndex;
+        final String routing;
+        try {
+            concreteIndex = resolveIfAbsent(request);
+            if (concreteIndex == null) {
+                return;
+            }
+            routing = metadata.resolveWriteIndexRouting(request.routing(), request.index());
+        } catch (OpenSearchException | IllegalArgumentException e) {
+            // the failure is reported for this item once the request is executed
+            return;
+        }
+        final ShardId shardId = operationRouting.indexShards(clusterState, concreteIndex.getName(), request.id(), routing).shardId();
+        requestsByShard.computeIfAbsent(shardId, shard -> new ArrayList<>()).add(new BulkItemRequest(slot, request));
+        routedItems.set(slot);
+    }
+
+    private Index resolveIfAbsent(DocWriteRequest<?> request) {
+        Index concreteIndex = concreteIndices.get(request.index());
+        if (concreteIndex == null) {
+            final boolean includeDataStreams = request.opType() == DocWriteRequest.OpType.CREATE;
+            concreteIndex = indexNameExpressionResolver.concreteWriteIndex(clusterState, request.indicesOptions(),
+                request.indices()[0], false, includeDataStreams);
+            final IndexMetadata indexMetadata = clusterState.metadata().index(concreteIndex);
+            if (indexMetadata == null || indexMetadata.getState() == IndexMetadata.State.CLOSE) {
+                return null;
+            }
+            if (hasPipeline(IndexSettings.DEFAULT_PIPELINE.get(indexMetadata.getSettings()))
+                || hasPipeline(IndexSettings.FINAL_PIPELINE.get(indexMetadata.getSettings()))) {
+                stop();
+                return null;
+            }
+            concreteIndices.put(request.index(), concreteIndex);
+        }
+        return concreteIndex;
+    }
+
+    private static boolean hasPipeline(String pipeline) {
+        return IngestService.NOOP_PIPELINE_NAME.equals(pipeline) == false;
+    }
+
+    private void stop() {
+        stopped = true;
+        requestsByShard.clear();
+        routedItems.clear();
+    }
+
+    /**
+     * Whether the items were routed against the given cluster state, in which case {@link #requestsByShard()} can be used as is.
+     */
+    boolean routedOn(ClusterState state) {
+        return stopped == false && clusterState.stateUUID().equals(state.stateUUID());
+    }
+
+    /**
+     * The routed items grouped by shard, in the order they were added to the bulk request.
+     */
+    Map<ShardId, List<BulkItemRequest>> requestsByShard() {
+        return requestsByShard;
+    }
+
+    /**
+     * Whether the item at the given slot of the bulk request was routed.
+     */
+    boolean isRouted(int slot) {
+        return routedItems.get(slot);
+    }
+}
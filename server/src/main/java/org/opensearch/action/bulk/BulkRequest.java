@@ -97,6 +97,9 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
 
     private long sizeInBytes = 0;
 
+    // only set on the node that parses the request, it is not sent over the wire
+    private BulkItemRouter itemRouter;
+
     public BulkRequest() {}
 
     public BulkRequest(StreamInput in) throws IOException {
@@ -177,6 +180,7 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         applyGlobalMandatoryParameters(request);
 
         requests.add(request);
+        routeLastItem(request);
         // lack of source is validated in validate() method
         sizeInBytes += (request.source() != null ? request.source().length() : 0) + REQUEST_OVERHEAD;
         indices.add(request.index());
@@ -195,6 +199,7 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         applyGlobalMandatoryParameters(request);
 
         requests.add(request);
+        routeLastItem(request);
         if (request.doc() != null) {
             sizeInBytes += request.doc().source().length();
         }
@@ -216,11 +221,32 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         applyGlobalMandatoryParameters(request);
 
         requests.add(request);
+        routeLastItem(request);
         sizeInBytes += REQUEST_OVERHEAD;
         indices.add(request.index());
         return this;
     }
 
+    private void routeLastItem(DocWriteRequest<?> request) {
+        if (itemRouter != null) {
+            itemRouter.route(requests.size() - 1, request);
+        }
+    }
+
+    /**
+     * Routes the items that are added from now on to their shards right away, see {@link BulkItemRouter}. The router is local to
+     * this node and is not serialized with the request.
+     */
+    public BulkRequest itemRouter(@Nullable BulkItemRouter itemRouter) {
+        this.itemRouter = itemRouter;
+        return this;
+    }
+
+    @Nullable
+    BulkItemRouter itemRouter() {
+        return itemRouter;
+    }
+
     /**
      * The list of requests in this bulk request.
      */
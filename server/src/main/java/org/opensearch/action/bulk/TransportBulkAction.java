@@ -88,6 +88,7 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportService;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -221,6 +222,8 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
             // this method (doExecute) will be called again, but with the bulk requests updated from the ingest node processing but
             // also with IngestService.NOOP_PIPELINE_NAME on each request. This ensures that this on the second time through this method,
             // this path is never taken.
+            // Pipelines may change the index and routing of the items, so the shards they were routed to while parsing are stale.
+            bulkRequest.itemRouter(null);
             try {
                 if (Assertions.ENABLED) {
                     final boolean arePipelinesResolved = bulkRequest.requests()
@@ -528,11 +531,30 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                 }
             }
 
-            // first, go over all the requests and create a ShardId -> Operations mapping
+            // first, go over all the requests and create a ShardId -> Operations mapping, starting from the items that were
+            // already routed while the request was parsed if that happened against this very cluster state
+            final BulkItemRouter itemRouter = bulkRequest.itemRouter();
+            final boolean routedWhileParsing = itemRouter != null && itemRouter.routedOn(clusterState);
             Map<ShardId, List<BulkItemRequest>> requestsByShard = new HashMap<>();
+            if (routedWhileParsing) {
+                for (Map.Entry<ShardId, List<BulkItemRequest>> entry : itemRouter.requestsByShard().entrySet()) {
+                    List<BulkItemRequest> shardRequests = new ArrayList<>(entry.getValue().size());
+                    for (BulkItemRequest item : entry.getValue()) {
+                        // skip the items that failed above
+                        if (bulkRequest.requests.get(item.id()) != null) {
+                            assert entry.getKey().equals(clusterService.operationRouting().indexShards(clusterState,
+                                entry.getKey().getIndexName(), item.request().id(), item.request().routing()).shardId()) : item;
+                            shardRequests.add(item);
+                        }
+                    }
+                    if (shardRequests.isEmpty() == false) {
+                        requestsByShard.put(entry.getKey(), shardRequests);
+                    }
+                }
+            }
             for (int i = 0; i < bulkRequest.requests.size(); i++) {
                 DocWriteRequest<?> request = bulkRequest.requests.get(i);
-                if (request == null) {
+                if (request == null || (routedWhileParsing && itemRouter.isRouted(i))) {
                     continue;
                 }
                 String concreteIndex = concreteIndices.getConcreteIndex(request.index()).getName();
@@ -541,6 +563,12 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                 List<BulkItemRequest> shardRequests = requestsByShard.computeIfAbsent(shardId, shard -> new ArrayList<>());
                 shardRequests.add(new BulkItemRequest(i, request));
             }
+            if (routedWhileParsing) {
+                // the items that were routed now come after the ones routed while parsing, but shards execute items in slot order
+                for (List<BulkItemRequest> shardRequests : requestsByShard.values()) {
+                    shardRequests.sort(Comparator.comparingInt(BulkItemRequest::id));
+                }
+            }
 
             if (requestsByShard.isEmpty()) {
                 listener.onResponse(new BulkResponse(responses.toArray(new BulkItemResponse[responses.length()]),
@@ -33,6 +33,8 @@
 package org.opensearch.action.get;
 
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.TransportActions;
@@ -43,8 +45,15 @@ import org.opensearch.cluster.routing.ShardIterator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
@@ -52,6 +61,8 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
 
 public class TransportShardMultiGetAction extends TransportSingleShardAction<MultiGetShardRequest, MultiGetShardResponse> {
 
@@ -117,11 +128,13 @@ public class TransportShardMultiGetAction extends TransportSingleShardAction<Mul
         }
 
         MultiGetShardResponse response = new MultiGetShardResponse();
+        final GetResult[] batchedResults = batchedGet(request, shardId, indexShard);
         for (int i = 0; i < request.locations.size(); i++) {
             MultiGetRequest.Item item = request.items.get(i);
             try {
-                GetResult getResult = indexShard.getService().get(item.type(), item.id(), item.storedFields(), request.realtime(),
-                    item.version(), item.versionType(), item.fetchSourceContext());
+                GetResult getResult = batchedResults != null && batchedResults[i] != null ? batchedResults[i] :
+                    indexShard.getService().get(item.type(), item.id(), item.storedFields(), request.realtime(),
+                        item.version(), item.versionType(), item.fetchSourceContext());
                 response.add(request.locations.get(i), new GetResponse(getResult));
             } catch (RuntimeException e) {
                 if (TransportActions.isShardNotAvailableException(e)) {
@@ -137,6 +150,76 @@ public class TransportShardMultiGetAction extends TransportSingleShardAction<Mul
         return response;
     }
 
+    /**
+     * Loads the items that can be served by a single searcher in one batch: their ids are resolved to doc ids in one sorted pass over
+     * the terms dictionary of every segment and their stored fields are read in doc id order. Returns an array aligned with the items
+     * of the request that holds <code>null</code> for the items that have to be executed individually, e.g. because they are missing,
+     * changed since the last refresh of a realtime request or don't match the requested version, or <code>null</code> if no items
+     * were batched.
+     */
+    private GetResult[] batchedGet(MultiGetShardRequest request, ShardId shardId, IndexShard indexShard) {
+        final MapperService mapperService = indexShard.mapperService();
+        final DocumentMapper docMapper = mapperService.documentMapper();
+        final int size = request.items.size();
+        if (docMapper == null || size < 2) {
+            return null;
+        }
+        final String[] types = new String[size];
+        final int[] positions = new int[size];
+        final BytesRef[] uids = new BytesRef[size];
+        int numBatched = 0;
+        for (int i = 0; i < size; i++) {
+            final MultiGetRequest.Item item = request.items.get(i);
+            final String type = item.type() == null || item.type().equals("_all") ? docMapper.type() : item.type();
+            if (docMapper.type().equals(mapperService.resolveDocumentType(type)) == false) {
+                continue;
+            }
+            final Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(item.id()));
+            if (request.realtime() && indexShard.hasUnrefreshedVersion(uid)) {
+                continue;
+            }
+            types[i] = type;
+            positions[numBatched] = i;
+            uids[numBatched++] = uid.bytes();
+        }
+        if (numBatched < 2) {
+            return null;
+        }
+
+        final GetResult[] results = new GetResult[size];
+        // realtime gets of documents that didn't change since the last refresh are served by the internal searcher, see Engine#get
+        final Engine.SearcherScope scope = request.realtime() ? Engine.SearcherScope.INTERNAL : Engine.SearcherScope.EXTERNAL;
+        try (Engine.SearcherSupplier searcherSupplier = indexShard.acquireSearcherSupplier(scope);
+             Engine.Searcher searcher = searcherSupplier.acquireSearcher("mget")) {
+            final DocIdAndVersion[] docs = VersionsAndSeqNoResolver.loadDocIdsAndVersions(searcher.getIndexReader(), IdFieldMapper.NAME,
+                Arrays.copyOf(uids, numBatched), true);
+            final Integer[] order = new Integer[numBatched];
+            for (int j = 0; j < numBatched; j++) {
+                order[j] = j;
+            }
+            Arrays.sort(order, Comparator.comparingInt(j -> docs[j] == null ? -1 : docs[j].docBase + docs[j].docId));
+            for (int j : order) {
+                final int position = positions[j];
+                final MultiGetRequest.Item item = request.items.get(position);
+                final DocIdAndVersion doc = docs[j];
+                // missing documents are cheap to look up individually, which also keeps their get stats accurate
+                if (doc == null || item.versionType().isVersionConflictForReads(doc.version, item.version())) {
+                    continue;
+                }
+                try {
+                    results[position] = indexShard.getService().get(new Engine.GetResult(searcher, doc, false), item.id(),
+                        types[position], item.storedFields(), item.fetchSourceContext());
+                } catch (RuntimeException e) {
+                    // leave it to the individual get to report the failure
+                }
+            }
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("{} failed to batch multi_get, executing items individually", shardId), e);
+            return null;
+        }
+        return results;
+    }
+
     @Override
     protected String getExecutor(MultiGetShardRequest request, ShardId shardId) {
         final ClusterState clusterState = clusterService.state();
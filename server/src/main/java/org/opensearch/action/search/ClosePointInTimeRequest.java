@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+public class ClosePointInTimeRequest extends ActionRequest implements ToXContentObject {
+
+    private static final String ID = "id";
+
+    private final String id;
+
+    public ClosePointInTimeRequest(String id) {
+        this.id = id;
+    }
+
+    public ClosePointInTimeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.id = in.readString();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (Strings.isEmpty(id)) {
+            validationException = addValidationError("point in time id is missing", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(id);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(ID, id);
+        builder.endObject();
+        return builder;
+    }
+
+    public static ClosePointInTimeRequest fromXContent(XContentParser parser) throws IOException {
+        if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException("Malformed content, must start with an object");
+        }
+        String id = null;
+        XContentParser.Token token;
+        String currentFieldName = null;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (ID.equals(currentFieldName) && token == XContentParser.Token.VALUE_STRING) {
+                id = parser.text();
+            } else {
+                throw new IllegalArgumentException("Unknown parameter [" + currentFieldName
+                    + "] in request body or parameter is of the wrong type[" + token + "] ");
+            }
+        }
+        if (Strings.isEmpty(id)) {
+            throw new IllegalArgumentException("point in time id is not provided");
+        }
+        return new ClosePointInTimeRequest(id);
+    }
+}
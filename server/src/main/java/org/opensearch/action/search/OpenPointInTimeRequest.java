@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.IndicesRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.tasks.TaskId;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to open a point in time, which pins the current searcher of every targeted shard until the keep alive expires
+ * or the point in time is closed. Searches and {@code search_after} pagination can then run against the same view of the
+ * data, concurrently and without the per-request state that scroll contexts carry.
+ */
+public final class OpenPointInTimeRequest extends ActionRequest implements IndicesRequest.Replaceable {
+
+    public static final IndicesOptions DEFAULT_INDICES_OPTIONS = IndicesOptions.strictExpandOpenAndForbidClosed();
+
+    private String[] indices;
+    private final IndicesOptions indicesOptions;
+    private final TimeValue keepAlive;
+    @Nullable
+    private final String routing;
+    @Nullable
+    private final String preference;
+
+    public OpenPointInTimeRequest(String[] indices, IndicesOptions indicesOptions, TimeValue keepAlive,
+                                  @Nullable String routing, @Nullable String preference) {
+        this.indices = Objects.requireNonNull(indices);
+        this.indicesOptions = Objects.requireNonNull(indicesOptions);
+        this.keepAlive = keepAlive;
+        this.routing = routing;
+        this.preference = preference;
+    }
+
+    public OpenPointInTimeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.indices = in.readStringArray();
+        this.indicesOptions = IndicesOptions.readIndicesOptions(in);
+        this.keepAlive = in.readTimeValue();
+        this.routing = in.readOptionalString();
+        this.preference = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringArray(indices);
+        indicesOptions.writeIndicesOptions(out);
+        out.writeTimeValue(keepAlive);
+        out.writeOptionalString(routing);
+        out.writeOptionalString(preference);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (indices.length == 0) {
+            validationException = addValidationError("[index] is not specified", validationException);
+        }
+        if (keepAlive == null) {
+            validationException = addValidationError("[keep_alive] is not specified", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public String[] indices() {
+        return indices;
+    }
+
+    @Override
+    public OpenPointInTimeRequest indices(String... indices) {
+        this.indices = Objects.requireNonNull(indices);
+        return this;
+    }
+
+    @Override
+    public IndicesOptions indicesOptions() {
+        return indicesOptions;
+    }
+
+    public TimeValue keepAlive() {
+        return keepAlive;
+    }
+
+    @Nullable
+    public String routing() {
+        return routing;
+    }
+
+    @Nullable
+    public String preference() {
+        return preference;
+    }
+
+    @Override
+    public SearchTask createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        final String description = "open point in time: indices [" + Strings.arrayToCommaDelimitedString(indices) + "] keep_alive ["
+            + keepAlive + "]";
+        return new SearchTask(id, type, action, () -> description, parentTaskId, headers);
+    }
+}
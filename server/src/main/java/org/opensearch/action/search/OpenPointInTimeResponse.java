@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.ParseField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+public final class OpenPointInTimeResponse extends ActionResponse implements ToXContentObject {
+
+    private static final ParseField ID = new ParseField("id");
+
+    private final String pointInTimeId;
+
+    public OpenPointInTimeResponse(String pointInTimeId) {
+        this.pointInTimeId = Objects.requireNonNull(pointInTimeId, "point in time id must be not null");
+    }
+
+    public OpenPointInTimeResponse(StreamInput in) throws IOException {
+        super(in);
+        pointInTimeId = in.readString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(pointInTimeId);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(ID.getPreferredName(), pointInTimeId);
+        builder.endObject();
+        return builder;
+    }
+
+    public String getPointInTimeId() {
+        return pointInTimeId;
+    }
+}
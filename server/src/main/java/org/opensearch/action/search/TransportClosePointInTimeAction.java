@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import java.util.Collection;
+
+public class TransportClosePointInTimeAction extends HandledTransportAction<ClosePointInTimeRequest, ClearScrollResponse> {
+
+    private final ClusterService clusterService;
+    private final SearchTransportService searchTransportService;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    @Inject
+    public TransportClosePointInTimeAction(TransportService transportService, ClusterService clusterService,
+                                           ActionFilters actionFilters, SearchTransportService searchTransportService,
+                                           NamedWriteableRegistry namedWriteableRegistry) {
+        super(ClosePointInTimeAction.NAME, transportService, actionFilters, ClosePointInTimeRequest::new);
+        this.clusterService = clusterService;
+        this.searchTransportService = searchTransportService;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    @Override
+    protected void doExecute(Task task, ClosePointInTimeRequest request, ActionListener<ClearScrollResponse> listener) {
+        final SearchContextId searchContextId = SearchContextId.decode(namedWriteableRegistry, request.getId());
+        final Collection<SearchContextIdForNode> contextIds = searchContextId.shards().values();
+        ClearScrollController.closeContexts(clusterService.state().nodes(), searchTransportService, contextIds,
+            ActionListener.map(listener, freed -> new ClearScrollResponse(freed == contextIds.size(), freed)));
+    }
+}
@@ -350,6 +350,12 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     static final String KEY_SETTINGS = "settings";
     static final String KEY_STATE = "state";
     static final String KEY_MAPPINGS = "mappings";
+
+    /**
+     * Parameter that leaves the mappings out of the non-API XContent representation of the index metadata, for callers that store
+     * the mappings separately.
+     */
+    public static final String SKIP_MAPPINGS_PARAM = "skip_mappings";
     static final String KEY_ALIASES = "aliases";
     static final String KEY_ROLLOVER_INFOS = "rollover_info";
     static final String KEY_SYSTEM = "system";
@@ -1410,11 +1416,13 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
 
             if (context != Metadata.XContentContext.API) {
                 builder.startArray(KEY_MAPPINGS);
-                for (ObjectObjectCursor<String, MappingMetadata> cursor : indexMetadata.getMappings()) {
-                    if (binary) {
-                        builder.value(cursor.value.source().compressed());
-                    } else {
-                        builder.map(XContentHelper.convertToMap(cursor.value.source().uncompressed(), true).v2());
+                if (params.paramAsBoolean(SKIP_MAPPINGS_PARAM, false) == false) {
+                    for (ObjectObjectCursor<String, MappingMetadata> cursor : indexMetadata.getMappings()) {
+                        if (binary) {
+                            builder.value(cursor.value.source().compressed());
+                        } else {
+                            builder.map(XContentHelper.convertToMap(cursor.value.source().uncompressed(), true).v2());
+                        }
                     }
                 }
                 builder.endArray();
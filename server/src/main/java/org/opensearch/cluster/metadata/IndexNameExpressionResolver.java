@@ -70,6 +70,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.Spliterators;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -988,17 +989,40 @@ public class IndexNameExpressionResolver {
         private static Map<String, IndexAbstraction> suffixWildcard(Context context, Metadata metadata, String expression) {
             assert expression.length() >= 2 : "expression [" + expression + "] should have at least a length of 2";
             String fromPrefix = expression.substring(0, expression.length() - 1);
-            char[] toPrefixCharArr = fromPrefix.toCharArray();
-            toPrefixCharArr[toPrefixCharArr.length - 1]++;
-            String toPrefix = new String(toPrefixCharArr);
-            SortedMap<String, IndexAbstraction> subMap = metadata.getIndicesLookup().subMap(fromPrefix, toPrefix);
+            SortedMap<String, IndexAbstraction> subMap = prefixSubMap(metadata.getIndicesLookup(), fromPrefix);
             return filterIndicesLookup(context, subMap, null, context.getOptions());
         }
 
         private static Map<String, IndexAbstraction> otherWildcard(Context context, Metadata metadata, String expression) {
-            final String pattern = expression;
-            return filterIndicesLookup(context, metadata.getIndicesLookup(), e -> Regex.simpleMatch(pattern, e.getKey()),
-                context.getOptions());
+            final SortedMap<String, IndexAbstraction> matches =
+                metadata.getWildcardMatches(expression, pattern -> otherWildcardMatches(metadata.getIndicesLookup(), pattern));
+            return filterIndicesLookup(context, matches, null, context.getOptions());
+        }
+
+        /**
+         * Returns the entries of the indices lookup whose name matches the given pattern. Since the lookup is sorted, only the
+         * names that start with the literal prefix of the pattern (up to its first wildcard) need to be checked.
+         */
+        static SortedMap<String, IndexAbstraction> otherWildcardMatches(SortedMap<String, IndexAbstraction> indicesLookup,
+                                                                       String pattern) {
+            final int firstWildcard = pattern.indexOf('*');
+            final SortedMap<String, IndexAbstraction> candidates =
+                firstWildcard > 0 ? prefixSubMap(indicesLookup, pattern.substring(0, firstWildcard)) : indicesLookup;
+            final SortedMap<String, IndexAbstraction> matches = new TreeMap<>();
+            for (Map.Entry<String, IndexAbstraction> entry : candidates.entrySet()) {
+                if (Regex.simpleMatch(pattern, entry.getKey())) {
+                    matches.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return Collections.unmodifiableSortedMap(matches);
+        }
+
+        private static SortedMap<String, IndexAbstraction> prefixSubMap(SortedMap<String, IndexAbstraction> indicesLookup,
+                                                                        String fromPrefix) {
+            char[] toPrefixCharArr = fromPrefix.toCharArray();
+            toPrefixCharArr[toPrefixCharArr.length - 1]++;
+            String toPrefix = new String(toPrefixCharArr);
+            return indicesLookup.subMap(fromPrefix, toPrefix);
         }
 
         private static Map<String, IndexAbstraction> filterIndicesLookup(Context context, SortedMap<String, IndexAbstraction> indicesLookup,
@@ -54,6 +54,8 @@ import org.opensearch.cluster.coordination.CoordinationMetadata;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.collect.HppcMaps;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.io.stream.StreamInput;
@@ -82,6 +84,7 @@ import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -201,6 +204,17 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
 
     private final SortedMap<String, IndexAbstraction> indicesLookup;
 
+    /**
+     * The maximum weight of the wildcard matches cached per metadata instance. A cached expression weighs one plus the number
+     * of entries of the indices lookup that it matches.
+     */
+    static final long WILDCARD_MATCHES_CACHE_WEIGHT = 64 * 1024;
+
+    // matches of wildcard expressions against the indices lookup, which is immutable so that the cache never needs to be
+    // invalidated: a new metadata instance, with an empty cache, is built whenever indices or aliases change. It is created
+    // on first use since most metadata instances never resolve such expressions.
+    private volatile Cache<String, SortedMap<String, IndexAbstraction>> wildcardMatchesCache;
+
     Metadata(String clusterUUID, boolean clusterUUIDCommitted, long version, CoordinationMetadata coordinationMetadata,
              Settings transientSettings, Settings persistentSettings, DiffableStringMap hashesOfConsistentSettings,
              ImmutableOpenMap<String, IndexMetadata> indices, ImmutableOpenMap<String, IndexTemplateMetadata> templates,
@@ -305,6 +319,53 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
         return indicesLookup;
     }
 
+    /**
+     * Returns the entries of the {@link #getIndicesLookup() indices lookup} that match the given wildcard expression, computing
+     * them with the given function the first time an expression is seen. The cache is bounded by the total number of cached
+     * matches and evicts the least recently used expressions, matches that would take more than the whole cache are never cached.
+     */
+    SortedMap<String, IndexAbstraction> getWildcardMatches(String expression,
+                                                           Function<String, SortedMap<String, IndexAbstraction>> matcher) {
+        final Cache<String, SortedMap<String, IndexAbstraction>> cache = wildcardMatchesCache();
+        SortedMap<String, IndexAbstraction> matches = cache.get(expression);
+        if (matches == null) {
+            matches = matcher.apply(expression);
+            if (wildcardMatchesWeight(expression, matches) <= WILDCARD_MATCHES_CACHE_WEIGHT) {
+                cache.put(expression, matches);
+            }
+        }
+        return matches;
+    }
+
+    private Cache<String, SortedMap<String, IndexAbstraction>> wildcardMatchesCache() {
+        Cache<String, SortedMap<String, IndexAbstraction>> cache = wildcardMatchesCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = wildcardMatchesCache;
+                if (cache == null) {
+                    cache = CacheBuilder.<String, SortedMap<String, IndexAbstraction>>builder()
+                        .setMaximumWeight(WILDCARD_MATCHES_CACHE_WEIGHT)
+                        .weigher(Metadata::wildcardMatchesWeight)
+                        .build();
+                    wildcardMatchesCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private static long wildcardMatchesWeight(String expression, SortedMap<String, IndexAbstraction> matches) {
+        return 1L + matches.size();
+    }
+
+    /**
+     * Returns the total weight of the cached wildcard matches, for tests.
+     */
+    long wildcardMatchesCacheWeight() {
+        final Cache<String, SortedMap<String, IndexAbstraction>> cache = wildcardMatchesCache;
+        return cache == null ? 0 : cache.weight();
+    }
+
     /**
      * Finds the specific index aliases that point to the requested concrete indices directly
      * or that match with the indices via wildcards.
@@ -1399,6 +1460,8 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
             //    while these datastructures aren't even used.
             // 2) The aliasAndIndexLookup can be updated instead of rebuilding it all the time.
 
+            dedupeMappings();
+
             final Set<String> allIndices = new HashSet<>(indices.size());
             final List<String> visibleIndices = new ArrayList<>();
             final List<String> allOpenIndices = new ArrayList<>();
@@ -1497,6 +1560,53 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
                 allOpenIndicesArray, visibleOpenIndicesArray, allClosedIndicesArray, visibleClosedIndicesArray, indicesLookup);
         }
 
+        /**
+         * Makes indices with identical mappings, as is common for indices that were created from the same template, share a
+         * single {@link MappingMetadata} instance so that each distinct mapping is retained only once on heap. Mappings that are
+         * already shared are found by identity, so only indices whose mapping was freshly created or deserialized are rebuilt.
+         */
+        private void dedupeMappings() {
+            // the instance shared by the most indices is kept, which is the one deduplicated by a previous build if any, so that
+            // indices whose mapping did not change keep their IndexMetadata instance and are not considered as changed
+            final Map<MappingMetadata, Integer> sharingIndices = new IdentityHashMap<>();
+            for (ObjectCursor<IndexMetadata> cursor : indices.values()) {
+                final MappingMetadata mapping = dedupableMapping(cursor.value);
+                if (mapping != null) {
+                    sharingIndices.merge(mapping, 1, Integer::sum);
+                }
+            }
+            final Map<MappingMetadata, MappingMetadata> uniqueMappings = new HashMap<>();
+            for (Map.Entry<MappingMetadata, Integer> entry : sharingIndices.entrySet()) {
+                uniqueMappings.merge(entry.getKey(), entry.getKey(),
+                    (existing, mapping) -> sharingIndices.get(existing) >= sharingIndices.get(mapping) ? existing : mapping);
+            }
+            if (uniqueMappings.size() == sharingIndices.size()) {
+                return;
+            }
+            final List<IndexMetadata> deduplicated = new ArrayList<>();
+            for (ObjectCursor<IndexMetadata> cursor : indices.values()) {
+                final MappingMetadata mapping = dedupableMapping(cursor.value);
+                if (mapping != null) {
+                    final MappingMetadata existing = uniqueMappings.get(mapping);
+                    if (existing != mapping) {
+                        deduplicated.add(IndexMetadata.builder(cursor.value).putMapping(existing).build());
+                    }
+                }
+            }
+            for (IndexMetadata indexMetadata : deduplicated) {
+                indices.put(indexMetadata.getIndex().getName(), indexMetadata);
+            }
+        }
+
+        @Nullable
+        private static MappingMetadata dedupableMapping(IndexMetadata indexMetadata) {
+            // indices created before 7.0 may have a _default_ mapping which updates the routing of their mapping in place
+            if (indexMetadata.getCreationVersion().before(Version.V_7_0_0) || indexMetadata.getMappings().size() != 1) {
+                return null;
+            }
+            return indexMetadata.mapping();
+        }
+
         private SortedMap<String, IndexAbstraction> buildIndicesLookup() {
             SortedMap<String, IndexAbstraction> indicesLookup = new TreeMap<>();
             Map<String, DataStream> indexToDataStreamLookup = new HashMap<>();
@@ -71,13 +71,17 @@ import org.opensearch.node.Node;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -90,8 +94,23 @@ public class MasterService extends AbstractLifecycleComponent {
         Setting.positiveTimeSetting("cluster.service.slow_master_task_logging_threshold", TimeValue.timeValueSeconds(10),
             Setting.Property.Dynamic, Setting.Property.NodeScope);
 
+    /**
+     * How long the master may keep computing the cluster state updates of further pending batches, of any executor, on top of
+     * the batch it is executing, so that they are all published as a single cluster state. Disabled by default.
+     */
+    public static final Setting<TimeValue> MASTER_SERVICE_TASK_COALESCING_WINDOW_SETTING =
+        Setting.timeSetting("cluster.service.master_task_coalescing_window", TimeValue.ZERO, TimeValue.ZERO,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     static final String MASTER_UPDATE_THREAD_NAME = "masterService#updateTask";
 
+    /**
+     * The maximum number of distinct task sources that statistics are kept for, tasks of further sources are accounted
+     * under {@link #OTHER_TASK_SOURCES}.
+     */
+    static final int MAX_TRACKED_TASK_SOURCES = 256;
+    static final String OTHER_TASK_SOURCES = "_other";
+
     ClusterStatePublisher clusterStatePublisher;
 
     private final String nodeName;
@@ -99,6 +118,11 @@ public class MasterService extends AbstractLifecycleComponent {
     private java.util.function.Supplier<ClusterState> clusterStateSupplier;
 
     private volatile TimeValue slowTaskLoggingThreshold;
+    private volatile TimeValue taskCoalescingWindow;
+
+    private final Map<String, SourceStatsCounter> taskStatsBySource = new ConcurrentHashMap<>();
+    private final AtomicLong publications = new AtomicLong();
+    private final AtomicLong coalescedBatches = new AtomicLong();
 
     protected final ThreadPool threadPool;
 
@@ -110,6 +134,8 @@ public class MasterService extends AbstractLifecycleComponent {
 
         this.slowTaskLoggingThreshold = MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING, this::setSlowTaskLoggingThreshold);
+        this.taskCoalescingWindow = MASTER_SERVICE_TASK_COALESCING_WINDOW_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MASTER_SERVICE_TASK_COALESCING_WINDOW_SETTING, this::setTaskCoalescingWindow);
 
         this.threadPool = threadPool;
     }
@@ -118,6 +144,10 @@ public class MasterService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = slowTaskLoggingThreshold;
     }
 
+    private void setTaskCoalescingWindow(TimeValue taskCoalescingWindow) {
+        this.taskCoalescingWindow = taskCoalescingWindow;
+    }
+
     public synchronized void setClusterStatePublisher(ClusterStatePublisher publisher) {
         clusterStatePublisher = publisher;
     }
@@ -166,11 +196,14 @@ public class MasterService extends AbstractLifecycleComponent {
 
         class UpdateTask extends BatchedTask {
             final ClusterStateTaskListener listener;
+            // on the same clock as the batch computation, so that the time in queue and the compute time can be told apart
+            final long submittedAtMillis;
 
             UpdateTask(Priority priority, String source, Object task, ClusterStateTaskListener listener,
                        ClusterStateTaskExecutor<?> executor) {
                 super(priority, source, executor, task);
                 this.listener = listener;
+                this.submittedAtMillis = threadPool.relativeTimeInMillis();
             }
 
             @Override
@@ -229,40 +262,43 @@ public class MasterService extends AbstractLifecycleComponent {
         }
 
         final long computationStartTime = threadPool.relativeTimeInMillis();
-        final TaskOutputs taskOutputs = calculateTaskOutputs(taskInputs, previousClusterState);
+        final TaskOutputs taskOutputs = calculateTaskOutputs(taskInputs, previousClusterState, computationStartTime);
         taskOutputs.notifyFailedTasks();
         final TimeValue computationTime = getTimeSince(computationStartTime);
-        logExecutionTime(computationTime, "compute cluster state update", summary);
+        // includes the summaries of the batches that were coalesced with this one
+        final String outputsSummary = taskOutputs.summary;
+        logExecutionTime(computationTime, "compute cluster state update", outputsSummary);
 
         if (taskOutputs.clusterStateUnchanged()) {
             final long notificationStartTime = threadPool.relativeTimeInMillis();
             taskOutputs.notifySuccessfulTasksOnUnchangedClusterState();
             final TimeValue executionTime = getTimeSince(notificationStartTime);
-            logExecutionTime(executionTime, "notify listeners on unchanged cluster state", summary);
+            logExecutionTime(executionTime, "notify listeners on unchanged cluster state", outputsSummary);
         } else {
             final ClusterState newClusterState = taskOutputs.newClusterState;
             if (logger.isTraceEnabled()) {
-                logger.trace("cluster state updated, source [{}]\n{}", summary, newClusterState);
+                logger.trace("cluster state updated, source [{}]\n{}", outputsSummary, newClusterState);
             } else {
-                logger.debug("cluster state updated, version [{}], source [{}]", newClusterState.version(), summary);
+                logger.debug("cluster state updated, version [{}], source [{}]", newClusterState.version(), outputsSummary);
             }
             final long publicationStartTime = threadPool.relativeTimeInMillis();
             try {
-                ClusterChangedEvent clusterChangedEvent = new ClusterChangedEvent(summary, newClusterState, previousClusterState);
+                ClusterChangedEvent clusterChangedEvent = new ClusterChangedEvent(outputsSummary, newClusterState, previousClusterState);
                 // new cluster state, notify all listeners
                 final DiscoveryNodes.Delta nodesDelta = clusterChangedEvent.nodesDelta();
                 if (nodesDelta.hasChanges() && logger.isInfoEnabled()) {
                     String nodesDeltaSummary = nodesDelta.shortSummary();
                     if (nodesDeltaSummary.length() > 0) {
                         logger.info("{}, term: {}, version: {}, delta: {}",
-                            summary, newClusterState.term(), newClusterState.version(), nodesDeltaSummary);
+                            outputsSummary, newClusterState.term(), newClusterState.version(), nodesDeltaSummary);
                     }
                 }
 
                 logger.debug("publishing cluster state version [{}]", newClusterState.version());
+                publications.incrementAndGet();
                 publish(clusterChangedEvent, taskOutputs, publicationStartTime);
             } catch (Exception e) {
-                handleException(summary, publicationStartTime, newClusterState, e);
+                handleException(outputsSummary, publicationStartTime, newClusterState, e);
             }
         }
     }
@@ -292,14 +328,7 @@ public class MasterService extends AbstractLifecycleComponent {
     void onPublicationSuccess(ClusterChangedEvent clusterChangedEvent, TaskOutputs taskOutputs) {
         final long notificationStartTime = threadPool.relativeTimeInMillis();
         taskOutputs.processedDifferentClusterState(clusterChangedEvent.previousState(), clusterChangedEvent.state());
-
-        try {
-            taskOutputs.clusterStatePublished(clusterChangedEvent);
-        } catch (Exception e) {
-            logger.error(() -> new ParameterizedMessage(
-                "exception thrown while notifying executor of new cluster state publication [{}]",
-                clusterChangedEvent.source()), e);
-        }
+        taskOutputs.clusterStatePublished(clusterChangedEvent);
         final TimeValue executionTime = getTimeSince(notificationStartTime);
         logExecutionTime(executionTime, "notify listeners on successful publication of cluster state (version: "
             + clusterChangedEvent.state().version() + ", uuid: " + clusterChangedEvent.state().stateUUID() + ')',
@@ -333,15 +362,120 @@ public class MasterService extends AbstractLifecycleComponent {
         // TODO: do we want to call updateTask.onFailure here?
     }
 
-    private TaskOutputs calculateTaskOutputs(TaskInputs taskInputs, ClusterState previousClusterState) {
-        ClusterTasksResult<Object> clusterTasksResult = executeTasks(taskInputs, previousClusterState);
-        ClusterState newClusterState = patchVersions(previousClusterState, clusterTasksResult);
-        return new TaskOutputs(taskInputs, previousClusterState, newClusterState, getNonFailedTasks(taskInputs, clusterTasksResult),
-            clusterTasksResult.executionResults);
+    private TaskOutputs calculateTaskOutputs(TaskInputs taskInputs, ClusterState previousClusterState, long computationStartTime) {
+        final List<BatchOutputs> batches = new ArrayList<>();
+        ClusterState resultingState = previousClusterState;
+        TaskInputs nextInputs = taskInputs;
+        while (nextInputs != null) {
+            final long batchStartTime = threadPool.relativeTimeInMillis();
+            // the time in queue ends when the computation of the batch starts, it must not include the computation itself
+            final long[] queueTimesInMillis = new long[nextInputs.updateTasks.size()];
+            for (int i = 0; i < queueTimesInMillis.length; i++) {
+                queueTimesInMillis[i] = Math.max(0, batchStartTime - nextInputs.updateTasks.get(i).submittedAtMillis);
+            }
+            final ClusterTasksResult<Object> clusterTasksResult = executeTasks(nextInputs, resultingState);
+            batches.add(new BatchOutputs(nextInputs, getNonFailedTasks(nextInputs, clusterTasksResult),
+                clusterTasksResult.executionResults));
+            resultingState = clusterTasksResult.resultingState;
+            recordTaskStats(nextInputs, queueTimesInMillis, batchStartTime);
+            nextInputs = nextCoalescedTaskInputs(previousClusterState, resultingState, computationStartTime);
+        }
+        ClusterState newClusterState = patchVersions(previousClusterState, resultingState);
+        return new TaskOutputs(previousClusterState, newClusterState, batches);
+    }
+
+    /**
+     * Returns the next pending batch whose cluster state update should be computed on top of the given state and published
+     * together with it, or {@code null} if the state should be published as is.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private TaskInputs nextCoalescedTaskInputs(ClusterState previousClusterState, ClusterState resultingState, long computationStartTime) {
+        final TimeValue coalescingWindow = this.taskCoalescingWindow;
+        if (coalescingWindow.millis() <= 0
+            || threadPool.relativeTimeInMillis() - computationStartTime >= coalescingWindow.millis()
+            // only coalesce while we are the master before and after the update, which all batches may rely on
+            || previousClusterState.nodes().isLocalNodeElectedMaster() == false
+            || resultingState.nodes().isLocalNodeElectedMaster() == false) {
+            return null;
+        }
+        final TaskBatcher.PendingBatch pendingBatch = taskBatcher.pollPendingBatch();
+        if (pendingBatch == null) {
+            return null;
+        }
+        coalescedBatches.incrementAndGet();
+        logger.trace("coalescing [{}] with the pending cluster state update", pendingBatch.tasksSummary);
+        return new TaskInputs((ClusterStateTaskExecutor<Object>) pendingBatch.batchingKey,
+            (List<Batcher.UpdateTask>) pendingBatch.tasks, pendingBatch.tasksSummary);
+    }
+
+    private void recordTaskStats(TaskInputs taskInputs, long[] queueTimesInMillis, long batchStartTime) {
+        final long computeTimeInMillis = Math.max(0, threadPool.relativeTimeInMillis() - batchStartTime);
+        final int batchSize = taskInputs.updateTasks.size();
+        final Map<String, List<Long>> queueTimesBySource = new HashMap<>();
+        for (int i = 0; i < batchSize; i++) {
+            queueTimesBySource.computeIfAbsent(taskSourceKey(taskInputs.updateTasks.get(i).source()), k -> new ArrayList<>())
+                .add(queueTimesInMillis[i]);
+        }
+        for (Map.Entry<String, List<Long>> entry : queueTimesBySource.entrySet()) {
+            String key = entry.getKey();
+            if (taskStatsBySource.containsKey(key) == false && taskStatsBySource.size() >= MAX_TRACKED_TASK_SOURCES) {
+                key = OTHER_TASK_SOURCES;
+            }
+            final SourceStatsCounter counter = taskStatsBySource.computeIfAbsent(key, k -> new SourceStatsCounter());
+            counter.onBatch(entry.getValue(), batchSize, computeTimeInMillis);
+        }
+    }
+
+    /**
+     * Returns the key that the statistics of tasks with the given source are accounted under: the first word of the source,
+     * which names the kind of the task without its arguments, e.g. {@code put-mapping} for {@code put-mapping [index/uuid]}.
+     */
+    static String taskSourceKey(String source) {
+        int end = 0;
+        while (end < source.length() && " [({:".indexOf(source.charAt(end)) < 0) {
+            end++;
+        }
+        return end == 0 ? OTHER_TASK_SOURCES : source.substring(0, end);
+    }
+
+    /**
+     * Returns the statistics of the tasks that this node's master service computed cluster state updates for since it started.
+     * They include the tasks that don't need the node to be the elected master, and are kept when it stops being the master.
+     */
+    public MasterTaskStats stats() {
+        final Map<String, MasterTaskStats.SourceStats> sources = new HashMap<>();
+        taskStatsBySource.forEach((source, counter) -> sources.put(source, counter.stats()));
+        return new MasterTaskStats(publications.get(), coalescedBatches.get(), sources);
+    }
+
+    private static final class SourceStatsCounter {
+        private long tasks;
+        private long batches;
+        private long maxBatchSize;
+        private long queueTimeInMillis;
+        private long maxQueueTimeInMillis;
+        private long computeTimeInMillis;
+
+        synchronized void onBatch(List<Long> queueTimesOfSource, int batchSize, long batchComputeTimeInMillis) {
+            for (long queueTime : queueTimesOfSource) {
+                queueTimeInMillis += queueTime;
+                maxQueueTimeInMillis = Math.max(maxQueueTimeInMillis, queueTime);
+            }
+            tasks += queueTimesOfSource.size();
+            batches++;
+            maxBatchSize = Math.max(maxBatchSize, batchSize);
+            computeTimeInMillis += batchComputeTimeInMillis;
+        }
+
+        synchronized MasterTaskStats.SourceStats stats() {
+            return new MasterTaskStats.SourceStats(tasks, batches, maxBatchSize, queueTimeInMillis, maxQueueTimeInMillis,
+                computeTimeInMillis);
+        }
     }
 
-    private ClusterState patchVersions(ClusterState previousClusterState, ClusterTasksResult<?> executionResult) {
-        ClusterState newClusterState = executionResult.resultingState;
+    private ClusterState patchVersions(ClusterState previousClusterState, ClusterState resultingState) {
+        ClusterState newClusterState = resultingState;
 
         if (previousClusterState != newClusterState) {
             // only the master controls the version numbers
@@ -406,40 +540,45 @@ public class MasterService extends AbstractLifecycleComponent {
     }
 
     /**
-     * Output created by executing a set of tasks provided as TaskInputs
+     * Output created by executing one or more sets of tasks provided as TaskInputs, the sets after the first one were
+     * coalesced into the same cluster state update
      */
     class TaskOutputs {
-        final TaskInputs taskInputs;
+        final String summary;
         final ClusterState previousClusterState;
         final ClusterState newClusterState;
-        final List<Batcher.UpdateTask> nonFailedTasks;
-        final Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults;
+        final List<BatchOutputs> batches;
 
-        TaskOutputs(TaskInputs taskInputs, ClusterState previousClusterState,
-                           ClusterState newClusterState,
-                           List<Batcher.UpdateTask> nonFailedTasks,
-                           Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults) {
-            this.taskInputs = taskInputs;
+        TaskOutputs(ClusterState previousClusterState, ClusterState newClusterState, List<BatchOutputs> batches) {
+            assert batches.isEmpty() == false;
+            this.summary = batches.stream().map(batch -> batch.taskInputs.summary).collect(Collectors.joining(", "));
             this.previousClusterState = previousClusterState;
             this.newClusterState = newClusterState;
-            this.nonFailedTasks = nonFailedTasks;
-            this.executionResults = executionResults;
+            this.batches = batches;
         }
 
         void publishingFailed(FailedToCommitClusterStateException t) {
-            nonFailedTasks.forEach(task -> task.listener.onFailure(task.source(), t));
+            nonFailedTasks().forEach(task -> task.listener.onFailure(task.source(), t));
         }
 
         void processedDifferentClusterState(ClusterState previousClusterState, ClusterState newClusterState) {
-            nonFailedTasks.forEach(task -> task.listener.clusterStateProcessed(task.source(), previousClusterState, newClusterState));
+            nonFailedTasks().forEach(task -> task.listener.clusterStateProcessed(task.source(), previousClusterState, newClusterState));
         }
 
         void clusterStatePublished(ClusterChangedEvent clusterChangedEvent) {
-            taskInputs.executor.clusterStatePublished(clusterChangedEvent);
+            for (BatchOutputs batch : batches) {
+                try {
+                    batch.taskInputs.executor.clusterStatePublished(clusterChangedEvent);
+                } catch (Exception e) {
+                    logger.error(() -> new ParameterizedMessage(
+                        "exception thrown while notifying executor of new cluster state publication [{}]",
+                        clusterChangedEvent.source()), e);
+                }
+            }
         }
 
         Discovery.AckListener createAckListener(ThreadPool threadPool, ClusterState newClusterState) {
-            return new DelegatingAckListener(nonFailedTasks.stream()
+            return new DelegatingAckListener(nonFailedTasks().stream()
                 .filter(task -> task.listener instanceof AckedClusterStateTaskListener)
                 .map(task -> new AckCountDownListener((AckedClusterStateTaskListener) task.listener, newClusterState.version(),
                     newClusterState.nodes(), threadPool))
@@ -452,17 +591,19 @@ public class MasterService extends AbstractLifecycleComponent {
 
         void notifyFailedTasks() {
             // fail all tasks that have failed
-            for (Batcher.UpdateTask updateTask : taskInputs.updateTasks) {
-                assert executionResults.containsKey(updateTask.task) : "missing " + updateTask;
-                final ClusterStateTaskExecutor.TaskResult taskResult = executionResults.get(updateTask.task);
-                if (taskResult.isSuccess() == false) {
-                    updateTask.listener.onFailure(updateTask.source(), taskResult.getFailure());
+            for (BatchOutputs batch : batches) {
+                for (Batcher.UpdateTask updateTask : batch.taskInputs.updateTasks) {
+                    assert batch.executionResults.containsKey(updateTask.task) : "missing " + updateTask;
+                    final ClusterStateTaskExecutor.TaskResult taskResult = batch.executionResults.get(updateTask.task);
+                    if (taskResult.isSuccess() == false) {
+                        updateTask.listener.onFailure(updateTask.source(), taskResult.getFailure());
+                    }
                 }
             }
         }
 
         void notifySuccessfulTasksOnUnchangedClusterState() {
-            nonFailedTasks.forEach(task -> {
+            nonFailedTasks().forEach(task -> {
                 if (task.listener instanceof AckedClusterStateTaskListener) {
                     //no need to wait for ack if nothing changed, the update can be counted as acknowledged
                     ((AckedClusterStateTaskListener) task.listener).onAllNodesAcked(null);
@@ -470,6 +611,33 @@ public class MasterService extends AbstractLifecycleComponent {
                 task.listener.clusterStateProcessed(task.source(), newClusterState, newClusterState);
             });
         }
+
+        private List<Batcher.UpdateTask> nonFailedTasks() {
+            if (batches.size() == 1) {
+                return batches.get(0).nonFailedTasks;
+            }
+            final List<Batcher.UpdateTask> nonFailedTasks = new ArrayList<>();
+            for (BatchOutputs batch : batches) {
+                nonFailedTasks.addAll(batch.nonFailedTasks);
+            }
+            return nonFailedTasks;
+        }
+    }
+
+    /**
+     * Output created by executing a single set of tasks provided as TaskInputs
+     */
+    private static class BatchOutputs {
+        final TaskInputs taskInputs;
+        final List<Batcher.UpdateTask> nonFailedTasks;
+        final Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults;
+
+        BatchOutputs(TaskInputs taskInputs, List<Batcher.UpdateTask> nonFailedTasks,
+                     Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults) {
+            this.taskInputs = taskInputs;
+            this.nonFailedTasks = nonFailedTasks;
+            this.executionResults = executionResults;
+        }
     }
 
     /**
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.service;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput statistics of the cluster state update tasks that were executed by the {@link MasterService}, grouped by the
+ * kind of the task. The kind is derived from the task source by stripping everything after its first word, so that for
+ * instance all {@code put-mapping [index/uuid]} tasks are accounted together.
+ */
+public class MasterTaskStats implements Writeable, ToXContentFragment {
+
+    private final long publications;
+    private final long coalescedBatches;
+    private final Map<String, SourceStats> sources;
+
+    public MasterTaskStats(long publications, long coalescedBatches, Map<String, SourceStats> sources) {
+        this.publications = publications;
+        this.coalescedBatches = coalescedBatches;
+        this.sources = Collections.unmodifiableMap(new TreeMap<>(sources));
+    }
+
+    public MasterTaskStats(StreamInput in) throws IOException {
+        publications = in.readVLong();
+        coalescedBatches = in.readVLong();
+        sources = Collections.unmodifiableMap(new TreeMap<>(in.readMap(StreamInput::readString, SourceStats::new)));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(publications);
+        out.writeVLong(coalescedBatches);
+        out.writeMap(sources, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    /**
+     * The number of computed cluster states that were published.
+     */
+    public long getPublications() {
+        return publications;
+    }
+
+    /**
+     * The number of batches whose cluster state update was computed and published together with the batch of another
+     * executor instead of on its own.
+     */
+    public long getCoalescedBatches() {
+        return coalescedBatches;
+    }
+
+    /**
+     * The statistics per task source, keyed by the first word of the source.
+     */
+    public Map<String, SourceStats> getSources() {
+        return sources;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.MASTER_TASKS);
+        builder.field(Fields.PUBLICATIONS, publications);
+        builder.field(Fields.COALESCED_BATCHES, coalescedBatches);
+        builder.startObject(Fields.SOURCES);
+        for (Map.Entry<String, SourceStats> entry : sources.entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Statistics of the tasks of a single source.
+     */
+    public static class SourceStats implements Writeable, ToXContentFragment {
+
+        private final long tasks;
+        private final long batches;
+        private final long maxBatchSize;
+        private final long queueTimeInMillis;
+        private final long maxQueueTimeInMillis;
+        private final long computeTimeInMillis;
+
+        public SourceStats(long tasks, long batches, long maxBatchSize, long queueTimeInMillis, long maxQueueTimeInMillis,
+                           long computeTimeInMillis) {
+            this.tasks = tasks;
+            this.batches = batches;
+            this.maxBatchSize = maxBatchSize;
+            this.queueTimeInMillis = queueTimeInMillis;
+            this.maxQueueTimeInMillis = maxQueueTimeInMillis;
+            this.computeTimeInMillis = computeTimeInMillis;
+        }
+
+        public SourceStats(StreamInput in) throws IOException {
+            tasks = in.readVLong();
+            batches = in.readVLong();
+            maxBatchSize = in.readVLong();
+            queueTimeInMillis = in.readVLong();
+            maxQueueTimeInMillis = in.readVLong();
+            computeTimeInMillis = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(tasks);
+            out.writeVLong(batches);
+            out.writeVLong(maxBatchSize);
+            out.writeVLong(queueTimeInMillis);
+            out.writeVLong(maxQueueTimeInMillis);
+            out.writeVLong(computeTimeInMillis);
+        }
+
+        /**
+         * The number of executed tasks.
+         */
+        public long getTasks() {
+            return tasks;
+        }
+
+        /**
+         * The number of batches the tasks were executed in.
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * The largest number of tasks, of any source, in a batch that contained tasks of this source.
+         */
+        public long getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * The total time the tasks waited in the queue until their batch was executed.
+         */
+        public TimeValue getQueueTime() {
+            return TimeValue.timeValueMillis(queueTimeInMillis);
+        }
+
+        public TimeValue getMaxQueueTime() {
+            return TimeValue.timeValueMillis(maxQueueTimeInMillis);
+        }
+
+        /**
+         * The total time spent computing the cluster state updates of the batches the tasks were executed in.
+         */
+        public TimeValue getComputeTime() {
+            return TimeValue.timeValueMillis(computeTimeInMillis);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.TASKS, tasks);
+            builder.field(Fields.BATCHES, batches);
+            builder.field(Fields.MAX_BATCH_SIZE, maxBatchSize);
+            builder.humanReadableField(Fields.QUEUE_TIME_IN_MILLIS, Fields.QUEUE_TIME, getQueueTime());
+            builder.humanReadableField(Fields.MAX_QUEUE_TIME_IN_MILLIS, Fields.MAX_QUEUE_TIME, getMaxQueueTime());
+            builder.humanReadableField(Fields.COMPUTE_TIME_IN_MILLIS, Fields.COMPUTE_TIME, getComputeTime());
+            return builder;
+        }
+    }
+
+    static final class Fields {
+        static final String MASTER_TASKS = "master_tasks";
+        static final String PUBLICATIONS = "publications";
+        static final String COALESCED_BATCHES = "coalesced_batches";
+        static final String SOURCES = "sources";
+        static final String TASKS = "tasks";
+        static final String BATCHES = "batches";
+        static final String MAX_BATCH_SIZE = "max_batch_size";
+        static final String QUEUE_TIME = "queue_time";
+        static final String QUEUE_TIME_IN_MILLIS = "queue_time_in_millis";
+        static final String MAX_QUEUE_TIME = "max_queue_time";
+        static final String MAX_QUEUE_TIME_IN_MILLIS = "max_queue_time_in_millis";
+        static final String COMPUTE_TIME = "compute_time";
+        static final String COMPUTE_TIME_IN_MILLIS = "compute_time_in_millis";
+    }
+}
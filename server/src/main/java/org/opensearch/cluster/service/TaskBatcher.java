@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -58,8 +59,8 @@ public abstract class TaskBatcher {
 
     private final Logger logger;
     private final PrioritizedOpenSearchThreadPoolExecutor threadExecutor;
-    // package visible for tests
-    final Map<Object, LinkedHashSet<BatchedTask>> tasksPerBatchingKey = new HashMap<>();
+    // package visible for tests, iterates in the order batching keys were first submitted
+    final Map<Object, LinkedHashSet<BatchedTask>> tasksPerBatchingKey = new LinkedHashMap<>();
 
     public TaskBatcher(Logger logger, PrioritizedOpenSearchThreadPoolExecutor threadExecutor) {
         this.logger = logger;
@@ -137,32 +138,79 @@ public abstract class TaskBatcher {
         // if this task is already processed, it shouldn't execute other tasks with same batching key that arrived later,
         // to give other tasks with different batching key a chance to execute.
         if (updateTask.processed.get() == false) {
-            final List<BatchedTask> toExecute = new ArrayList<>();
-            final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
+            final List<BatchedTask> toExecute;
             synchronized (tasksPerBatchingKey) {
-                LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
-                if (pending != null) {
-                    for (BatchedTask task : pending) {
-                        if (task.processed.getAndSet(true) == false) {
-                            logger.trace("will process {}", task);
-                            toExecute.add(task);
-                            processTasksBySource.computeIfAbsent(task.source, s -> new ArrayList<>()).add(task);
-                        } else {
-                            logger.trace("skipping {}, already processed", task);
+                toExecute = markProcessed(tasksPerBatchingKey.remove(updateTask.batchingKey));
+            }
+
+            if (toExecute.isEmpty() == false) {
+                run(updateTask.batchingKey, toExecute, describeBatch(updateTask, toExecute));
+            }
+        }
+    }
+
+    /**
+     * Takes the pending tasks of the batching key that the executor would run next, i.e. the key with the highest priority
+     * pending task, ties broken by the order the keys were submitted in. The taken tasks are marked as processed so that
+     * their entries in the executor's queue become no-ops. This allows implementations to coalesce the execution of tasks
+     * with different batching keys.
+     *
+     * @return the pending tasks of the next batching key, or {@code null} if there are no pending tasks
+     */
+    @Nullable
+    protected PendingBatch pollPendingBatch() {
+        while (true) {
+            final Object batchingKey;
+            final List<BatchedTask> toExecute;
+            synchronized (tasksPerBatchingKey) {
+                Object nextKey = null;
+                Priority nextPriority = null;
+                for (Map.Entry<Object, LinkedHashSet<BatchedTask>> entry : tasksPerBatchingKey.entrySet()) {
+                    for (BatchedTask task : entry.getValue()) {
+                        if (nextPriority == null || nextPriority.after(task.priority())) {
+                            nextKey = entry.getKey();
+                            nextPriority = task.priority();
                         }
                     }
                 }
+                if (nextKey == null) {
+                    return null;
+                }
+                batchingKey = nextKey;
+                toExecute = markProcessed(tasksPerBatchingKey.remove(nextKey));
             }
-
+            // all tasks of the key might have timed out concurrently, in which case we look for the next key
             if (toExecute.isEmpty() == false) {
-                final String tasksSummary = processTasksBySource.entrySet().stream().map(entry -> {
-                    String tasks = updateTask.describeTasks(entry.getValue());
-                    return tasks.isEmpty() ? entry.getKey() : entry.getKey() + "[" + tasks + "]";
-                }).reduce((s1, s2) -> s1 + ", " + s2).orElse("");
+                return new PendingBatch(batchingKey, toExecute, describeBatch(toExecute.get(0), toExecute));
+            }
+        }
+    }
 
-                run(updateTask.batchingKey, toExecute, tasksSummary);
+    private List<BatchedTask> markProcessed(@Nullable LinkedHashSet<BatchedTask> pending) {
+        assert Thread.holdsLock(tasksPerBatchingKey);
+        final List<BatchedTask> toExecute = new ArrayList<>();
+        if (pending != null) {
+            for (BatchedTask task : pending) {
+                if (task.processed.getAndSet(true) == false) {
+                    logger.trace("will process {}", task);
+                    toExecute.add(task);
+                } else {
+                    logger.trace("skipping {}, already processed", task);
+                }
             }
         }
+        return toExecute;
+    }
+
+    private static String describeBatch(BatchedTask anyTask, List<BatchedTask> tasks) {
+        final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
+        for (BatchedTask task : tasks) {
+            processTasksBySource.computeIfAbsent(task.source, s -> new ArrayList<>()).add(task);
+        }
+        return processTasksBySource.entrySet().stream().map(entry -> {
+            String description = anyTask.describeTasks(entry.getValue());
+            return description.isEmpty() ? entry.getKey() : entry.getKey() + "[" + description + "]";
+        }).reduce((s1, s2) -> s1 + ", " + s2).orElse("");
     }
 
     /**
@@ -171,6 +219,21 @@ public abstract class TaskBatcher {
      */
     protected abstract void run(Object batchingKey, List<? extends BatchedTask> tasks, String tasksSummary);
 
+    /**
+     * The pending tasks of a batching key, see {@link #pollPendingBatch()}.
+     */
+    protected static final class PendingBatch {
+        final Object batchingKey;
+        final List<? extends BatchedTask> tasks;
+        final String tasksSummary;
+
+        PendingBatch(Object batchingKey, List<? extends BatchedTask> tasks, String tasksSummary) {
+            this.batchingKey = batchingKey;
+            this.tasks = tasks;
+            this.tasksSummary = tasksSummary;
+        }
+    }
+
     /**
      * Represents a runnable task that supports batching.
      * Implementors of TaskBatcher can subclass this to add a payload to the task.
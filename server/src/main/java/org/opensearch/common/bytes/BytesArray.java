@@ -78,6 +78,17 @@ public final class BytesArray extends AbstractBytesReference {
         return bytes[offset + index];
     }
 
+    @Override
+    public int indexOf(byte marker, int from) {
+        final int end = offset + length;
+        for (int i = offset + from; i < end; i++) {
+            if (bytes[i] == marker) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public int length() {
         return length;
@@ -34,11 +34,14 @@ package org.opensearch.common.bytes;
 
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.concurrent.RefCounted;
 import org.opensearch.common.xcontent.XContentBuilder;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -46,7 +49,7 @@ import java.io.OutputStream;
  * An extension to {@link BytesReference} that requires releasing its content. This
  * class exists to make it explicit when a bytes reference needs to be released, and when not.
  */
-public final class ReleasableBytesReference implements Releasable, BytesReference {
+public final class ReleasableBytesReference implements Releasable, BytesReference, RefCounted {
 
     public static final Releasable NO_OP = () -> {};
     private final BytesReference delegate;
@@ -85,6 +88,21 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         refCounted.decRef();
     }
 
+    @Override
+    public void incRef() {
+        refCounted.incRef();
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return refCounted.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return refCounted.decRef();
+    }
+
     @Override
     public byte get(int index) {
         return delegate.get(index);
@@ -115,9 +133,51 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         return delegate.ramBytesUsed();
     }
 
+    /**
+     * Returns a stream over the referenced bytes whose {@link StreamInput#readReleasableBytesReference()} returns retained slices of
+     * this reference instead of copies, so that they remain valid after this reference has been released.
+     */
     @Override
     public StreamInput streamInput() throws IOException {
-        return delegate.streamInput();
+        assert refCount() > 0 : "reading from released bytes";
+        return new FilterStreamInput(delegate.streamInput()) {
+            @Override
+            public ReleasableBytesReference readReleasableBytesReference() throws IOException {
+                final int length = readArraySize();
+                if (length == 0) {
+                    return ReleasableBytesReference.wrap(BytesArray.EMPTY);
+                }
+                final int available = available();
+                if (length > available) {
+                    throw new EOFException("tried to read: " + length + " bytes but only " + available + " remaining");
+                }
+                final int offset = ReleasableBytesReference.this.length() - available;
+                final ReleasableBytesReference slice = retainedSlice(offset, length);
+                final long skipped = delegate.skip(length);
+                assert skipped == length : "skipped [" + skipped + "] bytes but expected [" + length + "]";
+                return slice;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return delegate.read(b, off, len);
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                return delegate.skip(n);
+            }
+
+            @Override
+            public boolean markSupported() {
+                return delegate.markSupported();
+            }
+
+            @Override
+            public void mark(int readLimit) {
+                delegate.mark(readLimit);
+            }
+        };
     }
 
     @Override
@@ -48,6 +48,7 @@ import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
@@ -134,6 +135,62 @@ final class PerThreadIDVersionAndSeqNoLookup {
         }
     }
 
+    /**
+     * Looks up the ids at the given positions of <code>ids</code>, which must be sorted by id so that consecutive seeks into the
+     * terms dictionary are cheap. The versions of the ids that are found are read in doc id order and stored at the same positions
+     * of <code>results</code>. The positions of the ids that are not found are compacted to the front of <code>pending</code>.
+     *
+     * @return the number of ids that were not found
+     */
+    int lookupVersions(BytesRef[] ids, int[] pending, int numPending, boolean loadSeqNo, LeafReaderContext context,
+                       DocIdAndVersion[] results) throws IOException {
+        assert context.reader().getCoreCacheHelper().getKey().equals(readerKey) :
+            "context's reader is not the same as the reader class was initialized on.";
+        // the doc id and the position of each found id, packed so that sorting them sorts by doc id
+        final long[] found = new long[numPending];
+        int numFound = 0;
+        int stillPending = 0;
+        for (int i = 0; i < numPending; i++) {
+            final int docID = getDocID(ids[pending[i]], context);
+            if (docID != DocIdSetIterator.NO_MORE_DOCS) {
+                found[numFound++] = ((long) docID << 32) | pending[i];
+            } else {
+                pending[stillPending++] = pending[i];
+            }
+        }
+        if (numFound == 0) {
+            return stillPending;
+        }
+        Arrays.sort(found, 0, numFound);
+        final LeafReader reader = context.reader();
+        final NumericDocValues versions = reader.getNumericDocValues(VersionFieldMapper.NAME);
+        final NumericDocValues seqNos = loadSeqNo ? reader.getNumericDocValues(SeqNoFieldMapper.NAME) : null;
+        final NumericDocValues primaryTerms = loadSeqNo ? reader.getNumericDocValues(SeqNoFieldMapper.PRIMARY_TERM_NAME) : null;
+        DocIdAndVersion previous = null;
+        for (int i = 0; i < numFound; i++) {
+            final int docID = (int) (found[i] >>> 32);
+            final int position = (int) found[i];
+            if (previous == null || previous.docId != docID) {
+                final long seqNo = loadSeqNo ? advanceExact(seqNos, SeqNoFieldMapper.NAME, docID) : UNASSIGNED_SEQ_NO;
+                final long term =
+                    loadSeqNo ? advanceExact(primaryTerms, SeqNoFieldMapper.PRIMARY_TERM_NAME, docID) : UNASSIGNED_PRIMARY_TERM;
+                final long version = advanceExact(versions, VersionFieldMapper.NAME, docID);
+                previous = new DocIdAndVersion(docID, version, seqNo, term, reader, context.docBase);
+            }
+            // the same id may be requested more than once
+            results[position] = previous;
+        }
+        return stillPending;
+    }
+
+    private static long advanceExact(NumericDocValues dv, String field, int docId) throws IOException {
+        if (dv == null || dv.advanceExact(docId) == false) {
+            assert false : "document [" + docId + "] does not have docValues for [" + field + "]";
+            throw new IllegalStateException("document [" + docId + "] does not have docValues for [" + field + "]");
+        }
+        return dv.longValue();
+    }
+
     /**
      * returns the internal lucene doc id for the given id bytes.
      * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if not found
@@ -36,10 +36,13 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CloseableThreadLocal;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
@@ -158,6 +161,35 @@ public final class VersionsAndSeqNoResolver {
         return null;
     }
 
+    /**
+     * Load the internal doc IDs and versions of many uids at once. The uids are looked up in sorted order, so that every segment's
+     * terms dictionary is visited in a single forward pass, and the versions are read in doc ID order. The returned array is aligned
+     * with <code>uids</code> and holds <code>null</code> for the uids that weren't found.
+     */
+    public static DocIdAndVersion[] loadDocIdsAndVersions(IndexReader reader, String uidField, BytesRef[] uids,
+                                                          boolean loadSeqNo) throws IOException {
+        final DocIdAndVersion[] results = new DocIdAndVersion[uids.length];
+        if (uids.length == 0) {
+            return results;
+        }
+        PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, uidField);
+        final Integer[] order = new Integer[uids.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> uids[i]));
+        final int[] pending = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        int numPending = uids.length;
+        List<LeafReaderContext> leaves = reader.leaves();
+        // iterate backwards to optimize for the frequently updated documents
+        // which are likely to be in the last segments
+        for (int i = leaves.size() - 1; i >= 0 && numPending > 0; i--) {
+            final LeafReaderContext leaf = leaves.get(i);
+            numPending = lookups[leaf.ord].lookupVersions(uids, pending, numPending, loadSeqNo, leaf, results);
+        }
+        return results;
+    }
+
     /**
      * Loads the internal docId and sequence number of the latest copy for a given uid from the provided reader.
      * The result is either null or the live and latest version of the given uid.
@@ -114,6 +114,7 @@ import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.store.IndicesStore;
 import org.opensearch.monitor.fs.FsHealthService;
 import org.opensearch.monitor.fs.FsService;
+import org.opensearch.monitor.jvm.HotThreadsSampler;
 import org.opensearch.monitor.jvm.JvmGcMonitorService;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
@@ -236,6 +237,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FsRepository.REPOSITORIES_COMPRESS_SETTING,
             FsRepository.REPOSITORIES_LOCATION_SETTING,
             IndicesQueryCache.INDICES_CACHE_QUERY_SIZE_SETTING,
+            IndicesQueryCache.INDICES_CACHE_QUERY_PINNED_SIZE_SETTING,
             IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING,
             IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING,
             IndicesService.INDICES_ID_FIELD_DATA_ENABLED_SETTING,
@@ -337,6 +339,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ClusterApplierService.CLUSTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
             ClusterService.USER_DEFINED_METADATA,
             MasterService.MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
+            MasterService.MASTER_SERVICE_TASK_COALESCING_WINDOW_SETTING,
             SearchService.DEFAULT_SEARCH_TIMEOUT_SETTING,
             SearchService.DEFAULT_ALLOW_PARTIAL_SEARCH_RESULTS,
             ElectMasterService.DISCOVERY_ZEN_MINIMUM_MASTER_NODES_SETTING,
@@ -512,6 +515,12 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FsService.REFRESH_INTERVAL_SETTING,
             JvmGcMonitorService.ENABLED_SETTING,
             JvmGcMonitorService.REFRESH_INTERVAL_SETTING,
+            HotThreadsSampler.ENABLED_SETTING,
+            HotThreadsSampler.INTERVAL_SETTING,
+            HotThreadsSampler.WINDOW_SETTING,
+            HotThreadsSampler.WINDOWS_SETTING,
+            HotThreadsSampler.MAX_STACKS_PER_WINDOW_SETTING,
+            HotThreadsSampler.MAX_STACK_DEPTH_SETTING,
             JvmGcMonitorService.GC_SETTING,
             JvmGcMonitorService.GC_OVERHEAD_WARN_SETTING,
             JvmGcMonitorService.GC_OVERHEAD_INFO_SETTING,
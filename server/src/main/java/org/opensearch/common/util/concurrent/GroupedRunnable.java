@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+/**
+ * A {@link Runnable} that belongs to a scheduling group, for instance the index a shard-level search targets. Executors
+ * that share their threads fairly between groups, see {@link OpenSearchExecutors#newWeightedFairQueue}, use it to tell
+ * the tasks of different groups apart.
+ */
+public interface GroupedRunnable extends Runnable {
+
+    /**
+     * Returns the scheduling group this task belongs to.
+     */
+    String schedulingGroup();
+
+    /**
+     * Returns the scheduling group of the given task, looking through the wrappers executors add to tasks, or {@code null}
+     * if the task does not belong to a group.
+     */
+    static String schedulingGroup(Runnable runnable) {
+        while (true) {
+            if (runnable instanceof GroupedRunnable) {
+                return ((GroupedRunnable) runnable).schedulingGroup();
+            } else if (runnable instanceof WrappedRunnable) {
+                runnable = ((WrappedRunnable) runnable).unwrap();
+            } else {
+                return null;
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.common.util.concurrent;
 
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.settings.Setting;
@@ -56,6 +57,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 public class OpenSearchExecutors {
 
@@ -127,6 +129,18 @@ public class OpenSearchExecutors {
 
     public static OpenSearchThreadPoolExecutor newFixed(String name, int size, int queueCapacity,
                                                         ThreadFactory threadFactory, ThreadContext contextHolder) {
+        return newFixed(name, size, queueCapacity, threadFactory, contextHolder, null);
+    }
+
+    /**
+     * Return a new fixed executor that, in addition to rejecting tasks once its queue is full, rejects tasks whenever the given
+     * admission controller considers the queue to be overloaded.
+     *
+     * @param admissionController the controller that sheds load based on the time tasks spend queued, or {@code null} to disable
+     */
+    public static OpenSearchThreadPoolExecutor newFixed(String name, int size, int queueCapacity, ThreadFactory threadFactory,
+                                                        ThreadContext contextHolder,
+                                                        @Nullable SojournTimeAdmissionController admissionController) {
         BlockingQueue<Runnable> queue;
         if (queueCapacity < 0) {
             queue = ConcurrentCollections.newBlockingQueue();
@@ -134,7 +148,7 @@ public class OpenSearchExecutors {
             queue = new SizeBlockingQueue<>(ConcurrentCollections.<Runnable>newBlockingQueue(), queueCapacity);
         }
         return new OpenSearchThreadPoolExecutor(name, size, size, 0, TimeUnit.MILLISECONDS,
-            queue, threadFactory, new OpenSearchAbortPolicy(), contextHolder);
+            queue, threadFactory, new OpenSearchAbortPolicy(), contextHolder, admissionController);
     }
 
     /**
@@ -149,15 +163,57 @@ public class OpenSearchExecutors {
     public static OpenSearchThreadPoolExecutor newAutoQueueFixed(String name, int size, int initialQueueCapacity, int minQueueSize,
                                                                  int maxQueueSize, int frameSize, TimeValue targetedResponseTime,
                                                                  ThreadFactory threadFactory, ThreadContext contextHolder) {
+        return newAutoQueueFixed(name, size, initialQueueCapacity, minQueueSize, maxQueueSize, frameSize, targetedResponseTime,
+            threadFactory, contextHolder, null);
+    }
+
+    /**
+     * Return a new executor that will automatically adjust the queue size based on queue throughput and that additionally
+     * rejects tasks whenever the given admission controller considers the queue to be overloaded.
+     *
+     * @param admissionController the controller that sheds load based on the time tasks spend queued, or {@code null} to disable
+     */
+    public static OpenSearchThreadPoolExecutor newAutoQueueFixed(String name, int size, int initialQueueCapacity, int minQueueSize,
+                                                                 int maxQueueSize, int frameSize, TimeValue targetedResponseTime,
+                                                                 ThreadFactory threadFactory, ThreadContext contextHolder,
+                                                                 @Nullable SojournTimeAdmissionController admissionController) {
+        return newAutoQueueFixed(name, size, initialQueueCapacity, minQueueSize, maxQueueSize, frameSize, targetedResponseTime,
+            threadFactory, contextHolder, admissionController, ConcurrentCollections.newBlockingQueue());
+    }
+
+    /**
+     * Return a new executor that will automatically adjust the queue size based on queue throughput, and that hands queued
+     * tasks to its threads in the order of the given scheduling queue.
+     *
+     * @param admissionController the controller that sheds load based on the time tasks spend queued, or {@code null} to disable
+     * @param schedulingQueue     an empty, unbounded queue that decides the order in which queued tasks are executed
+     */
+    public static OpenSearchThreadPoolExecutor newAutoQueueFixed(String name, int size, int initialQueueCapacity, int minQueueSize,
+                                                                 int maxQueueSize, int frameSize, TimeValue targetedResponseTime,
+                                                                 ThreadFactory threadFactory, ThreadContext contextHolder,
+                                                                 @Nullable SojournTimeAdmissionController admissionController,
+                                                                 BlockingQueue<Runnable> schedulingQueue) {
         if (initialQueueCapacity <= 0) {
             throw new IllegalArgumentException("initial queue capacity for [" + name + "] executor must be positive, got: " +
                             initialQueueCapacity);
         }
-        ResizableBlockingQueue<Runnable> queue =
-                new ResizableBlockingQueue<>(ConcurrentCollections.<Runnable>newBlockingQueue(), initialQueueCapacity);
+        assert schedulingQueue.isEmpty() : "scheduling queue must be empty";
+        ResizableBlockingQueue<Runnable> queue = new ResizableBlockingQueue<>(schedulingQueue, initialQueueCapacity);
         return new QueueResizingOpenSearchThreadPoolExecutor(name, size, size, 0, TimeUnit.MILLISECONDS,
                 queue, minQueueSize, maxQueueSize, TimedRunnable::new, frameSize, targetedResponseTime, threadFactory,
-                new OpenSearchAbortPolicy(), contextHolder);
+                new OpenSearchAbortPolicy(), contextHolder, admissionController);
+    }
+
+    /**
+     * Return a new unbounded queue that shares the threads of an executor fairly between groups of tasks rather than executing
+     * tasks in submission order. Every group may run as many tasks per round as its weight before the next group is served.
+     *
+     * @param groupFunction resolves the group of a task, called on the thread submitting it; {@code null} groups are allowed
+     * @param weights       resolves the weight of a group, which must be positive
+     */
+    public static BlockingQueue<Runnable> newWeightedFairQueue(Function<Runnable, String> groupFunction,
+                                                               ToIntFunction<String> weights) {
+        return new WeightedFairBlockingQueue<>(groupFunction, weights);
     }
 
     /**
@@ -32,6 +32,7 @@
 
 package org.opensearch.common.util.concurrent;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 
 import java.util.concurrent.BlockingQueue;
@@ -46,6 +47,7 @@ import java.util.stream.Stream;
 public class OpenSearchThreadPoolExecutor extends ThreadPoolExecutor {
 
     private final ThreadContext contextHolder;
+    private final SojournTimeAdmissionController admissionController;
     private volatile ShutdownListener listener;
 
     private final Object monitor = new Object();
@@ -64,13 +66,29 @@ public class OpenSearchThreadPoolExecutor extends ThreadPoolExecutor {
             new OpenSearchAbortPolicy(), contextHolder);
     }
 
-    @SuppressForbidden(reason = "properly rethrowing errors, see OpenSearchExecutors.rethrowErrors")
     OpenSearchThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory, XRejectedExecutionHandler handler,
                                  ThreadContext contextHolder) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler, contextHolder, null);
+    }
+
+    @SuppressForbidden(reason = "properly rethrowing errors, see OpenSearchExecutors.rethrowErrors")
+    OpenSearchThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                 BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory, XRejectedExecutionHandler handler,
+                                 ThreadContext contextHolder, @Nullable SojournTimeAdmissionController admissionController) {
         super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
         this.name = name;
         this.contextHolder = contextHolder;
+        this.admissionController = admissionController;
+    }
+
+    /**
+     * Returns the controller that rejects tasks based on the time they spend queued, or {@code null} if this executor only
+     * rejects tasks when its queue is full.
+     */
+    @Nullable
+    public SojournTimeAdmissionController getAdmissionController() {
+        return admissionController;
     }
 
     @Override
@@ -95,6 +113,10 @@ public class OpenSearchThreadPoolExecutor extends ThreadPoolExecutor {
     public void execute(Runnable command) {
         command = wrapRunnable(command);
         try {
+            if (admissionController != null && isForceExecution(command) == false
+                && admissionController.shouldReject(getQueue().size())) {
+                getRejectedExecutionHandler().rejectedExecution(command, this);
+            }
             super.execute(command);
         } catch (OpenSearchRejectedExecutionException ex) {
             if (command instanceof AbstractRunnable) {
@@ -112,6 +134,21 @@ public class OpenSearchThreadPoolExecutor extends ThreadPoolExecutor {
         }
     }
 
+    private static boolean isForceExecution(Runnable command) {
+        return command instanceof AbstractRunnable && ((AbstractRunnable) command).isForceExecution();
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        if (admissionController != null) {
+            final Runnable unwrapped = contextHolder.unwrap(r);
+            assert unwrapped instanceof TimedRunnable : "expected only TimedRunnables in queue when admission control is enabled";
+            final long nowNanos = System.nanoTime();
+            admissionController.onDequeue(nowNanos - ((TimedRunnable) unwrapped).getCreationTimeNanos(), nowNanos);
+        }
+    }
+
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
         super.afterExecute(r, t);
@@ -143,6 +180,10 @@ public class OpenSearchThreadPoolExecutor extends ThreadPoolExecutor {
             SizeBlockingQueue queue = (SizeBlockingQueue) getQueue();
             b.append("queue capacity = ").append(queue.capacity()).append(", ");
         }
+        if (admissionController != null) {
+            b.append("target sojourn time = ").append(admissionController.getTarget()).append(", ");
+            b.append("sojourn interval = ").append(admissionController.getInterval()).append(", ");
+        }
         appendThreadPoolExecutorDetails(b);
         /*
          * ThreadPoolExecutor has some nice information in its toString but we
@@ -163,10 +204,26 @@ public class OpenSearchThreadPoolExecutor extends ThreadPoolExecutor {
     }
 
     protected Runnable wrapRunnable(Runnable command) {
+        if (admissionController != null && command instanceof TimedRunnable == false) {
+            // sojourn times are measured from the moment the task is wrapped, right before it is queued
+            command = new TimedRunnable(command);
+        }
         return contextHolder.preserveContext(command);
     }
 
     protected Runnable unwrap(Runnable runnable) {
-        return contextHolder.unwrap(runnable);
+        final Runnable unwrapped = contextHolder.unwrap(runnable);
+        if (admissionController != null && unwrapped instanceof TimedRunnable && wrapsTimedRunnables() == false) {
+            return ((TimedRunnable) unwrapped).unwrap();
+        }
+        return unwrapped;
+    }
+
+    /**
+     * Whether subclasses already wrap every task into a {@link TimedRunnable} before handing it to {@link #wrapRunnable}, in
+     * which case they are responsible for unwrapping it again.
+     */
+    protected boolean wrapsTimedRunnables() {
+        return false;
     }
 }
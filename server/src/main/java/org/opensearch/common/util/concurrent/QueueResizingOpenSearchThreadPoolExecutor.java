@@ -76,8 +76,18 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
                                               Function<Runnable, WrappedRunnable> runnableWrapper, final int tasksPerFrame,
                                               TimeValue targetedResponseTime, ThreadFactory threadFactory,
                                               XRejectedExecutionHandler handler, ThreadContext contextHolder) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, minQueueSize, maxQueueSize, runnableWrapper,
+                tasksPerFrame, targetedResponseTime, threadFactory, handler, contextHolder, null);
+    }
+
+    QueueResizingOpenSearchThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                              ResizableBlockingQueue<Runnable> workQueue, int minQueueSize, int maxQueueSize,
+                                              Function<Runnable, WrappedRunnable> runnableWrapper, final int tasksPerFrame,
+                                              TimeValue targetedResponseTime, ThreadFactory threadFactory,
+                                              XRejectedExecutionHandler handler, ThreadContext contextHolder,
+                                              SojournTimeAdmissionController admissionController) {
         super(name, corePoolSize, maximumPoolSize, keepAliveTime, unit,
-                workQueue, threadFactory, handler, contextHolder);
+                workQueue, threadFactory, handler, contextHolder, admissionController);
         this.runnableWrapper = runnableWrapper;
         this.workQueue = workQueue;
         this.tasksPerFrame = tasksPerFrame;
@@ -95,6 +105,11 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
         return super.wrapRunnable(this.runnableWrapper.apply(command));
     }
 
+    @Override
+    protected boolean wrapsTimedRunnables() {
+        return true;
+    }
+
     @Override
     protected Runnable unwrap(Runnable runnable) {
         final Runnable unwrapped = super.unwrap(runnable);
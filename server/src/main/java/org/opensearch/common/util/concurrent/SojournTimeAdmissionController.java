@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
+
+/**
+ * An admission controller for thread pool executors modelled after CoDel (controlled delay). Instead of only rejecting tasks
+ * once the queue is full, it tracks how long tasks waited in the queue (their sojourn time) at the moment they are picked up
+ * by a worker. Once the sojourn time has stayed above the target for a full interval the queue is considered to hold a
+ * standing backlog and newly submitted tasks are rejected, until a task is dequeued that waited less than the target.
+ * Short bursts that drain within the interval are therefore still admitted while sustained overload is shed early, before
+ * it turns into seconds of queueing.
+ */
+public final class SojournTimeAdmissionController {
+
+    // This is a random starting point alpha, matching the one used for task execution times
+    public static double EWMA_ALPHA = 0.3;
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final ExponentiallyWeightedMovingAverage sojournEWMA;
+    private final CounterMetric rejected = new CounterMetric();
+
+    // these are only ever updated by workers picking up tasks; races between them merely shift the moment we
+    // start or stop shedding by a single task, which CoDel is insensitive to
+    private volatile boolean aboveTarget;
+    private volatile long overloadedAfterNanos;
+    private volatile boolean overloaded;
+
+    public SojournTimeAdmissionController(TimeValue target, TimeValue interval) {
+        if (target.nanos() <= 0) {
+            throw new IllegalArgumentException("target sojourn time must be positive, got: " + target);
+        }
+        if (interval.nanos() <= 0) {
+            throw new IllegalArgumentException("sojourn time interval must be positive, got: " + interval);
+        }
+        this.targetNanos = target.nanos();
+        this.intervalNanos = interval.nanos();
+        this.sojournEWMA = new ExponentiallyWeightedMovingAverage(EWMA_ALPHA, 0);
+    }
+
+    /**
+     * Records the sojourn time of a task that is about to be executed.
+     *
+     * @param sojournNanos the time the task spent in the queue
+     * @param nowNanos     the current relative time in nanoseconds
+     */
+    void onDequeue(long sojournNanos, long nowNanos) {
+        sojournEWMA.addValue(sojournNanos);
+        if (sojournNanos < targetNanos) {
+            // the queue drained down to the target at least once, it is not building a standing backlog
+            aboveTarget = false;
+            overloaded = false;
+        } else if (aboveTarget == false) {
+            overloadedAfterNanos = nowNanos + intervalNanos;
+            aboveTarget = true;
+        } else if (overloaded == false && nowNanos - overloadedAfterNanos >= 0) {
+            overloaded = true;
+        }
+    }
+
+    /**
+     * Returns whether a newly submitted task should be rejected. An empty queue can never hold a standing backlog, and
+     * admitting tasks in that case also guarantees that sojourn times keep being sampled so that overload is eventually
+     * cleared.
+     *
+     * @param queueSize the number of tasks currently waiting in the queue
+     */
+    boolean shouldReject(int queueSize) {
+        if (overloaded && queueSize > 0) {
+            rejected.inc();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the sojourn time has been above the target for longer than the interval.
+     */
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * Returns the number of tasks that were rejected because the queue was overloaded.
+     */
+    public long rejected() {
+        return rejected.count();
+    }
+
+    /**
+     * Returns the exponentially weighted moving average of the time tasks spent in the queue, in nanoseconds.
+     */
+    public double getSojournTimeEWMA() {
+        return sojournEWMA.getAverage();
+    }
+
+    public TimeValue getTarget() {
+        return TimeValue.timeValueNanos(targetNanos);
+    }
+
+    public TimeValue getInterval() {
+        return TimeValue.timeValueNanos(intervalNanos);
+    }
+}
@@ -81,6 +81,13 @@ class TimedRunnable extends AbstractRunnable implements WrappedRunnable {
         return original instanceof AbstractRunnable && ((AbstractRunnable) original).isForceExecution();
     }
 
+    /**
+     * Return the relative time in nanoseconds at which this task was created, which is right before it was queued.
+     */
+    long getCreationTimeNanos() {
+        return creationTimeNanos;
+    }
+
     /**
      * Return the time since this task was created until it finished running.
      * If the task is still running or has not yet been run, returns -1.
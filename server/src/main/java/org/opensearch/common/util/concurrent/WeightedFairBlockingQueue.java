@@ -0,0 +1,298 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * An unbounded blocking queue that shares its consumers fairly between groups of elements instead of handing elements out
+ * in insertion order. Elements are assigned to a group when they are added and each group keeps its own FIFO queue. Groups
+ * that have elements are served in a round-robin fashion where each group may hand out as many elements per round as its
+ * weight (deficit round robin), so a group that floods the queue only delays its own elements.
+ */
+final class WeightedFairBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * The group of elements for which the group function returned {@code null}.
+     */
+    static final String DEFAULT_GROUP = "";
+
+    private final Function<E, String> groupFunction;
+    private final ToIntFunction<String> weights;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // both guarded by lock
+    private final Map<String, Group<E>> groups = new HashMap<>();
+    private final ArrayDeque<Group<E>> rotation = new ArrayDeque<>();
+    private volatile int size;
+
+    /**
+     * @param groupFunction resolves the group of an element; it is called on the thread adding the element, outside of any lock
+     * @param weights       resolves the number of elements a group may hand out per round, must be positive
+     */
+    WeightedFairBlockingQueue(Function<E, String> groupFunction, ToIntFunction<String> weights) {
+        this.groupFunction = groupFunction;
+        this.weights = weights;
+    }
+
+    private static final class Group<E> {
+        private final String key;
+        private final int weight;
+        private final ArrayDeque<E> elements = new ArrayDeque<>();
+        private int credit;
+
+        Group(String key, int weight) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight of group [" + key + "] must be positive, got: " + weight);
+            }
+            this.key = key;
+            this.weight = weight;
+        }
+    }
+
+    private String groupOf(E e) {
+        final String group = groupFunction.apply(e);
+        return group == null ? DEFAULT_GROUP : group;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        final String key = groupOf(e);
+        lock.lock();
+        try {
+            Group<E> group = groups.get(key);
+            if (group == null) {
+                group = new Group<>(key, weights.applyAsInt(key));
+                groups.put(key, group);
+            }
+            if (group.elements.isEmpty()) {
+                group.credit = group.weight;
+                rotation.addLast(group);
+            }
+            group.elements.addLast(e);
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public void put(E e) {
+        offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        return offer(e);
+    }
+
+    /**
+     * Removes the next element, must be called under the lock with at least one element in the queue.
+     */
+    private E dequeue() {
+        assert lock.isHeldByCurrentThread();
+        final Group<E> group = rotation.peekFirst();
+        assert group != null && group.elements.isEmpty() == false;
+        final E e = group.elements.pollFirst();
+        size--;
+        if (group.elements.isEmpty()) {
+            rotation.pollFirst();
+            groups.remove(group.key);
+        } else if (--group.credit == 0) {
+            group.credit = group.weight;
+            rotation.addLast(rotation.pollFirst());
+        }
+        return e;
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            final Group<E> group = rotation.peekFirst();
+            return group == null ? null : group.elements.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (Iterator<Group<E>> it = rotation.iterator(); it.hasNext(); ) {
+                final Group<E> group = it.next();
+                if (group.elements.remove(o)) {
+                    size--;
+                    if (group.elements.isEmpty()) {
+                        it.remove();
+                        groups.remove(group.key);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of groups that currently have queued elements.
+     */
+    int groupCount() {
+        lock.lock();
+        try {
+            return rotation.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("cannot drain a queue into itself");
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && size > 0) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the queued elements, in the order groups are currently rotated. Removing
+     * elements through the iterator removes them from the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(size);
+            for (Group<E> group : rotation) {
+                snapshot.addAll(group.elements);
+            }
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<E> it = snapshot.iterator();
+        return new Iterator<E>() {
+            E current;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (it.hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+                current = it.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                WeightedFairBlockingQueue.this.remove(current);
+                current = null;
+            }
+        };
+    }
+}
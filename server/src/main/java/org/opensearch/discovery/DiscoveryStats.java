@@ -33,12 +33,15 @@
 package org.opensearch.discovery;
 
 import org.opensearch.Version;
+import org.opensearch.cluster.service.MasterTaskStats;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
+import org.opensearch.gateway.PersistedClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
 
 import java.io.IOException;
@@ -47,10 +50,26 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
 
     private final PendingClusterStateStats queueStats;
     private final PublishClusterStateStats publishStats;
+    @Nullable
+    private final MasterTaskStats masterTaskStats;
+    @Nullable
+    private final PersistedClusterStateStats persistenceStats;
 
     public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats) {
+        this(queueStats, publishStats, null);
+    }
+
+    public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats,
+                          @Nullable MasterTaskStats masterTaskStats) {
+        this(queueStats, publishStats, masterTaskStats, null);
+    }
+
+    public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats,
+                          @Nullable MasterTaskStats masterTaskStats, @Nullable PersistedClusterStateStats persistenceStats) {
         this.queueStats = queueStats;
         this.publishStats = publishStats;
+        this.masterTaskStats = masterTaskStats;
+        this.persistenceStats = persistenceStats;
     }
 
     public DiscoveryStats(StreamInput in) throws IOException {
@@ -61,6 +80,14 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         } else {
             publishStats = null;
         }
+
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            masterTaskStats = in.readOptionalWriteable(MasterTaskStats::new);
+            persistenceStats = in.readOptionalWriteable(PersistedClusterStateStats::new);
+        } else {
+            masterTaskStats = null;
+            persistenceStats = null;
+        }
     }
 
     @Override
@@ -70,6 +97,11 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_6_1_0)) {
             out.writeOptionalWriteable(publishStats);
         }
+
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeOptionalWriteable(masterTaskStats);
+            out.writeOptionalWriteable(persistenceStats);
+        }
     }
 
     @Override
@@ -81,6 +113,12 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         if (publishStats != null) {
             publishStats.toXContent(builder, params);
         }
+        if (masterTaskStats != null) {
+            masterTaskStats.toXContent(builder, params);
+        }
+        if (persistenceStats != null) {
+            persistenceStats.toXContent(builder, params);
+        }
         builder.endObject();
         return builder;
     }
@@ -96,4 +134,27 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
     public PublishClusterStateStats getPublishStats() {
         return publishStats;
     }
+
+    /**
+     * The statistics of the cluster state update tasks this node executed while it was the elected master
+     */
+    @Nullable
+    public MasterTaskStats getMasterTaskStats() {
+        return masterTaskStats;
+    }
+
+    /**
+     * The statistics of the cluster states this node wrote to disk
+     */
+    @Nullable
+    public PersistedClusterStateStats getPersistenceStats() {
+        return persistenceStats;
+    }
+
+    /**
+     * Returns a copy of these stats that also contains the given statistics about the cluster states written to disk
+     */
+    public DiscoveryStats withPersistenceStats(@Nullable PersistedClusterStateStats persistenceStats) {
+        return new DiscoveryStats(queueStats, publishStats, masterTaskStats, persistenceStats);
+    }
 }
@@ -64,22 +64,29 @@ import org.apache.lucene.util.SetOnce;
 import org.opensearch.Version;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.RecyclingBytesStreamOutput;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.hash.MessageDigests;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.ByteArray;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.ToXContent;
@@ -90,6 +97,7 @@ import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.env.NodeMetadata;
 import org.opensearch.index.Index;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.Closeable;
 import java.io.IOError;
@@ -99,9 +107,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.IntPredicate;
 import java.util.function.LongSupplier;
@@ -112,12 +125,18 @@ import java.util.function.Supplier;
  * to record the last-accepted cluster state during publication. The metadata is written incrementally where possible, leaving alone any
  * documents that have not changed. The index has the following fields:
  *
- * +------------------------------+-----------------------------+----------------------------------------------+
- * | "type" (string field)        | "index_uuid" (string field) | "data" (stored binary field in SMILE format) |
- * +------------------------------+-----------------------------+----------------------------------------------+
- * | GLOBAL_TYPE_NAME == "global" | (omitted)                   | Global metadata                              |
- * | INDEX_TYPE_NAME  == "index"  | Index UUID                  | Index metadata                               |
- * +------------------------------+-----------------------------+----------------------------------------------+
+ * +--------------------------------+-----------------------------+----------------------------------------------+
+ * | "type" (string field)          | "index_uuid" (string field) | "data" (stored binary field in SMILE format) |
+ * +--------------------------------+-----------------------------+----------------------------------------------+
+ * | GLOBAL_TYPE_NAME  == "global"  | (omitted)                   | Global metadata                              |
+ * | INDEX_TYPE_NAME   == "index"   | Index UUID                  | Index metadata                               |
+ * | MAPPING_TYPE_NAME == "mapping" | (omitted)                   | Compressed mapping source (not SMILE)        |
+ * +--------------------------------+-----------------------------+----------------------------------------------+
+ *
+ * Mappings are deduplicated by the SHA-256 hash of their compressed source: index metadata documents of indices with a single mapping
+ * leave the mapping out and refer to a mapping document through the stored "index_mapping_hash" field instead, and each mapping document
+ * records its hash in the "mapping_hash" string field. A mapping shared by many indices is thus only written once, and only while the
+ * first of these indices is written.
  *
  * Additionally each commit has the following user data:
  *
@@ -143,6 +162,9 @@ public class PersistedClusterStateService {
     private static final String GLOBAL_TYPE_NAME = "global";
     private static final String INDEX_TYPE_NAME = "index";
     private static final String INDEX_UUID_FIELD_NAME = "index_uuid";
+    private static final String MAPPING_TYPE_NAME = "mapping";
+    private static final String MAPPING_HASH_FIELD_NAME = "mapping_hash";
+    private static final String INDEX_MAPPING_HASH_FIELD_NAME = "index_mapping_hash";
     private static final int COMMIT_DATA_SIZE = 4;
 
     public static final String METADATA_DIRECTORY_NAME = MetadataStateFormat.STATE_DIR_NAME;
@@ -158,6 +180,8 @@ public class PersistedClusterStateService {
 
     private volatile TimeValue slowWriteLoggingThreshold;
 
+    private final WriteCounters writeCounters = new WriteCounters();
+
     public PersistedClusterStateService(NodeEnvironment nodeEnvironment, NamedXContentRegistry namedXContentRegistry, BigArrays bigArrays,
                                         ClusterSettings clusterSettings, LongSupplier relativeTimeMillisSupplier) {
         this(nodeEnvironment.nodeDataPaths(), nodeEnvironment.nodeId(), namedXContentRegistry, bigArrays, clusterSettings,
@@ -183,6 +207,13 @@ public class PersistedClusterStateService {
         return nodeId;
     }
 
+    /**
+     * Returns statistics about the cluster states written by the writers of this service.
+     */
+    public PersistedClusterStateStats stats() {
+        return writeCounters.stats();
+    }
+
     /**
      * Creates a new disk-based writer for cluster states
      */
@@ -205,7 +236,8 @@ public class PersistedClusterStateService {
                 IOUtils.closeWhileHandlingException(closeables);
             }
         }
-        return new Writer(metadataIndexWriters, nodeId, bigArrays, relativeTimeMillisSupplier, () -> slowWriteLoggingThreshold);
+        return new Writer(metadataIndexWriters, nodeId, bigArrays, relativeTimeMillisSupplier, () -> slowWriteLoggingThreshold,
+            writeCounters);
     }
 
     private static IndexWriter createIndexWriter(Directory directory, boolean openExisting) throws IOException {
@@ -395,8 +427,9 @@ public class PersistedClusterStateService {
         searcher.setQueryCache(null);
 
         final SetOnce<Metadata.Builder> builderReference = new SetOnce<>();
-        consumeFromType(searcher, GLOBAL_TYPE_NAME, bytes ->
+        consumeFromType(searcher, GLOBAL_TYPE_NAME, document ->
         {
+            final BytesRef bytes = document.getBinaryValue(DATA_FIELD_NAME);
             final Metadata metadata = Metadata.Builder.fromXContent(XContentFactory.xContent(XContentType.SMILE)
                 .createParser(namedXContentRegistry, LoggingDeprecationHandler.INSTANCE, bytes.bytes, bytes.offset, bytes.length));
             logger.trace("found global metadata with last-accepted term [{}]", metadata.coordinationMetadata().term());
@@ -411,13 +444,37 @@ public class PersistedClusterStateService {
             throw new IllegalStateException("no global metadata found in [" + dataPath + "]");
         }
 
-        logger.trace("got global metadata, now reading index metadata");
+        logger.trace("got global metadata, now reading mappings");
+
+        // indices with the same mapping also share the same mapping instance on heap
+        final Map<String, MappingMetadata> mappingsByHash = new HashMap<>();
+        consumeFromType(searcher, MAPPING_TYPE_NAME, document ->
+        {
+            final BytesRef bytes = document.getBinaryValue(DATA_FIELD_NAME);
+            final String hash = document.get(MAPPING_HASH_FIELD_NAME);
+            final MappingMetadata mapping = new MappingMetadata(new CompressedXContent(BytesRef.deepCopyOf(bytes).bytes));
+            if (mappingsByHash.put(hash, mapping) != null) {
+                throw new IllegalStateException("duplicate mapping found for hash [" + hash + "] in [" + dataPath + "]");
+            }
+        });
+
+        logger.trace("got [{}] mappings, now reading index metadata", mappingsByHash.size());
 
         final Set<String> indexUUIDs = new HashSet<>();
-        consumeFromType(searcher, INDEX_TYPE_NAME, bytes ->
+        consumeFromType(searcher, INDEX_TYPE_NAME, document ->
         {
-            final IndexMetadata indexMetadata = IndexMetadata.fromXContent(XContentFactory.xContent(XContentType.SMILE)
+            final BytesRef bytes = document.getBinaryValue(DATA_FIELD_NAME);
+            IndexMetadata indexMetadata = IndexMetadata.fromXContent(XContentFactory.xContent(XContentType.SMILE)
                 .createParser(namedXContentRegistry, LoggingDeprecationHandler.INSTANCE, bytes.bytes, bytes.offset, bytes.length));
+            final String mappingHash = document.get(INDEX_MAPPING_HASH_FIELD_NAME);
+            if (mappingHash != null) {
+                final MappingMetadata mapping = mappingsByHash.get(mappingHash);
+                if (mapping == null) {
+                    throw new IllegalStateException("no mapping found for hash [" + mappingHash + "] of " + indexMetadata.getIndex()
+                        + " in [" + dataPath + "]");
+                }
+                indexMetadata = IndexMetadata.builder(indexMetadata).putMapping(mapping).build();
+            }
             logger.trace("found index metadata for {}", indexMetadata.getIndex());
             if (indexUUIDs.add(indexMetadata.getIndexUUID()) == false) {
                 throw new IllegalStateException("duplicate metadata found for " + indexMetadata.getIndex() + " in [" + dataPath + "]");
@@ -437,7 +494,7 @@ public class PersistedClusterStateService {
     }
 
     private static void consumeFromType(IndexSearcher indexSearcher, String type,
-                                        CheckedConsumer<BytesRef, IOException> bytesRefConsumer) throws IOException {
+                                        CheckedConsumer<Document, IOException> documentConsumer) throws IOException {
 
         final Query query = new TermQuery(new Term(TYPE_FIELD_NAME, type));
         final Weight weight = indexSearcher.createWeight(query, ScoreMode.COMPLETE_NO_SCORES, 0.0f);
@@ -453,8 +510,7 @@ public class PersistedClusterStateService {
                 while (docIdSetIterator.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
                     if (isLiveDoc.test(docIdSetIterator.docID())) {
                         logger.trace("processing doc {}", docIdSetIterator.docID());
-                        bytesRefConsumer.accept(
-                            leafReaderContext.reader().document(docIdSetIterator.docID()).getBinaryValue(DATA_FIELD_NAME));
+                        documentConsumer.accept(leafReaderContext.reader().document(docIdSetIterator.docID()));
                     }
                 }
             }
@@ -462,12 +518,15 @@ public class PersistedClusterStateService {
     }
 
     private static final ToXContent.Params FORMAT_PARAMS;
+    private static final ToXContent.Params FORMAT_PARAMS_WITHOUT_MAPPINGS;
 
     static {
-        Map<String, String> params = new HashMap<>(2);
+        Map<String, String> params = new HashMap<>(3);
         params.put("binary", "true");
         params.put(Metadata.CONTEXT_MODE_PARAM, Metadata.CONTEXT_MODE_GATEWAY);
-        FORMAT_PARAMS = new ToXContent.MapParams(params);
+        FORMAT_PARAMS = new ToXContent.MapParams(new HashMap<>(params));
+        params.put(IndexMetadata.SKIP_MAPPINGS_PARAM, "true");
+        FORMAT_PARAMS_WITHOUT_MAPPINGS = new ToXContent.MapParams(params);
     }
 
     /**
@@ -506,6 +565,16 @@ public class PersistedClusterStateService {
             indexWriter.deleteDocuments(new Term(INDEX_UUID_FIELD_NAME, indexUUID));
         }
 
+        void addMapping(Document mappingDocument, String mappingHash) throws IOException {
+            this.logger.trace("adding mapping [{}]", mappingHash);
+            indexWriter.updateDocument(new Term(MAPPING_HASH_FIELD_NAME, mappingHash), mappingDocument);
+        }
+
+        void deleteMapping(String mappingHash) throws IOException {
+            this.logger.trace("removing mapping [{}]", mappingHash);
+            indexWriter.deleteDocuments(new Term(MAPPING_HASH_FIELD_NAME, mappingHash));
+        }
+
         void flush() throws IOException {
             this.logger.trace("flushing");
             this.indexWriter.flush();
@@ -538,6 +607,10 @@ public class PersistedClusterStateService {
         private final BigArrays bigArrays;
         private final LongSupplier relativeTimeMillisSupplier;
         private final Supplier<TimeValue> slowWriteLoggingThresholdSupplier;
+        private final WriteCounters writeCounters;
+        // flushes and commits the data paths other than the first one concurrently, null if there is a single data path
+        @Nullable
+        private final ExecutorService dataPathExecutor;
 
         boolean fullStateWritten = false;
         private final AtomicBoolean closed = new AtomicBoolean();
@@ -546,13 +619,82 @@ public class PersistedClusterStateService {
         // next one.
         private int documentBufferUsed;
 
+        // The persisted mapping of each index whose mapping is stored in a mapping document, keyed by index UUID, and the number of indices
+        // that refer to each mapping document, keyed by mapping hash. Mapping documents are deleted once they are no longer referred to.
+        private final Map<String, PersistedMapping> persistedMappings = new HashMap<>();
+        private final Map<String, Integer> mappingReferences = new HashMap<>();
+
         private Writer(List<MetadataIndexWriter> metadataIndexWriters, String nodeId, BigArrays bigArrays,
-                       LongSupplier relativeTimeMillisSupplier, Supplier<TimeValue> slowWriteLoggingThresholdSupplier) {
+                       LongSupplier relativeTimeMillisSupplier, Supplier<TimeValue> slowWriteLoggingThresholdSupplier,
+                       WriteCounters writeCounters) {
             this.metadataIndexWriters = metadataIndexWriters;
             this.nodeId = nodeId;
             this.bigArrays = bigArrays;
             this.relativeTimeMillisSupplier = relativeTimeMillisSupplier;
             this.slowWriteLoggingThresholdSupplier = slowWriteLoggingThresholdSupplier;
+            this.writeCounters = writeCounters;
+            if (metadataIndexWriters.size() > 1) {
+                this.dataPathExecutor = OpenSearchExecutors.newScaling("persisted_cluster_state_writer", 0, metadataIndexWriters.size() - 1,
+                    30, TimeUnit.SECONDS, OpenSearchExecutors.daemonThreadFactory("persisted_cluster_state_writer"),
+                    new ThreadContext(Settings.EMPTY));
+            } else {
+                this.dataPathExecutor = null;
+            }
+        }
+
+        /**
+         * Runs the given action for the writers of all data paths. The action runs concurrently for each data path if there are several,
+         * which allows their fsyncs to overlap, and this method only returns once the action completed on every data path.
+         */
+        private void forEachDataPath(CheckedConsumer<MetadataIndexWriter, IOException> action) throws IOException {
+            if (dataPathExecutor == null) {
+                for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
+                    action.accept(metadataIndexWriter);
+                }
+                return;
+            }
+
+            final List<Future<Void>> futures = new ArrayList<>(metadataIndexWriters.size() - 1);
+            for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters.subList(1, metadataIndexWriters.size())) {
+                futures.add(dataPathExecutor.submit(() -> {
+                    action.accept(metadataIndexWriter);
+                    return null;
+                }));
+            }
+            Exception failure = null;
+            try {
+                action.accept(metadataIndexWriters.get(0));
+            } catch (Exception e) {
+                failure = e;
+            }
+            // always wait for all data paths, the writers must not be used concurrently with the next operation
+            boolean interrupted = false;
+            for (Future<Void> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        final Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                        if (failure == null) {
+                            failure = cause;
+                        } else {
+                            failure.addSuppressed(cause);
+                        }
+                        break;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure != null) {
+                throw new IOException("failed to write cluster state to all data paths", failure);
+            }
         }
 
         private void ensureOpen() {
@@ -587,15 +729,17 @@ public class PersistedClusterStateService {
                 commit(currentTerm, clusterState.version());
                 fullStateWritten = true;
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
+                writeCounters.onWrite(true, durationMillis, stats);
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn("writing cluster state took [{}ms] which is above the warn threshold of [{}]; " +
-                            "wrote full state with [{}] indices",
-                        durationMillis, finalSlowWriteLoggingThreshold, stats.numIndicesUpdated);
+                            "wrote full state with [{}] indices and [{}] mappings in [{}] bytes",
+                        durationMillis, finalSlowWriteLoggingThreshold, stats.numIndicesUpdated, stats.numMappingsWritten,
+                        stats.bytesWritten);
                 } else {
                     logger.debug("writing cluster state took [{}ms]; " +
-                            "wrote full state with [{}] indices",
-                        durationMillis, stats.numIndicesUpdated);
+                            "wrote full state with [{}] indices and [{}] mappings in [{}] bytes",
+                        durationMillis, stats.numIndicesUpdated, stats.numMappingsWritten, stats.bytesWritten);
                 }
             } finally {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
@@ -615,16 +759,20 @@ public class PersistedClusterStateService {
                 final WriterStats stats = updateMetadata(previousClusterState.metadata(), clusterState.metadata());
                 commit(currentTerm, clusterState.version());
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
+                writeCounters.onWrite(false, durationMillis, stats);
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn("writing cluster state took [{}ms] which is above the warn threshold of [{}]; " +
-                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices",
+                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices, " +
+                            "wrote [{}] mappings in [{}] bytes",
                         durationMillis, finalSlowWriteLoggingThreshold, stats.globalMetaUpdated, stats.numIndicesUpdated,
-                        stats.numIndicesUnchanged);
+                        stats.numIndicesUnchanged, stats.numMappingsWritten, stats.bytesWritten);
                 } else {
                     logger.debug("writing cluster state took [{}ms]; " +
-                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices",
-                        durationMillis, stats.globalMetaUpdated, stats.numIndicesUpdated, stats.numIndicesUnchanged);
+                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices, " +
+                            "wrote [{}] mappings in [{}] bytes",
+                        durationMillis, stats.globalMetaUpdated, stats.numIndicesUpdated, stats.numIndicesUnchanged,
+                        stats.numMappingsWritten, stats.bytesWritten);
                 }
             } finally {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
@@ -650,6 +798,7 @@ public class PersistedClusterStateService {
                 metadata.coordinationMetadata().term());
 
             try (DocumentBuffer documentBuffer = allocateBuffer()) {
+                final MappingStats mappingStats = new MappingStats();
 
                 final boolean updateGlobalMeta = Metadata.isGlobalStateEquals(previouslyWrittenMetadata, metadata) == false;
                 if (updateGlobalMeta) {
@@ -676,7 +825,10 @@ public class PersistedClusterStateService {
                         logger.trace("updating metadata for [{}], changing version from [{}] to [{}]",
                                 indexMetadata.getIndex(), previousVersion, indexMetadata.getVersion());
                         numIndicesUpdated++;
-                        final Document indexMetadataDocument = makeIndexMetadataDocument(indexMetadata, documentBuffer);
+                        final String mappingHash = mappingHash(indexMetadata, persistedMappings.get(indexMetadata.getIndexUUID()));
+                        removeMappingReference(indexMetadata.getIndexUUID());
+                        addMappingReference(indexMetadata, mappingHash, documentBuffer, mappingStats);
+                        final Document indexMetadataDocument = makeIndexMetadataDocument(indexMetadata, mappingHash, documentBuffer);
                         for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                             metadataIndexWriter.updateIndexMetadataDocument(indexMetadataDocument, indexMetadata.getIndex());
                         }
@@ -690,18 +842,19 @@ public class PersistedClusterStateService {
                 documentBufferUsed = documentBuffer.getMaxUsed();
 
                 for (String removedIndexUUID : indexMetadataVersionByUUID.keySet()) {
+                    removeMappingReference(removedIndexUUID);
                     for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                         metadataIndexWriter.deleteIndexMetadata(removedIndexUUID);
                     }
                 }
+                deleteUnreferencedMappings();
 
                 // Flush, to try and expose a failure (e.g. out of disk space) before committing, because we can handle a failure here more
                 // gracefully than one that occurs during the commit process.
-                for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
-                    metadataIndexWriter.flush();
-                }
+                forEachDataPath(MetadataIndexWriter::flush);
 
-                return new WriterStats(updateGlobalMeta, numIndicesUpdated, numIndicesUnchanged);
+                return new WriterStats(updateGlobalMeta, numIndicesUpdated, numIndicesUnchanged, mappingStats,
+                    documentBuffer.getBytesWritten());
             }
         }
 
@@ -720,15 +873,23 @@ public class PersistedClusterStateService {
          */
         private WriterStats addMetadata(Metadata metadata) throws IOException {
             try (DocumentBuffer documentBuffer = allocateBuffer()) {
+                final MappingStats mappingStats = new MappingStats();
 
                 final Document globalMetadataDocument = makeGlobalMetadataDocument(metadata, documentBuffer);
                 for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                     metadataIndexWriter.updateGlobalMetadata(globalMetadataDocument);
                 }
 
+                // all documents were deleted, but the hashes of unchanged mapping instances can still be reused
+                final Map<String, PersistedMapping> previousMappings = new HashMap<>(persistedMappings);
+                persistedMappings.clear();
+                mappingReferences.clear();
+
                 for (ObjectCursor<IndexMetadata> cursor : metadata.indices().values()) {
                     final IndexMetadata indexMetadata = cursor.value;
-                    final Document indexMetadataDocument = makeIndexMetadataDocument(indexMetadata, documentBuffer);
+                    final String mappingHash = mappingHash(indexMetadata, previousMappings.get(indexMetadata.getIndexUUID()));
+                    addMappingReference(indexMetadata, mappingHash, documentBuffer, mappingStats);
+                    final Document indexMetadataDocument = makeIndexMetadataDocument(indexMetadata, mappingHash, documentBuffer);
                     for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                         metadataIndexWriter.updateIndexMetadataDocument(indexMetadataDocument, indexMetadata.getIndex());
                     }
@@ -738,11 +899,69 @@ public class PersistedClusterStateService {
 
                 // Flush, to try and expose a failure (e.g. out of disk space) before committing, because we can handle a failure here more
                 // gracefully than one that occurs during the commit process.
+                forEachDataPath(MetadataIndexWriter::flush);
+
+                return new WriterStats(true, metadata.indices().size(), 0, mappingStats, documentBuffer.getBytesWritten());
+            }
+        }
+
+        /**
+         * Returns the hash of the mapping of the given index if it can be stored in a separate mapping document, or {@code null} if the
+         * mapping should be stored as part of the index metadata document.
+         *
+         * @param previous the mapping that was persisted for the index before, whose hash is reused if the mapping did not change
+         */
+        @Nullable
+        private static String mappingHash(IndexMetadata indexMetadata, @Nullable PersistedMapping previous) {
+            if (indexMetadata.getMappings().size() != 1) {
+                return null;
+            }
+            final MappingMetadata mapping = indexMetadata.getMappings().valuesIt().next();
+            if (previous != null && previous.mapping == mapping) {
+                return previous.hash;
+            }
+            return MessageDigests.toHexString(MessageDigests.sha256().digest(mapping.source().compressed()));
+        }
+
+        private void addMappingReference(IndexMetadata indexMetadata, @Nullable String mappingHash, DocumentBuffer documentBuffer,
+                                         MappingStats mappingStats) throws IOException {
+            if (mappingHash == null) {
+                return;
+            }
+            final MappingMetadata mapping = indexMetadata.getMappings().valuesIt().next();
+            persistedMappings.put(indexMetadata.getIndexUUID(), new PersistedMapping(mapping, mappingHash));
+            final Integer references = mappingReferences.get(mappingHash);
+            if (references == null) {
+                final Document mappingDocument = makeMappingDocument(mapping, mappingHash, documentBuffer);
                 for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
-                    metadataIndexWriter.flush();
+                    metadataIndexWriter.addMapping(mappingDocument, mappingHash);
                 }
+                mappingStats.written++;
+                mappingReferences.put(mappingHash, 1);
+            } else {
+                mappingStats.deduplicated++;
+                mappingReferences.put(mappingHash, references + 1);
+            }
+        }
+
+        private void removeMappingReference(String indexUUID) {
+            final PersistedMapping removed = persistedMappings.remove(indexUUID);
+            if (removed != null) {
+                // mapping documents without references are kept until the end of the write since another index may still refer to them
+                mappingReferences.computeIfPresent(removed.hash, (hash, references) -> references - 1);
+            }
+        }
 
-                return new WriterStats(true, metadata.indices().size(), 0);
+        private void deleteUnreferencedMappings() throws IOException {
+            for (Iterator<Map.Entry<String, Integer>> iterator = mappingReferences.entrySet().iterator(); iterator.hasNext(); ) {
+                final Map.Entry<String, Integer> entry = iterator.next();
+                assert entry.getValue() >= 0 : entry;
+                if (entry.getValue() == 0) {
+                    for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
+                        metadataIndexWriter.deleteMapping(entry.getKey());
+                    }
+                    iterator.remove();
+                }
             }
         }
 
@@ -763,9 +982,7 @@ public class PersistedClusterStateService {
         void commit(long currentTerm, long lastAcceptedVersion) throws IOException {
             ensureOpen();
             try {
-                for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
-                    metadataIndexWriter.prepareCommit(nodeId, currentTerm, lastAcceptedVersion);
-                }
+                forEachDataPath(metadataIndexWriter -> metadataIndexWriter.prepareCommit(nodeId, currentTerm, lastAcceptedVersion));
             } catch (Exception e) {
                 try {
                     close();
@@ -778,9 +995,7 @@ public class PersistedClusterStateService {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
             }
             try {
-                for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
-                    metadataIndexWriter.commit();
-                }
+                forEachDataPath(MetadataIndexWriter::commit);
             } catch (IOException e) {
                 // The commit() call has similar semantics to a fsync(): although it's atomic, if it fails then we've no idea whether the
                 // data on disk is now the old version or the new version, and this is a disaster. It's safest to fail the whole node and
@@ -800,6 +1015,9 @@ public class PersistedClusterStateService {
         public void close() throws IOException {
             logger.trace("closing PersistedClusterStateService.Writer");
             if (closed.compareAndSet(false, true)) {
+                if (dataPathExecutor != null) {
+                    ThreadPool.terminate(dataPathExecutor, 10, TimeUnit.SECONDS);
+                }
                 IOUtils.close(metadataIndexWriters);
             }
         }
@@ -808,27 +1026,66 @@ public class PersistedClusterStateService {
             final boolean globalMetaUpdated;
             final long numIndicesUpdated;
             final long numIndicesUnchanged;
+            final long numMappingsWritten;
+            final long numMappingsDeduplicated;
+            final long bytesWritten;
 
-            WriterStats(boolean globalMetaUpdated, long numIndicesUpdated, long numIndicesUnchanged) {
+            WriterStats(boolean globalMetaUpdated, long numIndicesUpdated, long numIndicesUnchanged, MappingStats mappingStats,
+                        long bytesWritten) {
                 this.globalMetaUpdated = globalMetaUpdated;
                 this.numIndicesUpdated = numIndicesUpdated;
                 this.numIndicesUnchanged = numIndicesUnchanged;
+                this.numMappingsWritten = mappingStats.written;
+                this.numMappingsDeduplicated = mappingStats.deduplicated;
+                this.bytesWritten = bytesWritten;
             }
         }
 
-        private Document makeIndexMetadataDocument(IndexMetadata indexMetadata, DocumentBuffer documentBuffer) throws IOException {
-            final Document indexMetadataDocument = makeDocument(INDEX_TYPE_NAME, indexMetadata, documentBuffer);
+        private static class MappingStats {
+            long written;
+            long deduplicated;
+        }
+
+        private static class PersistedMapping {
+            final MappingMetadata mapping;
+            final String hash;
+
+            PersistedMapping(MappingMetadata mapping, String hash) {
+                this.mapping = mapping;
+                this.hash = hash;
+            }
+        }
+
+        private Document makeIndexMetadataDocument(IndexMetadata indexMetadata, @Nullable String mappingHash,
+                                                   DocumentBuffer documentBuffer) throws IOException {
+            final Document indexMetadataDocument = makeDocument(INDEX_TYPE_NAME, indexMetadata, documentBuffer,
+                mappingHash == null ? FORMAT_PARAMS : FORMAT_PARAMS_WITHOUT_MAPPINGS);
             final String indexUUID = indexMetadata.getIndexUUID();
             assert indexUUID.equals(IndexMetadata.INDEX_UUID_NA_VALUE) == false;
             indexMetadataDocument.add(new StringField(INDEX_UUID_FIELD_NAME, indexUUID, Field.Store.NO));
+            if (mappingHash != null) {
+                indexMetadataDocument.add(new StoredField(INDEX_MAPPING_HASH_FIELD_NAME, mappingHash));
+            }
             return indexMetadataDocument;
         }
 
         private Document makeGlobalMetadataDocument(Metadata metadata, DocumentBuffer documentBuffer) throws IOException {
-            return makeDocument(GLOBAL_TYPE_NAME, metadata, documentBuffer);
+            return makeDocument(GLOBAL_TYPE_NAME, metadata, documentBuffer, FORMAT_PARAMS);
+        }
+
+        private Document makeMappingDocument(MappingMetadata mapping, String mappingHash, DocumentBuffer documentBuffer) {
+            final Document document = new Document();
+            document.add(new StringField(TYPE_FIELD_NAME, MAPPING_TYPE_NAME, Field.Store.NO));
+            document.add(new StringField(MAPPING_HASH_FIELD_NAME, mappingHash, Field.Store.YES));
+            // the mapping source is compressed already, there is no need to copy it into the buffer
+            final byte[] compressed = mapping.source().compressed();
+            documentBuffer.onBytesWritten(compressed.length);
+            document.add(new StoredField(DATA_FIELD_NAME, compressed));
+            return document;
         }
 
-        private Document makeDocument(String typeName, ToXContent metadata, DocumentBuffer documentBuffer) throws IOException {
+        private Document makeDocument(String typeName, ToXContent metadata, DocumentBuffer documentBuffer,
+                                      ToXContent.Params params) throws IOException {
             final Document document = new Document();
             document.add(new StringField(TYPE_FIELD_NAME, typeName, Field.Store.NO));
 
@@ -836,7 +1093,7 @@ public class PersistedClusterStateService {
                 try (XContentBuilder xContentBuilder = XContentFactory.contentBuilder(XContentType.SMILE,
                         Streams.flushOnCloseStream(streamOutput))) {
                     xContentBuilder.startObject();
-                    metadata.toXContent(xContentBuilder, FORMAT_PARAMS);
+                    metadata.toXContent(xContentBuilder, params);
                     xContentBuilder.endObject();
                 }
                 document.add(new StoredField(DATA_FIELD_NAME, streamOutput.toBytesRef()));
@@ -846,6 +1103,37 @@ public class PersistedClusterStateService {
         }
     }
 
+    /**
+     * Accumulates the statistics of the writes of all writers of this service.
+     */
+    private static class WriteCounters {
+        private final CounterMetric fullWrites = new CounterMetric();
+        private final CounterMetric incrementalWrites = new CounterMetric();
+        private final CounterMetric writeTimeInMillis = new CounterMetric();
+        private final CounterMetric bytesWritten = new CounterMetric();
+        private final CounterMetric indicesWritten = new CounterMetric();
+        private final CounterMetric mappingsWritten = new CounterMetric();
+        private final CounterMetric mappingsDeduplicated = new CounterMetric();
+
+        void onWrite(boolean fullWrite, long durationMillis, Writer.WriterStats stats) {
+            if (fullWrite) {
+                fullWrites.inc();
+            } else {
+                incrementalWrites.inc();
+            }
+            writeTimeInMillis.inc(Math.max(0, durationMillis));
+            bytesWritten.inc(stats.bytesWritten);
+            indicesWritten.inc(stats.numIndicesUpdated);
+            mappingsWritten.inc(stats.numMappingsWritten);
+            mappingsDeduplicated.inc(stats.numMappingsDeduplicated);
+        }
+
+        PersistedClusterStateStats stats() {
+            return new PersistedClusterStateStats(fullWrites.count(), incrementalWrites.count(), writeTimeInMillis.count(),
+                bytesWritten.count(), indicesWritten.count(), mappingsWritten.count(), mappingsDeduplicated.count());
+        }
+    }
+
     /**
      * Holds the current buffer, keeping track of new allocations as it grows.
      */
@@ -856,6 +1144,7 @@ public class PersistedClusterStateService {
         private final Releasable releasable;
         private byte[] buffer;
         private int maxUsed;
+        private long bytesWritten;
 
         DocumentBuffer(int size, BigArrays bigArrays) {
             if (size <= PageCacheRecycler.PAGE_SIZE_IN_BYTES) {
@@ -888,6 +1177,7 @@ public class PersistedClusterStateService {
                 public BytesRef toBytesRef() {
                     final BytesRef bytesRef = super.toBytesRef();
                     maxUsed = Math.max(maxUsed, bytesRef.length);
+                    bytesWritten += bytesRef.length;
                     if (buffer != bytesRef.bytes) {
                         assert bytesRef.length > buffer.length;
                         logger.trace("growing document buffer from [{}] to [{}]", buffer.length, maxUsed);
@@ -903,6 +1193,20 @@ public class PersistedClusterStateService {
             return maxUsed;
         }
 
+        /**
+         * Accounts for document data that was not serialized through this buffer.
+         */
+        void onBytesWritten(int length) {
+            bytesWritten += length;
+        }
+
+        /**
+         * The total size of the document data produced while this buffer was in use.
+         */
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
         @Override
         public void close() {
             Releasables.close(releasable);
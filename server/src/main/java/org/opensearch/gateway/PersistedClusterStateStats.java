@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Statistics about the cluster states written to disk by the {@link PersistedClusterStateService}.
+ */
+public class PersistedClusterStateStats implements Writeable, ToXContentFragment {
+
+    private final long fullWrites;
+    private final long incrementalWrites;
+    private final long writeTimeInMillis;
+    private final long bytesWritten;
+    private final long indicesWritten;
+    private final long mappingsWritten;
+    private final long mappingsDeduplicated;
+
+    public PersistedClusterStateStats(long fullWrites, long incrementalWrites, long writeTimeInMillis, long bytesWritten,
+                                      long indicesWritten, long mappingsWritten, long mappingsDeduplicated) {
+        this.fullWrites = fullWrites;
+        this.incrementalWrites = incrementalWrites;
+        this.writeTimeInMillis = writeTimeInMillis;
+        this.bytesWritten = bytesWritten;
+        this.indicesWritten = indicesWritten;
+        this.mappingsWritten = mappingsWritten;
+        this.mappingsDeduplicated = mappingsDeduplicated;
+    }
+
+    public PersistedClusterStateStats(StreamInput in) throws IOException {
+        fullWrites = in.readVLong();
+        incrementalWrites = in.readVLong();
+        writeTimeInMillis = in.readVLong();
+        bytesWritten = in.readVLong();
+        indicesWritten = in.readVLong();
+        mappingsWritten = in.readVLong();
+        mappingsDeduplicated = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(fullWrites);
+        out.writeVLong(incrementalWrites);
+        out.writeVLong(writeTimeInMillis);
+        out.writeVLong(bytesWritten);
+        out.writeVLong(indicesWritten);
+        out.writeVLong(mappingsWritten);
+        out.writeVLong(mappingsDeduplicated);
+    }
+
+    /**
+     * The number of times the whole cluster state was rewritten.
+     */
+    public long getFullWrites() {
+        return fullWrites;
+    }
+
+    /**
+     * The number of times only the changed parts of the cluster state were written.
+     */
+    public long getIncrementalWrites() {
+        return incrementalWrites;
+    }
+
+    /**
+     * The total time spent writing and committing cluster states, including the time spent waiting for fsyncs.
+     */
+    public TimeValue getWriteTime() {
+        return TimeValue.timeValueMillis(writeTimeInMillis);
+    }
+
+    /**
+     * The total size of the serialized metadata documents written, counted once even if there are several data paths.
+     */
+    public ByteSizeValue getBytesWritten() {
+        return new ByteSizeValue(bytesWritten);
+    }
+
+    /**
+     * The number of index metadata documents written.
+     */
+    public long getIndicesWritten() {
+        return indicesWritten;
+    }
+
+    /**
+     * The number of mapping documents written.
+     */
+    public long getMappingsWritten() {
+        return mappingsWritten;
+    }
+
+    /**
+     * The number of times the mapping of an index metadata document that was written was already persisted for another index
+     * and therefore did not need to be written again.
+     */
+    public long getMappingsDeduplicated() {
+        return mappingsDeduplicated;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.CLUSTER_STATE_PERSISTENCE);
+        builder.field(Fields.FULL_WRITES, fullWrites);
+        builder.field(Fields.INCREMENTAL_WRITES, incrementalWrites);
+        builder.humanReadableField(Fields.WRITE_TIME_IN_MILLIS, Fields.WRITE_TIME, getWriteTime());
+        builder.humanReadableField(Fields.WRITTEN_IN_BYTES, Fields.WRITTEN, getBytesWritten());
+        builder.field(Fields.INDICES_WRITTEN, indicesWritten);
+        builder.field(Fields.MAPPINGS_WRITTEN, mappingsWritten);
+        builder.field(Fields.MAPPINGS_DEDUPLICATED, mappingsDeduplicated);
+        builder.endObject();
+        return builder;
+    }
+
+    static final class Fields {
+        static final String CLUSTER_STATE_PERSISTENCE = "cluster_state_persistence";
+        static final String FULL_WRITES = "full_writes";
+        static final String INCREMENTAL_WRITES = "incremental_writes";
+        static final String WRITE_TIME = "write_time";
+        static final String WRITE_TIME_IN_MILLIS = "write_time_in_millis";
+        static final String WRITTEN = "written";
+        static final String WRITTEN_IN_BYTES = "written_in_bytes";
+        static final String INDICES_WRITTEN = "indices_written";
+        static final String MAPPINGS_WRITTEN = "mappings_written";
+        static final String MAPPINGS_DEDUPLICATED = "mappings_deduplicated";
+    }
+}
@@ -68,6 +68,7 @@ import org.opensearch.gateway.WriteStateException;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.cache.IndexCache;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
+import org.opensearch.index.cache.query.PinnedFilterWarmer;
 import org.opensearch.index.cache.query.QueryCache;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineFactory;
@@ -89,6 +90,7 @@ import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.index.warmer.QueryReplayWarmer;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -102,6 +104,7 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -139,6 +142,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final SimilarityService similarityService;
     private final EngineFactory engineFactory;
     private final IndexWarmer warmer;
+    private final QueryReplayWarmer queryReplayWarmer;
     private volatile Map<Integer, IndexShard> shards = emptyMap();
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final AtomicBoolean deleted = new AtomicBoolean(false);
@@ -220,7 +224,11 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             }
             indexFieldData.setListener(new FieldDataCacheListener(this));
             this.bitsetFilterCache = new BitsetFilterCache(indexSettings, new BitsetCacheListener(this));
-            this.warmer = new IndexWarmer(threadPool, indexFieldData, bitsetFilterCache.createListener(threadPool));
+            this.queryReplayWarmer = new QueryReplayWarmer(indexSettings, threadPool);
+            this.warmer = new IndexWarmer(threadPool, indexFieldData, bitsetFilterCache.createListener(threadPool),
+                new PinnedFilterWarmer(threadPool, queryCache, xContentRegistry,
+                    (shardId, searcher) -> newQueryShardContext(shardId, searcher, System::currentTimeMillis, null)),
+                queryReplayWarmer);
             this.indexCache = new IndexCache(indexSettings, queryCache, bitsetFilterCache);
         } else {
             assert indexAnalyzers == null;
@@ -228,6 +236,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             this.indexFieldData = null;
             this.indexSortSupplier = () -> null;
             this.bitsetFilterCache = null;
+            this.queryReplayWarmer = null;
             this.warmer = null;
             this.indexCache = null;
         }
@@ -245,7 +254,12 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.engineFactory = Objects.requireNonNull(engineFactory);
         // initialize this last -- otherwise if the wrapper requires any other member to be non-null we fail with an NPE
         this.readerWrapper = wrapperFactory.apply(this);
-        this.searchOperationListeners = Collections.unmodifiableList(searchOperationListeners);
+        final List<SearchOperationListener> listeners = new ArrayList<>(searchOperationListeners);
+        if (queryReplayWarmer != null) {
+            // records the executed queries to replay them against new segments
+            listeners.add(queryReplayWarmer);
+        }
+        this.searchOperationListeners = Collections.unmodifiableList(listeners);
         this.indexingOperationListeners = Collections.unmodifiableList(indexingOperationListeners);
         // kick off async ops for the first shard in this index
         this.refreshTask = new AsyncRefreshTask(this);
@@ -796,6 +810,11 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             updateFsyncTaskIfNecessary();
         }
 
+        if (indexCache != null && PinnedFilterWarmer.hasUnpinnedFilters(currentIndexMetadata, newIndexMetadata)) {
+            // the filters that should still be pinned are pinned again by the warmer on the next refresh
+            indexCache.query().clearPinned();
+        }
+
         metadataListeners.forEach(c -> c.accept(newIndexMetadata));
     }
 
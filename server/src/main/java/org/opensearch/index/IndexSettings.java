@@ -242,6 +242,16 @@ public final class IndexSettings {
                     new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
                     Property.Dynamic, Property.IndexScope);
 
+    /**
+     * The maximum size of the recently indexed documents each shard keeps in memory to serve realtime gets without reading them
+     * back from the translog or refreshing. The documents are dropped on refresh and the buffer counts towards the indexing buffer
+     * of the shard. Defaults to <code>0</code>, which disables the buffer.
+     */
+    public static final Setting<ByteSizeValue> INDEX_REALTIME_GET_BUFFER_SIZE_SETTING =
+        Setting.byteSizeSetting("index.realtime_get.buffer_size", new ByteSizeValue(0, ByteSizeUnit.BYTES),
+            new ByteSizeValue(0, ByteSizeUnit.BYTES), new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+            Property.Dynamic, Property.IndexScope);
+
     /**
      * Index setting to enable / disable deletes garbage collection.
      * This setting is realtime updateable
@@ -381,6 +391,7 @@ public final class IndexSettings {
     private volatile TimeValue translogRetentionAge;
     private volatile ByteSizeValue translogRetentionSize;
     private volatile ByteSizeValue generationThresholdSize;
+    private volatile ByteSizeValue realtimeGetBufferSize;
     private volatile ByteSizeValue flushAfterMergeThresholdSize;
     private final MergeSchedulerConfig mergeSchedulerConfig;
     private final MergePolicyConfig mergePolicyConfig;
@@ -520,6 +531,7 @@ public final class IndexSettings {
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
+        realtimeGetBufferSize = scopedSettings.get(INDEX_REALTIME_GET_BUFFER_SIZE_SETTING);
         flushAfterMergeThresholdSize = scopedSettings.get(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING);
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
@@ -590,6 +602,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(
                 INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING,
                 this::setGenerationThresholdSize);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REALTIME_GET_BUFFER_SIZE_SETTING, this::setRealtimeGetBufferSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_AGE_SETTING, this::setTranslogRetentionAge);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_SIZE_SETTING, this::setTranslogRetentionSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_INTERVAL_SETTING, this::setRefreshInterval);
@@ -644,6 +657,10 @@ public final class IndexSettings {
         this.generationThresholdSize = generationThresholdSize;
     }
 
+    private void setRealtimeGetBufferSize(final ByteSizeValue realtimeGetBufferSize) {
+        this.realtimeGetBufferSize = realtimeGetBufferSize;
+    }
+
     private void setGCDeletes(TimeValue timeValue) {
         this.gcDeletesInMillis = timeValue.getMillis();
     }
@@ -864,6 +881,13 @@ public final class IndexSettings {
         return generationThresholdSize;
     }
 
+    /**
+     * Returns the maximum size of the recently indexed documents a shard keeps in memory to serve realtime gets.
+     */
+    public ByteSizeValue getRealtimeGetBufferSize() {
+        return realtimeGetBufferSize;
+    }
+
     /**
      * Returns the {@link MergeSchedulerConfig}
      */
@@ -87,6 +87,22 @@ public class IndexingPressure {
     }
 
     public Releasable markCoordinatingOperationStarted(long bytes, boolean forceExecution) {
+        final Releasable releasable = reserveCoordinatingBytes(bytes, forceExecution);
+        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
+        totalCoordinatingBytes.getAndAdd(bytes);
+        return releasable;
+    }
+
+    /**
+     * Reserves the bytes of a request body which is about to be parsed into coordinating operations, rejecting it if the node is
+     * already over its limit. The reservation is only reflected in the current bytes: the parsed operations are accounted for by
+     * {@link #markCoordinatingOperationStarted} once they start, which should happen after this reservation has been released.
+     */
+    public Releasable markCoordinatingOperationParsing(long bytes) {
+        return reserveCoordinatingBytes(bytes, false);
+    }
+
+    private Releasable reserveCoordinatingBytes(long bytes, boolean forceExecution) {
         long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
         long replicaWriteBytes = this.currentReplicaBytes.get();
         long totalBytes = combinedBytes + replicaWriteBytes;
@@ -103,8 +119,6 @@ public class IndexingPressure {
                 "max_coordinating_and_primary_bytes=" + primaryAndCoordinatingLimits + "]", false);
         }
         currentCoordinatingBytes.getAndAdd(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
-        totalCoordinatingBytes.getAndAdd(bytes);
         return wrapReleasable(() -> {
             this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
             this.currentCoordinatingBytes.getAndAdd(-bytes);
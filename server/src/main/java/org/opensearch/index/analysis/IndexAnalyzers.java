@@ -31,6 +31,8 @@
 
 package org.opensearch.index.analysis;
 
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.internal.io.IOUtils;
 
 import java.io.Closeable;
@@ -56,6 +58,9 @@ public final class IndexAnalyzers implements Closeable {
     private final Map<String, NamedAnalyzer> analyzers;
     private final Map<String, NamedAnalyzer> normalizers;
     private final Map<String, NamedAnalyzer> whitespaceNormalizers;
+    private final Map<String, TokenStreamCache> tokenStreamCaches = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric tokenStreamCacheHits = new CounterMetric();
+    private final CounterMetric tokenStreamCacheMisses = new CounterMetric();
 
     public IndexAnalyzers(Map<String, NamedAnalyzer> analyzers, Map<String, NamedAnalyzer> normalizers,
             Map<String, NamedAnalyzer> whitespaceNormalizers) {
@@ -118,6 +123,35 @@ public final class IndexAnalyzers implements Closeable {
         return analyzers.getOrDefault(DEFAULT_SEARCH_QUOTED_ANALYZER_NAME, getDefaultSearchAnalyzer());
     }
 
+    /**
+     * Returns the cache of the analyzed values of the given field, replacing the existing cache of the field if it was created
+     * with a different maximum size.
+     */
+    public TokenStreamCache getTokenStreamCache(String field, long maxSizeInBytes) {
+        return tokenStreamCaches.compute(field, (f, cache) -> cache != null && cache.maxSizeInBytes() == maxSizeInBytes ? cache :
+            new TokenStreamCache(maxSizeInBytes, tokenStreamCacheHits, tokenStreamCacheMisses));
+    }
+
+    /**
+     * Drops the cache of the analyzed values of the given field, if any.
+     */
+    public void removeTokenStreamCache(String field) {
+        tokenStreamCaches.remove(field);
+    }
+
+    /**
+     * Returns the usage of the token stream caches of the fields of this index.
+     */
+    public TokenStreamCacheStats getTokenStreamCacheStats() {
+        long count = 0;
+        long memorySizeInBytes = 0;
+        for (TokenStreamCache cache : tokenStreamCaches.values()) {
+            count += cache.count();
+            memorySizeInBytes += cache.ramBytesUsed();
+        }
+        return new TokenStreamCacheStats(count, memorySizeInBytes, tokenStreamCacheHits.count(), tokenStreamCacheMisses.count());
+    }
+
     @Override
     public void close() throws IOException {
         IOUtils.close(Stream.of(analyzers.values().stream(), normalizers.values().stream(), whitespaceNormalizers.values().stream())
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PayloadAttribute;
+import org.apache.lucene.util.Attribute;
+import org.apache.lucene.util.AttributeFactory;
+import org.apache.lucene.util.AttributeImpl;
+import org.apache.lucene.util.AttributeSource;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A bounded cache of the tokens, including their positions, offsets and all other attributes, that an analyzer produced for the
+ * values of a field. Replaying the tokens of a value that was seen before is much cheaper than analyzing it again, which pays off
+ * for fields whose values repeat a lot, e.g. log message templates or user agents.
+ */
+public final class TokenStreamCache {
+
+    /**
+     * Values longer than this are always analyzed since they are unlikely to repeat.
+     */
+    public static final int MAX_VALUE_LENGTH = 1024;
+
+    private final long maxSizeInBytes;
+    private final Cache<String, CachedTokens> cache;
+    private final CounterMetric hits;
+    private final CounterMetric misses;
+
+    TokenStreamCache(long maxSizeInBytes, CounterMetric hits, CounterMetric misses) {
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("the maximum size of the cache must be positive but was [" + maxSizeInBytes + "]");
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.cache = CacheBuilder.<String, CachedTokens>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((value, tokens) -> RamUsageEstimator.sizeOf(value) + tokens.ramBytesUsed)
+            .build();
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    long maxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    long ramBytesUsed() {
+        return cache.weight();
+    }
+
+    /**
+     * Returns a token stream that replays the tokens the given analyzer produces for the value, analyzing the value only if it
+     * isn't cached yet, or <code>null</code> if the value is too long to be cached or its tokens can't be replayed.
+     */
+    public TokenStream tokenStream(Analyzer analyzer, String field, String value) throws IOException {
+        if (value.length() > MAX_VALUE_LENGTH) {
+            return null;
+        }
+        CachedTokens tokens = cache.get(value);
+        if (tokens == null) {
+            misses.inc();
+            tokens = CachedTokens.analyze(analyzer, field, value);
+            if (tokens == null) {
+                return null;
+            }
+            cache.put(value, tokens);
+        } else {
+            hits.inc();
+        }
+        return new CachedTokenStream(tokens);
+    }
+
+    /**
+     * The captured tokens of a value. The states are never modified once captured, so they can be restored by many streams
+     * concurrently. Every replay builds its own attributes from the factory of the analyzed stream, nothing else is shared.
+     */
+    private static final class CachedTokens {
+
+        private static final long STATE_BYTES = RamUsageEstimator.shallowSizeOfInstance(AttributeSource.State.class);
+
+        private final AttributeFactory factory;
+        private final List<Class<? extends Attribute>> attributes;
+        private final List<AttributeSource.State> tokens;
+        private final AttributeSource.State end;
+        private final long ramBytesUsed;
+
+        private CachedTokens(AttributeFactory factory, List<Class<? extends Attribute>> attributes, List<AttributeSource.State> tokens,
+                             AttributeSource.State end, long ramBytesUsed) {
+            this.factory = factory;
+            this.attributes = attributes;
+            this.tokens = tokens;
+            this.end = end;
+            this.ramBytesUsed = ramBytesUsed;
+        }
+
+        /**
+         * Analyzes the value and captures its tokens, or returns <code>null</code> if the attributes of the analyzed stream can't be
+         * rebuilt from its attribute factory, e.g. because a tokenizer added an attribute implementation directly.
+         */
+        static CachedTokens analyze(Analyzer analyzer, String field, String value) throws IOException {
+            try (TokenStream stream = analyzer.tokenStream(field, value)) {
+                final List<Class<? extends Attribute>> attributes = new ArrayList<>();
+                stream.getAttributeClassesIterator().forEachRemaining(attributes::add);
+                if (canReplay(stream, attributes) == false) {
+                    return null;
+                }
+                // every captured state holds a copy of each attribute implementation
+                long stateBytes = 0;
+                for (Iterator<AttributeImpl> it = stream.getAttributeImplsIterator(); it.hasNext(); ) {
+                    stateBytes += STATE_BYTES + RamUsageEstimator.shallowSizeOf(it.next());
+                }
+                final CharTermAttribute termAtt = stream.hasAttribute(CharTermAttribute.class) ?
+                    stream.getAttribute(CharTermAttribute.class) : null;
+                final PayloadAttribute payloadAtt = stream.hasAttribute(PayloadAttribute.class) ?
+                    stream.getAttribute(PayloadAttribute.class) : null;
+                final List<AttributeSource.State> tokens = new ArrayList<>();
+                long ramBytesUsed = stateBytes;
+                stream.reset();
+                while (stream.incrementToken()) {
+                    tokens.add(stream.captureState());
+                    ramBytesUsed += RamUsageEstimator.NUM_BYTES_OBJECT_REF + stateBytes;
+                    if (termAtt != null) {
+                        ramBytesUsed += RamUsageEstimator.alignObjectSize(
+                            RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) Character.BYTES * termAtt.length());
+                    }
+                    final BytesRef payload = payloadAtt == null ? null : payloadAtt.getPayload();
+                    if (payload != null) {
+                        ramBytesUsed += RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + payload.length);
+                    }
+                }
+                stream.end();
+                return new CachedTokens(stream.getAttributeFactory(), attributes, tokens, stream.captureState(), ramBytesUsed);
+            }
+        }
+
+        private static boolean canReplay(TokenStream stream, List<Class<? extends Attribute>> attributes) {
+            final AttributeSource replay = new AttributeSource(stream.getAttributeFactory());
+            for (Class<? extends Attribute> attribute : attributes) {
+                replay.addAttribute(attribute);
+            }
+            final Iterator<AttributeImpl> expected = stream.getAttributeImplsIterator();
+            final Iterator<AttributeImpl> actual = replay.getAttributeImplsIterator();
+            while (expected.hasNext() && actual.hasNext()) {
+                if (expected.next().getClass() != actual.next().getClass()) {
+                    return false;
+                }
+            }
+            return expected.hasNext() == actual.hasNext();
+        }
+    }
+
+    private static final class CachedTokenStream extends TokenStream {
+
+        private final CachedTokens tokens;
+        private int upto;
+
+        CachedTokenStream(CachedTokens tokens) {
+            super(tokens.factory);
+            this.tokens = tokens;
+            for (Class<? extends Attribute> attribute : tokens.attributes) {
+                addAttribute(attribute);
+            }
+        }
+
+        @Override
+        public boolean incrementToken() {
+            if (upto == tokens.tokens.size()) {
+                return false;
+            }
+            clearAttributes();
+            restoreState(tokens.tokens.get(upto++));
+            return true;
+        }
+
+        @Override
+        public void end() throws IOException {
+            super.end();
+            restoreState(tokens.end);
+        }
+
+        @Override
+        public void reset() {
+            upto = 0;
+        }
+    }
+}
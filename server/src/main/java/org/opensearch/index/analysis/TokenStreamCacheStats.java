@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.analysis;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Usage of the {@link TokenStreamCache}s of the text fields that cache the tokens of their analyzed values.
+ */
+public class TokenStreamCacheStats implements Writeable, ToXContentFragment {
+
+    private long count;
+    private long memorySizeInBytes;
+    private long hitCount;
+    private long missCount;
+
+    public TokenStreamCacheStats() {
+    }
+
+    public TokenStreamCacheStats(long count, long memorySizeInBytes, long hitCount, long missCount) {
+        this.count = count;
+        this.memorySizeInBytes = memorySizeInBytes;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    public TokenStreamCacheStats(StreamInput in) throws IOException {
+        count = in.readVLong();
+        memorySizeInBytes = in.readVLong();
+        hitCount = in.readVLong();
+        missCount = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(count);
+        out.writeVLong(memorySizeInBytes);
+        out.writeVLong(hitCount);
+        out.writeVLong(missCount);
+    }
+
+    public void add(TokenStreamCacheStats stats) {
+        if (stats == null) {
+            return;
+        }
+        count += stats.count;
+        memorySizeInBytes += stats.memorySizeInBytes;
+        hitCount += stats.hitCount;
+        missCount += stats.missCount;
+    }
+
+    /**
+     * The number of values whose tokens are currently cached.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * The estimated memory held by the cached tokens.
+     */
+    public long getMemorySizeInBytes() {
+        return memorySizeInBytes;
+    }
+
+    public ByteSizeValue getMemorySize() {
+        return new ByteSizeValue(memorySizeInBytes);
+    }
+
+    /**
+     * The number of values whose tokens were replayed from a cache instead of analyzing them.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of values that had to be analyzed because they weren't cached yet.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.TOKEN_STREAM_CACHE);
+        builder.field(Fields.COUNT, count);
+        builder.humanReadableField(Fields.MEMORY_SIZE_IN_BYTES, Fields.MEMORY_SIZE, getMemorySize());
+        builder.field(Fields.HIT_COUNT, hitCount);
+        builder.field(Fields.MISS_COUNT, missCount);
+        builder.endObject();
+        return builder;
+    }
+
+    static final class Fields {
+        static final String TOKEN_STREAM_CACHE = "token_stream_cache";
+        static final String COUNT = "count";
+        static final String MEMORY_SIZE = "memory_size";
+        static final String MEMORY_SIZE_IN_BYTES = "memory_size_in_bytes";
+        static final String HIT_COUNT = "hit_count";
+        static final String MISS_COUNT = "miss_count";
+    }
+}
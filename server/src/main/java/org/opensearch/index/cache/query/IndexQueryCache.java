@@ -32,6 +32,8 @@
 
 package org.opensearch.index.cache.query;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.Weight;
 import org.opensearch.OpenSearchException;
@@ -39,6 +41,8 @@ import org.opensearch.index.AbstractIndexComponent;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.indices.IndicesQueryCache;
 
+import java.io.IOException;
+
 /**
  * The index-level query cache. This class mostly delegates to the node-level
  * query cache: {@link IndicesQueryCache}.
@@ -68,4 +72,15 @@ public class IndexQueryCache extends AbstractIndexComponent implements QueryCach
         return indicesQueryCache.doCache(weight, policy);
     }
 
+    @Override
+    public boolean pin(Query filter, LeafReaderContext context) throws IOException {
+        return indicesQueryCache.pin(filter, context);
+    }
+
+    @Override
+    public void clearPinned() {
+        logger.debug("clearing pinned filters");
+        indicesQueryCache.clearPinned(index().getName());
+    }
+
 }
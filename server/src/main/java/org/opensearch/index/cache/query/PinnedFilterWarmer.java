@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.query;
+
+import com.carrotsearch.hppc.cursors.ObjectCursor;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.index.IndexWarmer;
+import org.opensearch.index.IndexWarmer.TerminationHandle;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.Rewriteable;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
+
+/**
+ * Pins the filters of the aliases that match {@link #INDEX_PINNED_ALIASES_SETTING} in the {@link QueryCache} of the index, so that
+ * their doc id sets are built for new segments before they become visible to searches instead of whenever the caching policy
+ * decides that the filter is worth caching again.
+ */
+public final class PinnedFilterWarmer implements IndexWarmer.Listener {
+
+    public static final Setting<List<String>> INDEX_PINNED_ALIASES_SETTING =
+        Setting.listSetting("index.queries.cache.pinned_aliases", Collections.emptyList(), Function.identity(),
+            Property.Dynamic, Property.IndexScope);
+
+    private final Executor executor;
+    private final QueryCache queryCache;
+    private final NamedXContentRegistry xContentRegistry;
+    private final BiFunction<Integer, IndexSearcher, QueryShardContext> queryShardContextFactory;
+
+    public PinnedFilterWarmer(ThreadPool threadPool, QueryCache queryCache, NamedXContentRegistry xContentRegistry,
+                              BiFunction<Integer, IndexSearcher, QueryShardContext> queryShardContextFactory) {
+        this.executor = threadPool.executor(ThreadPool.Names.WARMER);
+        this.queryCache = queryCache;
+        this.xContentRegistry = xContentRegistry;
+        this.queryShardContextFactory = queryShardContextFactory;
+    }
+
+    /**
+     * Returns the filters of the aliases of the index that are pinned, keyed by alias name.
+     */
+    static Map<String, CompressedXContent> pinnedAliasFilters(IndexMetadata indexMetadata) {
+        final List<String> patterns = INDEX_PINNED_ALIASES_SETTING.get(indexMetadata.getSettings());
+        if (patterns.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, CompressedXContent> filters = new HashMap<>();
+        for (ObjectCursor<AliasMetadata> cursor : indexMetadata.getAliases().values()) {
+            final AliasMetadata alias = cursor.value;
+            if (alias.filter() != null && Regex.simpleMatch(patterns, alias.alias())) {
+                filters.put(alias.alias(), alias.filter());
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * Returns whether a filter that is pinned with the current metadata of the index no longer is with the updated metadata, because
+     * its alias was removed, its filter changed or it no longer matches {@link #INDEX_PINNED_ALIASES_SETTING}.
+     */
+    public static boolean hasUnpinnedFilters(@Nullable IndexMetadata current, IndexMetadata updated) {
+        if (current == null) {
+            return false;
+        }
+        final Map<String, CompressedXContent> currentFilters = pinnedAliasFilters(current);
+        if (currentFilters.isEmpty()) {
+            return false;
+        }
+        final Map<String, CompressedXContent> updatedFilters = pinnedAliasFilters(updated);
+        for (Map.Entry<String, CompressedXContent> filter : currentFilters.entrySet()) {
+            if (filter.getValue().equals(updatedFilters.get(filter.getKey())) == false) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public TerminationHandle warmReader(IndexShard indexShard, OpenSearchDirectoryReader reader) {
+        final Map<String, CompressedXContent> aliasFilters = pinnedAliasFilters(indexShard.indexSettings().getIndexMetadata());
+        if (aliasFilters.isEmpty()) {
+            return TerminationHandle.NO_WAIT;
+        }
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null);
+        final List<Query> filters = new ArrayList<>();
+        for (Map.Entry<String, CompressedXContent> aliasFilter : aliasFilters.entrySet()) {
+            try {
+                final Query filter = toQuery(indexShard.shardId().id(), searcher, aliasFilter.getValue());
+                if (filter != null) {
+                    filters.add(filter);
+                }
+            } catch (Exception e) {
+                indexShard.warmerService().logger().warn(() -> new ParameterizedMessage("failed to parse the filter of " +
+                    "alias [{}]", aliasFilter.getKey()), e);
+            }
+        }
+
+        final CountDownLatch latch = new CountDownLatch(reader.leaves().size() * filters.size());
+        for (final LeafReaderContext ctx : reader.leaves()) {
+            for (final Query filter : filters) {
+                executor.execute(() -> {
+                    try {
+                        final long start = System.nanoTime();
+                        if (queryCache.pin(filter, ctx) && indexShard.warmerService().logger().isTraceEnabled()) {
+                            indexShard.warmerService().logger().trace("pinned filter [{}], took [{}]",
+                                filter, TimeValue.timeValueNanos(System.nanoTime() - start));
+                        }
+                    } catch (Exception e) {
+                        indexShard.warmerService().logger().warn(() -> new ParameterizedMessage("failed to pin " +
+                            "filter [{}]", filter), e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        return () -> latch.await();
+    }
+
+    private Query toQuery(int shardId, IndexSearcher searcher, CompressedXContent aliasFilter) throws IOException {
+        final QueryBuilder filter;
+        try (InputStream inputStream = aliasFilter.uncompressed().streamInput();
+             XContentParser parser = XContentFactory.xContentType(inputStream).xContent()
+                 .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, inputStream)) {
+            filter = parseInnerQueryBuilder(parser);
+        }
+        final QueryShardContext context = queryShardContextFactory.apply(shardId, searcher);
+        final Query query = Rewriteable.rewrite(filter, context, true).toQuery(context);
+        // filters that depend on the current time can't be cached
+        return context.isCacheable() ? query : null;
+    }
+}
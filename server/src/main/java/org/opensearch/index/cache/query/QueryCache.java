@@ -32,11 +32,30 @@
 
 package org.opensearch.index.cache.query;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
 import org.opensearch.index.IndexComponent;
 
 import java.io.Closeable;
+import java.io.IOException;
 
 public interface QueryCache extends IndexComponent, Closeable, org.apache.lucene.search.QueryCache {
 
     void clear(String reason);
+
+    /**
+     * Eagerly caches the given filter on the given segment and keeps it cached for as long as the segment is open, regardless
+     * of the caching policy and the size of the cache.
+     *
+     * @return whether the filter got pinned, <code>false</code> if it already was or can't be cached on the segment
+     */
+    default boolean pin(Query filter, LeafReaderContext context) throws IOException {
+        return false;
+    }
+
+    /**
+     * Drops the doc id sets of all filters that were pinned on the segments of the index.
+     */
+    default void clearPinned() {
+    }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -50,6 +51,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private long pinnedSize;
+    private long pinnedRamBytesUsed;
+    private long pinnedHitCount;
 
     public QueryCacheStats() {
     }
@@ -60,14 +64,27 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            pinnedSize = in.readVLong();
+            pinnedRamBytesUsed = in.readVLong();
+            pinnedHitCount = in.readVLong();
+        }
     }
 
     public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize) {
+        this(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize, 0, 0, 0);
+    }
+
+    public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize,
+                           long pinnedSize, long pinnedRamBytesUsed, long pinnedHitCount) {
         this.ramBytesUsed = ramBytesUsed;
         this.hitCount = hitCount;
         this.missCount = missCount;
         this.cacheCount = cacheCount;
         this.cacheSize = cacheSize;
+        this.pinnedSize = pinnedSize;
+        this.pinnedRamBytesUsed = pinnedRamBytesUsed;
+        this.pinnedHitCount = pinnedHitCount;
     }
 
     public void add(QueryCacheStats stats) {
@@ -76,6 +93,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        pinnedSize += stats.pinnedSize;
+        pinnedRamBytesUsed += stats.pinnedRamBytesUsed;
+        pinnedHitCount += stats.pinnedHitCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -128,6 +148,28 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheCount - cacheSize;
     }
 
+    /**
+     * The number of {@link DocIdSet}s of pinned filters that are in the cache. These are never evicted.
+     */
+    public long getPinnedSize() {
+        return pinnedSize;
+    }
+
+    public long getPinnedMemorySizeInBytes() {
+        return pinnedRamBytesUsed;
+    }
+
+    public ByteSizeValue getPinnedMemorySize() {
+        return new ByteSizeValue(pinnedRamBytesUsed);
+    }
+
+    /**
+     * The number of lookups that were served by the {@link DocIdSet} of a pinned filter.
+     */
+    public long getPinnedHitCount() {
+        return pinnedHitCount;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeLong(ramBytesUsed);
@@ -135,6 +177,11 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeVLong(pinnedSize);
+            out.writeVLong(pinnedRamBytesUsed);
+            out.writeVLong(pinnedHitCount);
+        }
     }
 
     @Override
@@ -147,6 +194,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        builder.field(Fields.PINNED_SIZE, getPinnedSize());
+        builder.humanReadableField(Fields.PINNED_MEMORY_SIZE_IN_BYTES, Fields.PINNED_MEMORY_SIZE, getPinnedMemorySize());
+        builder.field(Fields.PINNED_HIT_COUNT, getPinnedHitCount());
         builder.endObject();
         return builder;
     }
@@ -161,6 +211,10 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String PINNED_SIZE = "pinned_size";
+        static final String PINNED_MEMORY_SIZE = "pinned_memory_size";
+        static final String PINNED_MEMORY_SIZE_IN_BYTES = "pinned_memory_size_in_bytes";
+        static final String PINNED_HIT_COUNT = "pinned_hit_count";
     }
 
 }
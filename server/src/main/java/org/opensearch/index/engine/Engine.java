@@ -53,6 +53,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.SetOnce;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.index.IndexRequest;
@@ -316,6 +317,21 @@ public abstract class Engine implements Closeable {
      */
     public abstract boolean isThrottled();
 
+    /**
+     * Returns the number of realtime gets that were served from the in-memory buffer of recently indexed documents.
+     */
+    public long getRealtimeGetBufferHitCount() {
+        return 0L;
+    }
+
+    /**
+     * Returns the number of realtime gets that looked up the in-memory buffer of recently indexed documents but had to fall back
+     * to reading the document from the translog.
+     */
+    public long getRealtimeGetBufferMissCount() {
+        return 0L;
+    }
+
     /**
      * Trims translog for terms below <code>belowTerm</code> and seq# above <code>aboveSeqNo</code>
      * @see Translog#trimOperations(long, long)
@@ -591,6 +607,14 @@ public abstract class Engine implements Closeable {
         PENDING_OPERATIONS
     }
 
+    /**
+     * Returns <code>true</code> if the document with the given uid may have changed since the last refresh of the internal searcher,
+     * in which case a realtime get of it must go through {@link #get} rather than being served by an internal searcher.
+     */
+    public boolean hasUnrefreshedVersion(BytesRef uid) {
+        return false;
+    }
+
     protected final GetResult getFromSearcher(Get get, BiFunction<String, SearcherScope, Engine.Searcher> searcherFactory,
                                                 SearcherScope scope) throws EngineException {
         final Engine.Searcher searcher = searcherFactory.apply("get", scope);
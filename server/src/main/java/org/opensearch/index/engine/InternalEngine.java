@@ -156,6 +156,7 @@ public class InternalEngine extends Engine {
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
     private final LiveVersionMap versionMap = new LiveVersionMap();
+    private final RealtimeGetBuffer realtimeGetBuffer;
 
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
@@ -221,6 +222,7 @@ public class InternalEngine extends Engine {
     InternalEngine(EngineConfig engineConfig, int maxDocs, BiFunction<Long, Long, LocalCheckpointTracker> localCheckpointTrackerSupplier) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.realtimeGetBuffer = new RealtimeGetBuffer(() -> engineConfig.getIndexSettings().getRealtimeGetBufferSize().getBytes());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -279,6 +281,7 @@ public class InternalEngine extends Engine {
             this.internalReaderManager = internalReaderManager;
             this.externalReaderManager = externalReaderManager;
             internalReaderManager.addListener(versionMap);
+            internalReaderManager.addListener(realtimeGetBuffer);
             assert pendingTranslogRecovery.get() == false : "translog recovery can't be pending before we set it";
             // don't allow commits until we are done with recovering
             pendingTranslogRecovery.set(true);
@@ -702,19 +705,20 @@ public class InternalEngine extends Engine {
                             get.getIfSeqNo(), get.getIfPrimaryTerm(), versionValue.seqNo, versionValue.term);
                     }
                     if (get.isReadFromTranslog()) {
-                        // this is only used for updates - API _GET calls will always read form a reader for consistency
-                        // the update call doesn't need the consistency since it's source only + _parent but parent can go away in 7.0
+                        // the buffer holds the operations indexed since the last refresh, serving them from memory saves the
+                        // refresh that realtime gets would otherwise need to make the document visible to the internal searcher
+                        if (realtimeGetBuffer.isEnabled()) {
+                            final Translog.Index buffered = realtimeGetBuffer.get(get.uid().bytes(), versionValue.seqNo);
+                            if (buffered != null) {
+                                return getFromTranslogOperation(buffered);
+                            }
+                        }
                         if (versionValue.getLocation() != null) {
                             try {
                                 Translog.Operation operation = translog.readOperation(versionValue.getLocation());
                                 if (operation != null) {
                                     // in the case of a already pruned translog generation we might get null here - yet very unlikely
-                                    final Translog.Index index = (Translog.Index) operation;
-                                    TranslogLeafReader reader = new TranslogLeafReader(index);
-                                    return new GetResult(new Engine.Searcher("realtime_get", reader,
-                                        IndexSearcher.getDefaultSimilarity(), null, IndexSearcher.getDefaultQueryCachingPolicy(), reader),
-                                        new VersionsAndSeqNoResolver.DocIdAndVersion(0, index.version(), index.seqNo(), index.primaryTerm(),
-                                            reader, 0), true);
+                                    return getFromTranslogOperation((Translog.Index) operation);
                                 }
                             } catch (IOException e) {
                                 maybeFailEngine("realtime_get", e); // lets check if the translog has failed with a tragic event
@@ -738,6 +742,14 @@ public class InternalEngine extends Engine {
         }
     }
 
+    private static GetResult getFromTranslogOperation(Translog.Index index) {
+        TranslogLeafReader reader = new TranslogLeafReader(index);
+        return new GetResult(new Engine.Searcher("realtime_get", reader,
+            IndexSearcher.getDefaultSimilarity(), null, IndexSearcher.getDefaultQueryCachingPolicy(), reader),
+            new VersionsAndSeqNoResolver.DocIdAndVersion(0, index.version(), index.seqNo(), index.primaryTerm(),
+                reader, 0), true);
+    }
+
     /**
      * the status of the current doc version in lucene, compared to the version in an incoming
      * operation
@@ -812,6 +824,16 @@ public class InternalEngine extends Engine {
         return versionValue;
     }
 
+    @Override
+    public boolean hasUnrefreshedVersion(BytesRef uid) {
+        if (versionMap.isUnsafe()) {
+            return true;
+        }
+        try (Releasable ignore = versionMap.acquireLock(uid)) {
+            return versionMap.getUnderLock(uid) != null;
+        }
+    }
+
     private VersionValue getVersionFromMap(BytesRef id) {
         if (versionMap.isUnsafe()) {
             synchronized (versionMap) {
@@ -965,10 +987,12 @@ public class InternalEngine extends Engine {
                             plan.versionForIndexing, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
                     }
                 }
+                Translog.Index translogOperation = null;
                 if (index.origin().isFromTranslog() == false) {
                     final Translog.Location location;
                     if (indexResult.getResultType() == Result.Type.SUCCESS) {
-                        location = translog.add(new Translog.Index(index, indexResult));
+                        translogOperation = new Translog.Index(index, indexResult);
+                        location = translog.add(translogOperation);
                     } else if (indexResult.getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
                         // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
                         final NoOp noOp = new NoOp(indexResult.getSeqNo(), index.primaryTerm(), index.origin(),
@@ -983,6 +1007,9 @@ public class InternalEngine extends Engine {
                     final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
                     versionMap.maybePutIndexUnderLock(index.uid().bytes(),
                         new IndexVersionValue(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm()));
+                    if (translogOperation != null) {
+                        realtimeGetBuffer.putUnderLock(index.uid().bytes(), translogOperation);
+                    }
                 }
                 localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
                 if (indexResult.getTranslogLocation() == null) {
@@ -1501,6 +1528,7 @@ public class InternalEngine extends Engine {
                 versionMap.putDeleteUnderLock(delete.uid().bytes(),
                     new DeleteVersionValue(plan.versionOfDeletion, delete.seqNo(), delete.primaryTerm(),
                         engineConfig.getThreadPool().relativeTimeInMillis()));
+                realtimeGetBuffer.removeUnderLock(delete.uid().bytes());
             }
             return new DeleteResult(
                 plan.versionOfDeletion, delete.primaryTerm(), delete.seqNo(), plan.currentlyDeleted == false);
@@ -2200,7 +2228,7 @@ public class InternalEngine extends Engine {
     @Override
     public long getIndexBufferRAMBytesUsed() {
         // We don't guard w/ readLock here, so we could throw AlreadyClosedException
-        return indexWriter.ramBytesUsed() + versionMap.ramBytesUsedForRefresh();
+        return indexWriter.ramBytesUsed() + versionMap.ramBytesUsedForRefresh() + realtimeGetBuffer.ramBytesUsed();
     }
 
     @Override
@@ -2401,6 +2429,16 @@ public class InternalEngine extends Engine {
         return throttle.getThrottleTimeInMillis();
     }
 
+    @Override
+    public long getRealtimeGetBufferHitCount() {
+        return realtimeGetBuffer.getHitCount();
+    }
+
+    @Override
+    public long getRealtimeGetBufferMissCount() {
+        return realtimeGetBuffer.getMissCount();
+    }
+
     long getGcDeletesInMillis() {
         return engineConfig.getIndexSettings().getGcDeletesInMillis();
     }
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.translog.Translog;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A size-bounded buffer of the documents indexed since the last refresh, keyed by _uid. Realtime gets for documents that are in the
+ * buffer are served from memory instead of reading the operation back from the translog. Like the {@link LiveVersionMap} the buffer is
+ * emptied once a refresh made the buffered documents visible to the internal searcher, and it never decides whether a document exists:
+ * callers look up the live version first and only use a buffered operation if its sequence number matches.
+ */
+final class RealtimeGetBuffer implements ReferenceManager.RefreshListener {
+
+    private static final class Maps {
+
+        final Map<BytesRef, Translog.Index> current;
+        final Map<BytesRef, Translog.Index> old;
+        /** Tracks the bytes held by the current map. */
+        final AtomicLong ramBytesUsed;
+        /** The bytes held by the old map, freed once the refresh completed. */
+        final long oldRamBytesUsed;
+
+        Maps(Map<BytesRef, Translog.Index> current, AtomicLong ramBytesUsed, Map<BytesRef, Translog.Index> old, long oldRamBytesUsed) {
+            this.current = current;
+            this.ramBytesUsed = ramBytesUsed;
+            this.old = old;
+            this.oldRamBytesUsed = oldRamBytesUsed;
+        }
+
+        Maps() {
+            this(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(), new AtomicLong(), Collections.emptyMap(), 0);
+        }
+
+        Maps buildTransitionMap() {
+            return new Maps(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(), new AtomicLong(), current,
+                ramBytesUsed.get());
+        }
+
+        Maps invalidateOldMap() {
+            return new Maps(current, ramBytesUsed, Collections.emptyMap(), 0);
+        }
+    }
+
+    private final LongSupplier maxSizeInBytes;
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric misses = new CounterMetric();
+    private volatile Maps maps = new Maps();
+
+    /**
+     * @param maxSizeInBytes supplies the maximum number of bytes the buffered operations may hold, <code>0</code> disables the buffer
+     */
+    RealtimeGetBuffer(LongSupplier maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    boolean isEnabled() {
+        return maxSizeInBytes.getAsLong() > 0;
+    }
+
+    /**
+     * Buffers a copy of the given operation, unless the buffer is full. Must be called under the lock of the uid.
+     */
+    void putUnderLock(BytesRef uid, Translog.Index operation) {
+        final long maxSize = maxSizeInBytes.getAsLong();
+        final Maps maps = this.maps;
+        final Translog.Index previous;
+        if (maxSize <= 0 || maps.ramBytesUsed.get() + maps.oldRamBytesUsed + operation.estimateSize() > maxSize) {
+            previous = maps.current.remove(uid);
+        } else {
+            // copy the source so we don't retain the (possibly much larger) buffer of the request it was parsed from
+            final Translog.Index copy = new Translog.Index(operation.type(), operation.id(), operation.seqNo(), operation.primaryTerm(),
+                operation.version(), BytesReference.toBytes(operation.source()), operation.routing(),
+                operation.getAutoGeneratedIdTimestamp());
+            maps.ramBytesUsed.addAndGet(copy.estimateSize());
+            previous = maps.current.put(uid, copy);
+        }
+        if (previous != null) {
+            maps.ramBytesUsed.addAndGet(-previous.estimateSize());
+        }
+    }
+
+    /**
+     * Drops the buffered operation of the given uid, if any. Must be called under the lock of the uid.
+     */
+    void removeUnderLock(BytesRef uid) {
+        final Maps maps = this.maps;
+        final Translog.Index previous = maps.current.remove(uid);
+        if (previous != null) {
+            maps.ramBytesUsed.addAndGet(-previous.estimateSize());
+        }
+    }
+
+    /**
+     * Returns the buffered operation of the given uid if it is the one with the given sequence number, otherwise <code>null</code>.
+     */
+    Translog.Index get(BytesRef uid, long seqNo) {
+        final Maps maps = this.maps;
+        Translog.Index operation = maps.current.get(uid);
+        if (operation == null) {
+            operation = maps.old.get(uid);
+        }
+        if (operation != null && operation.seqNo() == seqNo) {
+            hits.inc();
+            return operation;
+        }
+        misses.inc();
+        return null;
+    }
+
+    long ramBytesUsed() {
+        final Maps maps = this.maps;
+        return maps.ramBytesUsed.get() + maps.oldRamBytesUsed;
+    }
+
+    long getHitCount() {
+        return hits.count();
+    }
+
+    long getMissCount() {
+        return misses.count();
+    }
+
+    @Override
+    public void beforeRefresh() {
+        // operations buffered during the refresh go to the new map, the old one is still needed until the refresh completes
+        maps = maps.buildTransitionMap();
+    }
+
+    @Override
+    public void afterRefresh(boolean didRefresh) {
+        maps = maps.invalidateOldMap();
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.get;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -48,6 +49,8 @@ public class GetStats implements Writeable, ToXContentFragment {
     private long missingCount;
     private long missingTimeInMillis;
     private long current;
+    private long realtimeBufferHitCount;
+    private long realtimeBufferMissCount;
 
     public GetStats() {
     }
@@ -58,14 +61,25 @@ public class GetStats implements Writeable, ToXContentFragment {
         missingCount = in.readVLong();
         missingTimeInMillis = in.readVLong();
         current = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            realtimeBufferHitCount = in.readVLong();
+            realtimeBufferMissCount = in.readVLong();
+        }
     }
 
     public GetStats(long existsCount, long existsTimeInMillis, long missingCount, long missingTimeInMillis, long current) {
+        this(existsCount, existsTimeInMillis, missingCount, missingTimeInMillis, current, 0, 0);
+    }
+
+    public GetStats(long existsCount, long existsTimeInMillis, long missingCount, long missingTimeInMillis, long current,
+                    long realtimeBufferHitCount, long realtimeBufferMissCount) {
         this.existsCount = existsCount;
         this.existsTimeInMillis = existsTimeInMillis;
         this.missingCount = missingCount;
         this.missingTimeInMillis = missingTimeInMillis;
         this.current = current;
+        this.realtimeBufferHitCount = realtimeBufferHitCount;
+        this.realtimeBufferMissCount = realtimeBufferMissCount;
     }
 
     public void add(GetStats stats) {
@@ -85,6 +99,8 @@ public class GetStats implements Writeable, ToXContentFragment {
         missingCount += stats.missingCount;
         missingTimeInMillis += stats.missingTimeInMillis;
         current += stats.current;
+        realtimeBufferHitCount += stats.realtimeBufferHitCount;
+        realtimeBufferMissCount += stats.realtimeBufferMissCount;
     }
 
     public long getCount() {
@@ -127,6 +143,21 @@ public class GetStats implements Writeable, ToXContentFragment {
         return this.current;
     }
 
+    /**
+     * The number of realtime gets that were served from the in-memory buffer of recently indexed documents.
+     */
+    public long getRealtimeBufferHitCount() {
+        return this.realtimeBufferHitCount;
+    }
+
+    /**
+     * The number of realtime gets of recently indexed documents that were not in the in-memory buffer and had to be read back
+     * from the translog.
+     */
+    public long getRealtimeBufferMissCount() {
+        return this.realtimeBufferMissCount;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.GET);
@@ -137,6 +168,8 @@ public class GetStats implements Writeable, ToXContentFragment {
         builder.field(Fields.MISSING_TOTAL, missingCount);
         builder.humanReadableField(Fields.MISSING_TIME_IN_MILLIS, Fields.MISSING_TIME, getMissingTime());
         builder.field(Fields.CURRENT, current);
+        builder.field(Fields.REALTIME_BUFFER_HITS, realtimeBufferHitCount);
+        builder.field(Fields.REALTIME_BUFFER_MISSES, realtimeBufferMissCount);
         builder.endObject();
         return builder;
     }
@@ -153,6 +186,8 @@ public class GetStats implements Writeable, ToXContentFragment {
         static final String MISSING_TIME = "missing_time";
         static final String MISSING_TIME_IN_MILLIS = "missing_time_in_millis";
         static final String CURRENT = "current";
+        static final String REALTIME_BUFFER_HITS = "realtime_buffer_hits";
+        static final String REALTIME_BUFFER_MISSES = "realtime_buffer_misses";
     }
 
     @Override
@@ -162,5 +197,9 @@ public class GetStats implements Writeable, ToXContentFragment {
         out.writeVLong(missingCount);
         out.writeVLong(missingTimeInMillis);
         out.writeVLong(current);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeVLong(realtimeBufferHitCount);
+            out.writeVLong(realtimeBufferMissCount);
+        }
     }
 }
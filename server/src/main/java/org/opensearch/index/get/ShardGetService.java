@@ -98,8 +98,16 @@ public final class ShardGetService extends AbstractIndexShardComponent {
     }
 
     public GetStats stats() {
+        return stats(0, 0);
+    }
+
+    /**
+     * Returns the get stats of this shard, including the given hit and miss counts of the engine's realtime get buffer.
+     */
+    public GetStats stats(long realtimeBufferHitCount, long realtimeBufferMissCount) {
         return new GetStats(existsMetric.count(), TimeUnit.NANOSECONDS.toMillis(existsMetric.sum()),
-            missingMetric.count(), TimeUnit.NANOSECONDS.toMillis(missingMetric.sum()), currentMetric.count());
+            missingMetric.count(), TimeUnit.NANOSECONDS.toMillis(missingMetric.sum()), currentMetric.count(),
+            realtimeBufferHitCount, realtimeBufferMissCount);
     }
 
     public GetResult get(String type, String id, String[] gFields, boolean realtime, long version,
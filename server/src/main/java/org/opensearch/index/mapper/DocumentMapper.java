@@ -130,7 +130,8 @@ public class DocumentMapper implements ToXContentFragment {
     private final String type;
     private final Text typeText;
 
-    private final CompressedXContent mappingSource;
+    // may be replaced by an equal instance that is shared with the cluster state, see #shareMappingSource
+    private volatile CompressedXContent mappingSource;
 
     private final Mapping mapping;
 
@@ -188,6 +189,15 @@ public class DocumentMapper implements ToXContentFragment {
         return this.mappingSource;
     }
 
+    /**
+     * Replaces the serialized mapping source of this mapper with the given equal instance, typically the one held by the
+     * cluster state, so that the source is retained only once no matter how many indices share the same mapping.
+     */
+    void shareMappingSource(CompressedXContent source) {
+        assert mappingSource.equals(source) : "expected [" + mappingSource + "] but was [" + source + "]";
+        this.mappingSource = source;
+    }
+
     public RootObjectMapper root() {
         return mapping.root;
     }
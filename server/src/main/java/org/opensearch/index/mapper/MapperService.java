@@ -227,6 +227,12 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
         if (currentIndexMetadata != null && currentIndexMetadata.getMappingVersion() == newIndexMetadata.getMappingVersion()) {
             assertMappingVersion(currentIndexMetadata, newIndexMetadata, Collections.emptyMap());
+            // the mapping is unchanged but may have been deduplicated with the mapping of another index in the meantime
+            final MappingMetadata mappingMetadata = newIndexMetadata.mapping();
+            if (mapper != null && mappingMetadata != null && mapper.mappingSource() != mappingMetadata.source()
+                && mapper.mappingSource().equals(mappingMetadata.source())) {
+                mapper.shareMappingSource(mappingMetadata.source());
+            }
             return false;
         }
 
@@ -280,6 +286,8 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
                     index(), mappingType, incomingMappingSource, documentMapper(mappingType).mappingSource());
 
                 requireRefresh = true;
+            } else {
+                documentMapper(mappingType).shareMappingSource(incomingMappingSource);
             }
         }
 
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Heap accounting of the compressed mapping sources held by a node, both in the applied cluster state and in the
+ * {@link MapperService}s of the indices allocated to the node. Indices with identical mappings share a single source
+ * instance, so the retained size only counts every distinct instance once.
+ */
+public class MappingSourceStats implements Writeable, ToXContentFragment {
+
+    private final Usage clusterState;
+    private final Usage localIndices;
+
+    public MappingSourceStats(Usage clusterState, Usage localIndices) {
+        this.clusterState = clusterState;
+        this.localIndices = localIndices;
+    }
+
+    public MappingSourceStats(StreamInput in) throws IOException {
+        clusterState = new Usage(in);
+        localIndices = new Usage(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        clusterState.writeTo(out);
+        localIndices.writeTo(out);
+    }
+
+    /**
+     * The mapping sources of all indices in the cluster state applied on this node.
+     */
+    public Usage getClusterState() {
+        return clusterState;
+    }
+
+    /**
+     * The mapping sources of the document mappers of the indices that have shards allocated to this node.
+     */
+    public Usage getLocalIndices() {
+        return localIndices;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.MAPPINGS);
+        builder.startObject(Fields.CLUSTER_STATE);
+        clusterState.toXContent(builder, params);
+        builder.endObject();
+        builder.startObject(Fields.LOCAL_INDICES);
+        localIndices.toXContent(builder, params);
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * The number and size of a group of mapping sources.
+     */
+    public static class Usage implements Writeable, ToXContentFragment {
+
+        private final long count;
+        private final long uniqueCount;
+        private final long sizeInBytes;
+        private final long retainedSizeInBytes;
+
+        public Usage(long count, long uniqueCount, long sizeInBytes, long retainedSizeInBytes) {
+            this.count = count;
+            this.uniqueCount = uniqueCount;
+            this.sizeInBytes = sizeInBytes;
+            this.retainedSizeInBytes = retainedSizeInBytes;
+        }
+
+        public Usage(StreamInput in) throws IOException {
+            count = in.readVLong();
+            uniqueCount = in.readVLong();
+            sizeInBytes = in.readVLong();
+            retainedSizeInBytes = in.readVLong();
+        }
+
+        /**
+         * Computes the usage of the given sources, considering sources as shared if they are the same instance.
+         */
+        public static Usage of(Iterable<CompressedXContent> sources) {
+            final Set<CompressedXContent> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+            long count = 0;
+            long sizeInBytes = 0;
+            long retainedSizeInBytes = 0;
+            for (CompressedXContent source : sources) {
+                count++;
+                sizeInBytes += source.compressed().length;
+                if (unique.add(source)) {
+                    retainedSizeInBytes += source.compressed().length;
+                }
+            }
+            return new Usage(count, unique.size(), sizeInBytes, retainedSizeInBytes);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(uniqueCount);
+            out.writeVLong(sizeInBytes);
+            out.writeVLong(retainedSizeInBytes);
+        }
+
+        /**
+         * The number of mappings.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * The number of distinct mapping source instances.
+         */
+        public long getUniqueCount() {
+            return uniqueCount;
+        }
+
+        /**
+         * The size the mapping sources would take if none of them were shared.
+         */
+        public ByteSizeValue getSize() {
+            return new ByteSizeValue(sizeInBytes);
+        }
+
+        /**
+         * The size actually retained by the distinct mapping source instances.
+         */
+        public ByteSizeValue getRetainedSize() {
+            return new ByteSizeValue(retainedSizeInBytes);
+        }
+
+        /**
+         * The size saved by sharing mapping sources between indices.
+         */
+        public ByteSizeValue getDeduplicatedSize() {
+            return new ByteSizeValue(sizeInBytes - retainedSizeInBytes);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.COUNT, count);
+            builder.field(Fields.UNIQUE_COUNT, uniqueCount);
+            builder.humanReadableField(Fields.SIZE_IN_BYTES, Fields.SIZE, getSize());
+            builder.humanReadableField(Fields.RETAINED_IN_BYTES, Fields.RETAINED, getRetainedSize());
+            builder.humanReadableField(Fields.DEDUPLICATED_IN_BYTES, Fields.DEDUPLICATED, getDeduplicatedSize());
+            return builder;
+        }
+    }
+
+    static final class Fields {
+        static final String MAPPINGS = "mappings";
+        static final String CLUSTER_STATE = "cluster_state";
+        static final String LOCAL_INDICES = "local_indices";
+        static final String COUNT = "count";
+        static final String UNIQUE_COUNT = "unique_count";
+        static final String SIZE = "size";
+        static final String SIZE_IN_BYTES = "size_in_bytes";
+        static final String RETAINED = "retained";
+        static final String RETAINED_IN_BYTES = "retained_in_bytes";
+        static final String DEDUPLICATED = "deduplicated";
+        static final String DEDUPLICATED_IN_BYTES = "deduplicated_in_bytes";
+    }
+}
@@ -70,16 +70,19 @@ import org.apache.lucene.util.automaton.Automata;
 import org.apache.lucene.util.automaton.Automaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Iterators;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.AutomatonQueries;
 import org.opensearch.common.lucene.search.MultiPhrasePrefixQuery;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.index.analysis.AnalyzerScope;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.TokenStreamCache;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.plain.PagedBytesIndexFieldData;
 import org.opensearch.index.mapper.Mapper.TypeParser.ParserContext;
@@ -279,6 +282,15 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
             = Parameter.boolParam("index_phrases", false, m -> builder(m).indexPhrases.getValue(), false);
         final Parameter<PrefixConfig> indexPrefixes = new Parameter<>("index_prefixes", false,
             () -> null, TextFieldMapper::parsePrefixConfig, m -> builder(m).indexPrefixes.getValue()).acceptsNull();
+        final Parameter<ByteSizeValue> analysisCacheSize = new Parameter<>("analysis_cache_size", true,
+            () -> new ByteSizeValue(0), (n, c, o) -> ByteSizeValue.parseBytesSizeValue(o.toString(), n),
+            m -> builder(m).analysisCacheSize.getValue())
+            .setSerializer((b, n, v) -> b.field(n, v.getStringRep()), ByteSizeValue::getStringRep)
+            .setValidator(v -> {
+                if (v.getBytes() < 0) {
+                    throw new MapperParsingException("[analysis_cache_size] must not be negative but was [" + v + "]");
+                }
+            });
 
         private final Parameter<Float> boost = Parameter.boostParam();
         private final Parameter<Map<String, String>> meta = Parameter.metaParam();
@@ -326,7 +338,7 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
                 analyzers.indexAnalyzer, analyzers.searchAnalyzer, analyzers.searchQuoteAnalyzer, similarity,
                 positionIncrementGap,
                 fieldData, freqFilter, eagerGlobalOrdinals,
-                indexPhrases, indexPrefixes,
+                indexPhrases, indexPrefixes, analysisCacheSize,
                 boost, meta);
         }
 
@@ -403,12 +415,23 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
             return new PhraseFieldMapper(phraseFieldType, new PhraseFieldType(parent));
         }
 
+        private TokenStreamCache buildTokenStreamCache(TextFieldType tft) {
+            if (analysisCacheSize.getValue().getBytes() == 0) {
+                analyzers.indexAnalyzers.removeTokenStreamCache(tft.name());
+                return null;
+            }
+            if (index.getValue() == false) {
+                throw new IllegalArgumentException("Cannot set analysis_cache_size on unindexed field [" + name() + "]");
+            }
+            return analyzers.indexAnalyzers.getTokenStreamCache(tft.name(), analysisCacheSize.getValue().getBytes());
+        }
+
         @Override
         public TextFieldMapper build(BuilderContext context) {
             FieldType fieldType = TextParams.buildFieldType(index, store, indexOptions, norms, termVectors);
             TextFieldType tft = buildFieldType(fieldType, context);
             return new TextFieldMapper(name, fieldType, tft,
-                buildPrefixMapper(context, fieldType, tft), buildPhraseMapper(fieldType, tft),
+                buildPrefixMapper(context, fieldType, tft), buildPhraseMapper(fieldType, tft), buildTokenStreamCache(tft),
                 multiFieldsBuilder.build(this, context), copyTo.build(), this);
         }
     }
@@ -851,11 +874,21 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
     private final FieldType fieldType;
     private final PrefixFieldMapper prefixFieldMapper;
     private final PhraseFieldMapper phraseFieldMapper;
+    private final TokenStreamCache tokenStreamCache;
+
+    protected TextFieldMapper(String simpleName, FieldType fieldType,
+                              TextFieldType mappedFieldType,
+                              PrefixFieldMapper prefixFieldMapper,
+                              PhraseFieldMapper phraseFieldMapper,
+                              MultiFields multiFields, CopyTo copyTo, Builder builder) {
+        this(simpleName, fieldType, mappedFieldType, prefixFieldMapper, phraseFieldMapper, null, multiFields, copyTo, builder);
+    }
 
     protected TextFieldMapper(String simpleName, FieldType fieldType,
                               TextFieldType mappedFieldType,
                               PrefixFieldMapper prefixFieldMapper,
                               PhraseFieldMapper phraseFieldMapper,
+                              @Nullable TokenStreamCache tokenStreamCache,
                               MultiFields multiFields, CopyTo copyTo, Builder builder) {
         super(simpleName, mappedFieldType, multiFields, copyTo);
         assert mappedFieldType.getTextSearchInfo().isTokenized();
@@ -866,9 +899,14 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
         this.fieldType = fieldType;
         this.prefixFieldMapper = prefixFieldMapper;
         this.phraseFieldMapper = phraseFieldMapper;
+        this.tokenStreamCache = tokenStreamCache;
         this.builder = builder;
     }
 
+    TokenStreamCache tokenStreamCache() {
+        return tokenStreamCache;
+    }
+
     @Override
     protected TextFieldMapper clone() {
         return (TextFieldMapper) super.clone();
@@ -894,6 +932,13 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
 
         if (fieldType.indexOptions() != IndexOptions.NONE || fieldType.stored()) {
             Field field = new Field(fieldType().name(), value, fieldType);
+            if (tokenStreamCache != null && fieldType.indexOptions() != IndexOptions.NONE) {
+                // replay the tokens of values that were analyzed before instead of analyzing them again
+                TokenStream tokenStream = tokenStreamCache.tokenStream(fieldType().indexAnalyzer(), fieldType().name(), value);
+                if (tokenStream != null) {
+                    field.setTokenStream(tokenStream);
+                }
+            }
             context.doc().add(field);
             if (fieldType.omitNorms()) {
                 createFieldNamesField(context);
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.search.stats;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * Latency histograms of the shard-level search phases. Histograms are mergeable, so the stats of all shards of an index or
+ * of a node can be combined into exact index-level and node-level distributions. Latencies are tracked in microseconds with
+ * a single significant digit: values are recorded in sub-buckets of 1/16th of their power of two, so reported percentiles
+ * may be off by up to about 6% while the histogram of a phase only needs a few hundred counters.
+ */
+public class SearchLatencyStats implements Writeable, ToXContentFragment {
+
+    /**
+     * The shard-level search phases whose latencies are tracked.
+     */
+    public enum Phase {
+        CAN_MATCH,
+        DFS,
+        QUERY,
+        FETCH;
+
+        String fieldName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 1;
+
+    private static final double[] PERCENTILES = new double[] { 50.0, 90.0, 99.0, 99.9 };
+
+    private final Histogram[] histograms = new Histogram[Phase.values().length];
+
+    public SearchLatencyStats() {
+    }
+
+    public SearchLatencyStats(StreamInput in) throws IOException {
+        for (Phase phase : Phase.values()) {
+            if (in.readBoolean()) {
+                final ByteBuffer buffer = ByteBuffer.wrap(in.readByteArray());
+                try {
+                    histograms[phase.ordinal()] = Histogram.decodeFromCompressedByteBuffer(buffer, HIGHEST_TRACKABLE_MICROS);
+                } catch (DataFormatException e) {
+                    throw new IOException("failed to decode latency histogram of phase [" + phase.fieldName() + "]", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        for (Histogram histogram : histograms) {
+            if (histogram == null || histogram.getTotalCount() == 0) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                final ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+                final int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+                out.writeVInt(length);
+                out.writeBytes(buffer.array(), 0, length);
+            }
+        }
+    }
+
+    /**
+     * Creates a new histogram that latencies of a phase can be recorded into concurrently and without allocating.
+     */
+    static ConcurrentHistogram newRecorder() {
+        return new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Records the given latency into a histogram created by {@link #newRecorder()}.
+     */
+    static void record(ConcurrentHistogram recorder, long tookInNanos) {
+        recorder.recordValue(Math.max(1, Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(tookInNanos))));
+    }
+
+    /**
+     * Adds the values of the given histogram to the latencies of the given phase.
+     */
+    void add(Phase phase, AbstractHistogram histogram) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return;
+        }
+        Histogram existing = histograms[phase.ordinal()];
+        if (existing == null) {
+            existing = new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            histograms[phase.ordinal()] = existing;
+        }
+        existing.add(histogram);
+    }
+
+    public void add(SearchLatencyStats other) {
+        if (other == null) {
+            return;
+        }
+        for (Phase phase : Phase.values()) {
+            add(phase, other.histograms[phase.ordinal()]);
+        }
+    }
+
+    /**
+     * Returns the number of recorded executions of the given phase.
+     */
+    public long getCount(Phase phase) {
+        final Histogram histogram = histograms[phase.ordinal()];
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    /**
+     * Returns the latency in microseconds at the given percentile for the given phase, or 0 if the phase was never executed.
+     */
+    public long getPercentileMicros(Phase phase, double percentile) {
+        final Histogram histogram = histograms[phase.ordinal()];
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Returns the maximum latency in microseconds for the given phase, or 0 if the phase was never executed.
+     */
+    public long getMaxMicros(Phase phase) {
+        final Histogram histogram = histograms[phase.ordinal()];
+        return histogram == null ? 0 : histogram.getMaxValue();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.LATENCY);
+        for (Phase phase : Phase.values()) {
+            builder.startObject(phase.fieldName());
+            builder.field(Fields.COUNT, getCount(phase));
+            for (double percentile : PERCENTILES) {
+                builder.field(percentileFieldName(percentile), getPercentileMicros(phase, percentile));
+            }
+            builder.field(Fields.MAX_IN_MICROS, getMaxMicros(phase));
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    static String percentileFieldName(double percentile) {
+        final String value = percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+        return "p" + value.replace('.', '_') + "_in_micros";
+    }
+
+    static final class Fields {
+        static final String LATENCY = "latency";
+        static final String COUNT = "count";
+        static final String MAX_IN_MICROS = "max_in_micros";
+    }
+}
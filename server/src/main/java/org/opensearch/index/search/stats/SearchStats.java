@@ -32,6 +32,7 @@
 
 package org.opensearch.index.search.stats;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
@@ -67,6 +68,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long suggestTimeInMillis;
         private long suggestCurrent;
 
+        private long queueCount;
+        private long queueTimeInMillis;
+
         private Stats() {
             // for internal use, initializes all counts to 0
         }
@@ -76,6 +80,17 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 long fetchCount, long fetchTimeInMillis, long fetchCurrent,
                 long scrollCount, long scrollTimeInMillis, long scrollCurrent,
                 long suggestCount, long suggestTimeInMillis, long suggestCurrent
+        ) {
+            this(queryCount, queryTimeInMillis, queryCurrent, fetchCount, fetchTimeInMillis, fetchCurrent, scrollCount, scrollTimeInMillis,
+                scrollCurrent, suggestCount, suggestTimeInMillis, suggestCurrent, 0, 0);
+        }
+
+        public Stats(
+                long queryCount, long queryTimeInMillis, long queryCurrent,
+                long fetchCount, long fetchTimeInMillis, long fetchCurrent,
+                long scrollCount, long scrollTimeInMillis, long scrollCurrent,
+                long suggestCount, long suggestTimeInMillis, long suggestCurrent,
+                long queueCount, long queueTimeInMillis
         ) {
             this.queryCount = queryCount;
             this.queryTimeInMillis = queryTimeInMillis;
@@ -92,6 +107,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.suggestCount = suggestCount;
             this.suggestTimeInMillis = suggestTimeInMillis;
             this.suggestCurrent = suggestCurrent;
+
+            this.queueCount = queueCount;
+            this.queueTimeInMillis = queueTimeInMillis;
         }
 
         private Stats(StreamInput in) throws IOException {
@@ -110,6 +128,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
             suggestCount = in.readVLong();
             suggestTimeInMillis = in.readVLong();
             suggestCurrent = in.readVLong();
+
+            if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+                queueCount = in.readVLong();
+                queueTimeInMillis = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -128,6 +151,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
             suggestCount += stats.suggestCount;
             suggestTimeInMillis += stats.suggestTimeInMillis;
             suggestCurrent += stats.suggestCurrent;
+
+            queueCount += stats.queueCount;
+            queueTimeInMillis += stats.queueTimeInMillis;
         }
 
         public void addForClosingShard(Stats stats) {
@@ -144,6 +170,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
 
             suggestCount += stats.suggestCount;
             suggestTimeInMillis += stats.suggestTimeInMillis;
+
+            queueCount += stats.queueCount;
+            queueTimeInMillis += stats.queueTimeInMillis;
         }
 
         public long getQueryCount() {
@@ -210,6 +239,24 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return suggestCurrent;
         }
 
+        /**
+         * Returns the number of shard-level search tasks that were picked up from the search thread pool queue.
+         */
+        public long getQueueCount() {
+            return queueCount;
+        }
+
+        /**
+         * Returns the total time shard-level search tasks spent waiting in the search thread pool queue.
+         */
+        public TimeValue getQueueTime() {
+            return new TimeValue(queueTimeInMillis);
+        }
+
+        public long getQueueTimeInMillis() {
+            return queueTimeInMillis;
+        }
+
         public static Stats readStats(StreamInput in) throws IOException {
             return new Stats(in);
         }
@@ -231,6 +278,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
             out.writeVLong(suggestCount);
             out.writeVLong(suggestTimeInMillis);
             out.writeVLong(suggestCurrent);
+
+            if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+                out.writeVLong(queueCount);
+                out.writeVLong(queueTimeInMillis);
+            }
         }
 
         @Override
@@ -251,6 +303,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.SUGGEST_TIME_IN_MILLIS, Fields.SUGGEST_TIME, getSuggestTime());
             builder.field(Fields.SUGGEST_CURRENT, suggestCurrent);
 
+            builder.field(Fields.QUEUE_TOTAL, queueCount);
+            builder.humanReadableField(Fields.QUEUE_TIME_IN_MILLIS, Fields.QUEUE_TIME, getQueueTime());
+
             return builder;
         }
     }
@@ -261,14 +316,22 @@ public class SearchStats implements Writeable, ToXContentFragment {
     @Nullable
     private Map<String, Stats> groupStats;
 
+    private final SearchLatencyStats latencyStats;
+
     public SearchStats() {
         totalStats = new Stats();
+        latencyStats = new SearchLatencyStats();
     }
 
     public SearchStats(Stats totalStats, long openContexts, @Nullable Map<String, Stats> groupStats) {
+        this(totalStats, openContexts, groupStats, new SearchLatencyStats());
+    }
+
+    public SearchStats(Stats totalStats, long openContexts, @Nullable Map<String, Stats> groupStats, SearchLatencyStats latencyStats) {
         this.totalStats = totalStats;
         this.openContexts = openContexts;
         this.groupStats = groupStats;
+        this.latencyStats = latencyStats;
     }
 
     public SearchStats(StreamInput in) throws IOException {
@@ -277,6 +340,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
         if (in.readBoolean()) {
             groupStats = in.readMap(StreamInput::readString, Stats::readStats);
         }
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            latencyStats = new SearchLatencyStats(in);
+        } else {
+            latencyStats = new SearchLatencyStats();
+        }
     }
 
     public void add(SearchStats searchStats) {
@@ -301,6 +369,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return;
         }
         totalStats.add(searchStats.totalStats);
+        latencyStats.add(searchStats.latencyStats);
     }
 
     public void addTotalsForClosingShard(SearchStats searchStats) {
@@ -308,12 +377,20 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return;
         }
         totalStats.addForClosingShard(searchStats.totalStats);
+        latencyStats.add(searchStats.latencyStats);
     }
 
     public Stats getTotal() {
         return this.totalStats;
     }
 
+    /**
+     * Returns the latency histograms of the shard-level search phases, which are only tracked for the total stats.
+     */
+    public SearchLatencyStats getLatency() {
+        return this.latencyStats;
+    }
+
     public long getOpenContexts() {
         return this.openContexts;
     }
@@ -328,6 +405,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         builder.startObject(Fields.SEARCH);
         builder.field(Fields.OPEN_CONTEXTS, openContexts);
         totalStats.toXContent(builder, params);
+        latencyStats.toXContent(builder, params);
         if (groupStats != null && !groupStats.isEmpty()) {
             builder.startObject(Fields.GROUPS);
             for (Map.Entry<String, Stats> entry : groupStats.entrySet()) {
@@ -366,6 +444,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String SUGGEST_TIME = "suggest_time";
         static final String SUGGEST_TIME_IN_MILLIS = "suggest_time_in_millis";
         static final String SUGGEST_CURRENT = "suggest_current";
+        static final String QUEUE_TOTAL = "queue_total";
+        static final String QUEUE_TIME = "queue_time";
+        static final String QUEUE_TIME_IN_MILLIS = "queue_time_in_millis";
     }
 
     @Override
@@ -378,5 +459,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             out.writeBoolean(true);
             out.writeMap(groupStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
         }
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            latencyStats.writeTo(out);
+        }
     }
 }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.search.stats;
 
+import org.HdrHistogram.ConcurrentHistogram;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -44,6 +45,7 @@ import org.opensearch.search.internal.SearchContext;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyMap;
@@ -53,6 +55,9 @@ public final class ShardSearchStats implements SearchOperationListener {
     private final StatsHolder totalStats = new StatsHolder();
     private final CounterMetric openContexts = new CounterMetric();
     private volatile Map<String, StatsHolder> groupsStats = emptyMap();
+    // created lazily since most shards never see some of the phases, dfs in particular
+    private final AtomicReferenceArray<ConcurrentHistogram> latencies =
+        new AtomicReferenceArray<>(SearchLatencyStats.Phase.values().length);
 
     /**
      * Returns the stats, including group specific stats. If the groups are null/0 length, then nothing
@@ -76,7 +81,37 @@ public final class ShardSearchStats implements SearchOperationListener {
                 }
             }
         }
-        return new SearchStats(total, openContexts.count(), groupsSt);
+        return new SearchStats(total, openContexts.count(), groupsSt, latencyStats());
+    }
+
+    private SearchLatencyStats latencyStats() {
+        final SearchLatencyStats stats = new SearchLatencyStats();
+        for (SearchLatencyStats.Phase phase : SearchLatencyStats.Phase.values()) {
+            final ConcurrentHistogram histogram = latencies.get(phase.ordinal());
+            if (histogram != null) {
+                stats.add(phase, histogram.copy());
+            }
+        }
+        return stats;
+    }
+
+    private void recordLatency(SearchLatencyStats.Phase phase, long tookInNanos) {
+        ConcurrentHistogram histogram = latencies.get(phase.ordinal());
+        if (histogram == null) {
+            latencies.compareAndSet(phase.ordinal(), null, SearchLatencyStats.newRecorder());
+            histogram = latencies.get(phase.ordinal());
+        }
+        SearchLatencyStats.record(histogram, tookInNanos);
+    }
+
+    @Override
+    public void onCanMatchPhase(long tookInNanos) {
+        recordLatency(SearchLatencyStats.Phase.CAN_MATCH, tookInNanos);
+    }
+
+    @Override
+    public void onDfsPhase(SearchContext searchContext, long tookInNanos) {
+        recordLatency(SearchLatencyStats.Phase.DFS, tookInNanos);
     }
 
     @Override
@@ -116,6 +151,9 @@ public final class ShardSearchStats implements SearchOperationListener {
                 assert statsHolder.queryCurrent.count() >= 0;
             }
         });
+        if (searchContext.hasOnlySuggest() == false) {
+            recordLatency(SearchLatencyStats.Phase.QUERY, tookInNanos);
+        }
     }
 
     @Override
@@ -135,6 +173,12 @@ public final class ShardSearchStats implements SearchOperationListener {
             statsHolder.fetchCurrent.dec();
             assert statsHolder.fetchCurrent.count() >= 0;
         });
+        recordLatency(SearchLatencyStats.Phase.FETCH, tookInNanos);
+    }
+
+    @Override
+    public void onSearchTaskDequeued(long queueTimeInNanos) {
+        totalStats.queueMetric.inc(queueTimeInNanos);
     }
 
     private void computeStats(SearchContext searchContext, Consumer<StatsHolder> consumer) {
@@ -194,6 +238,7 @@ public final class ShardSearchStats implements SearchOperationListener {
          */
         final MeanMetric scrollMetric = new MeanMetric();
         final MeanMetric suggestMetric = new MeanMetric();
+        final MeanMetric queueMetric = new MeanMetric();
         final CounterMetric queryCurrent = new CounterMetric();
         final CounterMetric fetchCurrent = new CounterMetric();
         final CounterMetric scrollCurrent = new CounterMetric();
@@ -204,7 +249,8 @@ public final class ShardSearchStats implements SearchOperationListener {
                     queryMetric.count(), TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()), queryCurrent.count(),
                     fetchMetric.count(), TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()), fetchCurrent.count(),
                     scrollMetric.count(), TimeUnit.MICROSECONDS.toMillis(scrollMetric.sum()), scrollCurrent.count(),
-                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count()
+                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count(),
+                    queueMetric.count(), TimeUnit.NANOSECONDS.toMillis(queueMetric.sum())
             );
         }
     }
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.seqno;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * How far the in-sync replicas of a shard lag behind its primary, as tracked by the primary's {@link ReplicationTracker}. The lag is
+ * expressed in sequence numbers, i.e. the number of operations the primary has processed that are not yet known to be processed by
+ * the replicas.
+ */
+public final class ReplicationLagStats implements ToXContentFragment, Writeable {
+
+    private final int inSyncReplicas;
+    private final long maxLocalCheckpointLag;
+    private final long globalCheckpointLag;
+
+    public ReplicationLagStats(int inSyncReplicas, long maxLocalCheckpointLag, long globalCheckpointLag) {
+        this.inSyncReplicas = inSyncReplicas;
+        this.maxLocalCheckpointLag = maxLocalCheckpointLag;
+        this.globalCheckpointLag = globalCheckpointLag;
+    }
+
+    public ReplicationLagStats(StreamInput in) throws IOException {
+        inSyncReplicas = in.readVInt();
+        maxLocalCheckpointLag = in.readVLong();
+        globalCheckpointLag = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(inSyncReplicas);
+        out.writeVLong(maxLocalCheckpointLag);
+        out.writeVLong(globalCheckpointLag);
+    }
+
+    /**
+     * The number of in-sync replica copies of the shard, not counting the primary.
+     */
+    public int getInSyncReplicas() {
+        return inSyncReplicas;
+    }
+
+    /**
+     * The difference between the local checkpoint of the primary and the lowest local checkpoint of its in-sync replicas.
+     */
+    public long getMaxLocalCheckpointLag() {
+        return maxLocalCheckpointLag;
+    }
+
+    /**
+     * The difference between the local checkpoint of the primary and the global checkpoint.
+     */
+    public long getGlobalCheckpointLag() {
+        return globalCheckpointLag;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("replication");
+        builder.field("in_sync_replicas", inSyncReplicas);
+        builder.field("max_local_checkpoint_lag", maxLocalCheckpointLag);
+        builder.field("global_checkpoint_lag", globalCheckpointLag);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ReplicationLagStats that = (ReplicationLagStats) o;
+        return inSyncReplicas == that.inSyncReplicas &&
+            maxLocalCheckpointLag == that.maxLocalCheckpointLag &&
+            globalCheckpointLag == that.globalCheckpointLag;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(inSyncReplicas, maxLocalCheckpointLag, globalCheckpointLag);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationLagStats{" +
+            "inSyncReplicas=" + inSyncReplicas +
+            ", maxLocalCheckpointLag=" + maxLocalCheckpointLag +
+            ", globalCheckpointLag=" + globalCheckpointLag +
+            '}';
+    }
+}
@@ -979,6 +979,29 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             newVersion);
     }
 
+    /**
+     * Returns how far the in-sync replicas of the shard lag behind the primary.
+     *
+     * @return the replication lag, or {@code null} if this tracker is not in primary mode
+     */
+    public synchronized ReplicationLagStats getReplicationLagStats() {
+        if (primaryMode == false) {
+            return null;
+        }
+        final long primaryLocalCheckpoint = Math.max(checkpoints.get(shardAllocationId).localCheckpoint, SequenceNumbers.NO_OPS_PERFORMED);
+        int inSyncReplicas = 0;
+        long maxLocalCheckpointLag = 0;
+        for (final Map.Entry<String, CheckpointState> entry : checkpoints.entrySet()) {
+            if (entry.getKey().equals(shardAllocationId) == false && entry.getValue().inSync) {
+                inSyncReplicas++;
+                final long localCheckpoint = Math.max(entry.getValue().localCheckpoint, SequenceNumbers.NO_OPS_PERFORMED);
+                maxLocalCheckpointLag = Math.max(maxLocalCheckpointLag, primaryLocalCheckpoint - localCheckpoint);
+            }
+        }
+        final long globalCheckpointLag = Math.max(0, primaryLocalCheckpoint - Math.max(globalCheckpoint, SequenceNumbers.NO_OPS_PERFORMED));
+        return new ReplicationLagStats(inSyncReplicas, maxLocalCheckpointLag, globalCheckpointLag);
+    }
+
     /**
      * Returns the in-memory global checkpoint for the shard.
      *
@@ -132,6 +132,7 @@ import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.search.stats.ShardSearchStats;
+import org.opensearch.index.seqno.ReplicationLagStats;
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLease;
 import org.opensearch.index.seqno.RetentionLeaseStats;
@@ -969,6 +970,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return getEngine().get(get, this::acquireSearcher);
     }
 
+    /**
+     * Returns <code>true</code> if the document with the given uid may have changed since the last refresh of the internal searcher,
+     * i.e. a realtime get of it must go through {@link #get(Engine.Get)}.
+     */
+    public boolean hasUnrefreshedVersion(Term uid) {
+        return getEngine().hasUnrefreshedVersion(uid.bytes());
+    }
+
     /**
      * Writes all indexing changes to disk and opens a new searcher reflecting all changes.  This can throw {@link AlreadyClosedException}.
      */
@@ -1045,7 +1054,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     public GetStats getStats() {
-        return getService.stats();
+        final Engine engine = getEngineOrNull();
+        if (engine == null) {
+            return getService.stats();
+        }
+        return getService.stats(engine.getRealtimeGetBufferHitCount(), engine.getRealtimeGetBufferMissCount());
     }
 
     public StoreStats storeStats() {
@@ -2184,6 +2197,17 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return new RetentionLeaseStats(getRetentionLeases());
     }
 
+    /**
+     * How far the in-sync replicas of this shard lag behind it, only available on primaries.
+     *
+     * @return the replication lag stats, or {@code null} if this shard is not an active primary
+     */
+    @Nullable
+    public ReplicationLagStats getReplicationLagStats() {
+        verifyNotClosed();
+        return replicationTracker.getReplicationLagStats();
+    }
+
     /**
      * Adds a new retention lease.
      *
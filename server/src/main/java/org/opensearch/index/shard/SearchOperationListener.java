@@ -90,6 +90,26 @@ public interface SearchOperationListener {
      */
     default void onFetchPhase(SearchContext searchContext, long tookInNanos) {}
 
+    /**
+     * Executed when a shard-level search task was picked up by a thread of the search thread pool, before any of its phases
+     * are executed.
+     * @param queueTimeInNanos the number of nanoseconds the task waited in the thread pool queue
+     */
+    default void onSearchTaskDequeued(long queueTimeInNanos) {}
+
+    /**
+     * Executed after the can_match phase successfully finished.
+     * @param tookInNanos the number of nanoseconds the can_match execution took
+     */
+    default void onCanMatchPhase(long tookInNanos) {}
+
+    /**
+     * Executed after the dfs phase successfully finished.
+     * @param searchContext the current search context
+     * @param tookInNanos the number of nanoseconds the dfs execution took
+     */
+    default void onDfsPhase(SearchContext searchContext, long tookInNanos) {}
+
     /**
      * Executed when a new reader context was created
      * @param readerContext the created context
@@ -207,6 +227,39 @@ public interface SearchOperationListener {
             }
         }
 
+        @Override
+        public void onSearchTaskDequeued(long queueTimeInNanos) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onSearchTaskDequeued(queueTimeInNanos);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onSearchTaskDequeued listener [{}] failed", listener), e);
+                }
+            }
+        }
+
+        @Override
+        public void onCanMatchPhase(long tookInNanos) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onCanMatchPhase(tookInNanos);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onCanMatchPhase listener [{}] failed", listener), e);
+                }
+            }
+        }
+
+        @Override
+        public void onDfsPhase(SearchContext searchContext, long tookInNanos) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onDfsPhase(searchContext, tookInNanos);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onDfsPhase listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         @Override
         public void onNewReaderContext(ReaderContext readerContext) {
             for (SearchOperationListener listener : listeners) {
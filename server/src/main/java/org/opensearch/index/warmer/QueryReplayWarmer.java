@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.warmer;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.IndexWarmer;
+import org.opensearch.index.IndexWarmer.TerminationHandle;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+/**
+ * Records the queries that were recently executed against the shards of an index and replays them against the new segments of
+ * a refreshed reader before it is exposed to searches. This way the first searches after a refresh don't pay for loading the terms
+ * dictionaries, postings and norms of the new segments. Replaying stops once {@link #INDEX_WARMER_QUERY_REPLAY_BUDGET_SETTING}
+ * is used up since it delays the refresh.
+ */
+public final class QueryReplayWarmer implements IndexWarmer.Listener, SearchOperationListener {
+
+    /**
+     * The number of distinct recently executed queries to replay, <code>0</code> disables replaying.
+     */
+    public static final Setting<Integer> INDEX_WARMER_QUERY_REPLAY_SIZE_SETTING =
+        Setting.intSetting("index.warmer.query_replay.size", 0, 0, 1000, Property.Dynamic, Property.IndexScope);
+    /**
+     * The maximum memory the recorded queries may hold on to. Queries that don't account for their memory are assumed to use
+     * {@link #DEFAULT_QUERY_RAM_BYTES_USED}.
+     */
+    public static final Setting<ByteSizeValue> INDEX_WARMER_QUERY_REPLAY_MAX_MEMORY_SETTING =
+        Setting.byteSizeSetting("index.warmer.query_replay.max_memory", new ByteSizeValue(1, ByteSizeUnit.MB),
+            Property.Dynamic, Property.IndexScope);
+    public static final Setting<TimeValue> INDEX_WARMER_QUERY_REPLAY_BUDGET_SETTING =
+        Setting.positiveTimeSetting("index.warmer.query_replay.budget", TimeValue.timeValueSeconds(1),
+            Property.Dynamic, Property.IndexScope);
+
+    static final long DEFAULT_QUERY_RAM_BYTES_USED = 1024;
+
+    private final IndexSettings indexSettings;
+    private final Executor executor;
+    // the recently executed queries in access order with their estimated memory usage, guarded by itself
+    private final LinkedHashMap<Query, Long> recentQueries = new LinkedHashMap<>(16, 0.75f, true);
+    // guarded by recentQueries
+    private long recentQueriesRamBytesUsed;
+    // the segments that were replayed against already, across all shards of the index
+    private final Set<IndexReader.CacheKey> warmedSegments = ConcurrentCollections.newConcurrentSet();
+
+    public QueryReplayWarmer(IndexSettings indexSettings, ThreadPool threadPool) {
+        this.indexSettings = indexSettings;
+        this.executor = threadPool.executor(ThreadPool.Names.WARMER);
+    }
+
+    @Override
+    public void onQueryPhase(SearchContext searchContext, long tookInNanos) {
+        final int size = indexSettings.getValue(INDEX_WARMER_QUERY_REPLAY_SIZE_SETTING);
+        if (size == 0 || searchContext.query() == null) {
+            return;
+        }
+        // queries that depend on the current time or use scripts are bound to their request
+        if (searchContext.getQueryShardContext().isCacheable() == false) {
+            return;
+        }
+        final Query query = searchContext.query();
+        final long ramBytesUsed = ramBytesUsed(query);
+        final long maxRamBytesUsed = indexSettings.getValue(INDEX_WARMER_QUERY_REPLAY_MAX_MEMORY_SETTING).getBytes();
+        if (ramBytesUsed > maxRamBytesUsed) {
+            return;
+        }
+        synchronized (recentQueries) {
+            final Long previous = recentQueries.put(query, ramBytesUsed);
+            recentQueriesRamBytesUsed += ramBytesUsed - (previous == null ? 0 : previous);
+            final Iterator<Long> iterator = recentQueries.values().iterator();
+            while (recentQueries.size() > size || recentQueriesRamBytesUsed > maxRamBytesUsed) {
+                recentQueriesRamBytesUsed -= iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long ramBytesUsed(Query query) {
+        if (query instanceof Accountable) {
+            return RamUsageEstimator.NUM_BYTES_OBJECT_REF + ((Accountable) query).ramBytesUsed();
+        }
+        return DEFAULT_QUERY_RAM_BYTES_USED;
+    }
+
+    long recentQueriesRamBytesUsed() {
+        synchronized (recentQueries) {
+            return recentQueriesRamBytesUsed;
+        }
+    }
+
+    int warmedSegmentCount() {
+        return warmedSegments.size();
+    }
+
+    List<Query> recentQueries() {
+        synchronized (recentQueries) {
+            return new ArrayList<>(recentQueries.keySet());
+        }
+    }
+
+    @Override
+    public TerminationHandle warmReader(IndexShard indexShard, OpenSearchDirectoryReader reader) {
+        if (indexSettings.getValue(INDEX_WARMER_QUERY_REPLAY_SIZE_SETTING) == 0) {
+            return TerminationHandle.NO_WAIT;
+        }
+        final List<Query> queries = recentQueries();
+        if (queries.isEmpty()) {
+            // leave the segments to the next reader that has queries to replay against them
+            return TerminationHandle.NO_WAIT;
+        }
+        final List<LeafReaderContext> newLeaves = new ArrayList<>();
+        for (LeafReaderContext ctx : reader.leaves()) {
+            final IndexReader.CacheHelper cacheHelper = ctx.reader().getCoreCacheHelper();
+            if (cacheHelper != null && warmedSegments.add(cacheHelper.getKey())) {
+                cacheHelper.addClosedListener(warmedSegments::remove);
+                newLeaves.add(ctx);
+            }
+        }
+        if (newLeaves.isEmpty()) {
+            return TerminationHandle.NO_WAIT;
+        }
+        final long budgetInNanos = indexSettings.getValue(INDEX_WARMER_QUERY_REPLAY_BUDGET_SETTING).nanos();
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> {
+            final long start = System.nanoTime();
+            final long deadline = start + budgetInNanos;
+            final IndexSearcher searcher = new IndexSearcher(reader);
+            searcher.setQueryCache(null);
+            long replayed = 0;
+            boolean budgetExhausted = false;
+            try {
+                for (Query query : queries) {
+                    if (System.nanoTime() > deadline) {
+                        budgetExhausted = true;
+                        break;
+                    }
+                    try {
+                        if (replay(searcher, query, newLeaves, deadline) == false) {
+                            budgetExhausted = true;
+                            break;
+                        }
+                        replayed++;
+                    } catch (Exception e) {
+                        indexShard.warmerService().logger().debug(() -> new ParameterizedMessage("failed to replay " +
+                            "query [{}]", query), e);
+                    }
+                }
+            } finally {
+                final long took = System.nanoTime() - start;
+                indexShard.warmerService().onQueryReplay(replayed, took, budgetExhausted);
+                if (indexShard.warmerService().logger().isTraceEnabled()) {
+                    indexShard.warmerService().logger().trace("replayed [{}] queries against [{}] new segments, took [{}]",
+                        replayed, newLeaves.size(), TimeValue.timeValueNanos(took));
+                }
+                latch.countDown();
+            }
+        });
+        return () -> latch.await();
+    }
+
+    /**
+     * Replays the given query against the given segments, returns <code>false</code> if the deadline was reached before all
+     * matching documents were scored.
+     */
+    private static boolean replay(IndexSearcher searcher, Query query, List<LeafReaderContext> leaves,
+                                  long deadline) throws IOException {
+        final Weight weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE, 1f);
+        for (LeafReaderContext ctx : leaves) {
+            final BulkScorer scorer = weight.bulkScorer(ctx);
+            if (scorer == null) {
+                continue;
+            }
+            try {
+                scorer.score(new ReplayCollector(deadline), ctx.reader().getLiveDocs());
+            } catch (CollectionTerminatedException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class ReplayCollector implements LeafCollector {
+
+        private final long deadline;
+        private Scorable scorer;
+        private int collected;
+
+        ReplayCollector(long deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            // scoring loads the norms and frequencies just like a search would
+            scorer.score();
+            if ((++collected & 0x3FF) == 0 && System.nanoTime() > deadline) {
+                throw new CollectionTerminatedException();
+            }
+        }
+    }
+}
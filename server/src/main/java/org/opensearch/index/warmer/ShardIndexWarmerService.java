@@ -45,6 +45,9 @@ public class ShardIndexWarmerService extends AbstractIndexShardComponent {
 
     private final CounterMetric current = new CounterMetric();
     private final MeanMetric warmerMetric = new MeanMetric();
+    private final CounterMetric queryReplays = new CounterMetric();
+    private final CounterMetric queryReplayTimeInNanos = new CounterMetric();
+    private final CounterMetric queryReplayBudgetExhausted = new CounterMetric();
 
     public ShardIndexWarmerService(ShardId shardId, IndexSettings indexSettings) {
         super(shardId, indexSettings);
@@ -63,7 +66,19 @@ public class ShardIndexWarmerService extends AbstractIndexShardComponent {
         warmerMetric.inc(tookInNanos);
     }
 
+    /**
+     * Called after recently executed queries were replayed against the new segments of a reader.
+     */
+    public void onQueryReplay(long queries, long tookInNanos, boolean budgetExhausted) {
+        queryReplays.inc(queries);
+        queryReplayTimeInNanos.inc(tookInNanos);
+        if (budgetExhausted) {
+            queryReplayBudgetExhausted.inc();
+        }
+    }
+
     public WarmerStats stats() {
-        return new WarmerStats(current.count(), warmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(warmerMetric.sum()));
+        return new WarmerStats(current.count(), warmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(warmerMetric.sum()),
+            queryReplays.count(), TimeUnit.NANOSECONDS.toMillis(queryReplayTimeInNanos.count()), queryReplayBudgetExhausted.count());
     }
 }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.warmer;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -49,6 +50,12 @@ public class WarmerStats implements Writeable, ToXContentFragment {
 
     private long totalTimeInMillis;
 
+    private long queryReplayTotal;
+
+    private long queryReplayTimeInMillis;
+
+    private long queryReplayBudgetExhausted;
+
     public WarmerStats() {
 
     }
@@ -57,12 +64,25 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         current = in.readVLong();
         total = in.readVLong();
         totalTimeInMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            queryReplayTotal = in.readVLong();
+            queryReplayTimeInMillis = in.readVLong();
+            queryReplayBudgetExhausted = in.readVLong();
+        }
     }
 
     public WarmerStats(long current, long total, long totalTimeInMillis) {
+        this(current, total, totalTimeInMillis, 0, 0, 0);
+    }
+
+    public WarmerStats(long current, long total, long totalTimeInMillis,
+                       long queryReplayTotal, long queryReplayTimeInMillis, long queryReplayBudgetExhausted) {
         this.current = current;
         this.total = total;
         this.totalTimeInMillis = totalTimeInMillis;
+        this.queryReplayTotal = queryReplayTotal;
+        this.queryReplayTimeInMillis = queryReplayTimeInMillis;
+        this.queryReplayBudgetExhausted = queryReplayBudgetExhausted;
     }
 
     public void add(long current, long total, long totalTimeInMillis) {
@@ -78,6 +98,9 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         this.current += warmerStats.current;
         this.total += warmerStats.total;
         this.totalTimeInMillis += warmerStats.totalTimeInMillis;
+        this.queryReplayTotal += warmerStats.queryReplayTotal;
+        this.queryReplayTimeInMillis += warmerStats.queryReplayTimeInMillis;
+        this.queryReplayBudgetExhausted += warmerStats.queryReplayBudgetExhausted;
     }
 
     public long current() {
@@ -105,12 +128,36 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         return new TimeValue(totalTimeInMillis);
     }
 
+    /**
+     * The total number of recently executed queries that were replayed against new segments.
+     */
+    public long queryReplayTotal() {
+        return this.queryReplayTotal;
+    }
+
+    /**
+     * The total time spent replaying recently executed queries against new segments.
+     */
+    public TimeValue queryReplayTime() {
+        return new TimeValue(queryReplayTimeInMillis);
+    }
+
+    /**
+     * The number of times replaying queries stopped because the time budget was used up.
+     */
+    public long queryReplayBudgetExhausted() {
+        return this.queryReplayBudgetExhausted;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.WARMER);
         builder.field(Fields.CURRENT, current);
         builder.field(Fields.TOTAL, total);
         builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, totalTime());
+        builder.field(Fields.QUERY_REPLAY_TOTAL, queryReplayTotal);
+        builder.humanReadableField(Fields.QUERY_REPLAY_TIME_IN_MILLIS, Fields.QUERY_REPLAY_TIME, queryReplayTime());
+        builder.field(Fields.QUERY_REPLAY_BUDGET_EXHAUSTED, queryReplayBudgetExhausted);
         builder.endObject();
         return builder;
     }
@@ -121,6 +168,10 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String TOTAL_TIME = "total_time";
         static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
+        static final String QUERY_REPLAY_TOTAL = "query_replay_total";
+        static final String QUERY_REPLAY_TIME = "query_replay_time";
+        static final String QUERY_REPLAY_TIME_IN_MILLIS = "query_replay_time_in_millis";
+        static final String QUERY_REPLAY_BUDGET_EXHAUSTED = "query_replay_budget_exhausted";
     }
 
     @Override
@@ -128,5 +179,10 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         out.writeVLong(current);
         out.writeVLong(total);
         out.writeVLong(totalTimeInMillis);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeVLong(queryReplayTotal);
+            out.writeVLong(queryReplayTimeInMillis);
+            out.writeVLong(queryReplayBudgetExhausted);
+        }
     }
 }
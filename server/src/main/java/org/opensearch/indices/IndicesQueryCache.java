@@ -34,33 +34,46 @@ package org.opensearch.indices;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.BitSet;
 import org.opensearch.common.lucene.ShardCoreKeyMap;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardUtils;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 public class IndicesQueryCache implements QueryCache, Closeable {
@@ -76,6 +89,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     // enables caching on all segments instead of only the larger ones, for testing only
     public static final Setting<Boolean> INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING =
             Setting.boolSetting("indices.queries.cache.all_segments", false, Property.NodeScope);
+    // pinned filters are never evicted, so they get a budget of their own on top of the size of the cache
+    public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_PINNED_SIZE_SETTING =
+            Setting.memorySizeSetting("indices.queries.cache.pinned_size", "1%", Property.NodeScope);
 
     private final LRUQueryCache cache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
@@ -87,6 +103,12 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     // See onDocIdSetEviction for more info
     private final Map<Object, StatsAndCount> stats2 = Collections.synchronizedMap(new IdentityHashMap<>());
 
+    // Filters that were pinned on a segment bypass the LRU cache entirely, see pin()
+    private final Map<IndexReader.CacheKey, PinnedFilters> pinnedFilters = new ConcurrentHashMap<>();
+    private final Map<ShardId, PinnedStats> pinnedStats = new ConcurrentHashMap<>();
+    private final long maxPinnedRamBytesUsed;
+    private final AtomicLong pinnedRamBytesUsed = new AtomicLong();
+
     public IndicesQueryCache(Settings settings) {
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
@@ -98,6 +120,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes());
         }
         sharedRamBytesUsed = 0;
+        maxPinnedRamBytesUsed = INDICES_CACHE_QUERY_PINNED_SIZE_SETTING.get(settings).getBytes();
     }
 
     /** Get usage statistics for the given shard. */
@@ -124,9 +147,113 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 : ((double) shardStats.getCacheSize()) / totalSize;
         final long additionalRamBytesUsed = Math.round(weight * sharedRamBytesUsed);
         shardStats.add(new QueryCacheStats(additionalRamBytesUsed, 0, 0, 0, 0));
+        shardStats.add(getPinnedStats(shard));
         return shardStats;
     }
 
+    private QueryCacheStats getPinnedStats(ShardId shard) {
+        final PinnedStats stats = pinnedStats.get(shard);
+        if (stats == null) {
+            return new QueryCacheStats();
+        }
+        return new QueryCacheStats(0, 0, 0, 0, 0, stats.size.count(), stats.ramBytesUsed.count(), stats.hits.count());
+    }
+
+    /**
+     * Eagerly caches the doc id set of the given filter on the given segment. Unlike the entries of the LRU cache, the doc id set
+     * is used regardless of the caching policy, doesn't count against the size of the cache and is only dropped once the segment
+     * is closed or the cache of its index is cleared. The doc id sets of all pinned filters together may not use more than
+     * {@link #INDICES_CACHE_QUERY_PINNED_SIZE_SETTING}.
+     *
+     * @return whether the filter got pinned, <code>false</code> if it already was, can't be cached on the segment or doesn't fit
+     */
+    public boolean pin(Query filter, LeafReaderContext context) throws IOException {
+        final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+        final ShardId shardId = ShardUtils.extractShardId(context.reader());
+        if (cacheHelper == null || shardId == null) {
+            return false;
+        }
+        final IndexSearcher searcher = new IndexSearcher(ReaderUtil.getTopLevelContext(context));
+        searcher.setQueryCache(null);
+        // weights are looked up by their query, which is always rewritten
+        final Query query = searcher.rewrite(filter);
+        final IndexReader.CacheKey coreKey = cacheHelper.getKey();
+        PinnedFilters pinned = pinnedFilters.get(coreKey);
+        if (pinned != null && pinned.docIdSets.containsKey(query)) {
+            return false;
+        }
+        final Weight weight = searcher.createWeight(query, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        if (weight.isCacheable(context) == false) {
+            return false;
+        }
+        final Scorer scorer = weight.scorer(context);
+        final DocIdSet docIdSet = scorer == null
+            ? DocIdSet.EMPTY
+            : new BitDocIdSet(BitSet.of(scorer.iterator(), context.reader().maxDoc()));
+        final long docIdSetRamBytesUsed = docIdSet.ramBytesUsed();
+        if (pinnedRamBytesUsed.addAndGet(docIdSetRamBytesUsed) > maxPinnedRamBytesUsed) {
+            pinnedRamBytesUsed.addAndGet(-docIdSetRamBytesUsed);
+            logger.debug("not pinning [{}] on a segment of {}, the pinned filters would use more than [{}]", query, shardId,
+                new ByteSizeValue(maxPinnedRamBytesUsed));
+            return false;
+        }
+        if (pinned == null) {
+            pinned = pinnedFilters.computeIfAbsent(coreKey, key -> {
+                cacheHelper.addClosedListener(closedKey -> {
+                    final PinnedFilters closed = pinnedFilters.remove(closedKey);
+                    if (closed != null) {
+                        release(closed);
+                    }
+                });
+                return new PinnedFilters(shardId);
+            });
+        }
+        synchronized (pinned) {
+            if (pinned.released == false && pinned.docIdSets.putIfAbsent(query, docIdSet) == null) {
+                pinned.ramBytesUsed += docIdSetRamBytesUsed;
+                final PinnedStats stats = pinnedStats.computeIfAbsent(shardId, id -> new PinnedStats());
+                stats.size.inc();
+                stats.ramBytesUsed.inc(docIdSetRamBytesUsed);
+                return true;
+            }
+        }
+        pinnedRamBytesUsed.addAndGet(-docIdSetRamBytesUsed);
+        return false;
+    }
+
+    /**
+     * Drops the pinned doc id sets of all segments of the given index, e.g. because the alias of a pinned filter was removed.
+     * Filters that should still be pinned are pinned again when the next reader is warmed.
+     */
+    public void clearPinned(String index) {
+        unpin(shardId -> shardId.getIndexName().equals(index));
+    }
+
+    private void unpin(Predicate<ShardId> predicate) {
+        for (Iterator<PinnedFilters> it = pinnedFilters.values().iterator(); it.hasNext(); ) {
+            final PinnedFilters pinned = it.next();
+            if (predicate.test(pinned.shardId)) {
+                it.remove();
+                release(pinned);
+            }
+        }
+    }
+
+    private void release(PinnedFilters pinned) {
+        synchronized (pinned) {
+            if (pinned.released) {
+                return;
+            }
+            pinned.released = true;
+            pinnedRamBytesUsed.addAndGet(-pinned.ramBytesUsed);
+            final PinnedStats stats = pinnedStats.get(pinned.shardId);
+            if (stats != null) {
+                stats.size.dec(pinned.docIdSets.size());
+                stats.ramBytesUsed.dec(pinned.ramBytesUsed);
+            }
+        }
+    }
+
     @Override
     public Weight doCache(Weight weight, QueryCachingPolicy policy) {
         while (weight instanceof CachingWeightWrapper) {
@@ -138,6 +265,25 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         return new CachingWeightWrapper(in);
     }
 
+    private static class PinnedFilters {
+
+        final ShardId shardId;
+        final Map<Query, DocIdSet> docIdSets = new ConcurrentHashMap<>();
+        // guarded by this, once released the doc id sets are no longer accounted for and nothing can be pinned anymore
+        long ramBytesUsed;
+        boolean released;
+
+        PinnedFilters(ShardId shardId) {
+            this.shardId = shardId;
+        }
+    }
+
+    private static class PinnedStats {
+        final CounterMetric size = new CounterMetric();
+        final CounterMetric ramBytesUsed = new CounterMetric();
+        final CounterMetric hits = new CounterMetric();
+    }
+
     private class CachingWeightWrapper extends Weight {
 
         private final Weight in;
@@ -161,21 +307,75 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         @Override
         public Scorer scorer(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
+            final DocIdSet pinned = getPinnedDocIdSet(context);
+            if (pinned != null) {
+                return pinnedScorer(pinned);
+            }
             return in.scorer(context);
         }
 
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
+            final DocIdSet pinned = getPinnedDocIdSet(context);
+            if (pinned != null) {
+                final Scorer scorer = pinnedScorer(pinned);
+                if (scorer == null) {
+                    return null;
+                }
+                return new ScorerSupplier() {
+                    @Override
+                    public Scorer get(long leadCost) {
+                        return scorer;
+                    }
+
+                    @Override
+                    public long cost() {
+                        return scorer.iterator().cost();
+                    }
+                };
+            }
             return in.scorerSupplier(context);
         }
 
         @Override
         public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
+            final DocIdSet pinned = getPinnedDocIdSet(context);
+            if (pinned != null) {
+                final Scorer scorer = pinnedScorer(pinned);
+                return scorer == null ? null : new DefaultBulkScorer(scorer);
+            }
             return in.bulkScorer(context);
         }
 
+        private DocIdSet getPinnedDocIdSet(LeafReaderContext context) {
+            if (pinnedFilters.isEmpty()) {
+                return null;
+            }
+            final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+            if (cacheHelper == null) {
+                return null;
+            }
+            final PinnedFilters pinned = pinnedFilters.get(cacheHelper.getKey());
+            if (pinned == null) {
+                return null;
+            }
+            final DocIdSet docIdSet = pinned.docIdSets.get(getQuery());
+            if (docIdSet != null) {
+                pinnedStats.computeIfAbsent(pinned.shardId, shardId -> new PinnedStats()).hits.inc();
+            }
+            return docIdSet;
+        }
+
+        private Scorer pinnedScorer(DocIdSet docIdSet) throws IOException {
+            final DocIdSetIterator iterator = docIdSet.iterator();
+            if (iterator == null) {
+                return null;
+            }
+            return new ConstantScoreScorer(this, 0f, ScoreMode.COMPLETE_NO_SCORES, iterator);
+        }
+
         @Override
         public boolean isCacheable(LeafReaderContext ctx) {
             return in.isCacheable(ctx);
@@ -188,6 +388,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         for (Object coreKey : coreCacheKeys) {
             cache.clearCoreCacheKey(coreKey);
         }
+        clearPinned(index);
 
         // This cache stores two things: filters, and doc id sets. Calling
         // clear only removes the doc id sets, but if we reach the situation
@@ -203,6 +404,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         assert shardKeyMap.size() == 0 : shardKeyMap.size();
         assert shardStats.isEmpty() : shardStats.keySet();
         assert stats2.isEmpty() : stats2;
+        assert pinnedFilters.isEmpty() : pinnedFilters.size();
+        assert pinnedRamBytesUsed.get() == 0 : pinnedRamBytesUsed.get();
 
         // This cache stores two things: filters, and doc id sets. At this time
         // we only know that there are no more doc id sets, but we still track
@@ -259,6 +462,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     public void onClose(ShardId shardId) {
         assert empty(shardStats.get(shardId));
         shardStats.remove(shardId);
+        unpin(shardId::equals);
+        pinnedStats.remove(shardId);
     }
 
     private class OpenSearchLRUQueryCache extends LRUQueryCache {
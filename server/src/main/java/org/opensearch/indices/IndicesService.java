@@ -32,6 +32,8 @@
 
 package org.opensearch.indices;
 
+import com.carrotsearch.hppc.cursors.ObjectCursor;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
@@ -53,6 +55,7 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRouting;
@@ -63,6 +66,7 @@ import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.component.AbstractLifecycleComponent;
 import org.opensearch.common.io.FileSystemUtils;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -102,6 +106,7 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.TokenStreamCacheStats;
 import org.opensearch.index.cache.request.ShardRequestCache;
 import org.opensearch.index.engine.CommitStats;
 import org.opensearch.index.engine.EngineConfig;
@@ -111,14 +116,17 @@ import org.opensearch.index.engine.NoOpEngine;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
+import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MappingSourceStats;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
+import org.opensearch.index.seqno.ReplicationLagStats;
 import org.opensearch.index.seqno.RetentionLeaseStats;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
 import org.opensearch.index.seqno.SeqNoStats;
@@ -426,7 +434,38 @@ public class IndicesService extends AbstractLifecycleComponent
             }
         }
 
-        return new NodeIndicesStats(commonStats, statsByShard(this, flags));
+        return new NodeIndicesStats(commonStats, statsByShard(this, flags), mappingSourceStats(), tokenStreamCacheStats());
+    }
+
+    /**
+     * Sums up the usage of the token stream caches of the text fields of the local indices.
+     */
+    TokenStreamCacheStats tokenStreamCacheStats() {
+        final TokenStreamCacheStats stats = new TokenStreamCacheStats();
+        for (IndexService indexService : indices.values()) {
+            stats.add(indexService.mapperService().getIndexAnalyzers().getTokenStreamCacheStats());
+        }
+        return stats;
+    }
+
+    /**
+     * Accounts for the mapping sources held in the applied cluster state and by the mapper services of the local indices.
+     */
+    MappingSourceStats mappingSourceStats() {
+        final List<CompressedXContent> clusterStateSources = new ArrayList<>();
+        for (ObjectCursor<IndexMetadata> cursor : clusterService.state().metadata().indices().values()) {
+            for (ObjectCursor<MappingMetadata> mapping : cursor.value.getMappings().values()) {
+                clusterStateSources.add(mapping.value.source());
+            }
+        }
+        final List<CompressedXContent> localSources = new ArrayList<>();
+        for (IndexService indexService : indices.values()) {
+            final DocumentMapper mapper = indexService.mapperService().documentMapper();
+            if (mapper != null) {
+                localSources.add(mapper.mappingSource());
+            }
+        }
+        return new MappingSourceStats(MappingSourceStats.Usage.of(clusterStateSources), MappingSourceStats.Usage.of(localSources));
     }
 
     Map<Index, List<IndexShardStats>> statsByShard(final IndicesService indicesService, final CommonStatsFlags flags) {
@@ -464,15 +503,18 @@ public class IndicesService extends AbstractLifecycleComponent
         CommitStats commitStats;
         SeqNoStats seqNoStats;
         RetentionLeaseStats retentionLeaseStats;
+        ReplicationLagStats replicationLagStats;
         try {
             commitStats = indexShard.commitStats();
             seqNoStats = indexShard.seqNoStats();
             retentionLeaseStats = indexShard.getRetentionLeaseStats();
+            replicationLagStats = indexShard.getReplicationLagStats();
         } catch (AlreadyClosedException e) {
             // shard is closed - no stats is fine
             commitStats = null;
             seqNoStats = null;
             retentionLeaseStats = null;
+            replicationLagStats = null;
         }
 
         return new IndexShardStats(
@@ -484,7 +526,8 @@ public class IndicesService extends AbstractLifecycleComponent
                                 new CommonStats(indicesService.getIndicesQueryCache(), indexShard, flags),
                                 commitStats,
                                 seqNoStats,
-                                retentionLeaseStats)
+                                retentionLeaseStats,
+                                replicationLagStats)
                 });
     }
 
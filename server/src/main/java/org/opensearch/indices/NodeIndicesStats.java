@@ -32,6 +32,7 @@
 
 package org.opensearch.indices;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.admin.indices.stats.IndexShardStats;
 import org.opensearch.action.admin.indices.stats.ShardStats;
@@ -42,12 +43,14 @@ import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.index.Index;
+import org.opensearch.index.analysis.TokenStreamCacheStats;
 import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.index.cache.request.RequestCacheStats;
 import org.opensearch.index.engine.SegmentsStats;
 import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
+import org.opensearch.index.mapper.MappingSourceStats;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
@@ -72,6 +75,10 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
 
     private CommonStats stats;
     private Map<Index, List<IndexShardStats>> statsByShard;
+    @Nullable
+    private MappingSourceStats mappingSourceStats;
+    @Nullable
+    private TokenStreamCacheStats tokenStreamCacheStats;
 
     public NodeIndicesStats(StreamInput in) throws IOException {
         stats = new CommonStats(in);
@@ -88,11 +95,27 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statsByShard.put(index, indexShardStats);
             }
         }
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            mappingSourceStats = in.readOptionalWriteable(MappingSourceStats::new);
+            tokenStreamCacheStats = in.readOptionalWriteable(TokenStreamCacheStats::new);
+        }
     }
 
     public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard) {
+        this(oldStats, statsByShard, null);
+    }
+
+    public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard,
+                            @Nullable MappingSourceStats mappingSourceStats) {
+        this(oldStats, statsByShard, mappingSourceStats, null);
+    }
+
+    public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard,
+                            @Nullable MappingSourceStats mappingSourceStats, @Nullable TokenStreamCacheStats tokenStreamCacheStats) {
         //this.stats = stats;
         this.statsByShard = statsByShard;
+        this.mappingSourceStats = mappingSourceStats;
+        this.tokenStreamCacheStats = tokenStreamCacheStats;
 
         // make a total common stats from old ones and current ones
         this.stats = oldStats;
@@ -185,6 +208,16 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         return stats.getRecoveryStats();
     }
 
+    @Nullable
+    public MappingSourceStats getMappingSourceStats() {
+        return mappingSourceStats;
+    }
+
+    @Nullable
+    public TokenStreamCacheStats getTokenStreamCacheStats() {
+        return tokenStreamCacheStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         stats.writeTo(out);
@@ -199,6 +232,10 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeOptionalWriteable(mappingSourceStats);
+            out.writeOptionalWriteable(tokenStreamCacheStats);
+        }
     }
 
     @Override
@@ -213,6 +250,12 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         // "node" level
         builder.startObject(Fields.INDICES);
         stats.toXContent(builder, params);
+        if (mappingSourceStats != null) {
+            mappingSourceStats.toXContent(builder, params);
+        }
+        if (tokenStreamCacheStats != null) {
+            tokenStreamCacheStats.toXContent(builder, params);
+        }
 
         if ("indices".equals(level)) {
             Map<Index, CommonStats> indexStats = createStatsByIndex();
@@ -39,7 +39,9 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.Strings;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.store.Store;
@@ -84,7 +86,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         throws IOException {
         assert Transports.assertNotTransportThread("multi_file_writer");
         final FileChunkWriter writer = fileChunkWriters.computeIfAbsent(fileMetadata.name(), name -> new FileChunkWriter());
-        writer.writeChunk(new FileChunk(fileMetadata, content, position, lastChunk));
+        // chunks may have to wait for their predecessors, so they retain the (possibly network) buffers they were read from
+        final ReleasableBytesReference retained = content instanceof ReleasableBytesReference
+            ? ((ReleasableBytesReference) content).retain()
+            : ReleasableBytesReference.wrap(content);
+        writer.writeChunk(new FileChunk(fileMetadata, retained, position, lastChunk));
     }
 
     /** Get a temporary name for the provided file name. */
@@ -164,6 +170,9 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
 
     @Override
     protected void closeInternal() {
+        for (FileChunkWriter writer : fileChunkWriters.values()) {
+            writer.close();
+        }
         fileChunkWriters.clear();
         // clean open index outputs
         Iterator<Map.Entry<String, IndexOutput>> iterator = openIndexOutputs.entrySet().iterator();
@@ -192,26 +201,36 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         store.renameTempFilesSafe(tempFileNames);
     }
 
-    static final class FileChunk {
+    static final class FileChunk implements Releasable {
         final StoreFileMetadata md;
-        final BytesReference content;
+        final ReleasableBytesReference content;
         final long position;
         final boolean lastChunk;
-        FileChunk(StoreFileMetadata md, BytesReference content, long position, boolean lastChunk) {
+        FileChunk(StoreFileMetadata md, ReleasableBytesReference content, long position, boolean lastChunk) {
             this.md = md;
             this.content = content;
             this.position = position;
             this.lastChunk = lastChunk;
         }
+
+        @Override
+        public void close() {
+            content.close();
+        }
     }
 
-    private final class FileChunkWriter {
+    private final class FileChunkWriter implements Releasable {
         // chunks can be delivered out of order, we need to buffer chunks if there's a gap between them.
         final PriorityQueue<FileChunk> pendingChunks = new PriorityQueue<>(Comparator.comparing(fc -> fc.position));
         long lastPosition = 0;
+        boolean closed = false;
 
         void writeChunk(FileChunk newChunk) throws IOException {
             synchronized (this) {
+                if (closed) {
+                    newChunk.close();
+                    return;
+                }
                 pendingChunks.add(newChunk);
             }
             while (true) {
@@ -223,7 +242,9 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                     }
                     pendingChunks.remove();
                 }
-                innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                try (FileChunk toRelease = chunk) {
+                    innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                }
                 synchronized (this) {
                     assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
                     lastPosition += chunk.content.length();
@@ -235,5 +256,12 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                 }
             }
         }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            Releasables.close(pendingChunks);
+            pendingChunks.clear();
+        }
     }
 }
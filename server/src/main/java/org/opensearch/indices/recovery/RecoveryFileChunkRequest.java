@@ -34,6 +34,7 @@ package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
@@ -47,7 +48,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
     private final long recoveryId;
     private final ShardId shardId;
     private final long position;
-    private final BytesReference content;
+    private final ReleasableBytesReference content;
     private final StoreFileMetadata metadata;
     private final long sourceThrottleTimeInNanos;
 
@@ -61,7 +62,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
+        content = in.readReleasableBytesReference();
         Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
         assert writtenBy != null;
         metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
@@ -77,7 +78,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         this.shardId = shardId;
         this.metadata = metadata;
         this.position = position;
-        this.content = content;
+        this.content = ReleasableBytesReference.wrap(content);
         this.lastChunk = lastChunk;
         this.totalTranslogOps = totalTranslogOps;
         this.sourceThrottleTimeInNanos = sourceThrottleTimeInNanos;
@@ -103,7 +104,11 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         return metadata.length();
     }
 
-    public BytesReference content() {
+    /**
+     * The content of this chunk. When read from the network it is a slice of the inbound network buffers which remains valid only as
+     * long as this request holds a reference to it; consumers that outlive the request must retain it themselves.
+     */
+    public ReleasableBytesReference content() {
         return content;
     }
 
@@ -138,6 +143,21 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
                 ", length=" + length();
     }
 
+    @Override
+    public void incRef() {
+        content.incRef();
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return content.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return content.decRef();
+    }
+
     public StoreFileMetadata metadata() {
         return metadata;
     }
@@ -0,0 +1,277 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.node.Node;
+import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPool.Names;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Continuously samples the stacks of all runnable threads at a fixed interval and aggregates them per thread pool into
+ * collapsed stacks ({@code pool;frame;...;frame count}, root frame first), which is the input format of common flame graph
+ * tools. Samples are kept in rolling windows so that short CPU spikes can still be diagnosed after the fact, unlike
+ * {@link HotThreads} which only looks at the threads while it is invoked. Sampling runs on the generic thread pool and only
+ * captures the innermost frames of deep stacks, see {@link #MAX_STACK_DEPTH_SETTING}.
+ */
+public class HotThreadsSampler extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(HotThreadsSampler.class);
+
+    private static final DateFormatter DATE_TIME_FORMATTER = DateFormatter.forPattern("date_optional_time");
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("monitor.jvm.hot_threads.sampler.enabled", false, Property.NodeScope);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("monitor.jvm.hot_threads.sampler.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(100),
+            Property.NodeScope);
+    public static final Setting<TimeValue> WINDOW_SETTING =
+        Setting.timeSetting("monitor.jvm.hot_threads.sampler.window", TimeValue.timeValueMinutes(1), TimeValue.timeValueSeconds(1),
+            Property.NodeScope);
+    public static final Setting<Integer> WINDOWS_SETTING =
+        Setting.intSetting("monitor.jvm.hot_threads.sampler.windows", 10, 1, Property.NodeScope);
+    public static final Setting<Integer> MAX_STACKS_PER_WINDOW_SETTING =
+        Setting.intSetting("monitor.jvm.hot_threads.sampler.max_stacks_per_window", 10000, 1, Property.NodeScope);
+    /**
+     * The number of frames captured per thread. Deeper stacks are cut at their root side, so their collapsed stacks start
+     * in the middle of the call chain.
+     */
+    public static final Setting<Integer> MAX_STACK_DEPTH_SETTING =
+        Setting.intSetting("monitor.jvm.hot_threads.sampler.max_stack_depth", 128, 1, Property.NodeScope);
+
+    /**
+     * The root frame of threads that do not belong to a thread pool.
+     */
+    static final String OTHER_THREADS = "other";
+
+    private final ThreadPool threadPool;
+    private final LongSupplier relativeNanos;
+    private final String nodeName;
+    private final boolean enabled;
+    private final TimeValue interval;
+    private final long windowNanos;
+    private final int maxWindows;
+    private final int maxStacksPerWindow;
+    private final int maxStackDepth;
+
+    // guarded by this
+    private final ArrayDeque<Window> windows = new ArrayDeque<>();
+
+    private volatile Cancellable scheduledFuture;
+
+    public HotThreadsSampler(Settings settings, ThreadPool threadPool) {
+        this(settings, threadPool, System::nanoTime);
+    }
+
+    HotThreadsSampler(Settings settings, ThreadPool threadPool, LongSupplier relativeNanos) {
+        this.threadPool = threadPool;
+        this.relativeNanos = relativeNanos;
+        this.nodeName = Node.NODE_NAME_SETTING.exists(settings) ? Node.NODE_NAME_SETTING.get(settings) : "";
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.windowNanos = WINDOW_SETTING.get(settings).nanos();
+        this.maxWindows = WINDOWS_SETTING.get(settings);
+        this.maxStacksPerWindow = MAX_STACKS_PER_WINDOW_SETTING.get(settings);
+        this.maxStackDepth = MAX_STACK_DEPTH_SETTING.get(settings);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected void doStart() {
+        if (enabled == false) {
+            return;
+        }
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                sample();
+            } catch (Exception e) {
+                logger.debug("failed to sample thread stacks", e);
+            }
+        }, interval, Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (enabled == false) {
+            return;
+        }
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    /**
+     * Takes a single sample of the stacks of all runnable, non-idle threads.
+     */
+    void sample() {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        final long currentThreadId = Thread.currentThread().getId();
+        final ThreadInfo[] infos = threadBean.getThreadInfo(threadBean.getAllThreadIds(), maxStackDepth);
+        final long now = relativeNanos.getAsLong();
+        synchronized (this) {
+            final Window window = currentWindow(now);
+            window.samples++;
+            for (ThreadInfo info : infos) {
+                // threads that died in the meantime are reported as null
+                if (info == null || info.getThreadId() == currentThreadId || info.getThreadState() != Thread.State.RUNNABLE) {
+                    continue;
+                }
+                if (HotThreads.isIdleThread(info)) {
+                    continue;
+                }
+                window.add(collapse(threadPoolName(nodeName, info.getThreadName()), info.getStackTrace()), maxStacksPerWindow);
+            }
+        }
+    }
+
+    /**
+     * Records a single occurrence of the given stack, for tests.
+     */
+    synchronized void addSample(String threadName, StackTraceElement[] stack) {
+        final Window window = currentWindow(relativeNanos.getAsLong());
+        window.samples++;
+        window.add(collapse(threadPoolName(nodeName, threadName), stack), maxStacksPerWindow);
+    }
+
+    private Window currentWindow(long now) {
+        assert Thread.holdsLock(this);
+        Window window = windows.peekLast();
+        if (window == null || now - window.startNanos >= windowNanos) {
+            window = new Window(now);
+            windows.addLast(window);
+            while (windows.size() > maxWindows) {
+                windows.pollFirst();
+            }
+        }
+        return window;
+    }
+
+    /**
+     * Returns the name of the thread pool the given thread belongs to, based on the names given by
+     * {@link org.opensearch.common.util.concurrent.OpenSearchExecutors#daemonThreadFactory(String)}, e.g.
+     * {@code opensearch[node][search][T#3]}. Names without a node name, e.g. {@code opensearch[search][T#3]}, are only used
+     * by nodes that have no name, otherwise such a single segment is the node name of a thread outside of any pool.
+     *
+     * @param nodeName the name of the local node, or an empty string if it has none
+     */
+    static String threadPoolName(String nodeName, String threadName) {
+        final int end = threadName.lastIndexOf("][T#");
+        if (threadName.startsWith("opensearch[") == false || end < 0) {
+            return OTHER_THREADS;
+        }
+        final int start = threadName.lastIndexOf('[', end);
+        if (start == "opensearch".length() && nodeName.isEmpty() == false) {
+            return OTHER_THREADS;
+        }
+        return start + 1 == end ? OTHER_THREADS : threadName.substring(start + 1, end);
+    }
+
+    static String collapse(String threadPoolName, StackTraceElement[] stack) {
+        final StringBuilder sb = new StringBuilder(threadPoolName);
+        // stack traces start with the innermost frame but flame graphs expect the root frame first
+        for (int i = stack.length - 1; i >= 0; i--) {
+            sb.append(';').append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the collapsed stacks sampled during the windows that overlap with the given period, most frequent first.
+     *
+     * @param lookback how far to look back in time, the window currently being filled is always included
+     */
+    public synchronized String collapsedStacks(TimeValue lookback) {
+        final long now = relativeNanos.getAsLong();
+        final Map<String, Long> stacks = new HashMap<>();
+        int windowCount = 0;
+        long samples = 0;
+        long dropped = 0;
+        for (Iterator<Window> it = windows.descendingIterator(); it.hasNext(); ) {
+            final Window window = it.next();
+            if (windowCount > 0 && now - (window.startNanos + windowNanos) > lookback.nanos()) {
+                break;
+            }
+            windowCount++;
+            samples += window.samples;
+            dropped += window.dropped;
+            for (Map.Entry<String, long[]> entry : window.stacks.entrySet()) {
+                stacks.merge(entry.getKey(), entry.getValue()[0], Long::sum);
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Sampled hot threads at ");
+        sb.append(DATE_TIME_FORMATTER.format(LocalDateTime.now(Clock.systemUTC())));
+        sb.append(", interval=");
+        sb.append(interval);
+        sb.append(", window=");
+        sb.append(TimeValue.timeValueNanos(windowNanos));
+        sb.append(", windows=");
+        sb.append(windowCount);
+        sb.append(", samples=");
+        sb.append(samples);
+        sb.append(", dropped=");
+        sb.append(dropped);
+        sb.append(":\n");
+        final List<Map.Entry<String, Long>> sorted = new ArrayList<>(stacks.entrySet());
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        for (Map.Entry<String, Long> entry : sorted) {
+            sb.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static final class Window {
+        private final long startNanos;
+        private final Map<String, long[]> stacks = new HashMap<>();
+        private long samples;
+        private long dropped;
+
+        Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        void add(String collapsedStack, int maxStacks) {
+            final long[] count = stacks.get(collapsedStack);
+            if (count != null) {
+                count[0]++;
+            } else if (stacks.size() < maxStacks) {
+                stacks.put(collapsedStack, new long[] { 1 });
+            } else {
+                dropped++;
+            }
+        }
+    }
+}
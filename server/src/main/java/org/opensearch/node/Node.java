@@ -45,6 +45,7 @@ import org.opensearch.Version;
 import org.opensearch.action.ActionModule;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.admin.cluster.snapshots.status.TransportNodesSnapshotsStatus;
+import org.opensearch.action.bulk.BulkItemRouter;
 import org.opensearch.action.search.SearchExecutionStatsCollector;
 import org.opensearch.action.search.SearchPhaseController;
 import org.opensearch.action.search.SearchTransportService;
@@ -628,7 +629,8 @@ public class Node implements Closeable {
             this.nodeService = new NodeService(settings, threadPool, monitorService, discoveryModule.getDiscovery(),
                 transportService, indicesService, pluginsService, circuitBreakerService, scriptService,
                 httpServerTransport, ingestService, clusterService, settingsModule.getSettingsFilter(), responseCollectorService,
-                searchTransportService, indexingLimits, searchModule.getValuesSourceRegistry().getUsageService());
+                searchTransportService, indexingLimits, searchModule.getValuesSourceRegistry().getUsageService(),
+                lucenePersistedStateFactory);
 
             final SearchService searchService = newSearchService(clusterService, indicesService,
                 threadPool, scriptService, bigArrays, searchModule.getFetchPhase(),
@@ -732,7 +734,9 @@ public class Node implements Closeable {
                     () -> clusterService.localNode().getId(), transportService.getRemoteClusterService(),
                     namedWriteableRegistry);
             logger.debug("initializing HTTP handlers ...");
-            actionModule.initRestHandlers(() -> clusterService.state().nodes());
+            actionModule.initRestHandlers(() -> clusterService.state().nodes(), indexingLimits,
+                () -> new BulkItemRouter(clusterService.state(), clusterModule.getIndexNameExpressionResolver(),
+                    clusterService.operationRouting()));
             logger.info("initialized");
 
             success = true;
@@ -1155,7 +1159,7 @@ public class Node implements Closeable {
                                              FetchPhase fetchPhase, ResponseCollectorService responseCollectorService,
                                              CircuitBreakerService circuitBreakerService) {
         return new SearchService(clusterService, indicesService, threadPool,
-            scriptService, bigArrays, fetchPhase, responseCollectorService, circuitBreakerService);
+            scriptService, bigArrays, environment.tmpFile(), fetchPhase, responseCollectorService, circuitBreakerService);
     }
 
     /**
@@ -45,6 +45,8 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.discovery.Discovery;
+import org.opensearch.discovery.DiscoveryStats;
+import org.opensearch.gateway.PersistedClusterStateService;
 import org.opensearch.http.HttpServerTransport;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.CircuitBreakerService;
@@ -78,6 +80,7 @@ public class NodeService implements Closeable {
     private final AggregationUsageService aggregationUsageService;
 
     private final Discovery discovery;
+    private final PersistedClusterStateService persistedClusterStateService;
 
     NodeService(Settings settings, ThreadPool threadPool, MonitorService monitorService, Discovery discovery,
                 TransportService transportService, IndicesService indicesService, PluginsService pluginService,
@@ -85,7 +88,7 @@ public class NodeService implements Closeable {
                 @Nullable HttpServerTransport httpServerTransport, IngestService ingestService, ClusterService clusterService,
                 SettingsFilter settingsFilter, ResponseCollectorService responseCollectorService,
                 SearchTransportService searchTransportService, IndexingPressure indexingPressure,
-                AggregationUsageService aggregationUsageService) {
+                AggregationUsageService aggregationUsageService, PersistedClusterStateService persistedClusterStateService) {
         this.settings = settings;
         this.threadPool = threadPool;
         this.monitorService = monitorService;
@@ -102,6 +105,7 @@ public class NodeService implements Closeable {
         this.searchTransportService = searchTransportService;
         this.indexingPressure = indexingPressure;
         this.aggregationUsageService = aggregationUsageService;
+        this.persistedClusterStateService = persistedClusterStateService;
         clusterService.addStateApplier(ingestService);
     }
 
@@ -139,7 +143,7 @@ public class NodeService implements Closeable {
                 http ? (httpServerTransport == null ? null : httpServerTransport.stats()) : null,
                 circuitBreaker ? circuitBreakerService.stats() : null,
                 script ? scriptService.stats() : null,
-                discoveryStats ? discovery.stats() : null,
+                discoveryStats ? discoveryStats() : null,
                 ingest ? ingestService.stats() : null,
                 adaptiveSelection ? responseCollectorService.getAdaptiveStats(searchTransportService.getPendingSearchRequests()) : null,
                 scriptCache ? scriptService.cacheStats() : null,
@@ -147,6 +151,10 @@ public class NodeService implements Closeable {
         );
     }
 
+    private DiscoveryStats discoveryStats() {
+        return discovery.stats().withPersistenceStats(persistedClusterStateService.stats());
+    }
+
     public IngestService getIngestService() {
         return ingestService;
     }
@@ -32,14 +32,24 @@
 
 package org.opensearch.rest.action.document;
 
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkItemRouter;
 import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.bulk.BulkShardRequest;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.client.Requests;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.RestRequest;
@@ -48,7 +58,9 @@ import org.opensearch.rest.action.search.RestSearchAction;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
@@ -67,12 +79,36 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
 public class RestBulkAction extends BaseRestHandler {
 
     private final boolean allowExplicitIndex;
+    @Nullable
+    private final IndexingPressure indexingPressure;
+    @Nullable
+    private final Supplier<BulkItemRouter> itemRouters;
     private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(RestSearchAction.class);
     public static final String TYPES_DEPRECATION_MESSAGE = "[types removal]" +
     " Specifying types in bulk requests is deprecated.";
 
     public RestBulkAction(Settings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * @param indexingPressure if not null the bodies of bulk requests are reserved against the node's indexing pressure while they
+     *                         are parsed, so that requests are rejected before being parsed when the node is already overloaded
+     */
+    public RestBulkAction(Settings settings, @Nullable IndexingPressure indexingPressure) {
+        this(settings, indexingPressure, null);
+    }
+
+    /**
+     * @param indexingPressure see {@link #RestBulkAction(Settings, IndexingPressure)}
+     * @param itemRouters      if not null provides a router for each parsed bulk request, grouping its items by shard while they are
+     *                         parsed instead of when the request is executed
+     */
+    public RestBulkAction(Settings settings, @Nullable IndexingPressure indexingPressure,
+                          @Nullable Supplier<BulkItemRouter> itemRouters) {
         this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
+        this.indexingPressure = indexingPressure;
+        this.itemRouters = itemRouters;
     }
 
     @Override
@@ -112,12 +148,125 @@ public class RestBulkAction extends BaseRestHandler {
         Boolean defaultRequireAlias = request.paramAsBoolean(DocWriteRequest.REQUIRE_ALIAS, null);
         bulkRequest.timeout(request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT));
         bulkRequest.setRefreshPolicy(request.param("refresh"));
-        bulkRequest.add(request.requiredContent(), defaultIndex, defaultType, defaultRouting,
-            defaultFetchSourceContext, defaultPipeline, defaultRequireAlias, allowExplicitIndex, request.getXContentType());
+        final ByteSizeValue chunkSize = request.paramAsSize("chunk_size", null);
+        final BytesReference content = request.requiredContent();
+        if (chunkSize != null) {
+            if (chunkSize.getBytes() <= 0) {
+                throw new IllegalArgumentException("[chunk_size] must be positive but was [" + chunkSize + "]");
+            }
+            final ChunkedBulk chunkedBulk = new ChunkedBulk(client, indexingPressure, itemRouters, bulkRequest, content,
+                chunkSize.getBytes(),
+                new BulkRequestParser(true).parseInChunks(content, defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext,
+                    defaultPipeline, defaultRequireAlias, allowExplicitIndex, request.getXContentType()));
+            // the first chunk is parsed right away so that a malformed start of the body is rejected before anything is indexed
+            final BulkRequest firstChunk = chunkedBulk.parseNextChunk();
+            return channel -> chunkedBulk.execute(firstChunk, new RestStatusToXContentListener<>(channel));
+        }
+        final Releasable reservation = indexingPressure == null ? () -> {} :
+            indexingPressure.markCoordinatingOperationParsing(content.length());
+        try (Releasable ignored = reservation) {
+            if (itemRouters != null) {
+                bulkRequest.itemRouter(itemRouters.get());
+            }
+            bulkRequest.add(content, defaultIndex, defaultType, defaultRouting,
+                defaultFetchSourceContext, defaultPipeline, defaultRequireAlias, allowExplicitIndex, request.getXContentType());
+        }
 
         return channel -> client.bulk(bulkRequest, new RestStatusToXContentListener<>(channel));
     }
 
+    /**
+     * Executes the items of a bulk body one chunk at a time: the next chunk is only parsed once the previous one completed, reserving
+     * its bytes against the node's indexing pressure again. This bounds the parsed items of a large body that are held on the
+     * coordinating node to about one chunk, and a node that gets overloaded while the body is executed rejects the rest of it. The
+     * responses of all chunks are combined into a single response, but chunks which completed stay applied if a later chunk fails as a
+     * whole, e.g. because it is malformed or rejected.
+     */
+    private static final class ChunkedBulk implements ActionListener<BulkResponse> {
+        private final NodeClient client;
+        @Nullable
+        private final IndexingPressure indexingPressure;
+        @Nullable
+        private final Supplier<BulkItemRouter> itemRouters;
+        private final BulkRequest template;
+        private final BytesReference content;
+        private final long chunkSize;
+        private final BulkRequestParser.Chunks chunks;
+        private final List<BulkItemResponse> items = new ArrayList<>();
+        private long tookInMillis;
+        private long ingestTookInMillis = BulkResponse.NO_INGEST_TOOK;
+        private ActionListener<BulkResponse> listener;
+
+        ChunkedBulk(NodeClient client, @Nullable IndexingPressure indexingPressure, @Nullable Supplier<BulkItemRouter> itemRouters,
+                    BulkRequest template, BytesReference content, long chunkSize, BulkRequestParser.Chunks chunks) {
+            this.client = client;
+            this.indexingPressure = indexingPressure;
+            this.itemRouters = itemRouters;
+            this.template = template;
+            this.content = content;
+            this.chunkSize = chunkSize;
+            this.chunks = chunks;
+        }
+
+        BulkRequest parseNextChunk() throws IOException {
+            final BulkRequest chunk = new BulkRequest()
+                .waitForActiveShards(template.waitForActiveShards())
+                .timeout(template.timeout())
+                .setRefreshPolicy(template.getRefreshPolicy());
+            if (itemRouters != null) {
+                // each chunk is routed against the cluster state at the time it is parsed
+                chunk.itemRouter(itemRouters.get());
+            }
+            // the last item of a chunk may end after the chunk size, so this is only an estimate
+            final long bytes = Math.min(chunkSize, content.length() - chunks.parsedBytes());
+            final Releasable reservation = indexingPressure == null ? () -> {} : indexingPressure.markCoordinatingOperationParsing(bytes);
+            try (Releasable ignored = reservation) {
+                chunks.parseNext(chunkSize, chunk::add, chunk::add, chunk::add);
+            }
+            return chunk;
+        }
+
+        void execute(BulkRequest firstChunk, ActionListener<BulkResponse> listener) {
+            this.listener = listener;
+            client.bulk(firstChunk, this);
+        }
+
+        @Override
+        public void onResponse(BulkResponse response) {
+            final int offset = items.size();
+            for (BulkItemResponse item : response) {
+                if (item.isFailed()) {
+                    items.add(new BulkItemResponse(offset + item.getItemId(), item.getOpType(), item.getFailure()));
+                } else {
+                    items.add(new BulkItemResponse(offset + item.getItemId(), item.getOpType(), item.getResponse()));
+                }
+            }
+            tookInMillis += response.getTook().millis();
+            if (response.getIngestTookInMillis() != BulkResponse.NO_INGEST_TOOK) {
+                ingestTookInMillis = Math.max(ingestTookInMillis, 0L) + response.getIngestTookInMillis();
+            }
+
+            final BulkRequest nextChunk;
+            try {
+                // only empty lines may be left if there is nothing to execute in the next chunk
+                nextChunk = chunks.hasRemaining() ? parseNextChunk() : null;
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            if (nextChunk != null && nextChunk.numberOfActions() > 0) {
+                client.bulk(nextChunk, this);
+            } else {
+                listener.onResponse(new BulkResponse(items.toArray(new BulkItemResponse[0]), tookInMillis, ingestTookInMillis));
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
     @Override
     public boolean supportsContentStream() {
         return true;
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.ClosePointInTimeAction;
+import org.opensearch.action.search.ClosePointInTimeRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.DELETE;
+
+public class RestClosePointInTimeAction extends BaseRestHandler {
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(DELETE, "/_pit"));
+    }
+
+    @Override
+    public String getName() {
+        return "close_point_in_time";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final ClosePointInTimeRequest closeRequest;
+        try (XContentParser parser = request.contentOrSourceParamParser()) {
+            closeRequest = ClosePointInTimeRequest.fromXContent(parser);
+        }
+        return channel -> client.execute(ClosePointInTimeAction.INSTANCE, closeRequest, new RestStatusToXContentListener<>(channel));
+    }
+}
@@ -120,10 +120,11 @@ public class ScriptCache {
                 }
                 // Check whether too many compilations have happened
                 checkCompilationLimit();
+                final long startTimeNanos = System.nanoTime();
                 Object compiledScript = scriptEngine.compile(id, idOrCode, context, options);
                 // Since the cache key is the script content itself we don't need to
                 // invalidate/check the cache if an indexed script changes.
-                scriptMetrics.onCompilation();
+                scriptMetrics.onCompilation(System.nanoTime() - startTimeNanos);
                 return compiledScript;
             }));
         } catch (ExecutionException executionException) {
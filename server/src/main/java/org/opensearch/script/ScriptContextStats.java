@@ -32,6 +32,9 @@
 
 package org.opensearch.script;
 
+import org.HdrHistogram.Histogram;
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -39,19 +42,38 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
 
 public class ScriptContextStats implements Writeable, ToXContentFragment, Comparable<ScriptContextStats> {
     private final String context;
     private final long compilations;
     private final long cacheEvictions;
     private final long compilationLimitTriggered;
+    @Nullable
+    private final Histogram compilationLatency;
+
+    /**
+     * The highest compilation latency, in microseconds, that is tracked exactly; slower compilations are recorded as this value.
+     */
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    static final int SIGNIFICANT_DIGITS = 1;
+
+    private static final double[] PERCENTILES = new double[] { 50.0, 90.0, 99.0 };
 
     public ScriptContextStats(String context, long compilations, long cacheEvictions, long compilationLimitTriggered) {
+        this(context, compilations, cacheEvictions, compilationLimitTriggered, null);
+    }
+
+    public ScriptContextStats(String context, long compilations, long cacheEvictions, long compilationLimitTriggered,
+                              @Nullable Histogram compilationLatency) {
         this.context = Objects.requireNonNull(context);
         this.compilations = compilations;
         this.cacheEvictions = cacheEvictions;
         this.compilationLimitTriggered = compilationLimitTriggered;
+        this.compilationLatency = compilationLatency;
     }
 
     public ScriptContextStats(StreamInput in) throws IOException {
@@ -59,6 +81,16 @@ public class ScriptContextStats implements Writeable, ToXContentFragment, Compar
         compilations = in.readVLong();
         cacheEvictions = in.readVLong();
         compilationLimitTriggered = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_7_10_3) && in.readBoolean()) {
+            try {
+                final ByteBuffer buffer = ByteBuffer.wrap(in.readByteArray());
+                compilationLatency = Histogram.decodeFromCompressedByteBuffer(buffer, HIGHEST_TRACKABLE_MICROS);
+            } catch (DataFormatException e) {
+                throw new IOException("failed to decode compilation latency histogram of context [" + context + "]", e);
+            }
+        } else {
+            compilationLatency = null;
+        }
     }
 
     @Override
@@ -67,6 +99,24 @@ public class ScriptContextStats implements Writeable, ToXContentFragment, Compar
         out.writeVLong(compilations);
         out.writeVLong(cacheEvictions);
         out.writeVLong(compilationLimitTriggered);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            if (compilationLatency == null || compilationLatency.getTotalCount() == 0) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                final ByteBuffer buffer = ByteBuffer.allocate(compilationLatency.getNeededByteBufferCapacity());
+                final int length = compilationLatency.encodeIntoCompressedByteBuffer(buffer);
+                out.writeVInt(length);
+                out.writeBytes(buffer.array(), 0, length);
+            }
+        }
+    }
+
+    /**
+     * Creates a new histogram of compilation latencies in microseconds.
+     */
+    static Histogram newCompilationLatencyHistogram() {
+        return new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
     }
 
     public String getContext() {
@@ -85,6 +135,27 @@ public class ScriptContextStats implements Writeable, ToXContentFragment, Compar
         return compilationLimitTriggered;
     }
 
+    /**
+     * Returns the number of compilations whose latency was recorded.
+     */
+    public long getCompilationLatencyCount() {
+        return compilationLatency == null ? 0 : compilationLatency.getTotalCount();
+    }
+
+    /**
+     * Returns the compilation latency in microseconds at the given percentile, or 0 if no compilation was recorded.
+     */
+    public long getCompilationLatencyPercentileMicros(double percentile) {
+        return compilationLatency == null ? 0 : compilationLatency.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Returns the maximum compilation latency in microseconds, or 0 if no compilation was recorded.
+     */
+    public long getCompilationLatencyMaxMicros() {
+        return compilationLatency == null ? 0 : compilationLatency.getMaxValue();
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -92,6 +163,15 @@ public class ScriptContextStats implements Writeable, ToXContentFragment, Compar
         builder.field(Fields.COMPILATIONS, getCompilations());
         builder.field(Fields.CACHE_EVICTIONS, getCacheEvictions());
         builder.field(Fields.COMPILATION_LIMIT_TRIGGERED, getCompilationLimitTriggered());
+        if (compilationLatency != null) {
+            builder.startObject(Fields.COMPILATION_LATENCY);
+            builder.field(Fields.COUNT, getCompilationLatencyCount());
+            for (double percentile : PERCENTILES) {
+                builder.field("p" + (long) percentile + "_in_micros", getCompilationLatencyPercentileMicros(percentile));
+            }
+            builder.field(Fields.MAX_IN_MICROS, getCompilationLatencyMaxMicros());
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -106,5 +186,8 @@ public class ScriptContextStats implements Writeable, ToXContentFragment, Compar
         static final String COMPILATIONS = "compilations";
         static final String CACHE_EVICTIONS = "cache_evictions";
         static final String COMPILATION_LIMIT_TRIGGERED = "compilation_limit_triggered";
+        static final String COMPILATION_LATENCY = "compilation_latency";
+        static final String COUNT = "count";
+        static final String MAX_IN_MICROS = "max_in_micros";
     }
 }
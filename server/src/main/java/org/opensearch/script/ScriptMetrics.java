@@ -32,15 +32,23 @@
 
 package org.opensearch.script;
 
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
 import org.opensearch.common.metrics.CounterMetric;
 
+import java.util.concurrent.TimeUnit;
+
 public class ScriptMetrics {
     final CounterMetric compilationsMetric = new CounterMetric();
     final CounterMetric cacheEvictionsMetric = new CounterMetric();
     final CounterMetric compilationLimitTriggered = new CounterMetric();
+    final ConcurrentHistogram compilationLatency = new ConcurrentHistogram(1, ScriptContextStats.HIGHEST_TRACKABLE_MICROS,
+        ScriptContextStats.SIGNIFICANT_DIGITS);
 
-    public void onCompilation() {
+    public void onCompilation(long tookInNanos) {
         compilationsMetric.inc();
+        final long tookInMicros = TimeUnit.NANOSECONDS.toMicros(tookInNanos);
+        compilationLatency.recordValue(Math.max(1, Math.min(ScriptContextStats.HIGHEST_TRACKABLE_MICROS, tookInMicros)));
     }
 
     public void onCacheEviction() {
@@ -60,7 +68,14 @@ public class ScriptMetrics {
             context,
             compilationsMetric.count(),
             cacheEvictionsMetric.count(),
-            compilationLimitTriggered.count()
+            compilationLimitTriggered.count(),
+            compilationLatency()
         );
     }
+
+    private Histogram compilationLatency() {
+        final Histogram copy = ScriptContextStats.newCompilationLatencyHistogram();
+        copy.add(compilationLatency);
+        return copy;
+    }
 }
@@ -90,6 +90,7 @@ import org.opensearch.search.suggest.SuggestionSearchContext;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -106,6 +107,7 @@ final class DefaultSearchContext extends SearchContext {
     private final LongSupplier relativeTimeSupplier;
     private SearchType searchType;
     private final BigArrays bigArrays;
+    private final Path spillDirectory;
     private final IndexShard indexShard;
     private final ClusterService clusterService;
     private final IndexService indexService;
@@ -172,6 +174,7 @@ final class DefaultSearchContext extends SearchContext {
                          SearchShardTarget shardTarget,
                          ClusterService clusterService,
                          BigArrays bigArrays,
+                         Path spillDirectory,
                          LongSupplier relativeTimeSupplier,
                          TimeValue timeout,
                          FetchPhase fetchPhase,
@@ -184,6 +187,7 @@ final class DefaultSearchContext extends SearchContext {
         this.shardTarget = shardTarget;
         // SearchContexts use a BigArrays that can circuit break
         this.bigArrays = bigArrays.withCircuitBreaking();
+        this.spillDirectory = spillDirectory;
         this.dfsResult = new DfsSearchResult(readerContext.id(), shardTarget, request);
         this.queryResult = new QuerySearchResult(readerContext.id(), shardTarget, request);
         this.fetchResult = new FetchSearchResult(readerContext.id(), shardTarget);
@@ -516,6 +520,11 @@ final class DefaultSearchContext extends SearchContext {
         return bigArrays;
     }
 
+    @Override
+    public Path spillDirectory() {
+        return spillDirectory;
+    }
+
     @Override
     public BitsetFilterCache bitsetFilterCache() {
         return indexService.cache().bitsetFilterCache();
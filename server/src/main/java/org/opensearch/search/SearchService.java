@@ -65,6 +65,7 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
+import org.opensearch.common.util.concurrent.GroupedRunnable;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -135,6 +136,7 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportRequest;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -196,6 +198,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final BigArrays bigArrays;
 
+    private final Path spillDirectory;
+
     private final DfsPhase dfsPhase = new DfsPhase();
 
     private final QueryPhase queryPhase;
@@ -226,8 +230,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     private final String sessionId = UUIDs.randomBase64UUID();
 
     public SearchService(ClusterService clusterService, IndicesService indicesService,
-                         ThreadPool threadPool, ScriptService scriptService, BigArrays bigArrays, FetchPhase fetchPhase,
-                         ResponseCollectorService responseCollectorService, CircuitBreakerService circuitBreakerService) {
+                         ThreadPool threadPool, ScriptService scriptService, BigArrays bigArrays, Path spillDirectory,
+                         FetchPhase fetchPhase, ResponseCollectorService responseCollectorService,
+                         CircuitBreakerService circuitBreakerService) {
         Settings settings = clusterService.getSettings();
         this.threadPool = threadPool;
         this.clusterService = clusterService;
@@ -235,6 +240,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.scriptService = scriptService;
         this.responseCollectorService = responseCollectorService;
         this.bigArrays = bigArrays;
+        this.spillDirectory = spillDirectory;
         this.queryPhase = new QueryPhase();
         this.fetchPhase = fetchPhase;
         this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings,
@@ -348,7 +354,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             @Override
             public void onResponse(ShardSearchRequest rewritten) {
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeDfsPhase(request, task, keepStatesInContext), listener);
+                runAsync(shard, () -> executeDfsPhase(request, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -364,7 +370,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         ReaderContext readerContext = createOrGetReaderContext(request, keepStatesInContext);
         try (Releasable ignored = readerContext.markAsUsed(getKeepAlive(request));
                 SearchContext context = createContext(readerContext, request, task, true)) {
+            final long startTime = System.nanoTime();
             dfsPhase.execute(context);
+            readerContext.indexShard().getSearchOperationListener().onDfsPhase(context, System.nanoTime() - startTime);
             return context.dfsResult();
         } catch (Exception e) {
             logger.trace("Dfs phase failed", e);
@@ -411,7 +419,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     }
                 }
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
+                runAsync(shard, () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -429,8 +437,37 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
-    private <T> void runAsync(Executor executor, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
-        executor.execute(ActionRunnable.supply(listener, executable::get));
+    private <T> void runAsync(IndexShard shard, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
+        getExecutor(shard).execute(new ShardSearchRunnable<>(shard, executable, listener));
+    }
+
+    /**
+     * Runs a shard-level search phase on a search thread pool. The task belongs to the scheduling group of the index it targets
+     * so that the thread pool can share its threads fairly between indices, and reports the time it spent queued to the
+     * search operation listeners of the shard.
+     */
+    private static final class ShardSearchRunnable<T> extends ActionRunnable<T> implements GroupedRunnable {
+        private final IndexShard shard;
+        private final CheckedSupplier<T, Exception> executable;
+        private final long creationTimeNanos;
+
+        ShardSearchRunnable(IndexShard shard, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
+            super(listener);
+            this.shard = shard;
+            this.executable = executable;
+            this.creationTimeNanos = System.nanoTime();
+        }
+
+        @Override
+        public String schedulingGroup() {
+            return shard.shardId().getIndexName();
+        }
+
+        @Override
+        protected void doRun() throws Exception {
+            shard.getSearchOperationListener().onSearchTaskDequeued(System.nanoTime() - creationTimeNanos);
+            listener.onResponse(executable.get());
+        }
     }
 
     private SearchPhaseResult executeQueryPhase(ShardSearchRequest request,
@@ -493,7 +530,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(readerContext.indexShard(), () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -515,7 +552,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request.shardSearchRequest());
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.shardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(readerContext.indexShard(), () -> {
             readerContext.setAggregatedDfs(request.dfs());
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, true);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -565,7 +602,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(readerContext.indexShard(), () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -589,7 +626,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request);
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.getShardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(readerContext.indexShard(), () -> {
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false)) {
                 if (request.lastEmittedDoc() != null) {
                     searchContext.scrollContext().lastEmittedDoc = request.lastEmittedDoc();
@@ -776,7 +813,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         try {
             SearchShardTarget shardTarget = new SearchShardTarget(clusterService.localNode().getId(),
                 reader.indexShard().shardId(), request.getClusterAlias(), OriginalIndices.NONE);
-            searchContext = new DefaultSearchContext(reader, request, shardTarget, clusterService, bigArrays,
+            searchContext = new DefaultSearchContext(reader, request, shardTarget, clusterService, bigArrays, spillDirectory,
                 threadPool::relativeTimeInMillis, timeout, fetchPhase, lowLevelCancellation,
                 clusterService.state().nodes().getMinNodeVersion());
             // we clone the query shard context here just for rewriting otherwise we
@@ -1164,19 +1201,22 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private CanMatchResponse canMatch(ShardSearchRequest request, boolean checkRefreshPending) throws IOException {
         assert request.searchType() == SearchType.QUERY_THEN_FETCH : "unexpected search type: " + request.searchType();
+        final long startTime = System.nanoTime();
         final ReaderContext readerContext = request.readerId() != null ? findReaderContext(request.readerId(), request) : null;
         final Releasable markAsUsed = readerContext != null ? readerContext.markAsUsed(getKeepAlive(request)) : () -> {};
         try (Releasable ignored = markAsUsed) {
             final IndexService indexService;
+            final IndexShard indexShard;
             final Engine.Searcher canMatchSearcher;
             final boolean hasRefreshPending;
             if (readerContext != null) {
                 indexService = readerContext.indexService();
+                indexShard = readerContext.indexShard();
                 canMatchSearcher = readerContext.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
                 hasRefreshPending = false;
             } else {
                 indexService = indicesService.indexServiceSafe(request.shardId().getIndex());
-                IndexShard indexShard = indexService.getShard(request.shardId().getId());
+                indexShard = indexService.getShard(request.shardId().getId());
                 hasRefreshPending = indexShard.hasRefreshPending() && checkRefreshPending;
                 canMatchSearcher = indexShard.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
             }
@@ -1197,6 +1237,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     // null query means match_all
                     canMatch = aliasFilterCanMatch;
                 }
+                indexShard.getSearchOperationListener().onCanMatchPhase(System.nanoTime() - startTime);
                 return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
             }
         }
@@ -31,6 +31,10 @@
 
 package org.opensearch.search.aggregations.bucket;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.IntArray;
@@ -424,4 +428,21 @@ public abstract class BucketsAggregator extends AggregatorBase {
         return false;
     }
 
+    /**
+     * Returns the leading sort of the segment if it sorts on the given field first, <code>null</code> otherwise. If the field is
+     * single-valued in the segment, the documents that share a value are adjacent and values are visited in sort order.
+     */
+    @Nullable
+    protected static SortField leadingIndexSort(LeafReaderContext ctx, @Nullable String field) {
+        if (field == null) {
+            return null;
+        }
+        final Sort indexSort = ctx.reader().getMetaData().getSort();
+        if (indexSort == null) {
+            return null;
+        }
+        final SortField sortField = indexSort.getSort()[0];
+        return field.equals(sortField.getField()) ? sortField : null;
+    }
+
 }
@@ -31,7 +31,9 @@
 
 package org.opensearch.search.aggregations.bucket.histogram;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
@@ -66,6 +68,10 @@ import java.util.function.BiConsumer;
 class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator {
 
     private final ValuesSource.Numeric valuesSource;
+    /**
+     * The field the values are read from as they are, <code>null</code> if there is a script or a missing value.
+     */
+    private final String fieldName;
     private final DocValueFormat formatter;
     private final Rounding rounding;
     /**
@@ -81,6 +87,13 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    private int indexSortedSegments;
+    /**
+     * The number of times the bucket of a document of a sorted segment had to be looked up because it
+     * didn't fall into the bucket of the previous document.
+     */
+    private long indexSortedRuns;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -109,6 +122,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.hardBounds = hardBounds;
         // TODO: Stop using null here
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
+        this.fieldName = valuesSourceConfig.getUnmodifiedFieldNameOrNull();
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
@@ -128,6 +142,11 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
+        NumericDocValues singleton = DocValues.unwrapSingleton(values);
+        if (singleton != null && leadingIndexSort(ctx, fieldName) != null) {
+            indexSortedSegments++;
+            return getIndexSortedLeafCollector(values, singleton, sub);
+        }
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
@@ -158,6 +177,53 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    /**
+     * Collects a segment that is sorted on the single-valued field. Its documents come in runs that fall into the same bucket, so the
+     * bucket of the previous document is reused as long as the value is within its range, saving the rounding and the lookup of
+     * the bucket.
+     */
+    private LeafBucketCollector getIndexSortedLeafCollector(SortedNumericDocValues values, NumericDocValues singleton,
+                                                            LeafBucketCollector sub) {
+        return new LeafBucketCollectorBase(sub, values) {
+            private long runOwningBucketOrd = -1;
+            private long runStart;
+            private long runEnd;
+            // -1 if the values of the run are outside of the hard bounds
+            private long runBucketOrd;
+
+            @Override
+            public void collect(int doc, long owningBucketOrd) throws IOException {
+                if (singleton.advanceExact(doc) == false) {
+                    return;
+                }
+                long value = singleton.longValue();
+                if (owningBucketOrd == runOwningBucketOrd && value >= runStart && value < runEnd) {
+                    if (runBucketOrd >= 0) {
+                        collectExistingBucket(sub, doc, runBucketOrd);
+                    }
+                    return;
+                }
+                indexSortedRuns++;
+                long rounded = preparedRounding.round(value);
+                runOwningBucketOrd = owningBucketOrd;
+                runStart = rounded;
+                runEnd = preparedRounding.nextRoundingValue(rounded);
+                if (hardBounds == null || hardBounds.contain(rounded)) {
+                    long bucketOrd = bucketOrds.add(owningBucketOrd, rounded);
+                    if (bucketOrd < 0) { // already seen
+                        bucketOrd = -1 - bucketOrd;
+                        collectExistingBucket(sub, doc, bucketOrd);
+                    } else {
+                        collectBucket(sub, doc, bucketOrd);
+                    }
+                    runBucketOrd = bucketOrd;
+                } else {
+                    runBucketOrd = -1;
+                }
+            }
+        };
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds,
@@ -194,6 +260,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        if (indexSortedSegments > 0) {
+            add.accept("index_sorted_segments", indexSortedSegments);
+            add.accept("index_sorted_runs", indexSortedRuns);
+        }
     }
 
     /**
@@ -0,0 +1,450 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.store.InputStreamDataInput;
+import org.apache.lucene.store.OutputStreamDataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.IntroSorter;
+import org.apache.lucene.util.NumericUtils;
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ByteArray;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.search.aggregations.AggregationExecutionException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Spills the keys and doc counts of the buckets of a terms aggregation to sorted runs in temporary files so that the
+ * aggregation can drop them from memory, and merges the runs back into a single stream of buckets in the order of their
+ * keys, summing up the doc counts of the same key, when the results are built.
+ * <p>
+ * Only the buckets of the owning bucket ordinal <code>0</code> are spilled, so this only supports aggregators that
+ * collect from a single bucket. The runs are merged at most {@link #DEFAULT_MAX_MERGE_FAN_IN} at a time so that the
+ * number of open files stays bounded, and nothing is written unless the spill directory of the search context, the
+ * node's temporary directory, has enough usable space left for it.
+ */
+final class BucketSpill implements Releasable {
+
+    /**
+     * The maximum number of runs that are merged at once. If more runs were spilled, they are merged into larger
+     * runs first.
+     */
+    static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+
+    /**
+     * The bytes that are written per bucket on top of its key: at most 5 for the length of the key and 9 for the doc count.
+     */
+    private static final int BUCKET_OVERHEAD_BYTES = 5 + 9;
+
+    private final BigArrays bigArrays;
+    private final Path directory;
+    private final int maxMergeFanIn;
+    private final List<Run> runs = new ArrayList<>();
+
+    BucketSpill(BigArrays bigArrays, Path directory) {
+        this(bigArrays, directory, DEFAULT_MAX_MERGE_FAN_IN);
+    }
+
+    BucketSpill(BigArrays bigArrays, Path directory, int maxMergeFanIn) {
+        if (maxMergeFanIn < 2) {
+            throw new IllegalArgumentException("[maxMergeFanIn] must be at least 2 but was [" + maxMergeFanIn + "]");
+        }
+        this.bigArrays = bigArrays;
+        this.directory = directory;
+        this.maxMergeFanIn = maxMergeFanIn;
+    }
+
+    /**
+     * The number of runs on disk.
+     */
+    int runs() {
+        return runs.size();
+    }
+
+    /**
+     * The total number of buckets in the runs, an upper bound for the number of buckets that {@link #merge()} returns.
+     */
+    long spilledBuckets() {
+        long buckets = 0;
+        for (Run run : runs) {
+            buckets += run.buckets;
+        }
+        return buckets;
+    }
+
+    /**
+     * The total size of the runs on disk.
+     */
+    long spilledBytes() {
+        long bytes = 0;
+        for (Run run : runs) {
+            bytes += run.bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the buckets of the given ords to a new run. The caller is expected to reset the ords and doc counts afterwards.
+     */
+    void spill(BytesKeyedBucketOrds ords, LongUnaryOperator docCounts) throws IOException {
+        final long size = ords.bucketsInOrd(0);
+        ByteArray keys = null;
+        LongArray offsets = null;
+        LongArray counts = null;
+        IntArray order = null;
+        try {
+            keys = bigArrays.newByteArray(size * 8, false);
+            offsets = bigArrays.newLongArray(size + 1, false);
+            counts = bigArrays.newLongArray(size, false);
+            order = bigArrays.newIntArray(size, false);
+            final BytesRef spare = new BytesRef();
+            final BytesKeyedBucketOrds.BucketOrdsEnum ordsEnum = ords.ordsEnum(0);
+            long offset = 0;
+            offsets.set(0, 0);
+            for (int i = 0; ordsEnum.next(); i++) {
+                ordsEnum.readValue(spare);
+                keys = bigArrays.grow(keys, offset + spare.length);
+                keys.set(offset, spare.bytes, spare.offset, spare.length);
+                offset += spare.length;
+                offsets.set(i + 1, offset);
+                counts.set(i, docCounts.applyAsLong(ordsEnum.ord()));
+                order.set(i, i);
+            }
+            ensureUsableSpace(offset + size * BUCKET_OVERHEAD_BYTES);
+
+            final ByteArray sortKeys = keys;
+            final LongArray sortOffsets = offsets;
+            final IntArray sortOrder = order;
+            new IntroSorter() {
+                final BytesRef scratch1 = new BytesRef();
+                final BytesRef scratch2 = new BytesRef();
+                final BytesRefBuilder pivot = new BytesRefBuilder();
+
+                @Override
+                protected void swap(int i, int j) {
+                    sortOrder.set(i, sortOrder.set(j, sortOrder.get(i)));
+                }
+
+                @Override
+                protected int compare(int i, int j) {
+                    return readKey(sortKeys, sortOffsets, sortOrder.get(i), scratch1)
+                        .compareTo(readKey(sortKeys, sortOffsets, sortOrder.get(j), scratch2));
+                }
+
+                @Override
+                protected void setPivot(int i) {
+                    pivot.copyBytes(readKey(sortKeys, sortOffsets, sortOrder.get(i), scratch1));
+                }
+
+                @Override
+                protected int comparePivot(int j) {
+                    return pivot.get().compareTo(readKey(sortKeys, sortOffsets, sortOrder.get(j), scratch2));
+                }
+            }.sort(0, Math.toIntExact(size));
+
+            final BytesRef scratch = new BytesRef();
+            try (RunWriter writer = newRun()) {
+                for (long i = 0; i < size; i++) {
+                    final int ord = order.get(i);
+                    writer.add(readKey(keys, offsets, ord, scratch), counts.get(ord));
+                }
+            }
+        } finally {
+            Releasables.close(keys, offsets, counts, order);
+        }
+    }
+
+    private static BytesRef readKey(ByteArray keys, LongArray offsets, long index, BytesRef dest) {
+        final long offset = offsets.get(index);
+        keys.get(offset, Math.toIntExact(offsets.get(index + 1) - offset), dest);
+        return dest;
+    }
+
+    /**
+     * Writes the buckets of the given ords to a new run. The keys are written with
+     * {@link NumericUtils#longToSortableBytes} so that their bytes sort like the longs do.
+     * The caller is expected to reset the ords and doc counts afterwards.
+     */
+    void spill(LongKeyedBucketOrds ords, LongUnaryOperator docCounts) throws IOException {
+        final long size = ords.bucketsInOrd(0);
+        ensureUsableSpace(size * (Long.BYTES + BUCKET_OVERHEAD_BYTES));
+        LongArray values = null;
+        LongArray counts = null;
+        try {
+            values = bigArrays.newLongArray(size, false);
+            counts = bigArrays.newLongArray(size, false);
+            final LongKeyedBucketOrds.BucketOrdsEnum ordsEnum = ords.ordsEnum(0);
+            for (int i = 0; ordsEnum.next(); i++) {
+                values.set(i, ordsEnum.value());
+                counts.set(i, docCounts.applyAsLong(ordsEnum.ord()));
+            }
+            final LongArray sortValues = values;
+            final LongArray sortCounts = counts;
+            new IntroSorter() {
+                long pivot;
+
+                @Override
+                protected void swap(int i, int j) {
+                    sortValues.set(i, sortValues.set(j, sortValues.get(i)));
+                    sortCounts.set(i, sortCounts.set(j, sortCounts.get(i)));
+                }
+
+                @Override
+                protected int compare(int i, int j) {
+                    return Long.compare(sortValues.get(i), sortValues.get(j));
+                }
+
+                @Override
+                protected void setPivot(int i) {
+                    pivot = sortValues.get(i);
+                }
+
+                @Override
+                protected int comparePivot(int j) {
+                    return Long.compare(pivot, sortValues.get(j));
+                }
+            }.sort(0, Math.toIntExact(size));
+
+            final BytesRef key = new BytesRef(new byte[Long.BYTES]);
+            try (RunWriter writer = newRun()) {
+                for (long i = 0; i < size; i++) {
+                    NumericUtils.longToSortableBytes(values.get(i), key.bytes, 0);
+                    writer.add(key, counts.get(i));
+                }
+            }
+        } finally {
+            Releasables.close(values, counts);
+        }
+    }
+
+    /**
+     * Decodes a key that was spilled by {@link #spill(LongKeyedBucketOrds, LongUnaryOperator)}.
+     */
+    static long decodeLong(BytesRef key) {
+        return NumericUtils.sortableBytesToLong(key.bytes, key.offset);
+    }
+
+    /**
+     * Fails the aggregation rather than filling up the disk if the spill directory doesn't have
+     * <code>bytes</code> of usable space left.
+     */
+    private void ensureUsableSpace(long bytes) throws IOException {
+        final long usable = Files.getFileStore(directory).getUsableSpace();
+        if (usable < bytes) {
+            throw new AggregationExecutionException("not enough usable space in [" + directory + "] to spill ["
+                + new ByteSizeValue(bytes) + "] of terms buckets, only [" + new ByteSizeValue(usable) + "] left with ["
+                + new ByteSizeValue(spilledBytes()) + "] already spilled");
+        }
+    }
+
+    private RunWriter newRun() throws IOException {
+        final Run run = new Run(Files.createTempFile(directory, "terms-", ".spill"));
+        runs.add(run);
+        return new RunWriter(run, Files.newOutputStream(run.path));
+    }
+
+    /**
+     * Merges all runs into a single stream of buckets in increasing order of their keys. If there are more runs than
+     * can be merged at once, the oldest runs are merged into a new run until the remaining runs can be.
+     */
+    MergedBuckets merge() throws IOException {
+        while (runs.size() > maxMergeFanIn) {
+            final List<Run> inputs = new ArrayList<>(runs.subList(0, maxMergeFanIn));
+            long bytes = 0;
+            for (Run input : inputs) {
+                bytes += input.bytes;
+            }
+            ensureUsableSpace(bytes);
+            try (MergedBuckets merged = open(inputs); RunWriter writer = newRun()) {
+                while (merged.next()) {
+                    writer.add(merged.key(), merged.docCount());
+                }
+            }
+            runs.removeAll(inputs);
+            IOUtils.deleteFilesIgnoringExceptions(inputs.stream().map(run -> run.path).toArray(Path[]::new));
+        }
+        return open(runs);
+    }
+
+    private static MergedBuckets open(List<Run> runs) throws IOException {
+        final MergedBuckets merged = new MergedBuckets(runs.size());
+        boolean success = false;
+        try {
+            for (Run run : runs) {
+                final RunReader reader = new RunReader(Files.newInputStream(run.path));
+                if (reader.next()) {
+                    merged.queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+            success = true;
+            return merged;
+        } finally {
+            if (success == false) {
+                merged.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        IOUtils.deleteFilesIgnoringExceptions(runs.stream().map(run -> run.path).toArray(Path[]::new));
+        runs.clear();
+    }
+
+    /**
+     * A sorted run on disk. Its bucket count and size are filled in while it is written.
+     */
+    private static final class Run {
+        private final Path path;
+        private long buckets;
+        private long bytes;
+
+        Run(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Writes the buckets of a run as the length of their key plus one, the key and the doc count, followed by a
+     * <code>0</code> length to mark the end of the run. That way a run can be written without knowing its number of
+     * buckets upfront, which is the case for the runs that are merged from other runs.
+     */
+    private static final class RunWriter implements Closeable {
+        private final Run run;
+        private final OutputStreamDataOutput out;
+
+        RunWriter(Run run, OutputStream stream) {
+            this.run = run;
+            this.out = new OutputStreamDataOutput(new BufferedOutputStream(stream));
+        }
+
+        void add(BytesRef key, long docCount) throws IOException {
+            out.writeVInt(key.length + 1);
+            out.writeBytes(key.bytes, key.offset, key.length);
+            out.writeVLong(docCount);
+            run.buckets++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                out.writeVInt(0);
+            } finally {
+                out.close();
+            }
+            run.bytes = Files.size(run.path);
+        }
+    }
+
+    private static final class RunReader implements Closeable {
+        private final InputStreamDataInput in;
+        private final BytesRefBuilder key = new BytesRefBuilder();
+        private long docCount;
+
+        RunReader(InputStream stream) {
+            this.in = new InputStreamDataInput(new BufferedInputStream(stream));
+        }
+
+        boolean next() throws IOException {
+            final int length = in.readVInt() - 1;
+            if (length < 0) {
+                return false;
+            }
+            key.grow(length);
+            in.readBytes(key.bytes(), 0, length);
+            key.setLength(length);
+            docCount = in.readVLong();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * The buckets of all runs in increasing order of their keys, with the doc counts of equal keys summed up.
+     */
+    static final class MergedBuckets implements Closeable {
+        private final PriorityQueue<RunReader> queue;
+        private final BytesRefBuilder key = new BytesRefBuilder();
+        private long docCount;
+
+        private MergedBuckets(int runs) {
+            this.queue = new PriorityQueue<RunReader>(Math.max(1, runs)) {
+                @Override
+                protected boolean lessThan(RunReader a, RunReader b) {
+                    return a.key.get().compareTo(b.key.get()) < 0;
+                }
+            };
+        }
+
+        /**
+         * Moves to the next key, returns <code>false</code> once all runs are exhausted.
+         */
+        boolean next() throws IOException {
+            if (queue.size() == 0) {
+                return false;
+            }
+            key.copyBytes(queue.top().key.get());
+            docCount = 0;
+            while (queue.size() > 0 && queue.top().key.get().equals(key.get())) {
+                final RunReader top = queue.top();
+                docCount += top.docCount;
+                if (top.next()) {
+                    queue.updateTop();
+                } else {
+                    queue.pop().close();
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The current key, only valid until the next call to {@link #next()}.
+         */
+        BytesRef key() {
+            return key.get();
+        }
+
+        long docCount() {
+            return docCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            final List<RunReader> readers = new ArrayList<>(queue.size());
+            while (queue.size() > 0) {
+                readers.add(queue.pop());
+            }
+            IOUtils.close(readers);
+        }
+    }
+}
@@ -72,8 +72,10 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
     private final CollectorSource collectorSource;
     private final ResultStrategy<?, ?> resultStrategy;
-    private final BytesKeyedBucketOrds bucketOrds;
     private final IncludeExclude.StringFilter includeExclude;
+    private final int spillThreshold;
+    private BytesKeyedBucketOrds bucketOrds;
+    private BucketSpill spill;
 
     public MapStringTermsAggregator(
         String name,
@@ -88,6 +90,7 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         Aggregator parent,
         SubAggCollectionMode collectionMode,
         boolean showTermDocCountError,
+        int spillThreshold,
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
     ) throws IOException {
@@ -95,6 +98,9 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         this.collectorSource = collectorSource;
         this.resultStrategy = resultStrategy.apply(this); // ResultStrategy needs a reference to the Aggregator to do its job.
         this.includeExclude = includeExclude;
+        assert spillThreshold == 0 || (cardinality == CardinalityUpperBound.ONE && factories.countAggregators() == 0)
+            : "spilling only supports aggregators without sub-aggregations that collect from a single bucket";
+        this.spillThreshold = spillThreshold;
         bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
     }
 
@@ -121,12 +127,29 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
                         collectExistingBucket(s, doc, bucketOrdinal);
                     } else {
                         collectBucket(s, doc, bucketOrdinal);
+                        if (spillThreshold > 0 && bucketOrds.size() >= spillThreshold) {
+                            spillBuckets();
+                        }
                     }
                 }
             )
         );
     }
 
+    /**
+     * Writes the buckets that are held in memory to a new run on disk and
+     * starts over with empty buckets.
+     */
+    private void spillBuckets() throws IOException {
+        if (spill == null) {
+            spill = new BucketSpill(context.bigArrays(), context.spillDirectory());
+        }
+        spill.spill(bucketOrds, this::bucketDocCount);
+        bucketOrds.close();
+        bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), CardinalityUpperBound.ONE);
+        mergeBuckets(1, bucketOrd -> -1);
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -142,11 +165,15 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         super.collectDebugInfo(add);
         add.accept("total_buckets", bucketOrds.size());
         add.accept("result_strategy", resultStrategy.describe());
+        if (spill != null) {
+            add.accept("spilled_runs", spill.runs());
+            add.accept("spilled_bytes", spill.spilledBytes());
+        }
     }
 
     @Override
     public void doClose() {
-        Releasables.close(collectorSource, resultStrategy, bucketOrds);
+        Releasables.close(collectorSource, resultStrategy, bucketOrds, spill);
     }
 
     /**
@@ -232,6 +259,9 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
             Releasable {
 
         private InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
+            if (spill != null) {
+                return buildSpilledAggregations(owningBucketOrds);
+            }
             B[][] topBucketsPerOrd = buildTopBucketsPerOrd(owningBucketOrds.length);
             long[] otherDocCounts = new long[owningBucketOrds.length];
             for (int ordIdx = 0; ordIdx < owningBucketOrds.length; ordIdx++) {
@@ -271,6 +301,46 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
             return result;
         }
 
+        /**
+         * Build the results from the merged runs of spilled buckets rather
+         * than from the buckets in memory.
+         */
+        private InternalAggregation[] buildSpilledAggregations(long[] owningBucketOrds) throws IOException {
+            assert owningBucketOrds.length == 1 && owningBucketOrds[0] == 0;
+            collectZeroDocEntriesIfNeeded(0);
+            spillBuckets();
+            int size = (int) Math.min(spill.spilledBuckets(), bucketCountThresholds.getShardSize());
+
+            PriorityQueue<B> ordered = buildPriorityQueue(size);
+            long otherDocCount = 0;
+            B spare = null;
+            Supplier<B> emptyBucketBuilder = emptyBucketBuilder(0);
+            try (BucketSpill.MergedBuckets merged = spill.merge()) {
+                while (merged.next()) {
+                    long docCount = merged.docCount();
+                    otherDocCount += docCount;
+                    if (docCount < bucketCountThresholds.getShardMinDocCount()) {
+                        continue;
+                    }
+                    if (spare == null) {
+                        spare = emptyBucketBuilder.get();
+                    }
+                    updateSpilledBucket(spare, merged.key(), docCount);
+                    spare = ordered.insertWithOverflow(spare);
+                }
+            }
+
+            B[][] topBucketsPerOrd = buildTopBucketsPerOrd(1);
+            topBucketsPerOrd[0] = buildBuckets(ordered.size());
+            for (int i = ordered.size() - 1; i >= 0; --i) {
+                topBucketsPerOrd[0][i] = ordered.pop();
+                otherDocCount -= topBucketsPerOrd[0][i].getDocCount();
+                finalizeBucket(topBucketsPerOrd[0][i]);
+            }
+            buildSubAggs(topBucketsPerOrd);
+            return new InternalAggregation[] { buildResult(0, otherDocCount, topBucketsPerOrd[0]) };
+        }
+
         /**
          * Short description of the collection mechanism added to the profile
          * output to help with debugging.
@@ -306,6 +376,17 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
          */
         abstract void updateBucket(B spare, BytesKeyedBucketOrds.BucketOrdsEnum ordsEnum, long docCount) throws IOException;
 
+        /**
+         * Update fields in {@code spare} to reflect a bucket that was merged
+         * from the spilled runs. The {@code key} is only valid until the next
+         * bucket is merged.
+         * Only strategies whose aggregations accept a
+         * {@link TermsAggregationBuilder#spillThreshold(int)} override this.
+         */
+        void updateSpilledBucket(B spare, BytesRef key, long docCount) {
+            throw new UnsupportedOperationException(describe() + " doesn't spill buckets");
+        }
+
         /**
          * Build an array to hold the "top" buckets for each ordinal.
          */
@@ -404,6 +485,13 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
             spare.bucketOrd = ordsEnum.ord();
         }
 
+        @Override
+        void updateSpilledBucket(StringTerms.Bucket spare, BytesRef key, long docCount) {
+            spare.termBytes = BytesRef.deepCopyOf(key);
+            spare.docCount = docCount;
+            spare.bucketOrd = 0;
+        }
+
         @Override
         StringTerms.Bucket[][] buildTopBucketsPerOrd(int size) {
             return new StringTerms.Bucket[size][];
@@ -31,12 +31,16 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.List;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -73,14 +77,26 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 public class NumericTermsAggregator extends TermsAggregator {
     private final ResultStrategy<?, ?> resultStrategy;
     private final ValuesSource.Numeric valuesSource;
-    private final LongKeyedBucketOrds bucketOrds;
+    /**
+     * The field the values are read from as they are, <code>null</code> if there is a script or a missing value.
+     */
+    private final String fieldName;
     private final LongFilter longFilter;
+    private final int spillThreshold;
+    private LongKeyedBucketOrds bucketOrds;
+    private BucketSpill spill;
+    /**
+     * Documents of segments sorted on the field that were only counted because they come after the keys of the top buckets.
+     */
+    private long sortedOtherDocCount;
+    private int indexSortedSegments;
 
     public NumericTermsAggregator(
         String name,
         AggregatorFactories factories,
         Function<NumericTermsAggregator, ResultStrategy<?, ?>> resultStrategy,
         ValuesSource.Numeric valuesSource,
+        @Nullable String fieldName,
         DocValueFormat format,
         BucketOrder order,
         BucketCountThresholds bucketCountThresholds,
@@ -88,6 +104,7 @@ public class NumericTermsAggregator extends TermsAggregator {
         Aggregator parent,
         SubAggCollectionMode subAggCollectMode,
         IncludeExclude.LongFilter longFilter,
+        int spillThreshold,
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
     )
@@ -95,7 +112,11 @@ public class NumericTermsAggregator extends TermsAggregator {
         super(name, factories, aggregationContext, parent, bucketCountThresholds, order, format, subAggCollectMode, metadata);
         this.resultStrategy = resultStrategy.apply(this); // ResultStrategy needs a reference to the Aggregator to do its job.
         this.valuesSource = valuesSource;
+        this.fieldName = fieldName;
         this.longFilter = longFilter;
+        assert spillThreshold == 0 || (cardinality == CardinalityUpperBound.ONE && factories.countAggregators() == 0)
+            : "spilling only supports aggregators without sub-aggregations that collect from a single bucket";
+        this.spillThreshold = spillThreshold;
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
     }
 
@@ -110,6 +131,13 @@ public class NumericTermsAggregator extends TermsAggregator {
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         SortedNumericDocValues values = resultStrategy.getValues(ctx);
+        NumericDocValues singleton = DocValues.unwrapSingleton(values);
+        SortField indexSort = leadingIndexSort(ctx, fieldName);
+        // spilling resets the buckets, which would invalidate the bucket of the current run
+        if (singleton != null && indexSort != null && spillThreshold == 0) {
+            indexSortedSegments++;
+            return resultStrategy.wrapCollector(getIndexSortedLeafCollector(values, singleton, sub, indexSort));
+        }
         return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
@@ -127,6 +155,9 @@ public class NumericTermsAggregator extends TermsAggregator {
                                     collectExistingBucket(sub, doc, bucketOrdinal);
                                 } else {
                                     collectBucket(sub, doc, bucketOrdinal);
+                                    if (spillThreshold > 0 && bucketOrds.size() >= spillThreshold) {
+                                        spillBuckets();
+                                    }
                                 }
                             }
 
@@ -138,6 +169,86 @@ public class NumericTermsAggregator extends TermsAggregator {
         });
     }
 
+    /**
+     * Writes the buckets that are held in memory to a new run on disk and
+     * starts over with empty buckets.
+     */
+    private void spillBuckets() throws IOException {
+        if (spill == null) {
+            spill = new BucketSpill(context.bigArrays(), context.spillDirectory());
+        }
+        spill.spill(bucketOrds, this::bucketDocCount);
+        bucketOrds.close();
+        bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), CardinalityUpperBound.ONE);
+        mergeBuckets(1, bucketOrd -> -1);
+    }
+
+    /**
+     * Collects a segment that is sorted on the single-valued field. Its documents come in runs of equal values, so the bucket of the
+     * previous document is reused as long as the value doesn't change. If the buckets are ordered by key in the direction of the sort,
+     * the keys of the top buckets are the first ones of the segment: once as many keys as the shard returns have been collected,
+     * the remaining documents only count towards the doc count of the other buckets. Collection can't terminate at that point
+     * because that doc count must stay exact.
+     */
+    private LeafBucketCollector getIndexSortedLeafCollector(SortedNumericDocValues values, NumericDocValues singleton,
+                                                            LeafBucketCollector sub, SortField indexSort) {
+        final long maxKeys = canSkipBucketsAfterShardSize(indexSort) ? bucketCountThresholds.getShardSize() : Long.MAX_VALUE;
+        return new LeafBucketCollectorBase(sub, values) {
+            private long keys;
+            private long runOwningBucketOrd = -1;
+            private long runValue;
+            // -1 if the value is filtered out, -2 if it comes after the keys of the top buckets
+            private long runBucketOrd;
+
+            @Override
+            public void collect(int doc, long owningBucketOrd) throws IOException {
+                if (singleton.advanceExact(doc) == false) {
+                    return;
+                }
+                long val = singleton.longValue();
+                if (owningBucketOrd != runOwningBucketOrd || val != runValue) {
+                    runOwningBucketOrd = owningBucketOrd;
+                    runValue = val;
+                    if (longFilter != null && longFilter.accept(val) == false) {
+                        runBucketOrd = -1;
+                    } else if (keys >= maxKeys) {
+                        runBucketOrd = -2;
+                    } else {
+                        keys++;
+                        long bucketOrdinal = bucketOrds.add(owningBucketOrd, val);
+                        if (bucketOrdinal < 0) { // already seen
+                            bucketOrdinal = -1 - bucketOrdinal;
+                            collectExistingBucket(sub, doc, bucketOrdinal);
+                        } else {
+                            collectBucket(sub, doc, bucketOrdinal);
+                        }
+                        runBucketOrd = bucketOrdinal;
+                        return;
+                    }
+                }
+                if (runBucketOrd >= 0) {
+                    collectExistingBucket(sub, doc, runBucketOrd);
+                } else if (runBucketOrd == -2) {
+                    sortedOtherDocCount++;
+                }
+            }
+        };
+    }
+
+    /**
+     * Whether the keys of the top buckets of this shard are the first ones of a segment that is sorted by the given field. This
+     * requires a top level aggregation that orders by key in the direction of the sort and that never returns buckets that don't
+     * contain any documents or are dropped because of their doc count.
+     */
+    private boolean canSkipBucketsAfterShardSize(SortField indexSort) {
+        return parent == null
+            && InternalOrder.isKeyOrder(order)
+            && InternalOrder.isKeyAsc(order) != indexSort.getReverse()
+            && bucketCountThresholds.getMinDocCount() > 0
+            && bucketCountThresholds.getShardMinDocCount() <= 1
+            && resultStrategy instanceof SignificantLongTermsResults == false;
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -150,7 +261,7 @@ public class NumericTermsAggregator extends TermsAggregator {
 
     @Override
     public void doClose() {
-        Releasables.close(super::doClose, bucketOrds, resultStrategy);
+        Releasables.close(super::doClose, bucketOrds, resultStrategy, spill);
     }
 
     @Override
@@ -158,6 +269,14 @@ public class NumericTermsAggregator extends TermsAggregator {
         super.collectDebugInfo(add);
         add.accept("result_strategy", resultStrategy.describe());
         add.accept("total_buckets", bucketOrds.size());
+        if (spill != null) {
+            add.accept("spilled_runs", spill.runs());
+            add.accept("spilled_bytes", spill.spilledBytes());
+        }
+        if (indexSortedSegments > 0) {
+            add.accept("index_sorted_segments", indexSortedSegments);
+            add.accept("docs_past_shard_size", sortedOtherDocCount);
+        }
     }
 
     /**
@@ -167,6 +286,9 @@ public class NumericTermsAggregator extends TermsAggregator {
         implements
             Releasable {
         private InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
+            if (spill != null) {
+                return buildSpilledAggregations(owningBucketOrds);
+            }
             B[][] topBucketsPerOrd = buildTopBucketsPerOrd(owningBucketOrds.length);
             long[] otherDocCounts = new long[owningBucketOrds.length];
             for (int ordIdx = 0; ordIdx < owningBucketOrds.length; ordIdx++) {
@@ -191,6 +313,10 @@ public class NumericTermsAggregator extends TermsAggregator {
                     spare = ordered.insertWithOverflow(spare);
                 }
 
+                if (owningBucketOrds[ordIdx] == 0) {
+                    otherDocCounts[ordIdx] += sortedOtherDocCount;
+                }
+
                 // Get the top buckets
                 B[] bucketsForOrd = buildBuckets(ordered.size());
                 topBucketsPerOrd[ordIdx] = bucketsForOrd;
@@ -210,6 +336,45 @@ public class NumericTermsAggregator extends TermsAggregator {
             return result;
         }
 
+        /**
+         * Build the results from the merged runs of spilled buckets rather
+         * than from the buckets in memory.
+         */
+        private InternalAggregation[] buildSpilledAggregations(long[] owningBucketOrds) throws IOException {
+            assert owningBucketOrds.length == 1 && owningBucketOrds[0] == 0;
+            collectZeroDocEntriesIfNeeded(0);
+            spillBuckets();
+            int size = (int) Math.min(spill.spilledBuckets(), bucketCountThresholds.getShardSize());
+
+            PriorityQueue<B> ordered = buildPriorityQueue(size);
+            long otherDocCount = 0;
+            B spare = null;
+            Supplier<B> emptyBucketBuilder = emptyBucketBuilder(0);
+            try (BucketSpill.MergedBuckets merged = spill.merge()) {
+                while (merged.next()) {
+                    long docCount = merged.docCount();
+                    otherDocCount += docCount;
+                    if (docCount < bucketCountThresholds.getShardMinDocCount()) {
+                        continue;
+                    }
+                    if (spare == null) {
+                        spare = emptyBucketBuilder.get();
+                    }
+                    updateSpilledBucket(spare, BucketSpill.decodeLong(merged.key()), docCount);
+                    spare = ordered.insertWithOverflow(spare);
+                }
+            }
+
+            B[][] topBucketsPerOrd = buildTopBucketsPerOrd(1);
+            topBucketsPerOrd[0] = buildBuckets(ordered.size());
+            for (int b = ordered.size() - 1; b >= 0; --b) {
+                topBucketsPerOrd[0][b] = ordered.pop();
+                otherDocCount -= topBucketsPerOrd[0][b].getDocCount();
+            }
+            buildSubAggs(topBucketsPerOrd);
+            return new InternalAggregation[] { buildResult(0, otherDocCount, topBucketsPerOrd[0]) };
+        }
+
         /**
          * Short description of the collection mechanism added to the profile
          * output to help with debugging.
@@ -251,6 +416,16 @@ public class NumericTermsAggregator extends TermsAggregator {
          */
         abstract void updateBucket(B spare, BucketOrdsEnum ordsEnum, long docCount) throws IOException;
 
+        /**
+         * Update fields in {@code spare} to reflect a bucket that was merged
+         * from the spilled runs.
+         * Only strategies whose aggregations accept a
+         * {@link TermsAggregationBuilder#spillThreshold(int)} override this.
+         */
+        void updateSpilledBucket(B spare, long value, long docCount) {
+            throw new UnsupportedOperationException(describe() + " doesn't spill buckets");
+        }
+
         /**
          * Build a {@link PriorityQueue} to sort the buckets. After we've
          * collected all of the buckets we'll collect all entries in the queue.
@@ -377,6 +552,13 @@ public class NumericTermsAggregator extends TermsAggregator {
             spare.bucketOrd = ordsEnum.ord();
         }
 
+        @Override
+        void updateSpilledBucket(LongTerms.Bucket spare, long value, long docCount) {
+            spare.term = value;
+            spare.docCount = docCount;
+            spare.bucketOrd = 0;
+        }
+
         @Override
         LongTerms buildResult(long owningBucketOrd, long otherDocCount, LongTerms.Bucket[] topBuckets) {
             final BucketOrder reduceOrder;
@@ -459,6 +641,13 @@ public class NumericTermsAggregator extends TermsAggregator {
             spare.bucketOrd = ordsEnum.ord();
         }
 
+        @Override
+        void updateSpilledBucket(DoubleTerms.Bucket spare, long value, long docCount) {
+            spare.term = NumericUtils.sortableLongToDouble(value);
+            spare.docCount = docCount;
+            spare.bucketOrd = 0;
+        }
+
         @Override
         DoubleTerms buildResult(long owningBucketOrd, long otherDocCount, DoubleTerms.Bucket[] topBuckets) {
             final BucketOrder reduceOrder;
@@ -154,8 +154,8 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
 
                 return new NumericTermsAggregator(name, factories,
                     agg -> agg.new SignificantLongTermsResults(lookup, significanceHeuristic, cardinality),
-                    numericValuesSource, format, null, bucketCountThresholds, context, parent, SubAggCollectionMode.BREADTH_FIRST,
-                    longFilter, cardinality, metadata);
+                    numericValuesSource, null, format, null, bucketCountThresholds, context, parent, SubAggCollectionMode.BREADTH_FIRST,
+                    longFilter, 0, cardinality, metadata);
             }
         };
     }
@@ -290,6 +290,7 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
                     parent,
                     SubAggCollectionMode.BREADTH_FIRST,
                     false,
+                    0,
                     cardinality,
                     metadata
                 );
@@ -154,6 +154,7 @@ public class SignificantTextAggregatorFactory extends AggregatorFactory {
             parent,
             SubAggCollectionMode.BREADTH_FIRST,
             false,
+            0,
             cardinality,
             metadata
         );
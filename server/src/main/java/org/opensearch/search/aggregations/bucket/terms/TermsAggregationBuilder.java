@@ -77,6 +77,12 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
             -1);
     public static final ParseField SHOW_TERM_DOC_COUNT_ERROR = new ParseField("show_term_doc_count_error");
     public static final ParseField ORDER_FIELD = new ParseField("order");
+    public static final ParseField SPILL_THRESHOLD_FIELD_NAME = new ParseField("spill_threshold");
+    /**
+     * The smallest {@link #spillThreshold(int)} other than <code>0</code>. Every spill writes a temporary file, so spilling
+     * fewer buckets at a time would create many tiny files and merge them back for little memory saved.
+     */
+    public static final int MIN_SPILL_THRESHOLD = 1000;
 
     public static final ObjectParser<TermsAggregationBuilder, String> PARSER =
             ObjectParser.fromBuilder(NAME, TermsAggregationBuilder::new);
@@ -96,6 +102,8 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
 
         PARSER.declareString(TermsAggregationBuilder::executionHint, EXECUTION_HINT_FIELD_NAME);
 
+        PARSER.declareInt(TermsAggregationBuilder::spillThreshold, SPILL_THRESHOLD_FIELD_NAME);
+
         PARSER.declareField(TermsAggregationBuilder::collectMode,
                 (p, c) -> SubAggCollectionMode.parse(p.text(), LoggingDeprecationHandler.INSTANCE),
                 SubAggCollectionMode.KEY, ObjectParser.ValueType.STRING);
@@ -121,6 +129,7 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
     private TermsAggregator.BucketCountThresholds bucketCountThresholds = new TermsAggregator.BucketCountThresholds(
             DEFAULT_BUCKET_COUNT_THRESHOLDS);
     private boolean showTermDocCountError = false;
+    private int spillThreshold = 0;
 
     public TermsAggregationBuilder(String name) {
         super(name);
@@ -136,6 +145,7 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         this.collectMode = clone.collectMode;
         this.bucketCountThresholds = new BucketCountThresholds(clone.bucketCountThresholds);
         this.showTermDocCountError = clone.showTermDocCountError;
+        this.spillThreshold = clone.spillThreshold;
     }
 
     @Override
@@ -159,6 +169,9 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         includeExclude = in.readOptionalWriteable(IncludeExclude::new);
         order = InternalOrder.Streams.readOrder(in);
         showTermDocCountError = in.readBoolean();
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            spillThreshold = in.readVInt();
+        }
     }
 
     @Override
@@ -174,6 +187,9 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         out.writeOptionalWriteable(includeExclude);
         order.writeTo(out);
         out.writeBoolean(showTermDocCountError);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeVInt(spillThreshold);
+        }
     }
 
     /**
@@ -354,6 +370,28 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         return this;
     }
 
+    /**
+     * Expert: set the number of buckets that are held in memory before they are spilled to temporary files on disk and
+     * merged back when the results are built. This allows computing exact results over more terms than fit in memory but
+     * is only supported without sub-aggregations. <code>0</code>, the default, keeps all buckets in memory, otherwise it
+     * must be at least {@link #MIN_SPILL_THRESHOLD}.
+     */
+    public TermsAggregationBuilder spillThreshold(int spillThreshold) {
+        if (spillThreshold != 0 && spillThreshold < MIN_SPILL_THRESHOLD) {
+            throw new IllegalArgumentException("[spillThreshold] must be 0 or greater than or equal to " + MIN_SPILL_THRESHOLD
+                    + ". Found [" + spillThreshold + "] in [" + name + "]");
+        }
+        this.spillThreshold = spillThreshold;
+        return this;
+    }
+
+    /**
+     * Expert: get the number of buckets that are held in memory before they are spilled to disk.
+     */
+    public int spillThreshold() {
+        return spillThreshold;
+    }
+
     @Override
     public BucketCardinality bucketCardinality() {
         return BucketCardinality.MANY;
@@ -365,7 +403,7 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
                                                        AggregatorFactory parent,
                                                        AggregatorFactories.Builder subFactoriesBuilder) throws IOException {
         return new TermsAggregatorFactory(name, config, order, includeExclude, executionHint, collectMode,
-                bucketCountThresholds, showTermDocCountError, queryShardContext, parent, subFactoriesBuilder, metadata);
+                bucketCountThresholds, showTermDocCountError, spillThreshold, queryShardContext, parent, subFactoriesBuilder, metadata);
     }
 
     @Override
@@ -383,13 +421,16 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         if (includeExclude != null) {
             includeExclude.toXContent(builder, params);
         }
+        if (spillThreshold != 0) {
+            builder.field(SPILL_THRESHOLD_FIELD_NAME.getPreferredName(), spillThreshold);
+        }
         return builder;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(), bucketCountThresholds, collectMode,
-            executionHint, includeExclude, order, showTermDocCountError);
+            executionHint, includeExclude, order, showTermDocCountError, spillThreshold);
     }
 
     @Override
@@ -403,7 +444,8 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
             && Objects.equals(executionHint, other.executionHint)
             && Objects.equals(includeExclude, other.includeExclude)
             && Objects.equals(order, other.order)
-            && Objects.equals(showTermDocCountError, other.showTermDocCountError);
+            && Objects.equals(showTermDocCountError, other.showTermDocCountError)
+            && spillThreshold == other.spillThreshold;
     }
 
     @Override
@@ -84,9 +84,8 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             @Override
             public Aggregator build(String name,
                                     AggregatorFactories factories,
-                                    ValuesSource valuesSource,
+                                    ValuesSourceConfig valuesSourceConfig,
                                     BucketOrder order,
-                                    DocValueFormat format,
                                     TermsAggregator.BucketCountThresholds bucketCountThresholds,
                                     IncludeExclude includeExclude,
                                     String executionHint,
@@ -94,8 +93,11 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                                     Aggregator parent,
                                     SubAggCollectionMode subAggCollectMode,
                                     boolean showTermDocCountError,
+                                    int spillThreshold,
                                     CardinalityUpperBound cardinality,
                                     Map<String, Object> metadata) throws IOException {
+                ValuesSource valuesSource = valuesSourceConfig.getValuesSource();
+                DocValueFormat format = valuesSourceConfig.format();
                 ExecutionMode execution = null;
                 if (executionHint != null) {
                     execution = ExecutionMode.fromString(executionHint);
@@ -104,6 +106,10 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 if (valuesSource instanceof ValuesSource.Bytes.WithOrdinals == false) {
                     execution = ExecutionMode.MAP;
                 }
+                // Global ordinals count into an array that is sized by the number of terms, which can't be spilled
+                if (spillThreshold > 0) {
+                    execution = ExecutionMode.MAP;
+                }
                 if (execution == null) {
                     execution = ExecutionMode.GLOBAL_ORDINALS;
                 }
@@ -121,7 +127,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
 
                 // TODO: [Zach] we might want refactor and remove ExecutionMode#create(), moving that logic outside the enum
                 return execution.create(name, factories, valuesSource, order, format, bucketCountThresholds, includeExclude,
-                    context, parent, subAggCollectMode, showTermDocCountError, cardinality, metadata);
+                    context, parent, subAggCollectMode, showTermDocCountError, spillThreshold, cardinality, metadata);
 
             }
         };
@@ -136,9 +142,8 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             @Override
             public Aggregator build(String name,
                                     AggregatorFactories factories,
-                                    ValuesSource valuesSource,
+                                    ValuesSourceConfig valuesSourceConfig,
                                     BucketOrder order,
-                                    DocValueFormat format,
                                     TermsAggregator.BucketCountThresholds bucketCountThresholds,
                                     IncludeExclude includeExclude,
                                     String executionHint,
@@ -146,8 +151,11 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                                     Aggregator parent,
                                     SubAggCollectionMode subAggCollectMode,
                                     boolean showTermDocCountError,
+                                    int spillThreshold,
                                     CardinalityUpperBound cardinality,
                                     Map<String, Object> metadata) throws IOException {
+                ValuesSource valuesSource = valuesSourceConfig.getValuesSource();
+                DocValueFormat format = valuesSourceConfig.format();
 
                 if ((includeExclude != null) && (includeExclude.isRegexBased())) {
                     throw new AggregationExecutionException("Aggregation [" + name + "] cannot support regular expression style "
@@ -173,8 +181,9 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     }
                     resultStrategy = agg -> agg.new LongTermsResults(showTermDocCountError);
                 }
-                return new NumericTermsAggregator(name, factories, resultStrategy, numericValuesSource, format, order,
-                    bucketCountThresholds, context, parent, subAggCollectMode, longFilter, cardinality, metadata);
+                return new NumericTermsAggregator(name, factories, resultStrategy, numericValuesSource,
+                    valuesSourceConfig.getUnmodifiedFieldNameOrNull(), format, order, bucketCountThresholds, context, parent,
+                    subAggCollectMode, longFilter, spillThreshold, cardinality, metadata);
             }
         };
     }
@@ -185,6 +194,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
     private final SubAggCollectionMode collectMode;
     private final TermsAggregator.BucketCountThresholds bucketCountThresholds;
     private final boolean showTermDocCountError;
+    private final int spillThreshold;
 
     TermsAggregatorFactory(String name,
                            ValuesSourceConfig config,
@@ -194,6 +204,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                            SubAggCollectionMode collectMode,
                            TermsAggregator.BucketCountThresholds bucketCountThresholds,
                            boolean showTermDocCountError,
+                           int spillThreshold,
                            QueryShardContext queryShardContext,
                            AggregatorFactory parent,
                            AggregatorFactories.Builder subFactoriesBuilder,
@@ -205,6 +216,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.collectMode = collectMode;
         this.bucketCountThresholds = bucketCountThresholds;
         this.showTermDocCountError = showTermDocCountError;
+        this.spillThreshold = spillThreshold;
     }
 
     @Override
@@ -253,13 +265,22 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             bucketCountThresholds.setShardSize(BucketUtils.suggestShardSideQueueSize(bucketCountThresholds.getRequiredSize()));
         }
         bucketCountThresholds.ensureValidity();
+        if (spillThreshold > 0) {
+            if (factories.countAggregators() > 0) {
+                throw new IllegalArgumentException("[" + TermsAggregationBuilder.SPILL_THRESHOLD_FIELD_NAME.getPreferredName()
+                    + "] is not supported by terms aggregation [" + name + "] because it has sub-aggregations");
+            }
+            if (cardinality != CardinalityUpperBound.ONE) {
+                throw new IllegalArgumentException("[" + TermsAggregationBuilder.SPILL_THRESHOLD_FIELD_NAME.getPreferredName()
+                    + "] is not supported by terms aggregation [" + name + "] because it is nested in a multi-bucket aggregation");
+            }
+        }
 
         return aggregatorSupplier.build(
             name,
             factories,
-            config.getValuesSource(),
+            config,
             order,
-            config.format(),
             bucketCountThresholds,
             includeExclude,
             executionHint,
@@ -267,6 +288,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             parent,
             collectMode,
             showTermDocCountError,
+            spillThreshold,
             cardinality,
             metadata
         );
@@ -327,6 +349,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                               Aggregator parent,
                               SubAggCollectionMode subAggCollectMode,
                               boolean showTermDocCountError,
+                              int spillThreshold,
                               CardinalityUpperBound cardinality,
                               Map<String, Object> metadata) throws IOException {
                 final IncludeExclude.StringFilter filter = includeExclude == null ? null : includeExclude.convertToStringFilter(format);
@@ -343,6 +366,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     parent,
                     subAggCollectMode,
                     showTermDocCountError,
+                    spillThreshold,
                     cardinality,
                     metadata
                 );
@@ -361,9 +385,11 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                               SearchContext context, Aggregator parent,
                               SubAggCollectionMode subAggCollectMode,
                               boolean showTermDocCountError,
+                              int spillThreshold,
                               CardinalityUpperBound cardinality,
                               Map<String, Object> metadata) throws IOException {
 
+                assert spillThreshold == 0 : "global ordinals don't spill";
                 final long maxOrd = getMaxOrd(valuesSource, context.searcher());
                 assert maxOrd != -1;
                 final double ratio = maxOrd / ((double) context.searcher().getIndexReader().numDocs());
@@ -466,6 +492,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                                    Aggregator parent,
                                    SubAggCollectionMode subAggCollectMode,
                                    boolean showTermDocCountError,
+                                   int spillThreshold,
                                    CardinalityUpperBound cardinality,
                                    Map<String, Object> metadata) throws IOException;
 
@@ -31,12 +31,11 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
-import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.BucketOrder;
-import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -45,9 +44,8 @@ import java.util.Map;
 interface TermsAggregatorSupplier {
     Aggregator build(String name,
                      AggregatorFactories factories,
-                     ValuesSource valuesSource,
+                     ValuesSourceConfig valuesSourceConfig,
                      BucketOrder order,
-                     DocValueFormat format,
                      TermsAggregator.BucketCountThresholds bucketCountThresholds,
                      IncludeExclude includeExclude,
                      String executionHint,
@@ -55,6 +53,7 @@ interface TermsAggregatorSupplier {
                      Aggregator parent,
                      Aggregator.SubAggCollectionMode subAggCollectMode,
                      boolean showTermDocCountError,
+                     int spillThreshold,
                      CardinalityUpperBound cardinality,
                      Map<String, Object> metadata) throws IOException;
 }
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.ArrayUtils;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ObjectArray;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Map;
+
+abstract class AbstractDDSketchPercentilesAggregator extends NumericMetricsAggregator.MultiValue {
+
+    private static int indexOfKey(double[] keys, double key) {
+        return ArrayUtils.binarySearch(keys, key, 0.001);
+    }
+
+    protected final double[] keys;
+    protected final ValuesSource valuesSource;
+    protected final DocValueFormat formatter;
+    /**
+     * One sketch per owning bucket, each with its own {@link org.opensearch.common.util.LongArray}s for the bins of the
+     * positive and negative values.
+     */
+    protected ObjectArray<DDSketchState> states;
+    protected final double relativeAccuracy;
+    protected final boolean keyed;
+
+    AbstractDDSketchPercentilesAggregator(String name, ValuesSource valuesSource, SearchContext context, Aggregator parent,
+            double[] keys, double relativeAccuracy, boolean keyed, DocValueFormat formatter,
+            Map<String, Object> metadata) throws IOException {
+        super(name, context, parent, metadata);
+        this.valuesSource = valuesSource;
+        this.keyed = keyed;
+        this.formatter = formatter;
+        this.states = context.bigArrays().newObjectArray(1);
+        this.keys = keys;
+        this.relativeAccuracy = relativeAccuracy;
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
+            final LeafBucketCollector sub) throws IOException {
+        if (valuesSource == null) {
+            return LeafBucketCollector.NO_OP_COLLECTOR;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        final SortedNumericDoubleValues values = ((ValuesSource.Numeric)valuesSource).doubleValues(ctx);
+        return new LeafBucketCollectorBase(sub, values) {
+            @Override
+            public void collect(int doc, long bucket) throws IOException {
+                DDSketchState state = getExistingOrNewSketch(bigArrays, bucket);
+                if (values.advanceExact(doc)) {
+                    final int valueCount = values.docValueCount();
+                    for (int i = 0; i < valueCount; i++) {
+                        state.add(values.nextValue());
+                    }
+                }
+            }
+        };
+    }
+
+    private DDSketchState getExistingOrNewSketch(final BigArrays bigArrays, long bucket) {
+        states = bigArrays.grow(states, bucket + 1);
+        DDSketchState state = states.get(bucket);
+        if (state == null) {
+            // the bins of the sketch come from the same breaker-accounted big arrays as the rest of the aggregation
+            state = new DDSketchState(relativeAccuracy, bigArrays);
+            states.set(bucket, state);
+        }
+        return state;
+    }
+
+    @Override
+    public boolean hasMetric(String name) {
+        return indexOfKey(keys, Double.parseDouble(name)) >= 0;
+    }
+
+    protected DDSketchState getState(long bucketOrd) {
+        if (bucketOrd >= states.size()) {
+            return null;
+        }
+        return states.get(bucketOrd);
+    }
+
+    /**
+     * Copies the sketch of a bucket into one that is not backed by the big arrays of this aggregator, so that the
+     * result outlives it.
+     */
+    protected DDSketchState copyState(long bucketOrd) {
+        DDSketchState state = getState(bucketOrd);
+        return state == null ? null : state.copy(BigArrays.NON_RECYCLING_INSTANCE);
+    }
+
+    @Override
+    protected void doClose() {
+        for (long i = 0; i < states.size(); i++) {
+            Releasables.close(states.get(i));
+        }
+        Releasables.close(states);
+    }
+
+}
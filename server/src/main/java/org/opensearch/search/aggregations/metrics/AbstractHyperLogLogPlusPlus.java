@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
@@ -128,12 +130,84 @@ public abstract class AbstractHyperLogLogPlusPlus extends AbstractCardinalityAlg
         } else {
             out.writeBoolean(HYPERLOGLOG);
             AbstractHyperLogLog.RunLenIterator iterator = getHyperLogLog(bucket);
-            while (iterator.next()){
-                out.writeByte(iterator.value());
+            if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+                writeRunLens(iterator, 1 << precision(), out);
+            } else {
+                while (iterator.next()){
+                    out.writeByte(iterator.value());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the run lengths of all registers either as a sparse list of the registers that are set, if few are, or packed
+     * into 6 bits per register since run lengths never exceed 64.
+     */
+    private static void writeRunLens(AbstractHyperLogLog.RunLenIterator iterator, int registers, StreamOutput out) throws IOException {
+        final byte[] runLens = new byte[registers];
+        int nonZero = 0;
+        for (int i = 0; iterator.next(); ++i) {
+            runLens[i] = iterator.value();
+            assert runLens[i] >= 0 && runLens[i] < (1 << 6) : "run length doesn't fit into 6 bits: " + runLens[i];
+            if (runLens[i] != 0) {
+                nonZero++;
+            }
+        }
+        // a sparse register takes about three bytes: the vint delta to the previous register and the run length
+        if (nonZero * 3L < packedLength(registers)) {
+            out.writeBoolean(true);
+            out.writeVInt(nonZero);
+            int previous = 0;
+            for (int i = 0; i < registers; ++i) {
+                if (runLens[i] != 0) {
+                    out.writeVInt(i - previous);
+                    out.writeByte(runLens[i]);
+                    previous = i;
+                }
+            }
+        } else {
+            out.writeBoolean(false);
+            final byte[] packed = new byte[packedLength(registers)];
+            for (int i = 0, j = 0; i < registers; i += 4, j += 3) {
+                final int block = runLens[i] | (runLens[i + 1] << 6) | (runLens[i + 2] << 12) | (runLens[i + 3] << 18);
+                packed[j] = (byte) block;
+                packed[j + 1] = (byte) (block >>> 8);
+                packed[j + 2] = (byte) (block >>> 16);
             }
+            out.writeBytes(packed);
         }
     }
 
+    private static void readRunLens(StreamInput in, byte[] runLens) throws IOException {
+        if (in.readBoolean()) {
+            final int nonZero = in.readVInt();
+            int register = 0;
+            for (int i = 0; i < nonZero; ++i) {
+                register += in.readVInt();
+                runLens[register] = in.readByte();
+            }
+        } else {
+            final byte[] packed = new byte[packedLength(runLens.length)];
+            in.readBytes(packed, 0, packed.length);
+            for (int i = 0, j = 0; i < runLens.length; i += 4, j += 3) {
+                final int block = (packed[j] & 0xFF) | ((packed[j + 1] & 0xFF) << 8) | ((packed[j + 2] & 0xFF) << 16);
+                runLens[i] = (byte) (block & 0x3F);
+                runLens[i + 1] = (byte) ((block >>> 6) & 0x3F);
+                runLens[i + 2] = (byte) ((block >>> 12) & 0x3F);
+                runLens[i + 3] = (byte) (block >>> 18);
+            }
+        }
+    }
+
+    /**
+     * The number of bytes that the given number of registers take when packed into 6 bits each. There are always a multiple
+     * of 4 registers since the precision is at least 4.
+     */
+    private static int packedLength(int registers) {
+        return registers / 4 * 3;
+    }
+
     public static AbstractHyperLogLogPlusPlus readFrom(StreamInput in, BigArrays bigArrays) throws IOException {
         final int precision = in.readVInt();
         final boolean algorithm = in.readBoolean();
@@ -148,8 +222,14 @@ public abstract class AbstractHyperLogLogPlusPlus extends AbstractCardinalityAlg
         } else {
             HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, bigArrays, 1);
             final int registers = 1 << precision;
-            for (int i = 0; i < registers; ++i) {
-                counts.addRunLen(0, i, in.readByte());
+            if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+                final byte[] runLens = new byte[registers];
+                readRunLens(in, runLens);
+                counts.mergeRunLens(0, new BytesRef(runLens));
+            } else {
+                for (int i = 0; i < registers; ++i) {
+                    counts.addRunLen(0, i, in.readByte());
+                }
             }
             return counts;
         }
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.InternalAggregation;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+abstract class AbstractInternalDDSketchPercentiles extends InternalNumericMetricsAggregation.MultiValue {
+
+    protected final double[] keys;
+    protected final DDSketchState state;
+    final boolean keyed;
+
+    AbstractInternalDDSketchPercentiles(String name, double[] keys, DDSketchState state, boolean keyed, DocValueFormat formatter,
+            Map<String, Object> metadata) {
+        super(name, metadata);
+        this.keys = keys;
+        this.state = state;
+        this.keyed = keyed;
+        this.format = formatter;
+    }
+
+    /**
+     * Read from a stream.
+     */
+    protected AbstractInternalDDSketchPercentiles(StreamInput in) throws IOException {
+        super(in);
+        format = in.readNamedWriteable(DocValueFormat.class);
+        keys = in.readDoubleArray();
+        state = DDSketchState.read(in, BigArrays.NON_RECYCLING_INSTANCE);
+        keyed = in.readBoolean();
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeNamedWriteable(format);
+        out.writeDoubleArray(keys);
+        DDSketchState.write(state, out);
+        out.writeBoolean(keyed);
+    }
+
+    @Override
+    public double value(String name) {
+        return value(Double.parseDouble(name));
+    }
+
+    public abstract double value(double key);
+
+    public DocValueFormat formatter() {
+        return format;
+    }
+
+    public long getEstimatedMemoryFootprint() {
+        return state.byteSize();
+    }
+
+    /**
+     * Return the internal {@link DDSketchState} sketch for this metric.
+     */
+    public DDSketchState getState() {
+        return state;
+    }
+
+    /**
+     * Return the keys (percentiles) requested.
+     */
+    public double[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Should the output be keyed.
+     */
+    public boolean keyed() {
+        return keyed;
+    }
+
+    @Override
+    public AbstractInternalDDSketchPercentiles reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+        DDSketchState merged = null;
+        for (InternalAggregation aggregation : aggregations) {
+            final AbstractInternalDDSketchPercentiles percentiles = (AbstractInternalDDSketchPercentiles) aggregation;
+            if (merged == null) {
+                merged = new DDSketchState(percentiles.state.relativeAccuracy(), BigArrays.NON_RECYCLING_INSTANCE);
+            }
+            merged.add(percentiles.state);
+        }
+        return createReduced(getName(), keys, merged, keyed, getMetadata());
+    }
+
+    protected abstract AbstractInternalDDSketchPercentiles createReduced(String name, double[] keys, DDSketchState merged, boolean keyed,
+            Map<String, Object> metadata);
+
+    @Override
+    public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
+        if (keyed) {
+            builder.startObject(CommonFields.VALUES.getPreferredName());
+            for(int i = 0; i < keys.length; ++i) {
+                String key = String.valueOf(keys[i]);
+                double value = value(keys[i]);
+                builder.field(key, state.size() == 0 ? null : value);
+                if (format != DocValueFormat.RAW && state.size() > 0) {
+                    builder.field(key + "_as_string", format.format(value).toString());
+                }
+            }
+            builder.endObject();
+        } else {
+            builder.startArray(CommonFields.VALUES.getPreferredName());
+            for (int i = 0; i < keys.length; i++) {
+                double value = value(keys[i]);
+                builder.startObject();
+                builder.field(CommonFields.KEY.getPreferredName(), keys[i]);
+                builder.field(CommonFields.VALUE.getPreferredName(), state.size() == 0 ? null : value);
+                if (format != DocValueFormat.RAW && state.size() > 0) {
+                    builder.field(CommonFields.VALUE_AS_STRING.getPreferredName(), format.format(value).toString());
+                }
+                builder.endObject();
+            }
+            builder.endArray();
+        }
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        if (super.equals(obj) == false) return false;
+
+        AbstractInternalDDSketchPercentiles that = (AbstractInternalDDSketchPercentiles) obj;
+        return keyed == that.keyed
+                && Arrays.equals(keys, that.keys)
+                && Objects.equals(state, that.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), keyed, Arrays.hashCode(keys), state);
+    }
+}
@@ -86,6 +86,7 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
          *  - args[0]: values
          *  - args[1]: tdigest config options
          *  - args[2]: hdr config options
+         *  - args[3]: ddsketch config options
          *
          *  If `args` is null or empty, it means all were omitted.  This is usually an anti-pattern for
          *  ConstructingObjectParser, but we're allowing it because of the above-mentioned reasons
@@ -100,18 +101,22 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
 
             PercentilesConfig tDigestConfig = (PercentilesConfig) args[1];
             PercentilesConfig hdrConfig = (PercentilesConfig) args[2];
+            PercentilesConfig ddSketchConfig = (PercentilesConfig) args[3];
 
             double[] values = args[0] != null ? ((List<Double>) args[0]).stream().mapToDouble(Double::doubleValue).toArray() : null;
             PercentilesConfig percentilesConfig;
 
-            if (tDigestConfig != null && hdrConfig != null) {
+            int configs = (tDigestConfig != null ? 1 : 0) + (hdrConfig != null ? 1 : 0) + (ddSketchConfig != null ? 1 : 0);
+            if (configs > 1) {
                 throw new IllegalArgumentException("Only one percentiles method should be declared.");
-            } else if (tDigestConfig == null && hdrConfig == null) {
+            } else if (configs == 0) {
                 percentilesConfig = defaultConfig.get();
             } else if (tDigestConfig != null) {
                 percentilesConfig = tDigestConfig;
-            } else {
+            } else if (hdrConfig != null) {
                 percentilesConfig = hdrConfig;
+            } else {
+                percentilesConfig = ddSketchConfig;
             }
 
             return ctor.apply(name, values, percentilesConfig);
@@ -124,6 +129,8 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
             PercentilesMethod.TDIGEST.getParseField());
         parser.declareObject(ConstructingObjectParser.optionalConstructorArg(), PercentilesMethod.HDR_PARSER,
             PercentilesMethod.HDR.getParseField());
+        parser.declareObject(ConstructingObjectParser.optionalConstructorArg(), PercentilesMethod.DDSKETCH_PARSER,
+            PercentilesMethod.DDSKETCH.getParseField());
 
         return parser;
     }
@@ -175,6 +182,9 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
         if (out.getVersion().onOrAfter(Version.V_7_8_0)) {
             out.writeOptionalWriteable(percentilesConfig);
         } else {
+            if (percentilesConfig.getMethod().equals(PercentilesMethod.DDSKETCH)) {
+                throw new IllegalArgumentException("[" + PercentilesMethod.DDSKETCH + "] is not supported on versions before 7.10.3");
+            }
             // Legacy method serialized both SigFigs and compression, even though we only need one.  So we need
             // to serialize the default for the unused method
             int numberOfSignificantValueDigits = percentilesConfig.getMethod().equals(PercentilesMethod.HDR)
@@ -285,16 +295,20 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
         if (percentilesConfig == null) {
             if (method.equals(PercentilesMethod.TDIGEST) ) {
                 this.percentilesConfig = new PercentilesConfig.TDigest();
-            } else {
+            } else if (method.equals(PercentilesMethod.HDR)) {
                 this.percentilesConfig = new PercentilesConfig.Hdr();
+            } else {
+                this.percentilesConfig = new PercentilesConfig.DDSketch();
             }
         } else if (percentilesConfig.getMethod().equals(method) == false) {
             // we already have an algo configured, but it's different from the requested method
             // reset to default for the requested method
             if (method.equals(PercentilesMethod.TDIGEST) ) {
                 this.percentilesConfig = new PercentilesConfig.TDigest();
-            } else {
+            } else if (method.equals(PercentilesMethod.HDR)) {
                 this.percentilesConfig = new PercentilesConfig.Hdr();
+            } else {
+                this.percentilesConfig = new PercentilesConfig.DDSketch();
             }
         } // if method and config were same, this is a no-op so we don't overwrite settings
 
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Map;
+
+class DDSketchPercentileRanksAggregator extends AbstractDDSketchPercentilesAggregator {
+
+    DDSketchPercentileRanksAggregator(String name,
+                                      ValuesSource valuesSource,
+                                      SearchContext context,
+                                      Aggregator parent,
+                                      double[] percents,
+                                      double relativeAccuracy,
+                                      boolean keyed,
+                                      DocValueFormat formatter,
+                                      Map<String, Object> metadata) throws IOException {
+        super(name, valuesSource, context, parent, percents, relativeAccuracy, keyed, formatter, metadata);
+    }
+
+    @Override
+    public InternalAggregation buildAggregation(long owningBucketOrdinal) {
+        DDSketchState state = copyState(owningBucketOrdinal);
+        if (state == null) {
+            return buildEmptyAggregation();
+        } else {
+            return new InternalDDSketchPercentileRanks(name, keys, state, keyed, formatter, metadata());
+        }
+    }
+
+    @Override
+    public double metric(String name, long bucketOrd) {
+        DDSketchState state = getState(bucketOrd);
+        if (state == null) {
+            return Double.NaN;
+        } else {
+            return InternalDDSketchPercentileRanks.percentileRank(state, Double.valueOf(name));
+        }
+    }
+
+    @Override
+    public InternalAggregation buildEmptyAggregation() {
+        return new InternalDDSketchPercentileRanks(name, keys, new DDSketchState(relativeAccuracy, BigArrays.NON_RECYCLING_INSTANCE), keyed,
+            formatter, metadata());
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.io.IOException;
+
+/**
+ * A DDSketch: a quantile sketch with a relative error guarantee. Values are mapped to logarithmically sized bins so that
+ * every value in a bin is within the relative accuracy of the value that represents the bin, and the sketch only keeps
+ * the count of each bin. Positive and negative values are counted in two stores of bins that are backed by
+ * {@link BigArrays}, values too close to zero to be mapped to a bin are counted separately.
+ * <p>
+ * Two sketches with the same relative accuracy are merged exactly by adding up the counts of their bins. A store
+ * keeps at most {@link #DEFAULT_MAX_BINS} consecutive bins and collapses the bins of the smallest magnitudes into
+ * one when values span a wider range. That only affects the accuracy of the values closest to zero: the lowest
+ * quantiles of positive values, but the highest quantiles of negative values, which are the middle quantiles of a
+ * distribution that spans both signs.
+ */
+public class DDSketchState implements Releasable {
+
+    static final int DEFAULT_MAX_BINS = 2048;
+
+    /**
+     * The smallest magnitude that is mapped to a bin, smaller values are counted as zeros.
+     */
+    private static final double MIN_INDEXABLE_VALUE = Double.MIN_NORMAL;
+
+    private final double relativeAccuracy;
+    private final int maxBins;
+    private final double logGamma;
+    private final double binValueFactor;
+    private final Store positive;
+    private final Store negative;
+    private long zeroCount;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public DDSketchState(double relativeAccuracy, BigArrays bigArrays) {
+        this(relativeAccuracy, DEFAULT_MAX_BINS, bigArrays);
+    }
+
+    DDSketchState(double relativeAccuracy, int maxBins, BigArrays bigArrays) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("[relative_accuracy] must be greater than 0 and less than 1. Found ["
+                + relativeAccuracy + "]");
+        }
+        if (maxBins < 1) {
+            throw new IllegalArgumentException("[maxBins] must be greater than 0. Found [" + maxBins + "]");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBins = maxBins;
+        // gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy), log1p keeps small accuracies precise
+        this.logGamma = Math.log1p(2 * relativeAccuracy / (1 - relativeAccuracy));
+        this.binValueFactor = 2 / (1 + Math.exp(logGamma));
+        this.positive = new Store(bigArrays);
+        this.negative = new Store(bigArrays);
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * The number of values that were added to this sketch.
+     */
+    public long size() {
+        return negative.total + zeroCount + positive.total;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * An estimate of the memory used by the bins of this sketch.
+     */
+    public long byteSize() {
+        return Long.BYTES * (positive.length() + negative.length());
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, long count) {
+        if (Double.isFinite(value) == false) {
+            throw new IllegalArgumentException("Cannot add non-finite value [" + value + "] to a DDSketch");
+        }
+        if (count <= 0) {
+            return;
+        }
+        if (value >= MIN_INDEXABLE_VALUE) {
+            positive.add(index(value), count);
+        } else if (value <= -MIN_INDEXABLE_VALUE) {
+            negative.add(index(-value), count);
+        } else {
+            zeroCount += count;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Merges the bins of another sketch into this one. Merging is exact, the result is the sketch of all values that
+     * were added to either sketch.
+     */
+    public void add(DDSketchState other) {
+        if (relativeAccuracy != other.relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge a DDSketch with relative accuracy [" + other.relativeAccuracy
+                + "] into one with relative accuracy [" + relativeAccuracy + "]");
+        }
+        if (other.size() == 0) {
+            return;
+        }
+        positive.add(other.positive);
+        negative.add(other.negative);
+        zeroCount += other.zeroCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * The value at the given quantile, between 0 and 1, or {@link Double#NaN} if the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q should be in [0,1], got " + q);
+        }
+        final long count = size();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+        final double rank = q * (count - 1);
+        final double value;
+        if (rank < negative.total) {
+            // the values of the negative store get bigger as their bins get smaller
+            value = -binValue(negative.indexOfRank(rank, true));
+        } else if (rank < negative.total + zeroCount) {
+            value = 0;
+        } else {
+            value = binValue(positive.indexOfRank(rank - negative.total - zeroCount, false));
+        }
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * The fraction of the values that are lower than or equal to the given value, or {@link Double#NaN} if the sketch is
+     * empty.
+     */
+    public double cdf(double value) {
+        final long count = size();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (value < min) {
+            return 0;
+        }
+        if (value >= max) {
+            return 1;
+        }
+        final long rank;
+        if (value <= -MIN_INDEXABLE_VALUE) {
+            rank = negative.countAtOrAbove(index(-value));
+        } else if (value < 0) {
+            rank = negative.total;
+        } else if (value < MIN_INDEXABLE_VALUE) {
+            rank = negative.total + zeroCount;
+        } else {
+            rank = negative.total + zeroCount + positive.countAtOrBelow(index(value));
+        }
+        return (double) rank / count;
+    }
+
+    private long index(double value) {
+        return (long) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * The value that represents a bin, it is within the relative accuracy of every value of the bin.
+     */
+    private double binValue(long index) {
+        return Math.exp(index * logGamma) * binValueFactor;
+    }
+
+    /**
+     * Copies this sketch into a new one whose bins are backed by the given {@link BigArrays}.
+     */
+    public DDSketchState copy(BigArrays bigArrays) {
+        final DDSketchState copy = new DDSketchState(relativeAccuracy, maxBins, bigArrays);
+        copy.add(this);
+        return copy;
+    }
+
+    public static void write(DDSketchState state, StreamOutput out) throws IOException {
+        out.writeDouble(state.relativeAccuracy);
+        out.writeVInt(state.maxBins);
+        out.writeVLong(state.zeroCount);
+        state.positive.writeTo(out);
+        state.negative.writeTo(out);
+        if (state.size() > 0) {
+            out.writeDouble(state.min);
+            out.writeDouble(state.max);
+        }
+    }
+
+    public static DDSketchState read(StreamInput in, BigArrays bigArrays) throws IOException {
+        final DDSketchState state = new DDSketchState(in.readDouble(), in.readVInt(), bigArrays);
+        boolean success = false;
+        try {
+            state.zeroCount = in.readVLong();
+            state.positive.readFrom(in);
+            state.negative.readFrom(in);
+            if (state.size() > 0) {
+                state.min = in.readDouble();
+                state.max = in.readDouble();
+            }
+            success = true;
+            return state;
+        } finally {
+            if (success == false) {
+                state.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(positive, negative);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj instanceof DDSketchState == false) {
+            return false;
+        }
+        DDSketchState that = (DDSketchState) obj;
+        return relativeAccuracy == that.relativeAccuracy
+            && maxBins == that.maxBins
+            && zeroCount == that.zeroCount
+            && Double.compare(min, that.min) == 0
+            && Double.compare(max, that.max) == 0
+            && positive.equals(that.positive)
+            && negative.equals(that.negative);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = Double.hashCode(relativeAccuracy);
+        h = 31 * h + maxBins;
+        h = 31 * h + Long.hashCode(zeroCount);
+        h = 31 * h + Double.hashCode(min);
+        h = 31 * h + Double.hashCode(max);
+        h = 31 * h + positive.hashCode();
+        h = 31 * h + negative.hashCode();
+        return h;
+    }
+
+    /**
+     * Counts per bin for a range of at most {@link #maxBins} consecutive bin indices. The counts are stored in a
+     * {@link LongArray} that covers the bins <code>[offset, offset + counts.size())</code>, which is reallocated with
+     * some slack on the side it has to grow to.
+     */
+    private final class Store implements Releasable {
+        private final BigArrays bigArrays;
+        private LongArray counts;
+        private long offset;
+        private long minIndex = Long.MAX_VALUE;
+        private long maxIndex = Long.MIN_VALUE;
+        private long total;
+
+        Store(BigArrays bigArrays) {
+            this.bigArrays = bigArrays;
+        }
+
+        long length() {
+            return counts == null ? 0 : counts.size();
+        }
+
+        void add(long index, long count) {
+            if (total == 0) {
+                ensureCapacity(index, index);
+                minIndex = maxIndex = index;
+            } else if (index < minIndex || index > maxIndex) {
+                long newMin = Math.min(minIndex, index);
+                final long newMax = Math.max(maxIndex, index);
+                if (newMax - newMin >= maxBins) {
+                    // collapse the bins of the smallest magnitudes into the lowest bin that we can keep
+                    newMin = newMax - maxBins + 1;
+                    index = Math.max(index, newMin);
+                    collapseBelow(newMin);
+                }
+                ensureCapacity(newMin, newMax);
+                minIndex = Math.min(minIndex, newMin);
+                maxIndex = newMax;
+            }
+            counts.increment(index - offset, count);
+            total += count;
+        }
+
+        void add(Store other) {
+            if (other.total == 0) {
+                return;
+            }
+            for (long index = other.minIndex; index <= other.maxIndex; index++) {
+                final long count = other.counts.get(index - other.offset);
+                if (count > 0) {
+                    add(index, count);
+                }
+            }
+        }
+
+        /**
+         * Sums up the counts of the bins below <code>newMin</code> into the bin <code>newMin</code>.
+         */
+        private void collapseBelow(long newMin) {
+            if (minIndex >= newMin) {
+                return;
+            }
+            long collapsed = 0;
+            final long end = Math.min(maxIndex, newMin - 1);
+            for (long index = minIndex; index <= end; index++) {
+                collapsed += counts.set(index - offset, 0);
+            }
+            ensureCapacity(newMin, Math.max(newMin, maxIndex));
+            counts.increment(newMin - offset, collapsed);
+            minIndex = newMin;
+            maxIndex = Math.max(maxIndex, newMin);
+        }
+
+        /**
+         * Makes sure that the counts cover the bins <code>[from, to]</code>, keeping the counts of
+         * <code>[minIndex, maxIndex]</code> that fall in that range.
+         */
+        private void ensureCapacity(long from, long to) {
+            if (counts != null && from >= offset && to < offset + counts.size()) {
+                return;
+            }
+            final long bins = to - from + 1;
+            final long length = Math.max(bins, Math.min(maxBins, BigArrays.overSize(bins, PageCacheRecycler.LONG_PAGE_SIZE, Long.BYTES)));
+            final long newOffset = counts != null && from < offset ? to - length + 1 : from;
+            final LongArray newCounts = bigArrays.newLongArray(length);
+            if (counts != null) {
+                if (total > 0) {
+                    final long start = Math.max(minIndex, from);
+                    final long end = Math.min(maxIndex, to);
+                    for (long index = start; index <= end; index++) {
+                        newCounts.set(index - newOffset, counts.get(index - offset));
+                    }
+                }
+                counts.close();
+            }
+            counts = newCounts;
+            offset = newOffset;
+        }
+
+        /**
+         * The index of the bin that holds the value of the given rank, counting from the lowest bin, or from the highest
+         * if <code>descending</code> is set.
+         */
+        long indexOfRank(double rank, boolean descending) {
+            long cumulative = 0;
+            if (descending) {
+                for (long index = maxIndex; index > minIndex; index--) {
+                    cumulative += counts.get(index - offset);
+                    if (cumulative > rank) {
+                        return index;
+                    }
+                }
+                return minIndex;
+            }
+            for (long index = minIndex; index < maxIndex; index++) {
+                cumulative += counts.get(index - offset);
+                if (cumulative > rank) {
+                    return index;
+                }
+            }
+            return maxIndex;
+        }
+
+        long countAtOrBelow(long index) {
+            long count = 0;
+            final long end = Math.min(index, maxIndex);
+            for (long i = minIndex; i <= end; i++) {
+                count += counts.get(i - offset);
+            }
+            return count;
+        }
+
+        long countAtOrAbove(long index) {
+            long count = 0;
+            for (long i = Math.max(index, minIndex); i <= maxIndex; i++) {
+                count += counts.get(i - offset);
+            }
+            return count;
+        }
+
+        /**
+         * Writes the lowest bin index followed by the counts of all bins up to the highest one. Bins are consecutive so
+         * an empty bin only takes a single byte.
+         */
+        void writeTo(StreamOutput out) throws IOException {
+            if (total == 0) {
+                out.writeVLong(0);
+                return;
+            }
+            out.writeVLong(maxIndex - minIndex + 1);
+            out.writeZLong(minIndex);
+            for (long index = minIndex; index <= maxIndex; index++) {
+                out.writeVLong(counts.get(index - offset));
+            }
+        }
+
+        void readFrom(StreamInput in) throws IOException {
+            final long bins = in.readVLong();
+            if (bins == 0) {
+                return;
+            }
+            final long from = in.readZLong();
+            for (long index = from; index < from + bins; index++) {
+                final long count = in.readVLong();
+                if (count > 0) {
+                    add(index, count);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            Releasables.close(counts);
+            counts = null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            final Store that = (Store) obj;
+            if (total != that.total) {
+                return false;
+            }
+            if (total == 0) {
+                return true;
+            }
+            if (minIndex != that.minIndex || maxIndex != that.maxIndex) {
+                return false;
+            }
+            for (long index = minIndex; index <= maxIndex; index++) {
+                if (counts.get(index - offset) != that.counts.get(index - that.offset)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Long.hashCode(total);
+            for (long index = minIndex; total > 0 && index <= maxIndex; index++) {
+                h = 31 * h + Long.hashCode(counts.get(index - offset));
+            }
+            return h;
+        }
+    }
+}
@@ -194,11 +194,27 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         hll.ensureCapacity(thisBucket + 1);
         if (other.getAlgorithm(otherBucket) == LINEAR_COUNTING) {
             merge(thisBucket, other.getLinearCounting(otherBucket));
+        } else if (other instanceof HyperLogLogPlusPlus) {
+            if (algorithm.get(thisBucket) != HYPERLOGLOG) {
+                upgradeToHll(thisBucket);
+            }
+            hll.merge(thisBucket, ((HyperLogLogPlusPlus) other).hll, otherBucket);
         } else {
             merge(thisBucket, other.getHyperLogLog(otherBucket));
         }
     }
 
+    /**
+     * Merge the given run lengths, one per register, into the registers of the bucket.
+     */
+    void mergeRunLens(long bucketOrd, BytesRef runLens) {
+        hll.ensureCapacity(bucketOrd + 1);
+        if (algorithm.get(bucketOrd) != HYPERLOGLOG) {
+            upgradeToHll(bucketOrd);
+        }
+        hll.merge(bucketOrd, runLens);
+    }
+
     private void merge(long thisBucket, AbstractLinearCounting.HashesIterator values) {
         while (values.next()) {
             final int encoded = values.value();
@@ -228,7 +244,10 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         private final HyperLogLogIterator iterator;
         // array for holding the runlens.
         private ByteArray runLens;
-
+        private final BytesRef registersSpare = new BytesRef();
+        private final BytesRef otherRegistersSpare = new BytesRef();
+        // lazily allocated since only merging needs it
+        private byte[] mergedSpare;
 
         HyperLogLog(BigArrays bigArrays, long initialBucketCount, int precision) {
             super(precision);
@@ -247,6 +266,33 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
             runLens.set(bucketIndex, (byte) Math.max(encoded, runLens.get(bucketIndex)));
         }
 
+        /**
+         * Merge all registers of a bucket at once: taking the maximum of two plain byte arrays is a tight loop that the JIT
+         * can unroll and vectorize, unlike going through {@link #addRunLen} for every register.
+         */
+        void merge(long bucketOrd, BytesRef otherRegisters) {
+            assert otherRegisters.length == m;
+            final long start = bucketOrd << p;
+            runLens.get(start, m, registersSpare);
+            if (mergedSpare == null) {
+                mergedSpare = new byte[m];
+            }
+            final byte[] merged = mergedSpare;
+            final byte[] registers = registersSpare.bytes;
+            final int offset = registersSpare.offset;
+            final byte[] other = otherRegisters.bytes;
+            final int otherOffset = otherRegisters.offset;
+            for (int i = 0; i < m; ++i) {
+                merged[i] = (byte) Math.max(registers[offset + i], other[otherOffset + i]);
+            }
+            runLens.set(start, merged, 0, m);
+        }
+
+        void merge(long bucketOrd, HyperLogLog other, long otherBucketOrd) {
+            other.runLens.get(otherBucketOrd << p, m, otherRegistersSpare);
+            merge(bucketOrd, otherRegistersSpare);
+        }
+
         @Override
         protected RunLenIterator getRunLens(long bucketOrd) {
             iterator.reset(bucketOrd);
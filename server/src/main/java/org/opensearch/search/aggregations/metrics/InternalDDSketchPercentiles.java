@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.search.DocValueFormat;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+public class InternalDDSketchPercentiles extends AbstractInternalDDSketchPercentiles implements Percentiles {
+    public static final String NAME = "ddsketch_percentiles";
+
+    public InternalDDSketchPercentiles(String name, double[] percents, DDSketchState state, boolean keyed, DocValueFormat formatter,
+                                      Map<String, Object> metadata) {
+        super(name, percents, state, keyed, formatter, metadata);
+    }
+
+    /**
+     * Read from a stream.
+     */
+    public InternalDDSketchPercentiles(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    public Iterator<Percentile> iterator() {
+        return new Iter(keys, state);
+    }
+
+    @Override
+    public double percentile(double percent) {
+        return state.quantile(percent / 100);
+    }
+
+    @Override
+    public String percentileAsString(double percent) {
+        return valueAsString(String.valueOf(percent));
+    }
+
+    @Override
+    public double value(double key) {
+        return percentile(key);
+    }
+
+    @Override
+    protected AbstractInternalDDSketchPercentiles createReduced(String name, double[] keys, DDSketchState merged, boolean keyed,
+            Map<String, Object> metadata) {
+        return new InternalDDSketchPercentiles(name, keys, merged, keyed, format, metadata);
+    }
+
+    public static class Iter implements Iterator<Percentile> {
+
+        private final double[] percents;
+        private final DDSketchState state;
+        private int i;
+
+        public Iter(double[] percents, DDSketchState state) {
+            this.percents = percents;
+            this.state = state;
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i < percents.length;
+        }
+
+        @Override
+        public Percentile next() {
+            final Percentile next = new Percentile(percents[i], state.quantile(percents[i] / 100));
+            ++i;
+            return next;
+        }
+
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
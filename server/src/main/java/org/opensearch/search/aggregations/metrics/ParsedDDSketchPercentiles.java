@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.xcontent.ObjectParser;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+
+public class ParsedDDSketchPercentiles extends ParsedPercentiles implements Percentiles {
+
+    @Override
+    public String getType() {
+        return InternalDDSketchPercentiles.NAME;
+    }
+
+    @Override
+    public double percentile(double percent) {
+        return getPercentile(percent);
+    }
+
+    @Override
+    public String percentileAsString(double percent) {
+        return getPercentileAsString(percent);
+    }
+
+    private static final ObjectParser<ParsedDDSketchPercentiles, Void> PARSER =
+            new ObjectParser<>(ParsedDDSketchPercentiles.class.getSimpleName(), true, ParsedDDSketchPercentiles::new);
+    static {
+        ParsedPercentiles.declarePercentilesFields(PARSER);
+    }
+
+    public static ParsedDDSketchPercentiles fromXContent(XContentParser parser, String name) throws IOException {
+        ParsedDDSketchPercentiles aggregation = PARSER.parse(parser, null);
+        aggregation.setName(name);
+        return aggregation;
+    }
+}
@@ -56,6 +56,8 @@ import org.opensearch.search.aggregations.metrics.InternalCardinality;
 import org.opensearch.search.aggregations.metrics.InternalExtendedStats;
 import org.opensearch.search.aggregations.metrics.InternalGeoBounds;
 import org.opensearch.search.aggregations.metrics.InternalGeoCentroid;
+import org.opensearch.search.aggregations.metrics.InternalDDSketchPercentileRanks;
+import org.opensearch.search.aggregations.metrics.InternalDDSketchPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalHDRPercentileRanks;
 import org.opensearch.search.aggregations.metrics.InternalHDRPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalMax;
@@ -196,6 +198,14 @@ public class AggregationInspectionHelper {
         return agg.centroid() != null && agg.count() > 0;
     }
 
+    public static boolean hasValue(InternalDDSketchPercentileRanks agg) {
+        return MetricInspectionHelper.hasValue(agg);
+    }
+
+    public static boolean hasValue(InternalDDSketchPercentiles agg) {
+        return MetricInspectionHelper.hasValue(agg);
+    }
+
     public static boolean hasValue(InternalHDRPercentileRanks agg) {
         return MetricInspectionHelper.hasValue(agg);
     }
@@ -403,6 +403,21 @@ public class ValuesSourceConfig {
         return null;
     }
 
+    /**
+     * Returns the name of the field if the values source reads its doc values unmodified, meaning there isn't a script or a missing
+     * value. Aggregations use this to check whether the segments are sorted on the values they aggregate.
+     *
+     * @return null if the values don't come straight from the field
+     */
+    @Nullable
+    public String getUnmodifiedFieldNameOrNull() {
+        MappedFieldType fieldType = fieldType();
+        if (fieldType != null && script() == null && missing() == null) {
+            return fieldType.name();
+        }
+        return null;
+    }
+
     /**
      * Returns a human readable description of this values source, for use in error messages and similar.
      */
@@ -65,6 +65,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -251,6 +252,11 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.bigArrays();
     }
 
+    @Override
+    public Path spillDirectory() {
+        return in.spillDirectory();
+    }
+
     @Override
     public BitsetFilterCache bitsetFilterCache() {
         return in.bitsetFilterCache();
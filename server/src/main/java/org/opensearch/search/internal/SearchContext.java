@@ -71,6 +71,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -240,6 +241,11 @@ public abstract class SearchContext implements Releasable {
 
     public abstract BigArrays bigArrays();
 
+    /**
+     * The directory that aggregations may spill temporary files to when their state doesn't fit in memory.
+     */
+    public abstract Path spillDirectory();
+
     public abstract BitsetFilterCache bitsetFilterCache();
 
     public abstract TimeValue timeout();
@@ -57,7 +57,7 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
     static final String TYPES_DEPRECATION_MESSAGE =
             "[types removal] Looking up doc types [_type] in scripts is deprecated.";
 
-    private final Map<String, ScriptDocValues<?>> localCacheFieldData = new HashMap<>(4);
+    private final Map<String, FieldDocValues> localCacheFieldData = new HashMap<>(4);
 
     private final MapperService mapperService;
     private final Function<MappedFieldType, IndexFieldData<?>> fieldDataLookup;
@@ -93,8 +93,8 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
         }
         // assume its a string...
         String fieldName = key.toString();
-        ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
-        if (scriptValues == null) {
+        FieldDocValues fieldDocValues = localCacheFieldData.get(fieldName);
+        if (fieldDocValues == null) {
             final MappedFieldType fieldType = mapperService.fieldType(fieldName);
             if (fieldType == null) {
                 throw new IllegalArgumentException("No field found for [" + fieldName + "] in mapping with types " +
@@ -102,28 +102,34 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
             }
             // load fielddata on behalf of the script: otherwise it would need additional permissions
             // to deal with pagedbytes/ramusagestimator/etc
-            scriptValues = AccessController.doPrivileged(new PrivilegedAction<ScriptDocValues<?>>() {
+            ScriptDocValues<?> scriptValues = AccessController.doPrivileged(new PrivilegedAction<ScriptDocValues<?>>() {
                 @Override
                 public ScriptDocValues<?> run() {
                     return fieldDataLookup.apply(fieldType).load(reader).getScriptValues();
                 }
             });
-            localCacheFieldData.put(fieldName, scriptValues);
+            fieldDocValues = new FieldDocValues(scriptValues);
+            localCacheFieldData.put(fieldName, fieldDocValues);
         }
-        try {
-            scriptValues.setNextDocId(docId);
-        } catch (IOException e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
+        // scripts commonly access the same field several times per document, e.g. to check that it has a value before
+        // reading it, in which case the doc values are already positioned on the current document
+        if (fieldDocValues.docId != docId) {
+            try {
+                fieldDocValues.scriptValues.setNextDocId(docId);
+            } catch (IOException e) {
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+            fieldDocValues.docId = docId;
         }
-        return scriptValues;
+        return fieldDocValues.scriptValues;
     }
 
     @Override
     public boolean containsKey(Object key) {
         // assume its a string...
         String fieldName = key.toString();
-        ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
-        if (scriptValues == null) {
+        FieldDocValues fieldDocValues = localCacheFieldData.get(fieldName);
+        if (fieldDocValues == null) {
             MappedFieldType fieldType = mapperService.fieldType(fieldName);
             if (fieldType == null) {
                 return false;
@@ -181,4 +187,16 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
     public Set<Map.Entry<String, ScriptDocValues<?>>> entrySet() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The doc values of a field together with the document they are currently positioned on.
+     */
+    private static final class FieldDocValues {
+        private final ScriptDocValues<?> scriptValues;
+        private int docId = -1;
+
+        FieldDocValues(ScriptDocValues<?> scriptValues) {
+            this.scriptValues = scriptValues;
+        }
+    }
 }
@@ -36,16 +36,22 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.GroupedRunnable;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
+import org.opensearch.tasks.Task;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 
@@ -61,10 +67,26 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
     private final Setting<Integer> maxQueueSizeSetting;
     private final Setting<TimeValue> targetedResponseTimeSetting;
     private final Setting<Integer> frameSizeSetting;
+    private final Setting<TimeValue> admissionControlTargetSetting;
+    private final Setting<TimeValue> admissionControlIntervalSetting;
+    private final Setting<SchedulingPolicy> schedulingPolicySetting;
+    private final Setting<String> schedulingHeaderSetting;
+    private final Setting<Settings> schedulingWeightsSetting;
 
     AutoQueueAdjustingExecutorBuilder(final Settings settings, final String name, final int size,
                                       final int initialQueueSize, final int minQueueSize,
                                       final int maxQueueSize, final int frameSize) {
+        this(settings, name, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, false, false);
+    }
+
+    /**
+     * @param admissionControl whether or not to register settings for shedding tasks based on their queue time
+     * @param fairScheduling   whether or not to register settings for sharing the threads fairly between groups of tasks
+     */
+    AutoQueueAdjustingExecutorBuilder(final Settings settings, final String name, final int size,
+                                      final int initialQueueSize, final int minQueueSize,
+                                      final int maxQueueSize, final int frameSize, final boolean admissionControl,
+                                      final boolean fairScheduling) {
         super(name);
         final String prefix = "thread_pool." + name;
         final String sizeKey = settingsKey(prefix, "size");
@@ -144,12 +166,46 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
                 Setting.Property.NodeScope, Setting.Property.Deprecated);
         this.frameSizeSetting = Setting.intSetting(frameSizeKey, frameSize, 100, Setting.Property.NodeScope, Setting.Property.Deprecated,
             Setting.Property.Deprecated);
+        if (admissionControl) {
+            this.admissionControlTargetSetting = admissionControlTargetSetting(prefix);
+            this.admissionControlIntervalSetting = admissionControlIntervalSetting(prefix);
+        } else {
+            this.admissionControlTargetSetting = null;
+            this.admissionControlIntervalSetting = null;
+        }
+        if (fairScheduling) {
+            final String schedulingPolicyKey = settingsKey(prefix, "scheduling.policy");
+            this.schedulingPolicySetting = new Setting<>(schedulingPolicyKey, SchedulingPolicy.FIFO.toString(),
+                SchedulingPolicy::fromString, Setting.Property.NodeScope);
+            this.schedulingHeaderSetting = Setting.simpleString(settingsKey(prefix, "scheduling.header"), Task.X_OPAQUE_ID,
+                Setting.Property.NodeScope);
+            final String weightsKey = settingsKey(prefix, "scheduling.weights.");
+            this.schedulingWeightsSetting = Setting.groupSetting(weightsKey, weights -> {
+                for (String group : weights.keySet()) {
+                    Setting.parseInt(weights.get(group), 1, weightsKey + group);
+                }
+            }, Setting.Property.NodeScope);
+        } else {
+            this.schedulingPolicySetting = null;
+            this.schedulingHeaderSetting = null;
+            this.schedulingWeightsSetting = null;
+        }
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
-        return Arrays.asList(sizeSetting, queueSizeSetting, minQueueSizeSetting,
-                maxQueueSizeSetting, frameSizeSetting, targetedResponseTimeSetting);
+        final List<Setting<?>> settings = new ArrayList<>(Arrays.asList(sizeSetting, queueSizeSetting, minQueueSizeSetting,
+                maxQueueSizeSetting, frameSizeSetting, targetedResponseTimeSetting));
+        if (admissionControlTargetSetting != null) {
+            settings.add(admissionControlTargetSetting);
+            settings.add(admissionControlIntervalSetting);
+        }
+        if (schedulingPolicySetting != null) {
+            settings.add(schedulingPolicySetting);
+            settings.add(schedulingHeaderSetting);
+            settings.add(schedulingWeightsSetting);
+        }
+        return Collections.unmodifiableList(settings);
     }
 
     @Override
@@ -161,7 +217,26 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         final int maxQueueSize = maxQueueSizeSetting.get(settings);
         final int frameSize = frameSizeSetting.get(settings);
         final TimeValue targetedResponseTime = targetedResponseTimeSetting.get(settings);
-        return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime);
+        final TimeValue admissionControlTarget =
+            admissionControlTargetSetting == null ? null : admissionControlTargetSetting.get(settings);
+        final TimeValue admissionControlInterval =
+            admissionControlIntervalSetting == null ? null : admissionControlIntervalSetting.get(settings);
+        final SchedulingPolicy schedulingPolicy;
+        final String schedulingHeader;
+        final Map<String, Integer> schedulingWeights = new HashMap<>();
+        if (schedulingPolicySetting != null) {
+            schedulingPolicy = schedulingPolicySetting.get(settings);
+            schedulingHeader = schedulingHeaderSetting.get(settings);
+            final Settings weights = schedulingWeightsSetting.get(settings);
+            for (String group : weights.keySet()) {
+                schedulingWeights.put(group, Integer.parseInt(weights.get(group)));
+            }
+        } else {
+            schedulingPolicy = SchedulingPolicy.FIFO;
+            schedulingHeader = null;
+        }
+        return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime,
+            admissionControlTarget, admissionControlInterval, schedulingPolicy, schedulingHeader, schedulingWeights);
     }
 
     @Override
@@ -173,6 +248,7 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         int maxQueueSize = settings.maxQueueSize;
         int frameSize = settings.frameSize;
         TimeValue targetedResponseTime = settings.targetedResponseTime;
+        final BlockingQueue<Runnable> schedulingQueue = buildSchedulingQueue(settings, threadContext);
         final ThreadFactory threadFactory =
             OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
         final ExecutorService executor =
@@ -185,7 +261,9 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
                         frameSize,
                         targetedResponseTime,
                         threadFactory,
-                        threadContext);
+                        threadContext,
+                        buildAdmissionController(settings.admissionControlTarget, settings.admissionControlInterval),
+                        schedulingQueue);
         // TODO: in a subsequent change we hope to extend ThreadPool.Info to be more specific for the thread pool type
         final ThreadPool.Info info =
             new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.FIXED_AUTO_QUEUE_SIZE,
@@ -193,6 +271,24 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         return new ThreadPool.ExecutorHolder(executor, info);
     }
 
+    private static BlockingQueue<Runnable> buildSchedulingQueue(final AutoExecutorSettings settings, final ThreadContext threadContext) {
+        final Map<String, Integer> weights = settings.schedulingWeights;
+        switch (settings.schedulingPolicy) {
+            case FIFO:
+                return ConcurrentCollections.newBlockingQueue();
+            case INDEX:
+                return OpenSearchExecutors.newWeightedFairQueue(GroupedRunnable::schedulingGroup,
+                    group -> weights.getOrDefault(group, 1));
+            case HEADER:
+                // tasks are queued on the submitting thread, so its context holds the headers of the request the task belongs to
+                final String header = settings.schedulingHeader;
+                return OpenSearchExecutors.newWeightedFairQueue(task -> threadContext.getHeader(header),
+                    group -> weights.getOrDefault(group, 1));
+            default:
+                throw new AssertionError("unknown scheduling policy [" + settings.schedulingPolicy + "]");
+        }
+    }
+
     @Override
     String formatInfo(ThreadPool.Info info) {
         return String.format(
@@ -203,6 +299,38 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
             info.getQueueSize() == null ? "unbounded" : info.getQueueSize());
     }
 
+    /**
+     * The order in which queued tasks are handed to the threads of the executor.
+     */
+    public enum SchedulingPolicy {
+        /**
+         * Tasks are executed in the order they were submitted.
+         */
+        FIFO,
+        /**
+         * Threads are shared fairly between the indices that tasks target, see {@link GroupedRunnable}.
+         */
+        INDEX,
+        /**
+         * Threads are shared fairly between the values of a request header, for instance a tenant identifier.
+         */
+        HEADER;
+
+        public static SchedulingPolicy fromString(String policy) {
+            try {
+                return valueOf(policy.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown scheduling policy [" + policy + "], expected one of "
+                    + Arrays.toString(values()).toLowerCase(Locale.ROOT), e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
     static final class AutoExecutorSettings extends ExecutorBuilder.ExecutorSettings {
 
         final int size;
@@ -211,11 +339,23 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         final int maxQueueSize;
         final int frameSize;
         final TimeValue targetedResponseTime;
+        final TimeValue admissionControlTarget;
+        final TimeValue admissionControlInterval;
+        final SchedulingPolicy schedulingPolicy;
+        final String schedulingHeader;
+        final Map<String, Integer> schedulingWeights;
 
         AutoExecutorSettings(final String nodeName, final int size, final int initialQueueSize,
                              final int minQueueSize, final int maxQueueSize, final int frameSize,
-                             final TimeValue targetedResponseTime) {
+                             final TimeValue targetedResponseTime, final TimeValue admissionControlTarget,
+                             final TimeValue admissionControlInterval, final SchedulingPolicy schedulingPolicy,
+                             final String schedulingHeader, final Map<String, Integer> schedulingWeights) {
             super(nodeName);
+            this.schedulingPolicy = schedulingPolicy;
+            this.schedulingHeader = schedulingHeader;
+            this.schedulingWeights = schedulingWeights;
+            this.admissionControlTarget = admissionControlTarget;
+            this.admissionControlInterval = admissionControlInterval;
             this.size = size;
             this.initialQueueSize = initialQueueSize;
             this.minQueueSize = minQueueSize;
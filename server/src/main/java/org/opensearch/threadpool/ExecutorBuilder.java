@@ -32,9 +32,12 @@
 
 package org.opensearch.threadpool;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.SojournTimeAdmissionController;
 import org.opensearch.common.util.concurrent.ThreadContext;
 
 import java.util.List;
@@ -68,6 +71,31 @@ public abstract class ExecutorBuilder<U extends ExecutorBuilder.ExecutorSettings
         }
     }
 
+    /**
+     * The setting for the queue time above which tasks are shed once it has been exceeded for a whole interval, see
+     * {@link SojournTimeAdmissionController}. A value of zero, the default, disables admission control.
+     */
+    protected static Setting<TimeValue> admissionControlTargetSetting(final String prefix) {
+        return Setting.timeSetting(settingsKey(prefix, "admission_control.target_queue_time"), TimeValue.ZERO, TimeValue.ZERO,
+            Setting.Property.NodeScope);
+    }
+
+    /**
+     * The setting for the interval during which queue times must exceed the target before tasks are shed.
+     */
+    protected static Setting<TimeValue> admissionControlIntervalSetting(final String prefix) {
+        return Setting.timeSetting(settingsKey(prefix, "admission_control.interval"), TimeValue.timeValueMillis(100),
+            TimeValue.timeValueMillis(1), Setting.Property.NodeScope);
+    }
+
+    @Nullable
+    static SojournTimeAdmissionController buildAdmissionController(@Nullable TimeValue target, TimeValue interval) {
+        if (target == null || target.nanos() <= 0) {
+            return null;
+        }
+        return new SojournTimeAdmissionController(target, interval);
+    }
+
     /**
      * The list of settings this builder will register.
      *
@@ -35,6 +35,7 @@ package org.opensearch.threadpool;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.SizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
@@ -52,6 +53,8 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
 
     private final Setting<Integer> sizeSetting;
     private final Setting<Integer> queueSizeSetting;
+    private final Setting<TimeValue> admissionControlTargetSetting;
+    private final Setting<TimeValue> admissionControlIntervalSetting;
 
     /**
      * Construct a fixed executor builder; the settings will have the key prefix "thread_pool." followed by the executor name.
@@ -81,7 +84,28 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
         final int queueSize,
         final boolean deprecated
     ) {
-        this(settings, name, size, queueSize, "thread_pool." + name, deprecated);
+        this(settings, name, size, queueSize, deprecated, false);
+    }
+
+    /**
+     * Construct a fixed executor builder; the settings will have the key prefix "thread_pool." followed by the executor name.
+     *
+     * @param settings         the node-level settings
+     * @param name             the name of the executor
+     * @param size             the fixed number of threads
+     * @param queueSize        the size of the backing queue, -1 for unbounded
+     * @param deprecated       whether or not the thread pool is deprecated
+     * @param admissionControl whether or not to register settings for shedding tasks based on their queue time
+     */
+    FixedExecutorBuilder(
+        final Settings settings,
+        final String name,
+        final int size,
+        final int queueSize,
+        final boolean deprecated,
+        final boolean admissionControl
+    ) {
+        this(settings, name, size, queueSize, "thread_pool." + name, deprecated, admissionControl);
     }
 
     /**
@@ -114,6 +138,18 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
         final int queueSize,
         final String prefix,
         final boolean deprecated
+    ) {
+        this(settings, name, size, queueSize, prefix, deprecated, false);
+    }
+
+    private FixedExecutorBuilder(
+        final Settings settings,
+        final String name,
+        final int size,
+        final int queueSize,
+        final String prefix,
+        final boolean deprecated,
+        final boolean admissionControl
     ) {
         super(name);
         final String sizeKey = settingsKey(prefix, "size");
@@ -131,10 +167,20 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
                 properties);
         final String queueSizeKey = settingsKey(prefix, "queue_size");
         this.queueSizeSetting = Setting.intSetting(queueSizeKey, queueSize, properties);
+        if (admissionControl) {
+            this.admissionControlTargetSetting = admissionControlTargetSetting(prefix);
+            this.admissionControlIntervalSetting = admissionControlIntervalSetting(prefix);
+        } else {
+            this.admissionControlTargetSetting = null;
+            this.admissionControlIntervalSetting = null;
+        }
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
+        if (admissionControlTargetSetting != null) {
+            return Arrays.asList(sizeSetting, queueSizeSetting, admissionControlTargetSetting, admissionControlIntervalSetting);
+        }
         return Arrays.asList(sizeSetting, queueSizeSetting);
     }
 
@@ -143,7 +189,11 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
         final String nodeName = Node.NODE_NAME_SETTING.get(settings);
         final int size = sizeSetting.get(settings);
         final int queueSize = queueSizeSetting.get(settings);
-        return new FixedExecutorSettings(nodeName, size, queueSize);
+        if (admissionControlTargetSetting != null) {
+            return new FixedExecutorSettings(nodeName, size, queueSize, admissionControlTargetSetting.get(settings),
+                admissionControlIntervalSetting.get(settings));
+        }
+        return new FixedExecutorSettings(nodeName, size, queueSize, null, null);
     }
 
     @Override
@@ -153,7 +203,8 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
         final ThreadFactory threadFactory =
             OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
         final ExecutorService executor =
-            OpenSearchExecutors.newFixed(settings.nodeName + "/" + name(), size, queueSize, threadFactory, threadContext);
+            OpenSearchExecutors.newFixed(settings.nodeName + "/" + name(), size, queueSize, threadFactory, threadContext,
+                buildAdmissionController(settings.admissionControlTarget, settings.admissionControlInterval));
         final ThreadPool.Info info =
             new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.FIXED, size, size, null, queueSize < 0 ? null : new SizeValue(queueSize));
         return new ThreadPool.ExecutorHolder(executor, info);
@@ -173,11 +224,16 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
 
         private final int size;
         private final int queueSize;
+        private final TimeValue admissionControlTarget;
+        private final TimeValue admissionControlInterval;
 
-        FixedExecutorSettings(final String nodeName, final int size, final int queueSize) {
+        FixedExecutorSettings(final String nodeName, final int size, final int queueSize, final TimeValue admissionControlTarget,
+                              final TimeValue admissionControlInterval) {
             super(nodeName);
             this.size = size;
             this.queueSize = queueSize;
+            this.admissionControlTarget = admissionControlTarget;
+            this.admissionControlInterval = admissionControlInterval;
         }
 
     }
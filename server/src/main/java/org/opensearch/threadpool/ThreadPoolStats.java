@@ -32,6 +32,7 @@
 
 package org.opensearch.threadpool;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -55,8 +56,15 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         private final long rejected;
         private final int largest;
         private final long completed;
+        private final long admissionRejected;
+        private final long queueTimeEWMANanos;
 
         public Stats(String name, int threads, int queue, int active, long rejected, int largest, long completed) {
+            this(name, threads, queue, active, rejected, largest, completed, -1, -1);
+        }
+
+        public Stats(String name, int threads, int queue, int active, long rejected, int largest, long completed,
+                     long admissionRejected, long queueTimeEWMANanos) {
             this.name = name;
             this.threads = threads;
             this.queue = queue;
@@ -64,6 +72,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.rejected = rejected;
             this.largest = largest;
             this.completed = completed;
+            this.admissionRejected = admissionRejected;
+            this.queueTimeEWMANanos = queueTimeEWMANanos;
         }
 
         public Stats(StreamInput in) throws IOException {
@@ -74,6 +84,13 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             rejected = in.readLong();
             largest = in.readInt();
             completed = in.readLong();
+            if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+                admissionRejected = in.readLong();
+                queueTimeEWMANanos = in.readLong();
+            } else {
+                admissionRejected = -1;
+                queueTimeEWMANanos = -1;
+            }
         }
 
         @Override
@@ -85,6 +102,10 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             out.writeLong(rejected);
             out.writeInt(largest);
             out.writeLong(completed);
+            if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+                out.writeLong(admissionRejected);
+                out.writeLong(queueTimeEWMANanos);
+            }
         }
 
         public String getName() {
@@ -115,6 +136,21 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             return this.completed;
         }
 
+        /**
+         * Returns the number of tasks rejected because they would have queued for too long, or -1 if the thread pool does not
+         * use admission control. These rejections are also included in {@link #getRejected()}.
+         */
+        public long getAdmissionRejected() {
+            return admissionRejected;
+        }
+
+        /**
+         * Returns the exponentially weighted moving average of the time tasks spent queued, or -1 if it is not tracked.
+         */
+        public long getQueueTimeEWMANanos() {
+            return queueTimeEWMANanos;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject(name);
@@ -136,6 +172,12 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             if (completed != -1) {
                 builder.field(Fields.COMPLETED, completed);
             }
+            if (admissionRejected != -1) {
+                builder.field(Fields.ADMISSION_REJECTED, admissionRejected);
+            }
+            if (queueTimeEWMANanos != -1) {
+                builder.field(Fields.QUEUE_TIME_EWMA_IN_NANOS, queueTimeEWMANanos);
+            }
             builder.endObject();
             return builder;
         }
@@ -187,6 +229,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         static final String REJECTED = "rejected";
         static final String LARGEST = "largest";
         static final String COMPLETED = "completed";
+        static final String ADMISSION_REJECTED = "admission_rejected";
+        static final String QUEUE_TIME_EWMA_IN_NANOS = "queue_time_ewma_in_nanos";
     }
 
     @Override
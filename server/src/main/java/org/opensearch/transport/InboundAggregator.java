@@ -40,6 +40,7 @@ import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -119,8 +120,14 @@ public class InboundAggregator implements Releasable {
             releasableContent = new ReleasableBytesReference(content, () -> Releasables.close(references));
         }
 
+        // The reserved bytes are released once both the content and the release control of the message are released. Requests may
+        // retain slices of their content beyond the response, e.g. recovery file chunks that are buffered until their predecessors
+        // arrive, and the memory they pin has to remain accounted for until then.
         final BreakerControl breakerControl = new BreakerControl(circuitBreaker);
-        final InboundMessage aggregated = new InboundMessage(currentHeader, releasableContent, breakerControl);
+        breakerControl.incRef();
+        final ReleasableBytesReference contentWithBreaker = new ReleasableBytesReference(releasableContent,
+            () -> Releasables.close(releasableContent, breakerControl::decRef));
+        final InboundMessage aggregated = new InboundMessage(currentHeader, contentWithBreaker, breakerControl::decRef);
         boolean success = false;
         try {
             if (aggregated.getHeader().needsToReadVariableHeader()) {
@@ -232,7 +239,7 @@ public class InboundAggregator implements Releasable {
         }
     }
 
-    private static class BreakerControl implements Releasable {
+    private static class BreakerControl extends AbstractRefCounted {
 
         private static final int CLOSED = -1;
 
@@ -240,6 +247,7 @@ public class InboundAggregator implements Releasable {
         private final AtomicInteger bytesToRelease = new AtomicInteger(0);
 
         private BreakerControl(Supplier<CircuitBreaker> circuitBreaker) {
+            super("breaker_control");
             this.circuitBreaker = circuitBreaker;
         }
 
@@ -249,7 +257,7 @@ public class InboundAggregator implements Releasable {
         }
 
         @Override
-        public void close() {
+        protected void closeInternal() {
             final int toRelease = bytesToRelease.getAndSet(CLOSED);
             assert toRelease != CLOSED;
             if (toRelease > 0) {
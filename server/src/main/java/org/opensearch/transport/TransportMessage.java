@@ -35,8 +35,14 @@ package org.opensearch.transport;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.util.concurrent.RefCounted;
 
-public abstract class TransportMessage implements Writeable {
+/**
+ * Base class of all transport requests and responses. Messages are {@link RefCounted} so that messages which hold on to the network
+ * buffers they were read from (see {@link StreamInput#readReleasableBytesReference()}) can release them once they are no longer in
+ * use. Most messages copy everything they read and treat reference counting as a no-op.
+ */
+public abstract class TransportMessage implements Writeable, RefCounted {
 
     private TransportAddress remoteAddress;
 
@@ -58,4 +64,21 @@ public abstract class TransportMessage implements Writeable {
      * currently a no-op
      */
     public TransportMessage(StreamInput in) {}
+
+    @Override
+    public void incRef() {
+        // noop, override to manage the life-cycle of resources held by a message
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        // noop, override to manage the life-cycle of resources held by a message
+        return true;
+    }
+
+    @Override
+    public boolean decRef() {
+        // noop, override to manage the life-cycle of resources held by a message
+        return false;
+    }
 }
@@ -193,6 +193,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(stats.getCompleted(), deserializedStats.getCompleted());
                         assertEquals(stats.getQueue(), deserializedStats.getQueue());
                         assertEquals(stats.getRejected(), deserializedStats.getRejected());
+                        assertEquals(stats.getAdmissionRejected(), deserializedStats.getAdmissionRejected());
+                        assertEquals(stats.getQueueTimeEWMANanos(), deserializedStats.getQueueTimeEWMANanos());
                     }
                 }
                 FsInfo fs = nodeStats.getFs();
@@ -430,7 +432,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
             for (int i = 0; i < numThreadPoolStats; i++) {
                 threadPoolStatsList.add(new ThreadPoolStats.Stats(randomAlphaOfLengthBetween(3, 10), randomIntBetween(1, 1000),
                         randomIntBetween(1, 1000), randomIntBetween(1, 1000), randomNonNegativeLong(),
-                        randomIntBetween(1, 1000), randomIntBetween(1, 1000)));
+                        randomIntBetween(1, 1000), randomIntBetween(1, 1000), randomBoolean() ? -1 : randomNonNegativeLong(),
+                        randomBoolean() ? -1 : randomNonNegativeLong()));
             }
             threadPoolStats = new ThreadPoolStats(threadPoolStatsList);
         }
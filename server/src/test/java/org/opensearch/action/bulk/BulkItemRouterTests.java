@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.action.support.replication.ClusterStateCreationUtils.state;
+import static org.hamcrest.Matchers.equalTo;
+
+public class BulkItemRouterTests extends OpenSearchTestCase {
+
+    private final IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+    private final OperationRouting operationRouting =
+        new OperationRouting(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+
+    public void testRoutesItemsLikeOperationRouting() {
+        final ClusterState clusterState = state(1, new String[] { "index1", "index2" }, between(1, 5));
+        final BulkItemRouter router = new BulkItemRouter(clusterState, resolver, operationRouting);
+        final BulkRequest bulkRequest = new BulkRequest().itemRouter(router);
+        final Map<ShardId, List<Integer>> expected = new HashMap<>();
+        final int numItems = between(1, 100);
+        for (int i = 0; i < numItems; i++) {
+            final String index = randomFrom("index1", "index2");
+            final String id = Integer.toString(i);
+            final String routing = randomBoolean() ? null : randomAlphaOfLength(5);
+            final DocWriteRequest<?> request;
+            switch (between(0, 2)) {
+                case 0:
+                    request = new IndexRequest(index).id(id).routing(routing).source(Collections.emptyMap());
+                    break;
+                case 1:
+                    request = new UpdateRequest(index, id).routing(routing).doc(Collections.emptyMap());
+                    break;
+                default:
+                    request = new DeleteRequest(index, id).routing(routing);
+                    break;
+            }
+            bulkRequest.add(request);
+            final ShardId shardId = operationRouting.indexShards(clusterState, index, id, routing).shardId();
+            expected.computeIfAbsent(shardId, shard -> new ArrayList<>()).add(i);
+        }
+
+        assertTrue(router.routedOn(clusterState));
+        final Map<ShardId, List<Integer>> routed = new HashMap<>();
+        for (Map.Entry<ShardId, List<BulkItemRequest>> entry : router.requestsByShard().entrySet()) {
+            for (BulkItemRequest item : entry.getValue()) {
+                assertSame(bulkRequest.requests().get(item.id()), item.request());
+                routed.computeIfAbsent(entry.getKey(), shard -> new ArrayList<>()).add(item.id());
+            }
+        }
+        assertThat(routed, equalTo(expected));
+        for (int i = 0; i < numItems; i++) {
+            assertTrue(router.isRouted(i));
+        }
+    }
+
+    public void testLeavesItemsWithoutIdOrIndexToExecution() {
+        final ClusterState clusterState = state(1, new String[] { "index" }, 1);
+        final BulkItemRouter router = new BulkItemRouter(clusterState, resolver, operationRouting);
+        final BulkRequest bulkRequest = new BulkRequest().itemRouter(router)
+            .add(new IndexRequest("index").source(Collections.emptyMap()))
+            .add(new IndexRequest("missing").id("1").source(Collections.emptyMap()))
+            .add(new DeleteRequest("index", "2"));
+
+        assertTrue(router.routedOn(clusterState));
+        assertFalse(router.isRouted(0));
+        assertFalse(router.isRouted(1));
+        assertTrue(router.isRouted(2));
+        assertThat(router.requestsByShard().size(), equalTo(1));
+        final List<BulkItemRequest> items = router.requestsByShard().values().iterator().next();
+        assertThat(items.size(), equalTo(1));
+        assertSame(bulkRequest.requests().get(2), items.get(0).request());
+        // the request was not modified, so its id is still generated when it is executed
+        assertNull(bulkRequest.requests().get(0).id());
+    }
+
+    public void testStopsRoutingOnPipelines() {
+        final ClusterState clusterState = state(1, new String[] { "index" }, 1);
+        BulkItemRouter router = new BulkItemRouter(clusterState, resolver, operationRouting);
+        new BulkRequest().itemRouter(router)
+            .add(new IndexRequest("index").id("1").source(Collections.emptyMap()))
+            .add(new IndexRequest("index").id("2").setPipeline("pipeline").source(Collections.emptyMap()))
+            .add(new IndexRequest("index").id("3").source(Collections.emptyMap()));
+        assertFalse(router.routedOn(clusterState));
+        assertTrue(router.requestsByShard().isEmpty());
+        assertFalse(router.isRouted(0));
+
+        final IndexMetadata indexMetadata = clusterState.metadata().index("index");
+        final ClusterState withDefaultPipeline = ClusterState.builder(clusterState)
+            .metadata(Metadata.builder(clusterState.metadata()).put(IndexMetadata.builder(indexMetadata)
+                .settings(Settings.builder().put(indexMetadata.getSettings())
+                    .put(randomFrom(IndexSettings.DEFAULT_PIPELINE, IndexSettings.FINAL_PIPELINE).getKey(), "pipeline"))
+                .settingsVersion(indexMetadata.getSettingsVersion() + 1)))
+            .incrementVersion()
+            .build();
+        router = new BulkItemRouter(withDefaultPipeline, resolver, operationRouting);
+        new BulkRequest().itemRouter(router).add(new DeleteRequest("index", "1"));
+        assertFalse(router.routedOn(withDefaultPipeline));
+    }
+
+    public void testOnlyAppliesToTheSameClusterState() {
+        final ClusterState clusterState = state(1, new String[] { "index" }, 1);
+        final BulkItemRouter router = new BulkItemRouter(clusterState, resolver, operationRouting);
+        new BulkRequest().itemRouter(router).add(new DeleteRequest("index", "1"));
+        assertTrue(router.routedOn(clusterState));
+        assertTrue(router.routedOn(ClusterState.builder(clusterState).build()));
+        assertFalse(router.routedOn(ClusterState.builder(clusterState).incrementVersion().build()));
+    }
+}
@@ -190,4 +190,54 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertSame(first.getPipeline(), second.getPipeline());
         assertSame(first.routing(), second.routing());
     }
+
+    public void testParseInChunks() throws IOException {
+        final int numItems = randomIntBetween(1, 20);
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numItems; i++) {
+            if (randomBoolean()) {
+                body.append("{ \"delete\":{ \"_id\": \"").append(i).append("\" } }\n");
+            } else {
+                body.append("{ \"index\":{ \"_id\": \"").append(i).append("\" } }\n{ \"field\": \"value\" }\n");
+            }
+            if (rarely()) {
+                body.append("\n");
+            }
+        }
+        final BytesArray request = new BytesArray(body.toString());
+        final int chunkSize = randomIntBetween(1, request.length());
+        final BulkRequestParser.Chunks chunks = new BulkRequestParser(randomBoolean())
+            .parseInChunks(request, "foo", null, null, null, null, null, false, XContentType.JSON);
+
+        final List<String> ids = new ArrayList<>();
+        while (chunks.hasRemaining()) {
+            final int start = chunks.parsedBytes();
+            final List<String> chunk = new ArrayList<>();
+            chunks.parseNext(chunkSize, indexRequest -> chunk.add(indexRequest.id()), req -> fail(),
+                deleteRequest -> chunk.add(deleteRequest.id()));
+            if (chunks.hasRemaining()) {
+                assertFalse(chunk.isEmpty());
+                assertThat(chunks.parsedBytes() - start, Matchers.greaterThanOrEqualTo(chunkSize));
+            }
+            ids.addAll(chunk);
+        }
+        assertEquals(request.length(), chunks.parsedBytes());
+        assertThat(ids, Matchers.hasSize(numItems));
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(Integer.toString(i), ids.get(i));
+        }
+    }
+
+    public void testParseInChunksReportsLinesOfTheWholeBody() throws IOException {
+        BytesArray request = new BytesArray("{ \"index\":{ \"_id\": \"bar\" } }\n{}\n{ \"delete\":{ \"_id\": \"bar\" } }\n[]\n");
+        BulkRequestParser.Chunks chunks = new BulkRequestParser(randomBoolean())
+            .parseInChunks(request, "foo", null, null, null, null, null, false, XContentType.JSON);
+        List<Object> parsed = new ArrayList<>();
+        chunks.parseNext(1, parsed::add, parsed::add, parsed::add);
+        chunks.parseNext(1, parsed::add, parsed::add, parsed::add);
+        assertThat(parsed, Matchers.hasSize(2));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> chunks.parseNext(1, req -> fail(), req -> fail(), req -> fail()));
+        assertEquals("Malformed action/metadata line [4], expected START_OBJECT but found [START_ARRAY]", e.getMessage());
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.get;
+
+import org.apache.lucene.index.Term;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Tests the shard-level multi-get, which loads the items that can be served by a single searcher in one batch and executes the
+ * others individually.
+ */
+public class TransportShardMultiGetActionTests extends OpenSearchSingleNodeTestCase {
+
+    private IndexShard createIndexWithoutRefresh() {
+        final IndexService indexService = createIndex("test", Settings.builder()
+            .put("index.number_of_shards", 1)
+            .put("index.refresh_interval", -1)
+            .build());
+        final IndexShard shard = indexService.getShardOrNull(0);
+        assertThat(shard, notNullValue());
+        return shard;
+    }
+
+    private static boolean hasUnrefreshedVersion(IndexShard shard, String id) {
+        return shard.hasUnrefreshedVersion(new Term(IdFieldMapper.NAME, Uid.encodeId(id)));
+    }
+
+    public void testMixOfRefreshedAndUnrefreshedDocuments() {
+        final IndexShard shard = createIndexWithoutRefresh();
+        final int numDocs = between(4, 50);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("field", "v1").get();
+        }
+        client().admin().indices().prepareRefresh("test").get();
+
+        final Set<String> updated = new HashSet<>();
+        final Set<String> added = new HashSet<>();
+        for (int i = 0; i < numDocs; i++) {
+            if (randomBoolean()) {
+                final String id = Integer.toString(i);
+                client().prepareIndex("test", "_doc", id).setSource("field", "v2").get();
+                updated.add(id);
+            }
+        }
+        final int numAdded = between(1, 10);
+        for (int i = 0; i < numAdded; i++) {
+            final String id = "new-" + i;
+            client().prepareIndex("test", "_doc", id).setSource("field", "v1").get();
+            added.add(id);
+        }
+
+        final List<String> ids = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            final String id = Integer.toString(i);
+            ids.add(id);
+            assertThat(hasUnrefreshedVersion(shard, id), equalTo(updated.contains(id)));
+        }
+        for (String id : added) {
+            ids.add(id);
+            assertThat(hasUnrefreshedVersion(shard, id), equalTo(true));
+        }
+        ids.add("missing");
+        Collections.shuffle(ids, random());
+
+        final MultiGetResponse realtime = client().prepareMultiGet().setRealtime(true).add("test", "_doc", ids).get();
+        assertThat(realtime.getResponses().length, equalTo(ids.size()));
+        for (int i = 0; i < ids.size(); i++) {
+            final String id = ids.get(i);
+            final MultiGetItemResponse item = realtime.getResponses()[i];
+            assertThat(item.getFailure(), nullValue());
+            assertThat(item.getId(), equalTo(id));
+            final GetResponse response = item.getResponse();
+            if (id.equals("missing")) {
+                assertThat(response.isExists(), equalTo(false));
+            } else {
+                assertThat(response.isExists(), equalTo(true));
+                final boolean isUpdated = updated.contains(id);
+                assertThat(response.getVersion(), equalTo(isUpdated ? 2L : 1L));
+                assertThat(response.getSourceAsMap().get("field"), equalTo(isUpdated ? "v2" : "v1"));
+            }
+        }
+
+        // non realtime requests only see what was refreshed, even for the documents that changed since
+        final MultiGetResponse nonRealtime = client().prepareMultiGet().setRealtime(false).add("test", "_doc", ids).get();
+        for (int i = 0; i < ids.size(); i++) {
+            final String id = ids.get(i);
+            final GetResponse response = nonRealtime.getResponses()[i].getResponse();
+            if (id.equals("missing") || added.contains(id)) {
+                assertThat(response.isExists(), equalTo(false));
+            } else {
+                assertThat(response.isExists(), equalTo(true));
+                assertThat(response.getVersion(), equalTo(1L));
+                assertThat(response.getSourceAsMap().get("field"), equalTo("v1"));
+            }
+        }
+    }
+
+    public void testAppendOnlyDocumentsFallBackToIndividualGets() {
+        final IndexShard shard = createIndexWithoutRefresh();
+        final int numDocs = between(2, 20);
+        final List<String> ids = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            ids.add(client().prepareIndex("test", "_doc").setSource("field", "v1").get().getId());
+        }
+        // appending documents with auto-generated ids doesn't record them in the version map, so it can't tell which documents
+        // changed since the last refresh
+        for (String id : ids) {
+            assertThat(hasUnrefreshedVersion(shard, id), equalTo(true));
+        }
+        final MultiGetResponse response = client().prepareMultiGet().setRealtime(true).add("test", "_doc", ids).get();
+        for (MultiGetItemResponse item : response.getResponses()) {
+            assertThat(item.getFailure(), nullValue());
+            assertThat(item.getResponse().isExists(), equalTo(true));
+            assertThat(item.getResponse().getVersion(), equalTo(1L));
+        }
+    }
+
+    public void testVersionConflictOfBatchedItem() {
+        createIndexWithoutRefresh();
+        for (int i = 0; i < 2; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("field", "v1").get();
+        }
+        client().admin().indices().prepareRefresh("test").get();
+        final MultiGetResponse response = client().prepareMultiGet().setRealtime(randomBoolean())
+            .add(new MultiGetRequest.Item("test", "_doc", "0").version(Versions.MATCH_ANY))
+            .add(new MultiGetRequest.Item("test", "_doc", "1").version(2))
+            .get();
+        assertThat(response.getResponses()[0].getFailure(), nullValue());
+        assertThat(response.getResponses()[0].getResponse().isExists(), equalTo(true));
+        assertThat(response.getResponses()[1].getFailure(), notNullValue());
+        assertThat(response.getResponses()[1].getFailure().getFailure(), instanceOf(VersionConflictEngineException.class));
+    }
+}
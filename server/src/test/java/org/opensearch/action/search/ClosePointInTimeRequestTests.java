@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class ClosePointInTimeRequestTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final ClosePointInTimeRequest request = new ClosePointInTimeRequest(randomAlphaOfLengthBetween(1, 100));
+        final ClosePointInTimeRequest copy = copyWriteable(request, writableRegistry(), ClosePointInTimeRequest::new);
+        assertThat(copy.getId(), equalTo(request.getId()));
+    }
+
+    public void testFromAndToXContent() throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final ClosePointInTimeRequest request = new ClosePointInTimeRequest(randomAlphaOfLengthBetween(1, 100));
+        final BytesReference bytes = toShuffledXContent(request, xContentType, ToXContent.EMPTY_PARAMS, randomBoolean());
+        try (XContentParser parser = createParser(xContentType.xContent(), bytes)) {
+            assertThat(ClosePointInTimeRequest.fromXContent(parser).getId(), equalTo(request.getId()));
+        }
+    }
+
+    public void testToXContent() {
+        assertThat(Strings.toString(new ClosePointInTimeRequest("POINT_IN_TIME_ID")), equalTo("{\"id\":\"POINT_IN_TIME_ID\"}"));
+    }
+
+    public void testFromXContentWithUnknownParamThrowsException() throws IOException {
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder()
+                .startObject()
+                .field("id", "value")
+                .field("unknown", "keyword")
+                .endObject())) {
+            Exception e = expectThrows(IllegalArgumentException.class, () -> ClosePointInTimeRequest.fromXContent(parser));
+            assertThat(e.getMessage(), startsWith("Unknown parameter [unknown]"));
+        }
+    }
+
+    public void testValidation() throws IOException {
+        assertNull(new ClosePointInTimeRequest(randomAlphaOfLength(10)).validate());
+        assertNotNull(new ClosePointInTimeRequest("").validate());
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder().startObject().endObject())) {
+            Exception e = expectThrows(IllegalArgumentException.class, () -> ClosePointInTimeRequest.fromXContent(parser));
+            assertThat(e.getMessage(), equalTo("point in time id is not provided"));
+        }
+    }
+}
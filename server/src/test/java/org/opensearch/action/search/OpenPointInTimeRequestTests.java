@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+public class OpenPointInTimeRequestTests extends OpenSearchTestCase {
+
+    public static OpenPointInTimeRequest randomOpenPointInTimeRequest() {
+        final String[] indices = generateRandomStringArray(5, 10, false, false);
+        final IndicesOptions indicesOptions = IndicesOptions.fromOptions(randomBoolean(), randomBoolean(), randomBoolean(),
+            randomBoolean());
+        final TimeValue keepAlive = TimeValue.parseTimeValue(randomTimeValue(), "keep_alive");
+        return new OpenPointInTimeRequest(indices, indicesOptions, keepAlive, randomBoolean() ? null : randomAlphaOfLength(5),
+            randomBoolean() ? null : randomAlphaOfLength(5));
+    }
+
+    public void testSerialization() throws IOException {
+        final OpenPointInTimeRequest request = randomOpenPointInTimeRequest();
+        final OpenPointInTimeRequest copy = copyWriteable(request, writableRegistry(), OpenPointInTimeRequest::new);
+        assertArrayEquals(request.indices(), copy.indices());
+        assertThat(copy.indicesOptions(), equalTo(request.indicesOptions()));
+        assertThat(copy.keepAlive(), equalTo(request.keepAlive()));
+        assertThat(copy.routing(), equalTo(request.routing()));
+        assertThat(copy.preference(), equalTo(request.preference()));
+    }
+
+    public void testValidation() {
+        final OpenPointInTimeRequest valid = randomOpenPointInTimeRequest();
+        assertNull(valid.validate());
+
+        final OpenPointInTimeRequest invalid = new OpenPointInTimeRequest(new String[0], OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS,
+            null, null, null);
+        final ActionRequestValidationException e = invalid.validate();
+        assertNotNull(e);
+        assertThat(e.validationErrors(), containsInAnyOrder("[index] is not specified", "[keep_alive] is not specified"));
+    }
+}
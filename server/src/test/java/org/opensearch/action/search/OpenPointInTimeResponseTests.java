@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.Strings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class OpenPointInTimeResponseTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final OpenPointInTimeResponse response = new OpenPointInTimeResponse(randomAlphaOfLengthBetween(1, 100));
+        final OpenPointInTimeResponse copy = copyWriteable(response, writableRegistry(), OpenPointInTimeResponse::new);
+        assertThat(copy.getPointInTimeId(), equalTo(response.getPointInTimeId()));
+    }
+
+    public void testToXContent() {
+        assertThat(Strings.toString(new OpenPointInTimeResponse("POINT_IN_TIME_ID")), equalTo("{\"id\":\"POINT_IN_TIME_ID\"}"));
+    }
+}
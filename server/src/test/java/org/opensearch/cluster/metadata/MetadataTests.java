@@ -62,6 +62,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -75,7 +76,9 @@ import static org.opensearch.cluster.metadata.Metadata.Builder.validateDataStrea
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
 
 public class MetadataTests extends OpenSearchTestCase {
@@ -1280,6 +1283,81 @@ public class MetadataTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDedupesIdenticalMappings() throws IOException {
+        final String mapping = "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}";
+        final String otherMapping = "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"text\"}}}}";
+        final int indexCount = between(2, 10);
+        Metadata.Builder builder = Metadata.builder();
+        for (int i = 0; i < indexCount; i++) {
+            builder.put(IndexMetadata.builder("index-" + i)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .putMapping("_doc", mapping));
+        }
+        builder.put(IndexMetadata.builder("other")
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .putMapping("_doc", otherMapping));
+        final Metadata metadata = builder.build();
+
+        final MappingMetadata shared = metadata.index("index-0").mapping();
+        for (int i = 1; i < indexCount; i++) {
+            assertThat(metadata.index("index-" + i).mapping(), sameInstance(shared));
+        }
+        assertThat(metadata.index("other").mapping(), not(sameInstance(shared)));
+        assertThat(metadata.index("other").mapping().source().string(), containsString("text"));
+
+        // a deserialized copy of the same mapping is replaced by the shared instance
+        final BytesStreamOutput out = new BytesStreamOutput();
+        metadata.index("index-0").writeTo(out);
+        final IndexMetadata copy = IndexMetadata.readFrom(out.bytes().streamInput());
+        assertThat(copy.mapping(), not(sameInstance(shared)));
+        final Metadata updated = Metadata.builder(metadata).remove("index-0").put(IndexMetadata.builder(copy).index("copy")).build();
+        assertThat(updated.index("copy").mapping(), sameInstance(updated.index("index-1").mapping()));
+        assertThat(updated.index("copy").getMappingVersion(), equalTo(copy.getMappingVersion()));
+    }
+
+    public void testDedupeMappingsKeepsUnchangedIndices() {
+        final String mapping = "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}";
+        final int indexCount = between(2, 10);
+        Metadata.Builder builder = Metadata.builder();
+        for (int i = 0; i < indexCount; i++) {
+            builder.put(IndexMetadata.builder("index-" + i)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .putMapping("_doc", mapping));
+        }
+        final Metadata metadata = builder.build();
+        final MappingMetadata shared = metadata.index("index-0").mapping();
+
+        // new indices with their own copy of the mapping, whatever their name and so their position in the indices map
+        builder = Metadata.builder(metadata);
+        final int newIndexCount = between(1, indexCount - 1);
+        for (int i = 0; i < newIndexCount; i++) {
+            builder.put(IndexMetadata.builder(randomAlphaOfLength(10).toLowerCase(Locale.ROOT) + "-" + i)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .putMapping("_doc", mapping));
+        }
+        final Metadata updated = builder.build();
+        for (int i = 0; i < indexCount; i++) {
+            assertThat(updated.index("index-" + i), sameInstance(metadata.index("index-" + i)));
+        }
+        for (IndexMetadata indexMetadata : updated) {
+            assertThat(indexMetadata.mapping(), sameInstance(shared));
+        }
+
+        // building again without changes keeps every IndexMetadata instance
+        final Metadata rebuilt = Metadata.builder(updated).build();
+        for (IndexMetadata indexMetadata : updated) {
+            assertThat(rebuilt.index(indexMetadata.getIndex().getName()), sameInstance(indexMetadata));
+        }
+    }
+
     public static Metadata randomMetadata() {
         Metadata.Builder md = Metadata.builder()
             .put(buildIndexMetadata("index", "alias", randomBoolean() ? null : randomBoolean()).build(), randomBoolean())
@@ -49,12 +49,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.cluster.DataStreamTestHelper.createBackingIndex;
 import static org.opensearch.cluster.DataStreamTestHelper.createTimestampField;
 import static org.opensearch.common.util.set.Sets.newHashSet;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class WildcardExpressionResolverTests extends OpenSearchTestCase {
     public void testConvertWildcardsJustIndicesTests() {
@@ -351,6 +355,88 @@ public class WildcardExpressionResolverTests extends OpenSearchTestCase {
         }
     }
 
+    public void testOtherWildcardMatchesAreCachedPerMetadata() {
+        Metadata metadata = Metadata.builder()
+            .put(indexBuilder("logs-app-2021.01.01").putAlias(AliasMetadata.builder("logs-app")))
+            .put(indexBuilder("logs-app-2021.01.02"))
+            .put(indexBuilder("logs-web-2021.01.01"))
+            .put(indexBuilder("metrics-app-2021.01.01"))
+            .build();
+        ClusterState state = ClusterState.builder(new ClusterName("_name")).metadata(metadata).build();
+        IndexNameExpressionResolver.WildcardExpressionResolver resolver = new IndexNameExpressionResolver.WildcardExpressionResolver();
+        IndexNameExpressionResolver.Context context =
+            new IndexNameExpressionResolver.Context(state, IndicesOptions.lenientExpandOpen(), false);
+
+        assertThat(IndexNameExpressionResolver.WildcardExpressionResolver.otherWildcardMatches(metadata.getIndicesLookup(),
+            "logs-*-2021.01.01").keySet(), containsInAnyOrder("logs-app-2021.01.01", "logs-web-2021.01.01"));
+        assertThat(IndexNameExpressionResolver.WildcardExpressionResolver.otherWildcardMatches(metadata.getIndicesLookup(),
+            "*app*").keySet(), containsInAnyOrder("logs-app", "logs-app-2021.01.01", "logs-app-2021.01.02", "metrics-app-2021.01.01"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(newHashSet(resolver.resolve(context, Collections.singletonList("logs-*-2021.01.01"))),
+                equalTo(newHashSet("logs-app-2021.01.01", "logs-web-2021.01.01")));
+            assertThat(newHashSet(resolver.resolve(context, Collections.singletonList("*-app-2021*"))),
+                equalTo(newHashSet("logs-app-2021.01.01", "logs-app-2021.01.02", "metrics-app-2021.01.01")));
+        }
+        assertSame(metadata.getWildcardMatches("logs-*-2021.01.01", e -> {
+            throw new AssertionError("matches should have been cached");
+        }), metadata.getWildcardMatches("logs-*-2021.01.01", e -> {
+            throw new AssertionError("matches should have been cached");
+        }));
+
+        // a new metadata instance does not see the matches of the previous one
+        Metadata updated = Metadata.builder(metadata).put(indexBuilder("logs-db-2021.01.01")).build();
+        state = ClusterState.builder(state).metadata(updated).build();
+        context = new IndexNameExpressionResolver.Context(state, IndicesOptions.lenientExpandOpen(), false);
+        assertThat(newHashSet(resolver.resolve(context, Collections.singletonList("logs-*-2021.01.01"))),
+            equalTo(newHashSet("logs-app-2021.01.01", "logs-db-2021.01.01", "logs-web-2021.01.01")));
+    }
+
+    public void testWildcardMatchesCacheIsBoundedByWeight() {
+        final Metadata metadata = Metadata.builder().put(indexBuilder("index")).build();
+        final int entriesPerExpression = randomIntBetween(100, 1000);
+        final SortedMap<String, IndexAbstraction> matches = new TreeMap<>();
+        for (int i = 0; i < entriesPerExpression; i++) {
+            matches.put("index-" + i, metadata.getIndicesLookup().get("index"));
+        }
+        final AtomicInteger computed = new AtomicInteger();
+        final int expressions =
+            Math.toIntExact(Metadata.WILDCARD_MATCHES_CACHE_WEIGHT / (entriesPerExpression + 1)) + randomIntBetween(1, 10);
+        for (int i = 0; i < expressions; i++) {
+            metadata.getWildcardMatches("*-" + i, e -> {
+                computed.incrementAndGet();
+                return matches;
+            });
+            assertThat(metadata.wildcardMatchesCacheWeight(), lessThanOrEqualTo(Metadata.WILDCARD_MATCHES_CACHE_WEIGHT));
+        }
+        assertEquals(expressions, computed.get());
+
+        // the most recently used expression is still cached while the least recently used one was evicted
+        metadata.getWildcardMatches("*-" + (expressions - 1), e -> {
+            throw new AssertionError("matches should have been cached");
+        });
+        metadata.getWildcardMatches("*-0", e -> {
+            computed.incrementAndGet();
+            return matches;
+        });
+        assertEquals(expressions + 1, computed.get());
+
+        // matches that would take more than the whole cache are never cached and do not evict other expressions
+        final long weight = metadata.wildcardMatchesCacheWeight();
+        final SortedMap<String, IndexAbstraction> tooLarge = new TreeMap<>();
+        for (int i = 0; i < Metadata.WILDCARD_MATCHES_CACHE_WEIGHT; i++) {
+            tooLarge.put("index-" + i, metadata.getIndicesLookup().get("index"));
+        }
+        for (int i = 0; i < 2; i++) {
+            assertSame(tooLarge, metadata.getWildcardMatches("*", e -> {
+                computed.incrementAndGet();
+                return tooLarge;
+            }));
+        }
+        assertEquals(expressions + 3, computed.get());
+        assertEquals(weight, metadata.wildcardMatchesCacheWeight());
+    }
+
     private static IndexMetadata.Builder indexBuilder(String index) {
         return IndexMetadata.builder(index).settings(settings(Version.CURRENT)
             .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0));
@@ -124,11 +124,16 @@ public class MasterServiceTests extends OpenSearchTestCase {
     }
 
     private MasterService createMasterService(boolean makeMaster) {
+        return createMasterService(makeMaster, Settings.EMPTY);
+    }
+
+    private MasterService createMasterService(boolean makeMaster, Settings settings) {
         final DiscoveryNode localNode = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(),
             emptySet(), Version.CURRENT);
         final MasterService masterService = new MasterService(Settings.builder()
             .put(ClusterName.CLUSTER_NAME_SETTING.getKey(), MasterServiceTests.class.getSimpleName())
             .put(Node.NODE_NAME_SETTING.getKey(), "test_node")
+            .put(settings)
             .build(), new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool);
         final ClusterState initialClusterState = ClusterState.builder(new ClusterName(MasterServiceTests.class.getSimpleName()))
             .nodes(DiscoveryNodes.builder()
@@ -1038,6 +1043,131 @@ public class MasterServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCoalescingBatchesOfDifferentExecutors() throws Exception {
+        final MasterService masterService = createMasterService(true, Settings.builder()
+            .put(MasterService.MASTER_SERVICE_TASK_COALESCING_WINDOW_SETTING.getKey(), "1m").build());
+        final CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+        final CountDownLatch releaseBlockingTask = new CountDownLatch(1);
+        masterService.submitStateUpdateTask("block", new ClusterStateUpdateTask() {
+            @Override
+            public ClusterState execute(ClusterState currentState) throws Exception {
+                blockingTaskStarted.countDown();
+                releaseBlockingTask.await();
+                return currentState;
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        blockingTaskStarted.await();
+
+        final int numTasks = randomIntBetween(2, 10);
+        final CountDownLatch processed = new CountDownLatch(numTasks);
+        final Set<Long> publishedVersions = ConcurrentHashMap.newKeySet();
+        final AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < numTasks; i++) {
+            // every task is its own executor, so none of them would be batched together without coalescing
+            masterService.submitStateUpdateTask("coalesced-task [" + i + "]", new ClusterStateUpdateTask() {
+                @Override
+                public ClusterState execute(ClusterState currentState) {
+                    executed.incrementAndGet();
+                    return ClusterState.builder(currentState).build();
+                }
+
+                @Override
+                public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                    publishedVersions.add(newState.version());
+                    processed.countDown();
+                }
+
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+        }
+        releaseBlockingTask.countDown();
+        assertTrue(processed.await(10, TimeUnit.SECONDS));
+
+        assertThat(executed.get(), equalTo(numTasks));
+        assertThat(publishedVersions.size(), equalTo(1));
+        final MasterTaskStats stats = masterService.stats();
+        assertThat(stats.getPublications(), equalTo(1L));
+        assertThat(stats.getCoalescedBatches(), equalTo((long) numTasks));
+        assertThat(stats.getSources(), hasKey("block"));
+        final MasterTaskStats.SourceStats sourceStats = stats.getSources().get("coalesced-task");
+        assertThat(sourceStats.getTasks(), equalTo((long) numTasks));
+        assertThat(sourceStats.getBatches(), equalTo((long) numTasks));
+        assertThat(sourceStats.getMaxBatchSize(), equalTo(1L));
+        // the time does not advance in this test
+        assertThat(sourceStats.getComputeTime(), equalTo(TimeValue.ZERO));
+
+        masterService.close();
+    }
+
+    public void testQueueTimeExcludesComputeTime() throws Exception {
+        try (MasterService masterService = createMasterService(true)) {
+            final CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+            final CountDownLatch releaseBlockingTask = new CountDownLatch(1);
+            masterService.submitStateUpdateTask("block", new ClusterStateUpdateTask() {
+                @Override
+                public ClusterState execute(ClusterState currentState) throws Exception {
+                    blockingTaskStarted.countDown();
+                    releaseBlockingTask.await();
+                    return currentState;
+                }
+
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            blockingTaskStarted.await();
+
+            final long queueTimeInMillis = TimeValue.timeValueSeconds(randomIntBetween(1, 10)).millis();
+            final long computeTimeInMillis = TimeValue.timeValueSeconds(randomIntBetween(1, 10)).millis();
+            final CountDownLatch processed = new CountDownLatch(1);
+            masterService.submitStateUpdateTask("timed-task", new ClusterStateUpdateTask() {
+                @Override
+                public ClusterState execute(ClusterState currentState) {
+                    relativeTimeInMillis += computeTimeInMillis;
+                    return ClusterState.builder(currentState).incrementVersion().build();
+                }
+
+                @Override
+                public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                    processed.countDown();
+                }
+
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            // the task waits in the queue until the blocking task completes
+            relativeTimeInMillis += queueTimeInMillis;
+            releaseBlockingTask.countDown();
+            assertTrue(processed.await(10, TimeUnit.SECONDS));
+
+            final MasterTaskStats.SourceStats sourceStats = masterService.stats().getSources().get("timed-task");
+            assertThat(sourceStats.getTasks(), equalTo(1L));
+            assertThat(sourceStats.getQueueTime().millis(), equalTo(queueTimeInMillis));
+            assertThat(sourceStats.getMaxQueueTime().millis(), equalTo(queueTimeInMillis));
+            assertThat(sourceStats.getComputeTime().millis(), equalTo(computeTimeInMillis));
+            assertThat(masterService.stats().getSources().get("block").getComputeTime().millis(), equalTo(queueTimeInMillis));
+        }
+    }
+
+    public void testTaskSourceKey() {
+        assertThat(MasterService.taskSourceKey("put-mapping [index/uuid]"), equalTo("put-mapping"));
+        assertThat(MasterService.taskSourceKey("create-index [index], cause [api]"), equalTo("create-index"));
+        assertThat(MasterService.taskSourceKey("cluster_reroute(reroute after starting shards)"), equalTo("cluster_reroute"));
+        assertThat(MasterService.taskSourceKey("shard-started StartedShardEntry{}"), equalTo("shard-started"));
+        assertThat(MasterService.taskSourceKey("[weird]"), equalTo(MasterService.OTHER_TASK_SOURCES));
+    }
+
     /**
      * Returns the cluster state that the master service uses (and that is provided by the discovery layer)
      */
@@ -34,12 +34,14 @@ package org.opensearch.common.bytes;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.ByteArray;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -111,4 +113,34 @@ public class ReleasableBytesReferenceTests extends AbstractBytesReferenceTestCas
     public void testSliceToBytesRef() throws IOException {
         // CompositeBytesReference shifts offsets
     }
+
+    public void testReadReleasableBytesReferenceRetainsSlice() throws IOException {
+        final BytesArray content = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 1024)));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeVInt(randomInt());
+        out.writeBytesReference(content);
+        out.writeBytesReference(BytesArray.EMPTY);
+        out.writeBoolean(true);
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference reference = new ReleasableBytesReference(out.bytes(), () -> {
+            assertTrue(released.compareAndSet(false, true));
+        });
+        final ReleasableBytesReference slice;
+        try (StreamInput in = reference.streamInput()) {
+            in.readVInt();
+            slice = in.readReleasableBytesReference();
+            try (ReleasableBytesReference empty = in.readReleasableBytesReference()) {
+                assertThat(empty.length(), equalTo(0));
+            }
+            assertTrue(in.readBoolean());
+            assertThat(in.available(), equalTo(0));
+        }
+        assertThat(reference.refCount(), equalTo(2));
+        reference.close();
+        assertFalse(released.get());
+        assertThat(slice, equalTo(content));
+        slice.close();
+        assertTrue(released.get());
+    }
 }
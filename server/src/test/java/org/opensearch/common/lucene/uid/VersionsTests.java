@@ -39,6 +39,7 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -55,7 +56,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.loadDocIdAndVersion;
+import static org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.loadDocIdsAndVersions;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 
 public class VersionsTests extends OpenSearchTestCase {
@@ -120,6 +123,53 @@ public class VersionsTests extends OpenSearchTestCase {
         dir.close();
     }
 
+    public void testLoadDocIdsAndVersions() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER));
+        int numDocs = randomIntBetween(1, 100);
+        for (int i = 0; i < numDocs; i++) {
+            String id = Integer.toString(randomInt(numDocs * 2));
+            Document doc = new Document();
+            doc.add(new Field(IdFieldMapper.NAME, id, IdFieldMapper.Defaults.FIELD_TYPE));
+            doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, i + 1));
+            doc.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, i));
+            doc.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 1));
+            writer.updateDocument(new Term(IdFieldMapper.NAME, id), doc);
+            if (rarely()) {
+                writer.deleteDocuments(new Term(IdFieldMapper.NAME, Integer.toString(randomInt(numDocs * 2))));
+            }
+            if (rarely()) {
+                writer.commit();
+            }
+        }
+        DirectoryReader directoryReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "_na_", 1));
+        // ask for existing, missing and duplicate ids in random order
+        BytesRef[] uids = new BytesRef[randomIntBetween(1, 50)];
+        for (int i = 0; i < uids.length; i++) {
+            uids[i] = new BytesRef(Integer.toString(randomInt(numDocs * 2)));
+        }
+        boolean loadSeqNo = randomBoolean();
+        VersionsAndSeqNoResolver.DocIdAndVersion[] results = loadDocIdsAndVersions(directoryReader, IdFieldMapper.NAME, uids, loadSeqNo);
+        assertThat(results.length, equalTo(uids.length));
+        for (int i = 0; i < uids.length; i++) {
+            VersionsAndSeqNoResolver.DocIdAndVersion expected =
+                loadDocIdAndVersion(directoryReader, new Term(IdFieldMapper.NAME, uids[i]), loadSeqNo);
+            if (expected == null) {
+                assertThat(results[i], nullValue());
+            } else {
+                assertThat(results[i], notNullValue());
+                assertThat(results[i].docId, equalTo(expected.docId));
+                assertThat(results[i].docBase, equalTo(expected.docBase));
+                assertThat(results[i].version, equalTo(expected.version));
+                assertThat(results[i].seqNo, equalTo(expected.seqNo));
+                assertThat(results[i].primaryTerm, equalTo(expected.primaryTerm));
+            }
+        }
+        directoryReader.close();
+        writer.close();
+        dir.close();
+    }
+
     public void testNestedDocuments() throws IOException {
         Directory dir = newDirectory();
         IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER));
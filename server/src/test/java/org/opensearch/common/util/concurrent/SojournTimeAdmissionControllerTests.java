@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class SojournTimeAdmissionControllerTests extends OpenSearchTestCase {
+
+    private static final long TARGET = TimeValue.timeValueMillis(5).nanos();
+    private static final long INTERVAL = TimeValue.timeValueMillis(100).nanos();
+
+    private SojournTimeAdmissionController newController() {
+        return new SojournTimeAdmissionController(TimeValue.timeValueNanos(TARGET), TimeValue.timeValueNanos(INTERVAL));
+    }
+
+    public void testInvalidSettings() {
+        expectThrows(IllegalArgumentException.class,
+            () -> new SojournTimeAdmissionController(TimeValue.ZERO, TimeValue.timeValueMillis(100)));
+        expectThrows(IllegalArgumentException.class,
+            () -> new SojournTimeAdmissionController(TimeValue.timeValueMillis(5), TimeValue.ZERO));
+    }
+
+    public void testBurstWithinIntervalIsAdmitted() {
+        final SojournTimeAdmissionController controller = newController();
+        final long start = randomLong();
+        controller.onDequeue(TARGET * 10, start);
+        controller.onDequeue(TARGET * 10, start + INTERVAL - 1);
+        assertFalse(controller.isOverloaded());
+        assertFalse(controller.shouldReject(randomIntBetween(1, 1000)));
+        assertThat(controller.rejected(), equalTo(0L));
+    }
+
+    public void testSustainedBacklogIsShed() {
+        final SojournTimeAdmissionController controller = newController();
+        final long start = randomLong();
+        controller.onDequeue(TARGET, start);
+        controller.onDequeue(TARGET * 2, start + INTERVAL);
+        assertTrue(controller.isOverloaded());
+        assertTrue(controller.shouldReject(randomIntBetween(1, 1000)));
+        assertThat(controller.rejected(), equalTo(1L));
+        // an empty queue is always admitted so that sojourn times keep being sampled
+        assertFalse(controller.shouldReject(0));
+        assertThat(controller.rejected(), equalTo(1L));
+    }
+
+    public void testOverloadClearsOnceBelowTarget() {
+        final SojournTimeAdmissionController controller = newController();
+        final long start = randomLong();
+        controller.onDequeue(TARGET, start);
+        controller.onDequeue(TARGET, start + INTERVAL);
+        assertTrue(controller.isOverloaded());
+        controller.onDequeue(TARGET - 1, start + INTERVAL + 1);
+        assertFalse(controller.isOverloaded());
+        assertFalse(controller.shouldReject(randomIntBetween(1, 1000)));
+        // a new backlog must again persist for a whole interval before tasks are shed
+        controller.onDequeue(TARGET, start + 2 * INTERVAL);
+        controller.onDequeue(TARGET, start + 3 * INTERVAL - 1);
+        assertFalse(controller.isOverloaded());
+        controller.onDequeue(TARGET, start + 3 * INTERVAL);
+        assertTrue(controller.isOverloaded());
+    }
+
+    public void testSojournTimeEWMA() {
+        final SojournTimeAdmissionController controller = newController();
+        assertThat(controller.getSojournTimeEWMA(), equalTo(0.0));
+        controller.onDequeue(TARGET, 0);
+        assertThat(controller.getSojournTimeEWMA(), greaterThan(0.0));
+    }
+
+    public void testExecutorShedsTasksWhenOverloaded() throws Exception {
+        final ThreadContext context = new ThreadContext(Settings.EMPTY);
+        final SojournTimeAdmissionController controller = newController();
+        final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newFixed(getTestName(), 1, 10,
+            OpenSearchExecutors.daemonThreadFactory("test"), context, controller);
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            executor.execute(() -> {});
+            assertBusy(() -> {
+                assertThat(executor.getQueue().size(), equalTo(1));
+                assertThat(controller.getSojournTimeEWMA(), greaterThan(0.0));
+            });
+
+            final long now = System.nanoTime();
+            controller.onDequeue(TARGET, now);
+            controller.onDequeue(TARGET, now + INTERVAL);
+            assertTrue(controller.isOverloaded());
+
+            final AtomicBoolean rejected = new AtomicBoolean();
+            executor.execute(new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    throw new AssertionError(e);
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    assertThat(e.getMessage(), containsString("rejected execution"));
+                    rejected.set(true);
+                }
+
+                @Override
+                protected void doRun() {
+                    throw new AssertionError("should have been rejected");
+                }
+            });
+            assertTrue(rejected.get());
+            assertThat(controller.rejected(), equalTo(1L));
+            assertThat(((XRejectedExecutionHandler) executor.getRejectedExecutionHandler()).rejected(), equalTo(1L));
+
+            final CountDownLatch forced = new CountDownLatch(1);
+            executor.execute(new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    throw new AssertionError(e);
+                }
+
+                @Override
+                public boolean isForceExecution() {
+                    return true;
+                }
+
+                @Override
+                protected void doRun() {
+                    forced.countDown();
+                }
+            });
+            latch.countDown();
+            assertTrue(forced.await(10, TimeUnit.SECONDS));
+            assertThat(controller.rejected(), equalTo(1L));
+        } finally {
+            latch.countDown();
+            terminate(executor);
+        }
+    }
+}
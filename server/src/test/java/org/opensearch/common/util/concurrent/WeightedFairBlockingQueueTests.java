@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class WeightedFairBlockingQueueTests extends OpenSearchTestCase {
+
+    /**
+     * Elements are strings of the form "group:id", weighted by the given function.
+     */
+    private static WeightedFairBlockingQueue<String> newQueue(ToIntFunction<String> weights) {
+        return new WeightedFairBlockingQueue<>(e -> e.indexOf(':') < 0 ? null : e.substring(0, e.indexOf(':')), weights);
+    }
+
+    public void testFifoWithinSingleGroup() throws Exception {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> 1);
+        for (int i = 0; i < 10; i++) {
+            queue.offer("a:" + i);
+        }
+        assertThat(queue.size(), equalTo(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(queue.take(), equalTo("a:" + i));
+        }
+        assertThat(queue.poll(), nullValue());
+        assertThat(queue.poll(1, TimeUnit.MILLISECONDS), nullValue());
+        assertThat(queue.groupCount(), equalTo(0));
+    }
+
+    public void testFloodingGroupDoesNotStarveOthers() {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> 1);
+        for (int i = 0; i < 100; i++) {
+            queue.offer("flood:" + i);
+        }
+        queue.offer("small:0");
+        queue.offer("small:1");
+        assertThat(queue.groupCount(), equalTo(2));
+        final List<String> drained = new ArrayList<>();
+        queue.drainTo(drained, 4);
+        assertThat(drained, contains("flood:0", "small:0", "flood:1", "small:1"));
+        assertThat(queue.size(), equalTo(98));
+        assertThat(queue.groupCount(), equalTo(1));
+    }
+
+    public void testWeights() {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> group.equals("heavy") ? 3 : 1);
+        for (int i = 0; i < 6; i++) {
+            queue.offer("heavy:" + i);
+            queue.offer("light:" + i);
+        }
+        final List<String> drained = new ArrayList<>();
+        queue.drainTo(drained, 8);
+        assertThat(drained, contains("heavy:0", "heavy:1", "heavy:2", "light:0", "heavy:3", "heavy:4", "heavy:5", "light:1"));
+    }
+
+    public void testNullGroupIsDefaultGroup() {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> 1);
+        queue.offer("x");
+        queue.offer("a:0");
+        queue.offer("y");
+        assertThat(queue.groupCount(), equalTo(2));
+        assertThat(queue.peek(), equalTo("x"));
+        assertThat(queue.poll(), equalTo("x"));
+        assertThat(queue.poll(), equalTo("a:0"));
+        assertThat(queue.poll(), equalTo("y"));
+    }
+
+    public void testInvalidWeight() {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> 0);
+        expectThrows(IllegalArgumentException.class, () -> queue.offer("a:0"));
+        assertThat(queue.size(), equalTo(0));
+    }
+
+    public void testRemove() {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> 1);
+        queue.addAll(Arrays.asList("a:0", "b:0", "a:1"));
+        assertFalse(queue.remove("c:0"));
+        assertTrue(queue.remove("b:0"));
+        assertThat(queue.groupCount(), equalTo(1));
+        final Iterator<String> it = queue.iterator();
+        assertThat(it.next(), equalTo("a:0"));
+        it.remove();
+        assertThat(queue.size(), equalTo(1));
+        assertThat(queue.poll(), equalTo("a:1"));
+        assertTrue(queue.isEmpty());
+    }
+
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final WeightedFairBlockingQueue<String> queue = newQueue(group -> 1 + Math.floorMod(group.hashCode(), 3));
+        final int producers = randomIntBetween(2, 4);
+        final int perProducer = randomIntBetween(100, 1000);
+        final List<Thread> threads = new ArrayList<>();
+        final List<String> consumed = Collections.synchronizedList(new ArrayList<>());
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(producer + ":" + i);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    try {
+                        consumed.add(queue.take());
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(queue.isEmpty());
+        final List<String> expected = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            for (int i = 0; i < perProducer; i++) {
+                expected.add(p + ":" + i);
+            }
+        }
+        assertThat(consumed, containsInAnyOrder(expected.toArray()));
+    }
+}
@@ -47,6 +47,7 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.coordination.CoordinationMetadata;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
@@ -84,8 +85,10 @@ import java.util.stream.Stream;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
 
@@ -751,6 +754,66 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDeduplicatesMappingsAcrossIndices() throws IOException {
+        try (NodeEnvironment nodeEnvironment = newNodeEnvironment(createDataPaths())) {
+            final PersistedClusterStateService persistedClusterStateService = newPersistedClusterStateService(nodeEnvironment);
+            final String mapping = "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}";
+            final int indexCount = between(2, 10);
+
+            try (Writer writer = persistedClusterStateService.createWriter()) {
+                final ClusterState clusterState = loadPersistedClusterState(persistedClusterStateService);
+                final Metadata.Builder metadata = Metadata.builder(clusterState.metadata())
+                    .version(clusterState.metadata().version() + 1);
+                for (int i = 0; i < indexCount; i++) {
+                    metadata.put(IndexMetadata.builder("index-" + i)
+                        .putMapping("_doc", mapping)
+                        .settings(Settings.builder()
+                            .put(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.getKey(), 0)
+                            .put(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.getKey(), 1)
+                            .put(IndexMetadata.SETTING_INDEX_VERSION_CREATED.getKey(), Version.CURRENT)
+                            .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID(random()))));
+                }
+                writer.writeFullStateAndCommit(0L, ClusterState.builder(clusterState).metadata(metadata).incrementVersion().build());
+            }
+
+            PersistedClusterStateStats stats = persistedClusterStateService.stats();
+            assertThat(stats.getFullWrites(), equalTo(1L));
+            assertThat(stats.getIndicesWritten(), equalTo((long) indexCount));
+            assertThat(stats.getMappingsWritten(), equalTo(1L));
+            assertThat(stats.getMappingsDeduplicated(), equalTo((long) indexCount - 1));
+            assertThat(stats.getBytesWritten().getBytes(), greaterThan(0L));
+
+            ClusterState clusterState = loadPersistedClusterState(persistedClusterStateService);
+            assertThat(clusterState.metadata().indices().size(), equalTo(indexCount));
+            final MappingMetadata firstMapping = clusterState.metadata().index("index-0").mapping();
+            assertThat(firstMapping.type(), equalTo("_doc"));
+            assertThat(firstMapping.sourceAsMap().containsKey("properties"), equalTo(true));
+            for (int i = 1; i < indexCount; i++) {
+                // indices that share a mapping on disk also share it once loaded
+                assertThat(clusterState.metadata().index("index-" + i).mapping(), sameInstance(firstMapping));
+            }
+
+            try (Writer writer = persistedClusterStateService.createWriter()) {
+                writer.writeFullStateAndCommit(0L, clusterState);
+                final Metadata.Builder metadata = Metadata.builder(clusterState.metadata())
+                    .version(clusterState.metadata().version() + 1);
+                for (int i = 0; i < indexCount; i++) {
+                    metadata.remove("index-" + i);
+                }
+                writer.writeIncrementalStateAndCommit(0L, clusterState,
+                    ClusterState.builder(clusterState).metadata(metadata).incrementVersion().build());
+            }
+
+            stats = persistedClusterStateService.stats();
+            assertThat(stats.getFullWrites(), equalTo(2L));
+            assertThat(stats.getIncrementalWrites(), equalTo(1L));
+            assertThat(stats.getMappingsWritten(), equalTo(2L));
+
+            clusterState = loadPersistedClusterState(persistedClusterStateService);
+            assertThat(clusterState.metadata().indices().size(), equalTo(0));
+        }
+    }
+
     public void testReloadsMetadataAcrossMultipleSegments() throws IOException {
         try (NodeEnvironment nodeEnvironment = newNodeEnvironment(createDataPaths())) {
             final PersistedClusterStateService persistedClusterStateService = newPersistedClusterStateService(nodeEnvironment);
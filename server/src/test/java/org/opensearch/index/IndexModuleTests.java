@@ -87,6 +87,7 @@ import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.similarity.NonNegativeScoresSimilarity;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
+import org.opensearch.index.warmer.QueryReplayWarmer;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.analysis.AnalysisModule;
@@ -312,9 +313,10 @@ public class IndexModuleTests extends OpenSearchTestCase {
         expectThrows(IllegalArgumentException.class, () -> module.addSearchOperationListener(null));
 
         IndexService indexService = newIndexService(module);
-        assertEquals(2, indexService.getSearchOperationListener().size());
+        assertEquals(3, indexService.getSearchOperationListener().size());
         assertEquals(SearchSlowLog.class, indexService.getSearchOperationListener().get(0).getClass());
         assertSame(listener, indexService.getSearchOperationListener().get(1));
+        assertEquals(QueryReplayWarmer.class, indexService.getSearchOperationListener().get(2).getClass());
         for (SearchOperationListener l : indexService.getSearchOperationListener()) {
             l.onNewReaderContext(mock(ReaderContext.class));
         }
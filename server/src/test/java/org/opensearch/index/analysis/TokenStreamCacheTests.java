@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.test.OpenSearchTokenStreamTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TokenStreamCacheTests extends OpenSearchTokenStreamTestCase {
+
+    public void testReplaysAnalyzedTokens() throws IOException {
+        final CounterMetric hits = new CounterMetric();
+        final CounterMetric misses = new CounterMetric();
+        final TokenStreamCache cache = new TokenStreamCache(1024 * 1024, hits, misses);
+        try (Analyzer analyzer = new EnglishAnalyzer()) {
+            final String value = "The quick brown foxes jumped";
+            for (int i = 0; i < 3; i++) {
+                final TokenStream stream = cache.tokenStream(analyzer, "field", value);
+                assertTokenStreamContents(stream,
+                    new String[] { "quick", "brown", "fox", "jump" },
+                    new int[] { 4, 10, 16, 22 },
+                    new int[] { 9, 15, 21, 28 },
+                    new int[] { 2, 1, 1, 1 },
+                    28);
+            }
+            assertEquals(1, misses.count());
+            assertEquals(2, hits.count());
+            assertEquals(1, cache.count());
+        }
+    }
+
+    public void testBoundedByMemory() throws IOException {
+        final long maxSizeInBytes = between(16 * 1024, 64 * 1024);
+        final TokenStreamCache cache = new TokenStreamCache(maxSizeInBytes, new CounterMetric(), new CounterMetric());
+        try (Analyzer analyzer = new EnglishAnalyzer()) {
+            for (int i = 0; i < 200; i++) {
+                try (TokenStream stream = cache.tokenStream(analyzer, "field", "value number " + i)) {
+                    assertNotNull(stream);
+                }
+                assertThat(cache.ramBytesUsed(), lessThanOrEqualTo(maxSizeInBytes));
+            }
+            assertThat(cache.count(), greaterThan(0));
+            assertThat(cache.count(), lessThan(200));
+            final StringBuilder longValue = new StringBuilder();
+            while (longValue.length() <= TokenStreamCache.MAX_VALUE_LENGTH) {
+                longValue.append("word ");
+            }
+            assertNull(cache.tokenStream(analyzer, "field", longValue.toString()));
+        }
+    }
+
+    public void testConcurrentReplays() throws Exception {
+        final TokenStreamCache cache = new TokenStreamCache(1024 * 1024, new CounterMetric(), new CounterMetric());
+        try (Analyzer analyzer = new EnglishAnalyzer()) {
+            final String value = "The quick brown foxes jumped";
+            final Thread[] threads = new Thread[between(2, 8)];
+            final CyclicBarrier barrier = new CyclicBarrier(threads.length);
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        for (int i = 0; i < 100; i++) {
+                            // every replay must be able to restore the captured states into its own attributes
+                            assertTokenStreamContents(cache.tokenStream(analyzer, "field", value),
+                                new String[] { "quick", "brown", "fox", "jump" });
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertNull(failure.get());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.query;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PinnedFilterWarmerTests extends OpenSearchTestCase {
+
+    private static IndexMetadata.Builder indexMetadata(String... pinnedAliases) {
+        return IndexMetadata.builder("index")
+            .settings(Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .putList(PinnedFilterWarmer.INDEX_PINNED_ALIASES_SETTING.getKey(), pinnedAliases))
+            .numberOfShards(1)
+            .numberOfReplicas(0);
+    }
+
+    private static AliasMetadata alias(String name, String tenant) {
+        return AliasMetadata.builder(name).filter("{\"term\":{\"tenant\":\"" + tenant + "\"}}").build();
+    }
+
+    public void testPinnedAliasFilters() {
+        final IndexMetadata metadata = indexMetadata("tenant_*")
+            .putAlias(alias("tenant_a", "a"))
+            .putAlias(alias("other", "b"))
+            .putAlias(AliasMetadata.builder("tenant_unfiltered").build())
+            .build();
+        assertEquals(1, PinnedFilterWarmer.pinnedAliasFilters(metadata).size());
+        assertNotNull(PinnedFilterWarmer.pinnedAliasFilters(metadata).get("tenant_a"));
+        assertTrue(PinnedFilterWarmer.pinnedAliasFilters(indexMetadata().putAlias(alias("tenant_a", "a")).build()).isEmpty());
+    }
+
+    public void testHasUnpinnedFilters() {
+        final IndexMetadata current = indexMetadata("tenant_*")
+            .putAlias(alias("tenant_a", "a"))
+            .putAlias(alias("tenant_b", "b"))
+            .build();
+        assertFalse(PinnedFilterWarmer.hasUnpinnedFilters(null, current));
+        assertFalse(PinnedFilterWarmer.hasUnpinnedFilters(current, current));
+        // adding aliases doesn't unpin anything, the new filters are pinned on the next refresh
+        assertFalse(PinnedFilterWarmer.hasUnpinnedFilters(current, IndexMetadata.builder(current)
+            .putAlias(alias("tenant_c", "c")).build()));
+        assertFalse(PinnedFilterWarmer.hasUnpinnedFilters(indexMetadata().putAlias(alias("tenant_a", "a")).build(), current));
+
+        assertTrue(PinnedFilterWarmer.hasUnpinnedFilters(current, IndexMetadata.builder(current).removeAlias("tenant_b").build()));
+        assertTrue(PinnedFilterWarmer.hasUnpinnedFilters(current, IndexMetadata.builder(current)
+            .putAlias(alias("tenant_a", "other")).build()));
+        assertTrue(PinnedFilterWarmer.hasUnpinnedFilters(current, indexMetadata("tenant_a")
+            .putAlias(alias("tenant_a", "a"))
+            .putAlias(alias("tenant_b", "b"))
+            .build()));
+    }
+}
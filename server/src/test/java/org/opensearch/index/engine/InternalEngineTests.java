@@ -6204,6 +6204,71 @@ public class InternalEngineTests extends EngineTestCase {
         verify(indexWithoutThrottlingCheck, atLeastOnce()).startTime();
     }
 
+    public void testRealtimeGetServedFromBuffer() throws IOException {
+        final AtomicInteger refreshCount = new AtomicInteger();
+        final ReferenceManager.RefreshListener refreshListener = new ReferenceManager.RefreshListener() {
+            @Override
+            public void beforeRefresh() {
+
+            }
+
+            @Override
+            public void afterRefresh(boolean didRefresh) {
+                if (didRefresh) {
+                    refreshCount.incrementAndGet();
+                }
+            }
+        };
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(Settings.builder().put(defaultSettings.getSettings())
+                .put(IndexSettings.INDEX_REALTIME_GET_BUFFER_SIZE_SETTING.getKey(), "1mb")).build());
+        try (Store store = createStore()) {
+            final EngineConfig config = config(indexSettings, store, createTempDir(), newMergePolicy(), null,
+                refreshListener, null, null, engine.config().getCircuitBreakerService());
+            try (InternalEngine engine = createEngine(config)) {
+                final ParsedDocument doc = createParsedDoc("1", null);
+                engine.index(indexForDoc(doc));
+                // the first realtime get refreshes to switch the version map to safe access
+                try (Engine.GetResult getResult = engine.get(newGet(true, doc), engine::acquireSearcher)) {
+                    assertThat(getResult.exists(), equalTo(true));
+                }
+                assertThat(engine.getRealtimeGetBufferHitCount(), equalTo(0L));
+                engine.index(indexForDoc(doc));
+                assertThat(engine.getIndexBufferRAMBytesUsed(), greaterThan(0L));
+                final int refreshCountBeforeGet = refreshCount.get();
+                try (Engine.GetResult getResult = engine.get(newGet(true, doc), engine::acquireSearcher)) {
+                    assertThat(getResult.exists(), equalTo(true));
+                    assertThat(getResult.isFromTranslog(), equalTo(true));
+                    assertThat(getResult.version(), equalTo(2L));
+                }
+                assertThat("realtime get after an index must not refresh", refreshCount.get(), equalTo(refreshCountBeforeGet));
+                assertThat(engine.getRealtimeGetBufferHitCount(), equalTo(1L));
+                assertThat(engine.getRealtimeGetBufferMissCount(), equalTo(0L));
+                engine.refresh("test");
+                try (Engine.GetResult getResult = engine.get(newGet(true, doc), engine::acquireSearcher)) {
+                    assertThat(getResult.exists(), equalTo(true));
+                    assertThat(getResult.isFromTranslog(), equalTo(false));
+                }
+                assertThat(engine.getRealtimeGetBufferHitCount(), equalTo(1L));
+            }
+        }
+    }
+
+    public void testRealtimeGetBufferDisabledByDefault() throws IOException {
+        final ParsedDocument doc = createParsedDoc("1", null);
+        engine.index(indexForDoc(doc));
+        try (Engine.GetResult getResult = engine.get(newGet(true, doc), engine::acquireSearcher)) {
+            assertThat(getResult.exists(), equalTo(true));
+        }
+        engine.index(indexForDoc(doc));
+        try (Engine.GetResult getResult = engine.get(newGet(true, doc), engine::acquireSearcher)) {
+            assertThat(getResult.exists(), equalTo(true));
+            assertThat(getResult.version(), equalTo(2L));
+        }
+        assertThat(engine.getRealtimeGetBufferHitCount(), equalTo(0L));
+        assertThat(engine.getRealtimeGetBufferMissCount(), equalTo(0L));
+    }
+
     public void testRealtimeGetOnlyRefreshIfNeeded() throws Exception {
         final AtomicInteger refreshCount = new AtomicInteger();
         final ReferenceManager.RefreshListener refreshListener = new ReferenceManager.RefreshListener() {
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class RealtimeGetBufferTests extends OpenSearchTestCase {
+
+    private static Translog.Index operation(String id, long seqNo) {
+        return new Translog.Index("_doc", id, seqNo, 1, ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void testServesOnlyMatchingSeqNo() {
+        final RealtimeGetBuffer buffer = new RealtimeGetBuffer(() -> 1024 * 1024);
+        final BytesRef uid = new BytesRef("1");
+        buffer.putUnderLock(uid, operation("1", 0));
+        assertThat(buffer.get(uid, 0), notNullValue());
+        assertThat(buffer.get(uid, 0).source().utf8ToString(), equalTo("{\"id\":\"1\"}"));
+        assertThat(buffer.get(uid, 1), nullValue());
+        buffer.putUnderLock(uid, operation("1", 1));
+        assertThat(buffer.get(uid, 1), notNullValue());
+        assertThat(buffer.get(new BytesRef("2"), 0), nullValue());
+        assertThat(buffer.getHitCount(), equalTo(3L));
+        assertThat(buffer.getMissCount(), equalTo(2L));
+        buffer.removeUnderLock(uid);
+        assertThat(buffer.get(uid, 1), nullValue());
+        assertThat(buffer.ramBytesUsed(), equalTo(0L));
+    }
+
+    public void testEvictedOnRefresh() {
+        final RealtimeGetBuffer buffer = new RealtimeGetBuffer(() -> 1024 * 1024);
+        final BytesRef uid = new BytesRef("1");
+        buffer.putUnderLock(uid, operation("1", 0));
+        buffer.beforeRefresh();
+        // still served while the refresh is in flight
+        assertThat(buffer.get(uid, 0), notNullValue());
+        buffer.putUnderLock(new BytesRef("2"), operation("2", 1));
+        buffer.afterRefresh(true);
+        assertThat(buffer.get(uid, 0), nullValue());
+        assertThat(buffer.get(new BytesRef("2"), 1), notNullValue());
+        buffer.beforeRefresh();
+        buffer.afterRefresh(true);
+        assertThat(buffer.ramBytesUsed(), equalTo(0L));
+    }
+
+    public void testSizeBounded() {
+        final long maxSize = operation("0", 0).estimateSize() * 3;
+        final RealtimeGetBuffer buffer = new RealtimeGetBuffer(() -> maxSize);
+        for (int i = 0; i < 10; i++) {
+            buffer.putUnderLock(new BytesRef(Integer.toString(i)), operation(Integer.toString(i), i));
+            assertThat(buffer.ramBytesUsed(), lessThanOrEqualTo(maxSize));
+        }
+        assertThat(buffer.ramBytesUsed(), greaterThan(0L));
+        assertThat(buffer.get(new BytesRef("0"), 0), notNullValue());
+        assertThat(buffer.get(new BytesRef("9"), 9), nullValue());
+    }
+
+    public void testDisabled() {
+        final RealtimeGetBuffer buffer = new RealtimeGetBuffer(() -> 0);
+        assertFalse(buffer.isEnabled());
+        buffer.putUnderLock(new BytesRef("1"), operation("1", 0));
+        assertThat(buffer.ramBytesUsed(), equalTo(0L));
+    }
+}
@@ -76,6 +76,7 @@ import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
 import org.opensearch.index.analysis.StandardTokenizerFactory;
 import org.opensearch.index.analysis.TokenFilterFactory;
+import org.opensearch.index.analysis.TokenStreamCacheStats;
 import org.opensearch.index.mapper.TextFieldMapper.TextFieldType;
 import org.opensearch.index.query.MatchPhrasePrefixQueryBuilder;
 import org.opensearch.index.query.MatchPhraseQueryBuilder;
@@ -91,6 +92,7 @@ import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 
@@ -159,6 +161,8 @@ public class TextFieldMapperTests extends MapperTestCase {
         });
         checker.registerUpdateCheck(b -> b.field("eager_global_ordinals", "true"),
             m -> assertTrue(m.fieldType().eagerGlobalOrdinals()));
+        checker.registerUpdateCheck(b -> b.field("analysis_cache_size", "1mb"),
+            m -> assertNotNull(((TextFieldMapper) m).tokenStreamCache()));
         checker.registerUpdateCheck(b -> {
                 b.field("analyzer", "default");
                 b.field("search_analyzer", "keyword");
@@ -364,6 +368,41 @@ public class TextFieldMapperTests extends MapperTestCase {
         });
     }
 
+    public void testAnalysisCache() throws IOException {
+        MapperService mapperService = createMapperService(
+            fieldMapping(b -> b.field("type", "text").field("index_options", "offsets").field("analysis_cache_size", "1mb"))
+        );
+        ParsedDocument doc1 = mapperService.documentMapper().parse(source(b -> b.field("field", "The quick brown fox")));
+        ParsedDocument doc2 = mapperService.documentMapper().parse(source(b -> b.array("field", "The quick brown fox", "brown")));
+        TokenStreamCacheStats stats = mapperService.getIndexAnalyzers().getTokenStreamCacheStats();
+        assertEquals(2, stats.getCount());
+        assertThat(stats.getMemorySizeInBytes(), greaterThan(0L));
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+
+        withLuceneIndex(mapperService, iw -> {
+            iw.addDocument(doc1.rootDoc());
+            iw.addDocument(doc2.rootDoc());
+        }, reader -> {
+            TermsEnum terms = getOnlyLeafReader(reader).terms("field").iterator();
+            assertTrue(terms.seekExact(new BytesRef("brown")));
+            PostingsEnum postings = terms.postings(null, PostingsEnum.OFFSETS);
+            for (int doc = 0; doc < 2; doc++) {
+                assertEquals(doc, postings.nextDoc());
+                assertEquals(2, postings.nextPosition());
+                assertEquals(10, postings.startOffset());
+                assertEquals(15, postings.endOffset());
+            }
+            // the second value of the second document is placed after the position increment gap
+            assertEquals(2, postings.freq());
+            assertEquals(TextFieldMapper.Defaults.POSITION_INCREMENT_GAP + 4, postings.nextPosition());
+        });
+
+        Exception e = expectThrows(MapperParsingException.class, () -> createMapperService(
+            fieldMapping(b -> b.field("type", "text").field("index", false).field("analysis_cache_size", "1mb"))));
+        assertThat(e.getMessage(), containsString("Cannot set analysis_cache_size on unindexed field [field]"));
+    }
+
     public void testPositionIncrementGap() throws IOException {
         final int positionIncrementGap = randomIntBetween(1, 1000);
         MapperService mapperService = createMapperService(
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.search.stats;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.index.search.stats.SearchLatencyStats.Phase;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class SearchLatencyStatsTests extends OpenSearchTestCase {
+
+    public void testRecordAndMerge() {
+        final ShardSearchStats shard1 = new ShardSearchStats();
+        final ShardSearchStats shard2 = new ShardSearchStats();
+        for (int i = 1; i <= 100; i++) {
+            shard1.onCanMatchPhase(TimeUnit.MILLISECONDS.toNanos(i));
+            shard2.onCanMatchPhase(TimeUnit.MILLISECONDS.toNanos(100 + i));
+        }
+        shard2.onDfsPhase(null, TimeUnit.HOURS.toNanos(2));
+
+        final SearchStats total = new SearchStats();
+        total.add(shard1.stats());
+        total.add(shard2.stats());
+        final SearchLatencyStats latency = total.getLatency();
+        assertThat(latency.getCount(Phase.CAN_MATCH), equalTo(200L));
+        assertThat(latency.getCount(Phase.QUERY), equalTo(0L));
+        assertThat(latency.getPercentileMicros(Phase.QUERY, 50), equalTo(0L));
+        // a single significant digit keeps the relative error within about 3%
+        assertThat(latency.getPercentileMicros(Phase.CAN_MATCH, 50),
+            allOf(greaterThanOrEqualTo(95_000L), lessThanOrEqualTo(105_000L)));
+        assertThat(latency.getPercentileMicros(Phase.CAN_MATCH, 99),
+            allOf(greaterThanOrEqualTo(190_000L), lessThanOrEqualTo(205_000L)));
+        // latencies above the highest trackable value are clamped rather than rejected
+        assertThat(latency.getCount(Phase.DFS), equalTo(1L));
+        assertThat(latency.getMaxMicros(Phase.DFS), greaterThanOrEqualTo(SearchLatencyStats.HIGHEST_TRACKABLE_MICROS));
+
+        // the shard-level stats must not be affected by merging
+        assertThat(shard1.stats().getLatency().getCount(Phase.CAN_MATCH), equalTo(100L));
+    }
+
+    public void testSerialization() throws IOException {
+        final ShardSearchStats shard = new ShardSearchStats();
+        final int iterations = randomIntBetween(1, 100);
+        for (int i = 0; i < iterations; i++) {
+            shard.onCanMatchPhase(randomLongBetween(0, TimeUnit.SECONDS.toNanos(10)));
+        }
+        final SearchStats stats = shard.stats();
+        final SearchStats copy = copyWriteable(stats, new NamedWriteableRegistry(Collections.emptyList()), SearchStats::new);
+        for (Phase phase : Phase.values()) {
+            assertThat(copy.getLatency().getCount(phase), equalTo(stats.getLatency().getCount(phase)));
+            assertThat(copy.getLatency().getPercentileMicros(phase, 90), equalTo(stats.getLatency().getPercentileMicros(phase, 90)));
+            assertThat(copy.getLatency().getMaxMicros(phase), equalTo(stats.getLatency().getMaxMicros(phase)));
+        }
+
+        final Version oldVersion = VersionUtils.randomVersionBetween(random(), Version.V_7_0_0,
+            VersionUtils.getPreviousVersion(Version.V_7_10_3));
+        final SearchStats bwcCopy = copyWriteable(stats, new NamedWriteableRegistry(Collections.emptyList()), SearchStats::new,
+            oldVersion);
+        assertThat(bwcCopy.getLatency().getCount(Phase.CAN_MATCH), equalTo(0L));
+        assertThat(bwcCopy.getTotal().getQueryCount(), equalTo(stats.getTotal().getQueryCount()));
+    }
+
+    public void testPercentileFieldName() {
+        assertThat(SearchLatencyStats.percentileFieldName(50), equalTo("p50_in_micros"));
+        assertThat(SearchLatencyStats.percentileFieldName(99.9), equalTo("p99_9_in_micros"));
+    }
+}
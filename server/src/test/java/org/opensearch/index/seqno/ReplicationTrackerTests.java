@@ -182,6 +182,33 @@ public class ReplicationTrackerTests extends ReplicationTrackerTestCase {
         assertThat(tracker.getGlobalCheckpoint(), greaterThan(minLocalCheckpoint));
     }
 
+    public void testReplicationLagStats() {
+        final AllocationId primaryId = AllocationId.newInitializing();
+        final Map<AllocationId, Long> replicas = randomAllocationsWithLocalCheckpoints(1, 5);
+        final ReplicationTracker tracker = newTracker(primaryId);
+        assertNull(tracker.getReplicationLagStats());
+
+        tracker.updateFromMaster(randomNonNegativeLong(), ids(Collections.singleton(primaryId)),
+            routingTable(replicas.keySet(), primaryId));
+        tracker.activatePrimaryMode(NO_OPS_PERFORMED);
+        replicas.keySet().forEach(aId -> markAsTrackingAndInSyncQuietly(tracker, aId.getId(), NO_OPS_PERFORMED));
+
+        final long minReplicaLocalCheckpoint = replicas.values().stream().min(Long::compare).get();
+        final long primaryLocalCheckpoint = replicas.values().stream().max(Long::compare).get() + randomInt(10);
+        updateLocalCheckpoint(tracker, primaryId.getId(), primaryLocalCheckpoint);
+        replicas.forEach((aId, localCheckpoint) -> updateLocalCheckpoint(tracker, aId.getId(), localCheckpoint));
+        assertThat(tracker.getGlobalCheckpoint(), equalTo(minReplicaLocalCheckpoint));
+
+        final ReplicationLagStats stats = tracker.getReplicationLagStats();
+        assertThat(stats.getInSyncReplicas(), equalTo(replicas.size()));
+        assertThat(stats.getMaxLocalCheckpointLag(), equalTo(primaryLocalCheckpoint - minReplicaLocalCheckpoint));
+        assertThat(stats.getGlobalCheckpointLag(), equalTo(primaryLocalCheckpoint - minReplicaLocalCheckpoint));
+
+        // once all replicas caught up there is no lag left
+        replicas.keySet().forEach(aId -> updateLocalCheckpoint(tracker, aId.getId(), primaryLocalCheckpoint));
+        assertThat(tracker.getReplicationLagStats(), equalTo(new ReplicationLagStats(replicas.size(), 0, 0)));
+    }
+
     public void testUpdateGlobalCheckpointOnReplica() {
         final AllocationId active = AllocationId.newInitializing();
         final ReplicationTracker tracker = newTracker(active);
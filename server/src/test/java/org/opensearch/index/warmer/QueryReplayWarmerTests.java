@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.warmer;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.IndexWarmer;
+import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+public class QueryReplayWarmerTests extends OpenSearchTestCase {
+
+    private static QueryShardContext newQueryShardContext(IndexSettings indexSettings) {
+        return new QueryShardContext(0, indexSettings, BigArrays.NON_RECYCLING_INSTANCE, null, null, null, null, null,
+            NamedXContentRegistry.EMPTY, new NamedWriteableRegistry(Collections.emptyList()), null, null, () -> 0L, null, null,
+            () -> true, null);
+    }
+
+    private static void onQueryPhase(QueryReplayWarmer warmer, QueryShardContext context, Query query) {
+        warmer.onQueryPhase(new TestSearchContext(context).parsedQuery(new ParsedQuery(query)), 0);
+    }
+
+    public void testRecordsRecentQueries() {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("test", Settings.builder()
+            .put(QueryReplayWarmer.INDEX_WARMER_QUERY_REPLAY_SIZE_SETTING.getKey(), 2)
+            .build());
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final QueryReplayWarmer warmer = new QueryReplayWarmer(indexSettings, threadPool);
+            final Query a = new TermQuery(new Term("field", "a"));
+            final Query b = new TermQuery(new Term("field", "b"));
+            final Query c = new TermQuery(new Term("field", "c"));
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), a);
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), b);
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), a);
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), c);
+            assertEquals(Arrays.asList(a, c), warmer.recentQueries());
+
+            // queries that depend on the current time are not recorded
+            final QueryShardContext context = newQueryShardContext(indexSettings);
+            context.nowInMillis();
+            onQueryPhase(warmer, context, new TermQuery(new Term("field", "d")));
+            assertEquals(Arrays.asList(a, c), warmer.recentQueries());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testRecentQueriesAreBoundedByMemory() {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("test", Settings.builder()
+            .put(QueryReplayWarmer.INDEX_WARMER_QUERY_REPLAY_SIZE_SETTING.getKey(), 100)
+            .put(QueryReplayWarmer.INDEX_WARMER_QUERY_REPLAY_MAX_MEMORY_SETTING.getKey(),
+                2 * QueryReplayWarmer.DEFAULT_QUERY_RAM_BYTES_USED + "b")
+            .build());
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final QueryReplayWarmer warmer = new QueryReplayWarmer(indexSettings, threadPool);
+            final Query a = new TermQuery(new Term("field", "a"));
+            final Query b = new TermQuery(new Term("field", "b"));
+            final Query c = new TermQuery(new Term("field", "c"));
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), a);
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), b);
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), c);
+            assertEquals(Arrays.asList(b, c), warmer.recentQueries());
+            assertEquals(2 * QueryReplayWarmer.DEFAULT_QUERY_RAM_BYTES_USED, warmer.recentQueriesRamBytesUsed());
+
+            // queries that are larger than the limit on their own are not recorded
+            final List<BytesRef> terms = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                terms.add(new BytesRef("term_" + i));
+            }
+            final TermInSetQuery large = new TermInSetQuery("field", terms);
+            assertThat(large.ramBytesUsed(), greaterThan(2 * QueryReplayWarmer.DEFAULT_QUERY_RAM_BYTES_USED));
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), large);
+            assertEquals(Arrays.asList(b, c), warmer.recentQueries());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testSegmentsAreOnlyMarkedWarmedWhenQueriesAreReplayed() throws IOException {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("test", Settings.builder()
+            .put(QueryReplayWarmer.INDEX_WARMER_QUERY_REPLAY_SIZE_SETTING.getKey(), 10)
+            .build());
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+            writer.addDocument(new Document());
+            try (OpenSearchDirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+                     new ShardId("test", "_na_", 0))) {
+                final QueryReplayWarmer warmer = new QueryReplayWarmer(indexSettings, threadPool);
+                // nothing was searched yet, the segments must still be warmed once queries were recorded
+                assertSame(IndexWarmer.TerminationHandle.NO_WAIT, warmer.warmReader(null, reader));
+                assertEquals(0, warmer.warmedSegmentCount());
+            }
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testDisabled() {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("test", Settings.EMPTY);
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final QueryReplayWarmer warmer = new QueryReplayWarmer(indexSettings, threadPool);
+            onQueryPhase(warmer, newQueryShardContext(indexSettings), new TermQuery(new Term("field", "a")));
+            assertEquals(Collections.emptyList(), warmer.recentQueries());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+}
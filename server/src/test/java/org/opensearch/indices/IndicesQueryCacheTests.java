@@ -60,6 +60,8 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.io.IOException;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.greaterThan;
+
 public class IndicesQueryCacheTests extends OpenSearchTestCase {
 
     private static class DummyQuery extends Query {
@@ -187,6 +189,127 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close(); // this triggers some assertions
     }
 
+    public void testPinnedFilter() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        // pinned filters are used regardless of the caching policy
+        s.setQueryCachingPolicy(new QueryCachingPolicy() {
+            @Override
+            public void onUse(Query query) {
+
+            }
+            @Override
+            public boolean shouldCache(Query query) {
+                return false;
+            }
+        });
+
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 10)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        s.setQueryCache(cache);
+
+        assertTrue(cache.pin(new DummyQuery(0), r.leaves().get(0)));
+        assertFalse(cache.pin(new DummyQuery(0), r.leaves().get(0)));
+
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(1L, stats.getPinnedSize());
+        assertThat(stats.getPinnedMemorySizeInBytes(), greaterThan(0L));
+        assertEquals(0L, stats.getPinnedHitCount());
+
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(1)));
+
+        stats = cache.getStats(shard);
+        assertEquals(1L, stats.getPinnedSize());
+        assertEquals(1L, stats.getPinnedHitCount());
+        assertEquals(0L, stats.getCacheSize());
+        assertEquals(0L, stats.getHitCount());
+        assertEquals(1L, stats.getMissCount());
+
+        IOUtils.close(r, dir);
+
+        // pinned doc id sets are dropped with their segment
+        stats = cache.getStats(shard);
+        assertEquals(0L, stats.getPinnedSize());
+        assertEquals(0L, stats.getPinnedMemorySizeInBytes());
+        assertEquals(1L, stats.getPinnedHitCount());
+
+        cache.onClose(shard);
+
+        stats = cache.getStats(shard);
+        assertEquals(0L, stats.getPinnedHitCount());
+
+        cache.close(); // this triggers some assertions
+    }
+
+    public void testPinnedFiltersAreBounded() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_CACHE_QUERY_PINNED_SIZE_SETTING.getKey(), "1b")
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+
+        assertFalse(cache.pin(new DummyQuery(0), r.leaves().get(0)));
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(0L, stats.getPinnedSize());
+        assertEquals(0L, stats.getPinnedMemorySizeInBytes());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close(); // this triggers some assertions
+    }
+
+    public void testClearPinned() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndicesQueryCache cache = new IndicesQueryCache(Settings.EMPTY);
+
+        assertTrue(cache.pin(new DummyQuery(0), r.leaves().get(0)));
+        assertTrue(cache.pin(new DummyQuery(1), r.leaves().get(0)));
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(2L, stats.getPinnedSize());
+        assertThat(stats.getPinnedMemorySizeInBytes(), greaterThan(0L));
+
+        // filters of other indices are left alone
+        cache.clearPinned("other");
+        assertEquals(2L, cache.getStats(shard).getPinnedSize());
+
+        cache.clearPinned("index");
+        stats = cache.getStats(shard);
+        assertEquals(0L, stats.getPinnedSize());
+        assertEquals(0L, stats.getPinnedMemorySizeInBytes());
+
+        // the filters can be pinned again, e.g. by the next warmer run
+        assertTrue(cache.pin(new DummyQuery(0), r.leaves().get(0)));
+        assertEquals(1L, cache.getStats(shard).getPinnedSize());
+
+        IOUtils.close(r, dir);
+        assertEquals(0L, cache.getStats(shard).getPinnedSize());
+        cache.onClose(shard);
+        cache.close(); // this triggers some assertions
+    }
+
     public void testTwoShards() throws IOException {
         Directory dir1 = newDirectory();
         IndexWriter w1 = new IndexWriter(dir1, newIndexWriterConfig());
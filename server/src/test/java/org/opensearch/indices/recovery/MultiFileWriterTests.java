@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.DummyShardLock;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MultiFileWriterTests extends OpenSearchTestCase {
+
+    private static final IndexSettings INDEX_SETTINGS = IndexSettingsModule.newIndexSettings("index", Settings.EMPTY);
+
+    private Store store;
+    private RecoveryState.Index indexState;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        final ShardId shardId = new ShardId("index", "_na_", 1);
+        store = new Store(shardId, INDEX_SETTINGS, newDirectory(), new DummyShardLock(shardId));
+        indexState = new RecoveryState.Index();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        store.close();
+        super.tearDown();
+    }
+
+    public void testOutOfOrderChunksAreReleasedOnceWritten() throws IOException {
+        final Tuple<StoreFileMetadata, BytesReference> file = randomFile("foo.bar");
+        final StoreFileMetadata md = file.v1();
+        indexState.addFileDetail(md.name(), md.length(), false);
+        final List<ReleasableBytesReference> chunks = splitIntoChunks(file.v2());
+        final List<Integer> order = deliveryOrder(chunks.size());
+
+        try (MultiFileWriter writer = new MultiFileWriter(store, indexState, "recovery.test.", logger, () -> {})) {
+            final boolean[] delivered = new boolean[chunks.size()];
+            for (int index : order) {
+                writeChunk(writer, md, chunks, index);
+                delivered[index] = true;
+                // chunks are written as soon as all of their predecessors arrived, later ones wait with their content retained
+                boolean written = true;
+                for (int i = 0; i < chunks.size(); i++) {
+                    written &= delivered[i];
+                    if (delivered[i]) {
+                        assertEquals("chunk [" + i + "]", written ? 0 : 1, chunks.get(i).refCount());
+                    }
+                }
+            }
+            writer.renameAllTempFiles();
+        }
+        assertEquals(md.length(), store.directory().fileLength(md.name()));
+    }
+
+    public void testPendingChunksAreReleasedOnClose() throws IOException {
+        final Tuple<StoreFileMetadata, BytesReference> file = randomFile("foo.bar");
+        final StoreFileMetadata md = file.v1();
+        indexState.addFileDetail(md.name(), md.length(), false);
+        final List<ReleasableBytesReference> chunks = splitIntoChunks(file.v2());
+
+        final MultiFileWriter writer = new MultiFileWriter(store, indexState, "recovery.test.", logger, () -> {});
+        // the first chunk never arrives so everything else stays pending
+        for (int index : deliveryOrder(chunks.size())) {
+            if (index != 0) {
+                writeChunk(writer, md, chunks, index);
+                assertEquals(1, chunks.get(index).refCount());
+            }
+        }
+        writer.close();
+        for (int i = 1; i < chunks.size(); i++) {
+            assertEquals("chunk [" + i + "]", 0, chunks.get(i).refCount());
+        }
+    }
+
+    public void testChunksAreReleasedWhenWriteFails() throws IOException {
+        final Tuple<StoreFileMetadata, BytesReference> file = randomFile("foo.bar");
+        final StoreFileMetadata md = file.v1();
+        indexState.addFileDetail(md.name(), md.length(), false);
+        final List<ReleasableBytesReference> chunks = splitIntoChunks(file.v2());
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        final MultiFileWriter writer = new MultiFileWriter(store, indexState, "recovery.test.", logger, () -> {
+            if (cancelled.get()) {
+                throw new IllegalStateException("recovery was cancelled");
+            }
+        });
+        for (int index : deliveryOrder(chunks.size())) {
+            if (index != 0) {
+                writeChunk(writer, md, chunks, index);
+            }
+        }
+        cancelled.set(true);
+        final IllegalStateException e = expectThrows(IllegalStateException.class, () -> writeChunk(writer, md, chunks, 0));
+        assertEquals("recovery was cancelled", e.getMessage());
+        assertEquals(0, chunks.get(0).refCount());
+        for (int i = 1; i < chunks.size(); i++) {
+            assertEquals("chunk [" + i + "]", 1, chunks.get(i).refCount());
+        }
+
+        writer.close();
+        for (ReleasableBytesReference chunk : chunks) {
+            assertEquals(0, chunk.refCount());
+        }
+    }
+
+    /**
+     * Writes the chunk at the given index the way a recovery request handler would, releasing its own reference once the writer
+     * returns or fails.
+     */
+    private static void writeChunk(MultiFileWriter writer, StoreFileMetadata md, List<ReleasableBytesReference> chunks,
+                                   int index) throws IOException {
+        long position = 0;
+        for (int i = 0; i < index; i++) {
+            position += chunks.get(i).length();
+        }
+        try (ReleasableBytesReference chunk = chunks.get(index)) {
+            writer.writeFileChunk(md, position, chunk, index == chunks.size() - 1);
+        }
+    }
+
+    private List<ReleasableBytesReference> splitIntoChunks(BytesReference content) {
+        final List<ReleasableBytesReference> chunks = new ArrayList<>();
+        int position = 0;
+        while (position < content.length()) {
+            final int length = Math.min(content.length() - position, between(1, content.length() / 2));
+            chunks.add(ReleasableBytesReference.wrap(content.slice(position, length)));
+            position += length;
+        }
+        return chunks;
+    }
+
+    private List<Integer> deliveryOrder(int numChunks) {
+        final List<Integer> order = new ArrayList<>(numChunks);
+        for (int i = 0; i < numChunks; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random());
+        return order;
+    }
+
+    private Tuple<StoreFileMetadata, BytesReference> randomFile(String name) throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexOutput output = dir.createOutput(name, IOContext.DEFAULT)) {
+                CodecUtil.writeHeader(output, "test", 0);
+                final byte[] bytes = randomByteArrayOfLength(between(1, 1024));
+                output.writeBytes(bytes, bytes.length);
+                CodecUtil.writeFooter(output);
+            }
+            try (IndexInput input = dir.openInput(name, IOContext.DEFAULT)) {
+                final String checksum = Store.digestToString(CodecUtil.retrieveChecksum(input));
+                final byte[] content = new byte[(int) input.length()];
+                input.seek(0);
+                input.readBytes(content, 0, content.length);
+                return Tuple.tuple(new StoreFileMetadata(name, content.length, checksum, Version.LATEST), new BytesArray(content));
+            }
+        }
+    }
+}
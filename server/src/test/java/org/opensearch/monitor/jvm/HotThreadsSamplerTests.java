@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+public class HotThreadsSamplerTests extends OpenSearchTestCase {
+
+    private static final StackTraceElement[] SEARCH_STACK = new StackTraceElement[] {
+        new StackTraceElement("org.apache.lucene.search.TermScorer", "score", "TermScorer.java", 1),
+        new StackTraceElement("org.opensearch.search.query.QueryPhase", "execute", "QueryPhase.java", 1),
+        new StackTraceElement("java.lang.Thread", "run", "Thread.java", 1)
+    };
+
+    private static final StackTraceElement[] WRITE_STACK = new StackTraceElement[] {
+        new StackTraceElement("org.opensearch.index.engine.InternalEngine", "index", "InternalEngine.java", 1),
+        new StackTraceElement("java.lang.Thread", "run", "Thread.java", 1)
+    };
+
+    public void testThreadPoolName() {
+        assertThat(HotThreadsSampler.threadPoolName("node_1", "opensearch[node_1][search][T#3]"), equalTo("search"));
+        assertThat(HotThreadsSampler.threadPoolName("", "opensearch[write][T#1]"), equalTo("write"));
+        assertThat(HotThreadsSampler.threadPoolName("node_1", "opensearch[node_1][scheduler][T#1]"), equalTo("scheduler"));
+        assertThat(HotThreadsSampler.threadPoolName("node_1", "Signal Dispatcher"), equalTo(HotThreadsSampler.OTHER_THREADS));
+        assertThat(HotThreadsSampler.threadPoolName("node_1", "opensearch[node_1][][T#1]"), equalTo(HotThreadsSampler.OTHER_THREADS));
+    }
+
+    public void testThreadOutsideOfThreadPool() {
+        assertThat(HotThreadsSampler.threadPoolName("node_1", "opensearch[node_1][T#1]"), equalTo(HotThreadsSampler.OTHER_THREADS));
+        final Settings settings = Settings.builder().put("node.name", "node_1").build();
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, () -> 0L);
+        sampler.addSample("opensearch[node_1][T#1]", WRITE_STACK);
+        assertThat(sampler.collapsedStacks(TimeValue.ZERO),
+            containsString("\n" + HotThreadsSampler.OTHER_THREADS + ";java.lang.Thread.run;"
+                + "org.opensearch.index.engine.InternalEngine.index 1\n"));
+    }
+
+    public void testCollapse() {
+        assertThat(HotThreadsSampler.collapse("search", SEARCH_STACK),
+            equalTo("search;java.lang.Thread.run;org.opensearch.search.query.QueryPhase.execute;"
+                + "org.apache.lucene.search.TermScorer.score"));
+    }
+
+    public void testRollingWindows() {
+        final AtomicLong now = new AtomicLong(randomLongBetween(0, Long.MAX_VALUE / 2));
+        final Settings settings = Settings.builder()
+            .put(HotThreadsSampler.WINDOW_SETTING.getKey(), "10s")
+            .put(HotThreadsSampler.WINDOWS_SETTING.getKey(), 2)
+            .build();
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            sampler.addSample("opensearch[node_1][search][T#1]", SEARCH_STACK);
+        }
+        now.addAndGet(TimeValue.timeValueSeconds(10).nanos());
+        sampler.addSample("opensearch[node_1][write][T#1]", WRITE_STACK);
+
+        String stacks = sampler.collapsedStacks(TimeValue.timeValueMinutes(1));
+        assertThat(stacks, containsString("windows=2, samples=4, dropped=0"));
+        assertThat(stacks, containsString("\nsearch;java.lang.Thread.run;org.opensearch.search.query.QueryPhase.execute;"
+            + "org.apache.lucene.search.TermScorer.score 3\n"
+            + "write;java.lang.Thread.run;org.opensearch.index.engine.InternalEngine.index 1\n"));
+
+        // only the current window is within a short lookback
+        now.addAndGet(TimeValue.timeValueSeconds(1).nanos());
+        stacks = sampler.collapsedStacks(TimeValue.timeValueMillis(500));
+        assertThat(stacks, containsString("windows=1, samples=1"));
+        assertThat(stacks, not(containsString("search;")));
+
+        // the oldest window is dropped once more windows than configured were filled
+        now.addAndGet(TimeValue.timeValueSeconds(10).nanos());
+        sampler.addSample("opensearch[node_1][write][T#1]", WRITE_STACK);
+        stacks = sampler.collapsedStacks(TimeValue.timeValueMinutes(1));
+        assertThat(stacks, containsString("windows=2, samples=2"));
+        assertThat(stacks, not(containsString("search;")));
+        assertThat(stacks, containsString("write;java.lang.Thread.run;org.opensearch.index.engine.InternalEngine.index 2\n"));
+    }
+
+    public void testMaxStacksPerWindow() {
+        final Settings settings = Settings.builder().put(HotThreadsSampler.MAX_STACKS_PER_WINDOW_SETTING.getKey(), 1).build();
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, () -> 0L);
+        sampler.addSample("opensearch[node_1][search][T#1]", SEARCH_STACK);
+        sampler.addSample("opensearch[node_1][write][T#1]", WRITE_STACK);
+        sampler.addSample("opensearch[node_1][search][T#2]", SEARCH_STACK);
+        final String stacks = sampler.collapsedStacks(TimeValue.ZERO);
+        assertThat(stacks, containsString("samples=3, dropped=1"));
+        assertThat(stacks, containsString("search;java.lang.Thread.run;org.opensearch.search.query.QueryPhase.execute;"
+            + "org.apache.lucene.search.TermScorer.score 2\n"));
+        assertThat(stacks, not(containsString("write;")));
+    }
+
+    public void testSampleRunnableThreads() throws Exception {
+        final HotThreadsSampler sampler = new HotThreadsSampler(Settings.EMPTY, null, System::nanoTime);
+        sampler.sample();
+        assertThat(sampler.collapsedStacks(TimeValue.ZERO), containsString("windows=1, samples=1"));
+    }
+
+    public void testMaxStackDepth() throws Exception {
+        final int maxStackDepth = between(1, 3);
+        final Settings settings = Settings.builder().put(HotThreadsSampler.MAX_STACK_DEPTH_SETTING.getKey(), maxStackDepth).build();
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, System::nanoTime);
+        sampler.sample();
+        for (String line : sampler.collapsedStacks(TimeValue.ZERO).split("\n")) {
+            if (line.startsWith("Sampled hot threads") == false) {
+                // the thread pool followed by at most the configured number of frames
+                assertThat(line, line.split(";").length, lessThanOrEqualTo(maxStackDepth + 1));
+            }
+        }
+    }
+}
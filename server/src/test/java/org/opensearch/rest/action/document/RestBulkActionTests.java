@@ -35,19 +35,36 @@ package org.opensearch.rest.action.document;
 import org.apache.lucene.util.SetOnce;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.xcontent.ObjectPath;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.stats.IndexingPressureStats;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestChannel;
 import org.opensearch.test.rest.FakeRestRequest;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -90,4 +107,115 @@ public class RestBulkActionTests extends OpenSearchTestCase {
             assertThat(bulkCalled.get(), equalTo(true));
         }
     }
+
+    public void testReservesIndexingPressureWhileParsing() throws Exception {
+        final BytesArray content = new BytesArray("{\"index\":{\"_id\":\"1\"}}\n{\"field1\":\"val1\"}\n");
+        final boolean reject = randomBoolean();
+        final IndexingPressure indexingPressure = new IndexingPressure(Settings.builder()
+            .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), reject ? (content.length() - 1) + "b" : "1mb").build());
+        SetOnce<Boolean> bulkCalled = new SetOnce<>();
+        try (NodeClient verifyingClient = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                bulkCalled.set(true);
+                assertThat(request.requests(), hasSize(1));
+                assertThat(indexingPressure.getCurrentCoordinatingBytes(), equalTo(0L));
+            }
+        }) {
+            final RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withContent(content, XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final RestBulkAction action = new RestBulkAction(settings(Version.CURRENT).build(), indexingPressure);
+            if (reject) {
+                expectThrows(OpenSearchRejectedExecutionException.class,
+                    () -> action.handleRequest(request, mock(RestChannel.class), verifyingClient));
+                assertNull(bulkCalled.get());
+            } else {
+                action.handleRequest(request, mock(RestChannel.class), verifyingClient);
+                assertThat(bulkCalled.get(), equalTo(true));
+            }
+        }
+        final IndexingPressureStats stats = indexingPressure.stats();
+        assertThat(stats.getCoordinatingRejections(), equalTo(reject ? 1L : 0L));
+        assertThat(stats.getCurrentCoordinatingBytes(), equalTo(0L));
+        assertThat(stats.getCurrentCombinedCoordinatingAndPrimaryBytes(), equalTo(0L));
+        // the reservation is not reported as coordinating bytes, the parsed request is accounted for by the transport action
+        assertThat(stats.getTotalCoordinatingBytes(), equalTo(0L));
+    }
+
+    public void testExecutesChunksOneAfterTheOther() throws Exception {
+        final int numItems = randomIntBetween(2, 10);
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numItems; i++) {
+            body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n{\"field1\":\"val1\"}\n");
+        }
+        final boolean failChunk = randomBoolean();
+        final int failingChunk = randomIntBetween(0, numItems - 1);
+        final List<BulkRequest> chunks = new ArrayList<>();
+        final List<ActionListener<BulkResponse>> listeners = new ArrayList<>();
+        try (NodeClient verifyingClient = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                chunks.add(request);
+                listeners.add(listener);
+            }
+        }) {
+            final Map<String, String> params = new HashMap<>();
+            params.put("chunk_size", "1b");
+            params.put("refresh", "wait_for");
+            final RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk").withParams(params)
+                .withContent(new BytesArray(body.toString()), XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+            new RestBulkAction(settings(Version.CURRENT).build()).handleRequest(request, channel, verifyingClient);
+
+            for (int i = 0; i < numItems; i++) {
+                // a chunk is only parsed and executed once the previous one completed
+                assertThat(chunks, hasSize(i + 1));
+                final BulkRequest chunk = chunks.get(i);
+                assertThat(chunk.requests(), hasSize(1));
+                assertThat(chunk.requests().get(0).id(), equalTo(Integer.toString(i)));
+                assertThat(chunk.getRefreshPolicy(), equalTo(WriteRequest.RefreshPolicy.WAIT_UNTIL));
+                assertThat(channel.responses().get() + channel.errors().get(), equalTo(0));
+                if (failChunk && i == failingChunk) {
+                    listeners.get(i).onFailure(new OpenSearchRejectedExecutionException("rejected"));
+                    break;
+                }
+                final IndexResponse indexResponse = new IndexResponse(new ShardId("my_index", "_na_", 0), "_doc", Integer.toString(i),
+                    i, 1, 1, true);
+                indexResponse.setShardInfo(new ReplicationResponse.ShardInfo(1, 1));
+                listeners.get(i).onResponse(new BulkResponse(
+                    new BulkItemResponse[] { new BulkItemResponse(0, DocWriteRequest.OpType.INDEX, indexResponse) }, 1));
+            }
+
+            if (failChunk) {
+                // the remaining chunks are not even parsed
+                assertThat(chunks, hasSize(failingChunk + 1));
+                assertThat(channel.errors().get(), equalTo(1));
+                assertThat(channel.capturedResponse().status(), equalTo(RestStatus.TOO_MANY_REQUESTS));
+            } else {
+                assertThat(chunks, hasSize(numItems));
+                assertThat(channel.responses().get(), equalTo(1));
+                final Map<String, Object> response = XContentHelper.convertToMap(channel.capturedResponse().content(), false,
+                    XContentType.JSON).v2();
+                assertThat(response.get("took"), equalTo(numItems));
+                assertThat(response.get("errors"), equalTo(false));
+                final List<?> items = (List<?>) response.get("items");
+                assertThat(items, hasSize(numItems));
+                for (int i = 0; i < numItems; i++) {
+                    assertThat(ObjectPath.eval("index._id", items.get(i)), equalTo(Integer.toString(i)));
+                }
+            }
+        }
+    }
+
+    public void testRejectsNonPositiveChunkSize() throws Exception {
+        try (NodeClient client = new NoOpNodeClient(this.getTestName())) {
+            final RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withParams(Collections.singletonMap("chunk_size", "0b"))
+                .withContent(new BytesArray("{\"index\":{\"_id\":\"1\"}}\n{\"field1\":\"val1\"}\n"), XContentType.JSON)
+                .withMethod(RestRequest.Method.POST).build();
+            final IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+                () -> new RestBulkAction(settings(Version.CURRENT).build()).handleRequest(request, mock(RestChannel.class), client));
+            assertThat(e.getMessage(), equalTo("[chunk_size] must be positive but was [0b]"));
+        }
+    }
 }
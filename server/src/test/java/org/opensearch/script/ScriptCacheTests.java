@@ -31,10 +31,21 @@
 
 package org.opensearch.script;
 
+import org.opensearch.Version;
 import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 public class ScriptCacheTests extends OpenSearchTestCase {
     // even though circuit breaking is allowed to be configured per minute, we actually weigh this over five minutes
@@ -66,6 +77,60 @@ public class ScriptCacheTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCompilationLatencyStats() throws IOException {
+        final Integer size = ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(Settings.EMPTY);
+        final TimeValue expire = ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(Settings.EMPTY);
+        String settingName = ScriptService.SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey();
+        ScriptCache cache = new ScriptCache(size, expire, ScriptCache.UNLIMITED_COMPILATION_RATE, settingName);
+        ScriptEngine engine = new ScriptEngine() {
+            @Override
+            public String getType() {
+                return "test";
+            }
+
+            @Override
+            public <FactoryType> FactoryType compile(String name, String code, ScriptContext<FactoryType> context,
+                                                     Map<String, String> params) {
+                TemplateScript.Factory factory = p -> new TemplateScript(p) {
+                    @Override
+                    public String execute() {
+                        return code;
+                    }
+                };
+                return context.factoryClazz.cast(factory);
+            }
+
+            @Override
+            public Set<ScriptContext<?>> getSupportedContexts() {
+                return Collections.singleton(TemplateScript.CONTEXT);
+            }
+        };
+
+        assertThat(cache.stats(TemplateScript.CONTEXT.name).getCompilationLatencyCount(), equalTo(0L));
+        final int scripts = randomIntBetween(1, 10);
+        for (int i = 0; i < scripts; i++) {
+            cache.compile(TemplateScript.CONTEXT, engine, null, "script-" + i, ScriptType.INLINE, Collections.emptyMap());
+            // cached scripts are not compiled again
+            cache.compile(TemplateScript.CONTEXT, engine, null, "script-" + i, ScriptType.INLINE, Collections.emptyMap());
+        }
+
+        ScriptContextStats stats = cache.stats(TemplateScript.CONTEXT.name);
+        assertThat(stats.getCompilations(), equalTo((long) scripts));
+        assertThat(stats.getCompilationLatencyCount(), equalTo((long) scripts));
+        assertThat(stats.getCompilationLatencyMaxMicros(), greaterThanOrEqualTo(stats.getCompilationLatencyPercentileMicros(50)));
+        assertThat(stats.getCompilationLatencyPercentileMicros(50), greaterThan(0L));
+
+        final ScriptContextStats copy = copyWriteable(stats, writableRegistry(), ScriptContextStats::new);
+        assertThat(copy.getCompilationLatencyCount(), equalTo((long) scripts));
+        assertThat(copy.getCompilationLatencyMaxMicros(), equalTo(stats.getCompilationLatencyMaxMicros()));
+
+        final Version oldVersion = VersionUtils.randomVersionBetween(random(), Version.V_7_9_0,
+            VersionUtils.getPreviousVersion(Version.V_7_10_3));
+        final ScriptContextStats bwcCopy = copyWriteable(stats, writableRegistry(), ScriptContextStats::new, oldVersion);
+        assertThat(bwcCopy.getCompilations(), equalTo((long) scripts));
+        assertThat(bwcCopy.getCompilationLatencyCount(), equalTo(0L));
+    }
+
     public void testUnlimitedCompilationRate() {
         final Integer size = ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(Settings.EMPTY);
         final TimeValue expire = ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(Settings.EMPTY);
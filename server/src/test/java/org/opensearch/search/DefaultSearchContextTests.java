@@ -160,7 +160,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
                 newContextId(), indexService, indexShard, searcherSupplier.get(), randomNonNegativeLong(), false);
 
             DefaultSearchContext contextWithoutScroll = new DefaultSearchContext(readerWithoutScroll, shardSearchRequest, target, null,
-                bigArrays, null, timeout, null, false, Version.CURRENT);
+                bigArrays, null, null, timeout, null, false, Version.CURRENT);
             contextWithoutScroll.from(300);
             contextWithoutScroll.close();
 
@@ -176,7 +176,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
             ReaderContext readerContext = new LegacyReaderContext(
                 newContextId(), indexService, indexShard, searcherSupplier.get(), shardSearchRequest, randomNonNegativeLong());
             DefaultSearchContext context1 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null,
-                bigArrays, null, timeout, null, false, Version.CURRENT);
+                bigArrays, null, null, timeout, null, false, Version.CURRENT);
             context1.from(300);
             exception = expectThrows(IllegalArgumentException.class, () -> context1.preProcess(false));
             assertThat(exception.getMessage(), equalTo("Batch size is too large, size must be less than or equal to: ["
@@ -210,7 +210,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
                 newContextId(), indexService, indexShard, searcherSupplier.get(), randomNonNegativeLong(), false);
             // rescore is null but sliceBuilder is not null
             DefaultSearchContext context2 = new DefaultSearchContext(readerContext, shardSearchRequest, target,
-                null, bigArrays, null, timeout, null, false, Version.CURRENT);
+                null, bigArrays, null, null, timeout, null, false, Version.CURRENT);
 
             SliceBuilder sliceBuilder = mock(SliceBuilder.class);
             int numSlices = maxSlicesPerScroll + randomIntBetween(1, 100);
@@ -227,7 +227,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
             when(shardSearchRequest.indexBoost()).thenReturn(AbstractQueryBuilder.DEFAULT_BOOST);
 
             DefaultSearchContext context3 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null,
-                bigArrays, null, timeout, null, false, Version.CURRENT);
+                bigArrays, null, null, timeout, null, false, Version.CURRENT);
             ParsedQuery parsedQuery = ParsedQuery.parsedMatchAllQuery();
             context3.sliceBuilder(null).parsedQuery(parsedQuery).preProcess(false);
             assertEquals(context3.query(), context3.buildFilteredQuery(parsedQuery.query()));
@@ -239,7 +239,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
             readerContext.close();
             readerContext = new ReaderContext(newContextId(), indexService, indexShard,
                 searcherSupplier.get(), randomNonNegativeLong(), false);
-            DefaultSearchContext context4 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null, bigArrays, null,
+            DefaultSearchContext context4 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null, bigArrays, null, null,
                 timeout, null, false, Version.CURRENT);
             context4.sliceBuilder(new SliceBuilder(1,2)).parsedQuery(parsedQuery).preProcess(false);
             Query query1 = context4.query();
@@ -294,7 +294,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
                 newContextId(), indexService, indexShard, searcherSupplier, randomNonNegativeLong(), false);
 
             DefaultSearchContext context = new DefaultSearchContext(
-                readerContext, shardSearchRequest, target, null, bigArrays, null, timeout, null, false, Version.CURRENT);
+                readerContext, shardSearchRequest, target, null, bigArrays, null, null, timeout, null, false, Version.CURRENT);
             assertThat(context.searcher().hasCancellations(), is(false));
             context.searcher().addQueryCancellation(() -> {});
             assertThat(context.searcher().hasCancellations(), is(true));
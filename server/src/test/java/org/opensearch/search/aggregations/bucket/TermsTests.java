@@ -178,6 +178,9 @@ public class TermsTests extends BaseAggregationTestCase<TermsAggregationBuilder>
         if (randomBoolean()) {
             factory.showTermDocCountError(randomBoolean());
         }
+        if (randomBoolean()) {
+            factory.spillThreshold(randomFrom(0, randomIntBetween(TermsAggregationBuilder.MIN_SPILL_THRESHOLD, 100000)));
+        }
         return factory;
     }
 
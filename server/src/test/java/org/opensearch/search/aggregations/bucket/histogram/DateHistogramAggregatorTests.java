@@ -36,26 +36,41 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.store.Directory;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -1157,6 +1172,71 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
             "hard bounds: [2010-01-01--2020-01-01], extended bounds: [2009-01-01--2021-01-01]"));
     }
 
+    public void testIndexSorted() throws IOException {
+        DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, false);
+        Map<Long, Long> expected = new TreeMap<>();
+        try (Directory directory = newDirectory()) {
+            IndexWriterConfig config = newIndexWriterConfig();
+            config.setIndexSort(new Sort(new SortedNumericSortField(AGGREGABLE_DATE, SortField.Type.LONG, randomBoolean())));
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory, config)) {
+                int numDocs = randomIntBetween(100, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    if (randomInt(10) > 0) {
+                        long instant = randomLongBetween(0, 100000);
+                        document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, instant));
+                        expected.merge(instant - instant % 1000, 1L, Long::sum);
+                    }
+                    indexWriter.addDocument(document);
+                    if (rarely()) {
+                        indexWriter.commit();
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name")
+                    .field(AGGREGABLE_DATE)
+                    .fixedInterval(new DateHistogramInterval("1s"))
+                    .minDocCount(1);
+                InternalDateHistogram histogram = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), aggregationBuilder, fieldType);
+                Map<Long, Long> actual = new TreeMap<>();
+                for (Histogram.Bucket bucket : histogram.getBuckets()) {
+                    actual.put(((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli(), bucket.getDocCount());
+                }
+                assertEquals(expected, actual);
+
+                // every segment takes the sorted path, which looks up the bucket of a run of documents only once
+                IndexSearcher unwrappedSearcher = newIndexSearcher(indexReader);
+                try (Aggregator aggregator = createAggregator(aggregationBuilder, unwrappedSearcher, fieldType)) {
+                    aggregator.preCollection();
+                    unwrappedSearcher.search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+                    Map<String, Object> debug = new HashMap<>();
+                    aggregator.collectDebugInfo(debug::put);
+                    assertEquals(indexReader.leaves().size(), debug.get("index_sorted_segments"));
+                    assertEquals(bucketsPerSegment(indexReader, AGGREGABLE_DATE, 1000), debug.get("index_sorted_runs"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the distinct buckets of a fixed interval in each segment, summed up over all segments.
+     */
+    private static long bucketsPerSegment(IndexReader reader, String field, long interval) throws IOException {
+        long buckets = 0;
+        for (LeafReaderContext leaf : reader.leaves()) {
+            Set<Long> keys = new HashSet<>();
+            NumericDocValues values = DocValues.unwrapSingleton(DocValues.getSortedNumeric(leaf.reader(), field));
+            while (values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                keys.add(values.longValue() - values.longValue() % interval);
+            }
+            buckets += keys.size();
+        }
+        return buckets;
+    }
+
     public void testIllegalInterval() throws IOException {
         IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> testSearchCase(new MatchAllDocsQuery(),
             Collections.emptyList(),
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class BucketSpillTests extends OpenSearchTestCase {
+
+    private final MockBigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+
+    public void testMergeBytesKeysInMultiplePasses() throws IOException {
+        final Path directory = createTempDir();
+        final int maxMergeFanIn = between(2, 4);
+        final int numRuns = between(1, 20);
+        final TreeMap<BytesRef, Long> expected = new TreeMap<>();
+        try (BucketSpill spill = new BucketSpill(bigArrays, directory, maxMergeFanIn)) {
+            for (int r = 0; r < numRuns; r++) {
+                final Map<Long, Long> docCounts = new HashMap<>();
+                try (BytesKeyedBucketOrds ords = BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE)) {
+                    final int numValues = between(0, 100);
+                    for (int i = 0; i < numValues; i++) {
+                        // a small range of keys makes the same key show up in many runs, including the empty key
+                        final BytesRef key = new BytesRef(randomBoolean() ? "" : Integer.toString(between(0, 200)));
+                        long ord = ords.add(0, key);
+                        if (ord < 0) {
+                            ord = -1 - ord;
+                        }
+                        final long docCount = randomLongBetween(0, 5);
+                        docCounts.merge(ord, docCount, Long::sum);
+                        expected.merge(key, docCount, Long::sum);
+                    }
+                    spill.spill(ords, ord -> docCounts.getOrDefault(ord, 0L));
+                }
+            }
+            assertThat(spill.runs(), equalTo(numRuns));
+            assertThat(spill.spilledBuckets(), greaterThanOrEqualTo((long) expected.size()));
+
+            try (BucketSpill.MergedBuckets merged = spill.merge()) {
+                assertThat(spill.runs(), lessThanOrEqualTo(maxMergeFanIn));
+                for (Map.Entry<BytesRef, Long> entry : expected.entrySet()) {
+                    assertTrue(merged.next());
+                    assertThat(merged.key(), equalTo(entry.getKey()));
+                    assertThat(merged.docCount(), equalTo(entry.getValue()));
+                }
+                assertFalse(merged.next());
+            }
+            assertThat(countFiles(directory), equalTo((long) spill.runs()));
+        }
+        assertThat(countFiles(directory), equalTo(0L));
+    }
+
+    public void testMergeLongKeysInMultiplePasses() throws IOException {
+        final Path directory = createTempDir();
+        final int maxMergeFanIn = between(2, 4);
+        final int numRuns = between(1, 20);
+        final TreeMap<Long, Long> expected = new TreeMap<>();
+        try (BucketSpill spill = new BucketSpill(bigArrays, directory, maxMergeFanIn)) {
+            for (int r = 0; r < numRuns; r++) {
+                final Map<Long, Long> docCounts = new HashMap<>();
+                try (LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE)) {
+                    final int numValues = between(0, 100);
+                    for (int i = 0; i < numValues; i++) {
+                        final long value = randomFrom(Long.MIN_VALUE, Long.MAX_VALUE, randomLongBetween(-100, 100));
+                        long ord = ords.add(0, value);
+                        if (ord < 0) {
+                            ord = -1 - ord;
+                        }
+                        final long docCount = randomLongBetween(0, 5);
+                        docCounts.merge(ord, docCount, Long::sum);
+                        expected.merge(value, docCount, Long::sum);
+                    }
+                    spill.spill(ords, ord -> docCounts.getOrDefault(ord, 0L));
+                }
+            }
+
+            try (BucketSpill.MergedBuckets merged = spill.merge()) {
+                assertThat(spill.runs(), lessThanOrEqualTo(maxMergeFanIn));
+                for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+                    assertTrue(merged.next());
+                    assertThat(BucketSpill.decodeLong(merged.key()), equalTo(entry.getKey()));
+                    assertThat(merged.docCount(), equalTo(entry.getValue()));
+                }
+                assertFalse(merged.next());
+            }
+        }
+        assertThat(countFiles(directory), equalTo(0L));
+    }
+
+    public void testInvalidMaxMergeFanIn() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> new BucketSpill(bigArrays, createTempDir(), 1));
+        assertThat(e.getMessage(), equalTo("[maxMergeFanIn] must be at least 2 but was [1]"));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -42,12 +42,22 @@ import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
@@ -120,6 +130,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -649,6 +660,235 @@ public class TermsAggregatorTests extends AggregatorTestCase {
             val -> new NumericDocValuesField("field", Double.doubleToRawLongBits(val)));
     }
 
+    public void testIndexSortedLongTermsAggregator() throws Exception {
+        boolean reverse = randomBoolean();
+        Map<Long, Long> counts = new TreeMap<>();
+        try (Directory directory = newDirectory()) {
+            IndexWriterConfig config = newIndexWriterConfig();
+            config.setIndexSort(new Sort(new SortedNumericSortField("field", SortField.Type.LONG, reverse)));
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory, config)) {
+                int numDocs = randomIntBetween(100, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    if (randomInt(10) > 0) {
+                        long value = randomLongBetween(0, 50);
+                        document.add(new SortedNumericDocValuesField("field", value));
+                        counts.merge(value, 1L, Long::sum);
+                    }
+                    indexWriter.addDocument(document);
+                    if (rarely()) {
+                        indexWriter.commit();
+                    }
+                }
+            }
+            MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.LONG);
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                int size = randomIntBetween(1, 10);
+                // the key order matches the index sort so collection stops creating buckets after the first keys
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name")
+                    .field("field")
+                    .size(size)
+                    .order(BucketOrder.key(reverse == false));
+                LongTerms result = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), aggregationBuilder, fieldType);
+
+                List<Map.Entry<Long, Long>> expected = new ArrayList<>(counts.entrySet());
+                if (reverse) {
+                    Collections.reverse(expected);
+                }
+                assertEquals(Math.min(size, expected.size()), result.getBuckets().size());
+                long otherDocCount = 0;
+                for (int i = 0; i < expected.size(); i++) {
+                    if (i < size) {
+                        assertEquals(expected.get(i).getKey(), result.getBuckets().get(i).getKey());
+                        assertEquals(expected.get(i).getValue().longValue(), result.getBuckets().get(i).getDocCount());
+                    } else {
+                        otherDocCount += expected.get(i).getValue();
+                    }
+                }
+                assertEquals(otherDocCount, result.getSumOfOtherDocCounts());
+
+                // every segment takes the sorted path and stops creating buckets once it has seen as many keys as the shard returns
+                TermsAggregationBuilder cutOff = new TermsAggregationBuilder("_name")
+                    .field("field")
+                    .size(size)
+                    .shardSize(size)
+                    .order(BucketOrder.key(reverse == false));
+                try (TermsAggregator aggregator = createAggregator(cutOff, indexSearcher, fieldType)) {
+                    aggregator.preCollection();
+                    indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+                    Map<String, Object> debug = new HashMap<>();
+                    aggregator.collectDebugInfo(debug::put);
+                    assertEquals(indexSearcher.getIndexReader().leaves().size(), debug.get("index_sorted_segments"));
+                    assertEquals(docsPastShardSize(indexSearcher.getIndexReader(), "field", size), debug.get("docs_past_shard_size"));
+                }
+            }
+        }
+    }
+
+    public void testIndexSortedLongTermsAggregatorAcrossSegments() throws Exception {
+        try (Directory directory = newDirectory()) {
+            // a plain config flushes exactly one segment per commit
+            IndexWriterConfig config = new IndexWriterConfig();
+            config.setIndexSort(new Sort(new SortedNumericSortField("field", SortField.Type.LONG)));
+            config.setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                // the first segment only creates buckets for 0, 1 and 2, the docs of 3 to 9 are counted as others
+                for (long value = 0; value < 10; value++) {
+                    for (int i = 0; i < 2; i++) {
+                        Document document = new Document();
+                        document.add(new SortedNumericDocValuesField("field", value));
+                        indexWriter.addDocument(document);
+                    }
+                }
+                indexWriter.commit();
+                // 3 and 4 are top keys of the second segment although they were cut off in the first one
+                for (long value : new long[] { 1, 3, 4 }) {
+                    Document document = new Document();
+                    document.add(new SortedNumericDocValuesField("field", value));
+                    indexWriter.addDocument(document);
+                }
+                indexWriter.commit();
+            }
+            MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.LONG);
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertEquals(2, indexReader.leaves().size());
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name")
+                    .field("field")
+                    .size(3)
+                    .shardSize(3)
+                    .order(BucketOrder.key(true));
+                try (TermsAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType)) {
+                    aggregator.preCollection();
+                    indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+                    LongTerms result = (LongTerms) aggregator.buildTopLevel();
+
+                    // the partial counts of 3 and 4 never make it into the top buckets
+                    assertEquals(3, result.getBuckets().size());
+                    assertEquals(0L, result.getBuckets().get(0).getKey());
+                    assertEquals(2L, result.getBuckets().get(0).getDocCount());
+                    assertEquals(1L, result.getBuckets().get(1).getKey());
+                    assertEquals(3L, result.getBuckets().get(1).getDocCount());
+                    assertEquals(2L, result.getBuckets().get(2).getKey());
+                    assertEquals(2L, result.getBuckets().get(2).getDocCount());
+                    assertEquals(23 - 7, result.getSumOfOtherDocCounts());
+
+                    Map<String, Object> debug = new HashMap<>();
+                    aggregator.collectDebugInfo(debug::put);
+                    assertEquals(2, debug.get("index_sorted_segments"));
+                    assertEquals(14L, debug.get("docs_past_shard_size"));
+                    // 0 to 4 from both segments
+                    assertEquals(5L, debug.get("total_buckets"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the documents of all segments that come after the first {@code shardSize} distinct values of their segment.
+     */
+    private static long docsPastShardSize(IndexReader reader, String field, int shardSize) throws IOException {
+        long docs = 0;
+        for (LeafReaderContext leaf : reader.leaves()) {
+            NumericDocValues values = DocValues.unwrapSingleton(DocValues.getSortedNumeric(leaf.reader(), field));
+            int keys = 0;
+            long previous = 0;
+            while (values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                if (keys == 0 || values.longValue() != previous) {
+                    previous = values.longValue();
+                    keys++;
+                }
+                if (keys > shardSize) {
+                    docs++;
+                }
+            }
+        }
+        return docs;
+    }
+
+    public void testSpillThreshold() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                // enough distinct terms to spill a couple of times at the minimum threshold
+                int numDocs = randomIntBetween(2000, 4000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    int numValues = randomIntBetween(0, 2);
+                    for (int v = 0; v < numValues; v++) {
+                        long value = randomLongBetween(10000 * v, 10000 * v + 3000);
+                        document.add(new SortedNumericDocValuesField("long", value));
+                        document.add(new SortedSetDocValuesField("string", new BytesRef(Long.toString(value))));
+                    }
+                    indexWriter.addDocument(document);
+                }
+            }
+            MappedFieldType longFieldType = new NumberFieldMapper.NumberFieldType("long", NumberFieldMapper.NumberType.LONG);
+            MappedFieldType stringFieldType = new KeywordFieldMapper.KeywordFieldType("string");
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                for (String field : new String[] { "long", "string" }) {
+                    BucketOrder order = randomFrom(BucketOrder.count(false), BucketOrder.count(true), BucketOrder.key(true),
+                        BucketOrder.key(false));
+                    int size = randomIntBetween(1, 20);
+                    long minDocCount = randomLongBetween(0, 3);
+                    // a shard size that covers all terms keeps the counts exact however the reader is split into shards
+                    TermsAggregationBuilder inMemory = new TermsAggregationBuilder("_name").field(field)
+                        .order(order)
+                        .size(size)
+                        .shardSize(10000)
+                        .minDocCount(minDocCount);
+                    TermsAggregationBuilder spilled = new TermsAggregationBuilder("_name").field(field)
+                        .order(order)
+                        .size(size)
+                        .shardSize(10000)
+                        .minDocCount(minDocCount)
+                        .spillThreshold(randomIntBetween(TermsAggregationBuilder.MIN_SPILL_THRESHOLD, 1500));
+
+                    InternalTerms<?, ?> expected = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), inMemory,
+                        longFieldType, stringFieldType);
+                    InternalTerms<?, ?> result = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), spilled,
+                        longFieldType, stringFieldType);
+                    assertEquals(expected.getBuckets().size(), result.getBuckets().size());
+                    for (int i = 0; i < expected.getBuckets().size(); i++) {
+                        assertEquals(expected.getBuckets().get(i).getKeyAsString(), result.getBuckets().get(i).getKeyAsString());
+                        assertEquals(expected.getBuckets().get(i).getDocCount(), result.getBuckets().get(i).getDocCount());
+                    }
+                    assertEquals(expected.getSumOfOtherDocCounts(), result.getSumOfOtherDocCounts());
+
+                    // all terms don't fit below the minimum threshold so the buckets must have been spilled while collecting
+                    TermsAggregationBuilder minimumThreshold = new TermsAggregationBuilder("_name").field(field)
+                        .spillThreshold(TermsAggregationBuilder.MIN_SPILL_THRESHOLD);
+                    try (TermsAggregator aggregator = createAggregator(minimumThreshold, indexSearcher, longFieldType, stringFieldType)) {
+                        aggregator.preCollection();
+                        indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                        aggregator.postCollection();
+                        aggregator.buildTopLevel();
+                        Map<String, Object> debug = new HashMap<>();
+                        aggregator.collectDebugInfo(debug::put);
+                        assertThat((int) debug.get("spilled_runs"), greaterThan(0));
+                        assertThat((long) debug.get("spilled_bytes"), greaterThan(0L));
+                    }
+                }
+
+                TermsAggregationBuilder withSubAggregation = new TermsAggregationBuilder("_name").field("long")
+                    .spillThreshold(TermsAggregationBuilder.MIN_SPILL_THRESHOLD)
+                    .subAggregation(new TermsAggregationBuilder("_sub").field("string"));
+                IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+                    () -> searchAndReduce(indexSearcher, new MatchAllDocsQuery(), withSubAggregation, longFieldType, stringFieldType));
+                assertEquals("[spill_threshold] is not supported by terms aggregation [_name] because it has sub-aggregations",
+                    e.getMessage());
+
+                int tooSmall = randomIntBetween(1, TermsAggregationBuilder.MIN_SPILL_THRESHOLD - 1);
+                e = expectThrows(IllegalArgumentException.class, () -> new TermsAggregationBuilder("_name").spillThreshold(tooSmall));
+                assertEquals("[spillThreshold] must be 0 or greater than or equal to 1000. Found [" + tooSmall + "] in [_name]",
+                    e.getMessage());
+            }
+        }
+    }
+
     public void testIpTermsAggregator() throws Exception {
         BiFunction<InetAddress, Boolean, IndexableField> luceneFieldFactory = (val, mv) -> {
             if (mv) {
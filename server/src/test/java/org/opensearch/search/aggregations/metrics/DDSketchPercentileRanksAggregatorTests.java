@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.ValuesSourceType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+public class DDSketchPercentileRanksAggregatorTests extends AggregatorTestCase {
+
+    @Override
+    protected AggregationBuilder createAggBuilderForTypeTest(MappedFieldType fieldType, String fieldName) {
+        return new PercentileRanksAggregationBuilder("ddsketch_ranks", new double[]{0.1, 0.5, 12})
+            .field(fieldName)
+            .percentilesConfig(new PercentilesConfig.DDSketch());
+    }
+
+    @Override
+    protected List<ValuesSourceType> getSupportedValuesSourceTypes() {
+        return Arrays.asList(CoreValuesSourceType.NUMERIC,
+            CoreValuesSourceType.DATE,
+            CoreValuesSourceType.BOOLEAN);
+    }
+
+    public void testEmpty() throws IOException {
+        PercentileRanksAggregationBuilder aggBuilder = new PercentileRanksAggregationBuilder("my_agg", new double[]{0.5})
+                .field("field")
+                .method(PercentilesMethod.DDSKETCH);
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.DOUBLE);
+        try (IndexReader reader = new MultiReader()) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            PercentileRanks ranks = searchAndReduce(searcher, new MatchAllDocsQuery(), aggBuilder, fieldType);
+            Percentile rank = ranks.iterator().next();
+            assertEquals(Double.NaN, rank.getPercent(), 0d);
+            assertEquals(0.5, rank.getValue(), 0d);
+            assertFalse(AggregationInspectionHelper.hasValue(((InternalDDSketchPercentileRanks)ranks)));
+        }
+    }
+
+    public void testSimple() throws IOException {
+        try (Directory dir = newDirectory();
+                RandomIndexWriter w = new RandomIndexWriter(random(), dir)) {
+            for (double value : new double[] {3, 0.2, 10}) {
+                Document doc = new Document();
+                doc.add(new SortedNumericDocValuesField("field", NumericUtils.doubleToSortableLong(value)));
+                w.addDocument(doc);
+            }
+
+            PercentileRanksAggregationBuilder aggBuilder = new PercentileRanksAggregationBuilder("my_agg", new double[]{0.1, 0.5, 12})
+                    .field("field")
+                    .percentilesConfig(new PercentilesConfig.DDSketch(0.01));
+            MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.DOUBLE);
+            try (IndexReader reader = w.getReader()) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                PercentileRanks ranks = searchAndReduce(searcher, new MatchAllDocsQuery(), aggBuilder, fieldType);
+                Iterator<Percentile> rankIterator = ranks.iterator();
+                Percentile rank = rankIterator.next();
+                assertEquals(0.1, rank.getValue(), 0d);
+                assertEquals(0, rank.getPercent(), 0d);
+                rank = rankIterator.next();
+                assertEquals(0.5, rank.getValue(), 0d);
+                assertEquals(100d / 3, rank.getPercent(), 0.0001);
+                rank = rankIterator.next();
+                assertEquals(12, rank.getValue(), 0d);
+                assertEquals(100, rank.getPercent(), 0d);
+                assertFalse(rankIterator.hasNext());
+                assertTrue(AggregationInspectionHelper.hasValue(((InternalDDSketchPercentileRanks)ranks)));
+            }
+        }
+    }
+}
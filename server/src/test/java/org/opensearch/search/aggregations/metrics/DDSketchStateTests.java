@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class DDSketchStateTests extends OpenSearchTestCase {
+
+    private final BigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+
+    private static double[] randomValues(int count) {
+        final double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            switch (between(0, 3)) {
+                case 0:
+                    values[i] = 0;
+                    break;
+                case 1:
+                    values[i] = -Math.exp(randomDoubleBetween(-8, 8, true));
+                    break;
+                default:
+                    values[i] = Math.exp(randomDoubleBetween(-8, 8, true));
+                    break;
+            }
+        }
+        return values;
+    }
+
+    public void testRelativeAccuracy() {
+        final double relativeAccuracy = randomFrom(0.05, 0.01, 0.005);
+        final double[] values = randomValues(between(1, 10000));
+        try (DDSketchState sketch = new DDSketchState(relativeAccuracy, bigArrays)) {
+            Arrays.stream(values).forEach(sketch::add);
+            Arrays.sort(values);
+            assertEquals(values.length, sketch.size());
+            assertEquals(values[0], sketch.quantile(0), 0d);
+            assertEquals(values[values.length - 1], sketch.quantile(1), 0d);
+            for (double q : new double[] { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, randomDouble() }) {
+                final double rank = q * (values.length - 1);
+                final double low = values[(int) Math.floor(rank)];
+                final double high = values[(int) Math.ceil(rank)];
+                final double value = sketch.quantile(q);
+                assertTrue("quantile [" + q + "] is [" + value + "] but should be in [" + low + ", " + high + "]",
+                    value >= low - Math.abs(low) * relativeAccuracy && value <= high + Math.abs(high) * relativeAccuracy);
+            }
+        }
+    }
+
+    public void testCdf() {
+        try (DDSketchState sketch = new DDSketchState(0.01, bigArrays)) {
+            assertThat(sketch.cdf(randomDouble()), equalTo(Double.NaN));
+            for (int i = 1; i <= 100; i++) {
+                sketch.add(i);
+            }
+            assertEquals(0, sketch.cdf(0.5), 0d);
+            assertEquals(1, sketch.cdf(100), 0d);
+            assertEquals(0.5, sketch.cdf(50), 0.01);
+            assertEquals(0.9, sketch.cdf(90), 0.01);
+        }
+    }
+
+    public void testMerge() {
+        final double relativeAccuracy = randomFrom(0.05, 0.01, 0.005);
+        final double[] values = randomValues(between(0, 10000));
+        try (DDSketchState all = new DDSketchState(relativeAccuracy, bigArrays);
+             DDSketchState first = new DDSketchState(relativeAccuracy, bigArrays);
+             DDSketchState second = new DDSketchState(relativeAccuracy, bigArrays)) {
+            for (double value : values) {
+                all.add(value);
+                if (randomBoolean()) {
+                    first.add(value);
+                } else {
+                    second.add(value);
+                }
+            }
+            first.add(second);
+            // merging adds up the counts of the bins, so it is exact
+            assertEquals(all, first);
+            assertEquals(all.hashCode(), first.hashCode());
+            for (double q : new double[] { 0, 0.5, 0.99, 1, randomDouble() }) {
+                assertEquals(all.quantile(q), first.quantile(q), 0d);
+            }
+        }
+    }
+
+    public void testMergeDifferentRelativeAccuracy() {
+        try (DDSketchState first = new DDSketchState(0.01, bigArrays);
+             DDSketchState second = new DDSketchState(0.02, bigArrays)) {
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> first.add(second));
+            assertThat(e.getMessage(), equalTo("Cannot merge a DDSketch with relative accuracy [0.02] into one with "
+                + "relative accuracy [0.01]"));
+        }
+    }
+
+    public void testSerialization() throws IOException {
+        final double[] values = randomValues(between(0, 10000));
+        try (DDSketchState sketch = new DDSketchState(randomFrom(0.05, 0.01, 0.005), bigArrays)) {
+            Arrays.stream(values).forEach(sketch::add);
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                DDSketchState.write(sketch, out);
+                try (StreamInput in = out.bytes().streamInput();
+                     DDSketchState read = DDSketchState.read(in, bigArrays)) {
+                    assertEquals(sketch, read);
+                    assertEquals(sketch.quantile(0.5), read.quantile(0.5), 0d);
+                }
+            }
+        }
+    }
+
+    public void testCollapse() {
+        final int maxBins = between(8, 64);
+        try (DDSketchState sketch = new DDSketchState(0.01, maxBins, bigArrays)) {
+            for (int i = 0; i < 1000; i++) {
+                sketch.add(Math.pow(1.5, between(-200, 200)));
+            }
+            sketch.add(Math.pow(1.5, 200));
+            assertEquals(1001, sketch.size());
+            assertThat(sketch.byteSize(), lessThan(Long.BYTES * 2L * maxBins + 1));
+            // only the bins of the smallest positive values are collapsed, the maximum keeps its own bin
+            assertEquals(Math.pow(1.5, 200), sketch.quantile(1), 0d);
+        }
+    }
+
+    public void testInvalidValues() {
+        try (DDSketchState sketch = new DDSketchState(0.01, bigArrays)) {
+            expectThrows(IllegalArgumentException.class, () -> sketch.add(Double.NaN));
+            expectThrows(IllegalArgumentException.class, () -> sketch.add(Double.POSITIVE_INFINITY));
+            expectThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        }
+        expectThrows(IllegalArgumentException.class, () -> new DDSketchState(0, bigArrays));
+        expectThrows(IllegalArgumentException.class, () -> new DDSketchState(1, bigArrays));
+    }
+}
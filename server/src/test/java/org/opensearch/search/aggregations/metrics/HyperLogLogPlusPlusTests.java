@@ -34,19 +34,24 @@ package org.opensearch.search.aggregations.metrics;
 
 import com.carrotsearch.hppc.BitMixer;
 import com.carrotsearch.hppc.IntHashSet;
+import org.opensearch.Version;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX_PRECISION;
 import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MIN_PRECISION;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -196,4 +201,65 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSerialization() throws IOException {
+        // at the minimum precision, switching to hyperloglog may already set a quarter of the registers
+        final int p = randomIntBetween(MIN_PRECISION + 1, MAX_PRECISION);
+        final int registers = 1 << p;
+        final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+        final long bucket = randomInt(10);
+        // collect distinct hashes until linear counting switches to hyperloglog, at which point fewer than a quarter of
+        // the registers are set and they are written as a sparse list
+        long value = 0;
+        while (counts.getAlgorithm(bucket) == AbstractHyperLogLogPlusPlus.LINEAR_COUNTING) {
+            counts.collect(bucket, BitMixer.mix64(value++));
+        }
+        assertSerialization(counts, bucket, true);
+
+        // twice as many distinct hashes as registers set most of them, so they are packed into 6 bits each
+        for (int i = 0; i < 2 * registers; ++i) {
+            counts.collect(bucket, BitMixer.mix64(value++));
+        }
+        assertSerialization(counts, bucket, false);
+
+        // merging a dense sketch into an empty one upgrades it to hyperloglog with the same registers
+        final HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+        merged.merge(0, counts, bucket);
+        assertEquals(AbstractHyperLogLogPlusPlus.HYPERLOGLOG, merged.getAlgorithm(0));
+        assertTrue(merged.equals(0, counts, bucket));
+        assertSerialization(merged, 0, false);
+    }
+
+    private static void assertSerialization(HyperLogLogPlusPlus counts, long bucket, boolean sparse) throws IOException {
+        final int registers = 1 << counts.precision();
+        for (Version version : new Version[] { Version.CURRENT, Version.V_7_10_2 }) {
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.setVersion(version);
+                counts.writeTo(bucket, out);
+                try (StreamInput in = out.bytes().streamInput()) {
+                    in.setVersion(version);
+                    assertEquals(counts.precision(), in.readVInt());
+                    assertEquals(AbstractHyperLogLogPlusPlus.HYPERLOGLOG, in.readBoolean());
+                    if (version.onOrAfter(Version.V_7_10_3)) {
+                        assertEquals(sparse, in.readBoolean());
+                        if (sparse) {
+                            assertThat(in.readVInt(), lessThan(registers / 4));
+                        } else {
+                            // 4 registers per 3 bytes
+                            assertEquals(registers / 4 * 3, in.available());
+                        }
+                    } else {
+                        // one byte per register
+                        assertEquals(registers, in.available());
+                    }
+                }
+                try (StreamInput in = out.bytes().streamInput()) {
+                    in.setVersion(version);
+                    final AbstractHyperLogLogPlusPlus read = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE);
+                    assertTrue(counts.equals(bucket, read, 0));
+                    assertEquals(counts.cardinality(bucket), read.cardinality(0));
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.search.DocValueFormat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InternalDDSketchPercentilesRanksTests extends InternalPercentilesRanksTestCase<InternalDDSketchPercentileRanks> {
+
+    @Override
+    protected InternalDDSketchPercentileRanks createTestInstance(String name, Map<String, Object> metadata,
+                                                                boolean keyed, DocValueFormat format, double[] percents, double[] values) {
+        final DDSketchState state = new DDSketchState(randomFrom(0.01, 0.001), BigArrays.NON_RECYCLING_INSTANCE);
+        Arrays.stream(values).forEach(state::add);
+
+        assertEquals(state.size(), values.length);
+        return new InternalDDSketchPercentileRanks(name, percents, state, keyed, format, metadata);
+    }
+
+    @Override
+    protected void assertReduced(InternalDDSketchPercentileRanks reduced, List<InternalDDSketchPercentileRanks> inputs) {
+        // the sketches are merged exactly, so the min and max and the counts of the bins add up
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        long totalCount = 0;
+        for (InternalDDSketchPercentileRanks ranks : inputs) {
+            totalCount += ranks.state.size();
+            min = Math.min(ranks.state.getMin(), min);
+            max = Math.max(ranks.state.getMax(), max);
+        }
+        assertEquals(totalCount, reduced.state.size());
+        if (totalCount > 0) {
+            assertEquals(min, reduced.state.quantile(0), 0d);
+            assertEquals(max, reduced.state.quantile(1), 0d);
+            assertEquals(100, reduced.percent(max), 0d);
+        }
+    }
+
+    @Override
+    protected Class<? extends ParsedPercentiles> implementationClass() {
+        return ParsedDDSketchPercentileRanks.class;
+    }
+
+    @Override
+    protected InternalDDSketchPercentileRanks mutateInstance(InternalDDSketchPercentileRanks instance) {
+        String name = instance.getName();
+        double[] percents = instance.keys;
+        DDSketchState state = instance.state;
+        boolean keyed = instance.keyed;
+        DocValueFormat formatter = instance.formatter();
+        Map<String, Object> metadata = instance.getMetadata();
+        switch (between(0, 4)) {
+        case 0:
+            name += randomAlphaOfLength(5);
+            break;
+        case 1:
+            percents = Arrays.copyOf(percents, percents.length + 1);
+            percents[percents.length - 1] = randomDouble() * 100;
+            Arrays.sort(percents);
+            break;
+        case 2:
+            DDSketchState newState = new DDSketchState(state.relativeAccuracy(), BigArrays.NON_RECYCLING_INSTANCE);
+            newState.add(state);
+            for (int i = 0; i < between(10, 100); i++) {
+                newState.add(randomDouble());
+            }
+            state = newState;
+            break;
+        case 3:
+            keyed = keyed == false;
+            break;
+        case 4:
+            if (metadata == null) {
+                metadata = new HashMap<>(1);
+            } else {
+                metadata = new HashMap<>(instance.getMetadata());
+            }
+            metadata.put(randomAlphaOfLength(15), randomInt());
+            break;
+        default:
+            throw new AssertionError("Illegal randomisation branch");
+        }
+        return new InternalDDSketchPercentileRanks(name, percents, state, keyed, formatter, metadata);
+    }
+}
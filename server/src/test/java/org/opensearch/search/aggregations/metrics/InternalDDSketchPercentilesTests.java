@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.search.DocValueFormat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InternalDDSketchPercentilesTests extends InternalPercentilesTestCase<InternalDDSketchPercentiles> {
+
+    @Override
+    protected InternalDDSketchPercentiles createTestInstance(String name,
+                                                            Map<String, Object> metadata,
+                                                            boolean keyed, DocValueFormat format, double[] percents, double[] values) {
+        final DDSketchState state = new DDSketchState(randomFrom(0.01, 0.001), BigArrays.NON_RECYCLING_INSTANCE);
+        Arrays.stream(values).forEach(state::add);
+
+        assertEquals(state.size(), values.length);
+        return new InternalDDSketchPercentiles(name, percents, state, keyed, format, metadata);
+    }
+
+    @Override
+    protected void assertReduced(InternalDDSketchPercentiles reduced, List<InternalDDSketchPercentiles> inputs) {
+        // the sketches are merged exactly, so the reduced sketch is the same as one that all inputs were merged into
+        final DDSketchState expectedState = new DDSketchState(reduced.state.relativeAccuracy(), BigArrays.NON_RECYCLING_INSTANCE);
+
+        long totalCount = 0;
+        for (InternalDDSketchPercentiles input : inputs) {
+            assertArrayEquals(reduced.keys, input.keys, 0d);
+            expectedState.add(input.state);
+            totalCount += input.state.size();
+        }
+
+        assertEquals(totalCount, reduced.state.size());
+        assertEquals(expectedState, reduced.state);
+        if (totalCount > 0) {
+            for (double key : reduced.keys) {
+                assertEquals(expectedState.quantile(key / 100), reduced.percentile(key), 0d);
+            }
+        }
+    }
+
+    @Override
+    protected Class<? extends ParsedPercentiles> implementationClass() {
+        return ParsedDDSketchPercentiles.class;
+    }
+
+    @Override
+    protected InternalDDSketchPercentiles mutateInstance(InternalDDSketchPercentiles instance) {
+        String name = instance.getName();
+        double[] percents = instance.keys;
+        DDSketchState state = instance.state;
+        boolean keyed = instance.keyed;
+        DocValueFormat formatter = instance.formatter();
+        Map<String, Object> metadata = instance.getMetadata();
+        switch (between(0, 4)) {
+        case 0:
+            name += randomAlphaOfLength(5);
+            break;
+        case 1:
+            percents = Arrays.copyOf(percents, percents.length + 1);
+            percents[percents.length - 1] = randomDouble() * 100;
+            Arrays.sort(percents);
+            break;
+        case 2:
+            DDSketchState newState = new DDSketchState(state.relativeAccuracy(), BigArrays.NON_RECYCLING_INSTANCE);
+            newState.add(state);
+            for (int i = 0; i < between(10, 100); i++) {
+                newState.add(randomDouble());
+            }
+            state = newState;
+            break;
+        case 3:
+            keyed = keyed == false;
+            break;
+        case 4:
+            if (metadata == null) {
+                metadata = new HashMap<>(1);
+            } else {
+                metadata = new HashMap<>(instance.getMetadata());
+            }
+            metadata.put(randomAlphaOfLength(15), randomInt());
+            break;
+        default:
+            throw new AssertionError("Illegal randomisation branch");
+        }
+        return new InternalDDSketchPercentiles(name, percents, state, keyed, formatter, metadata);
+    }
+}
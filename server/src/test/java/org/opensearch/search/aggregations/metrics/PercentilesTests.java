@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentParseException;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.json.JsonXContent;
@@ -61,6 +63,8 @@ public class PercentilesTests extends BaseAggregationTestCase<PercentilesAggrega
             factory.numberOfSignificantValueDigits(randomIntBetween(0, 5));
         } else if (randomBoolean()) {
             factory.compression(randomIntBetween(1, 50000));
+        } else if (randomBoolean()) {
+            factory.percentilesConfig(new PercentilesConfig.DDSketch(randomDoubleBetween(0.0001, 0.1, true)));
         }
         String field = randomNumericField();
         randomFieldOrScript(factory, field);
@@ -111,4 +115,31 @@ public class PercentilesTests extends BaseAggregationTestCase<PercentilesAggrega
                 () -> PercentilesAggregationBuilder.parse("myPercentiles", parser));
         assertThat(e.getMessage(), containsString("[percentiles] failed to parse field [hdr]"));
     }
+
+    public void testParseDDSketch() throws IOException {
+        final String agg = "{\n" +
+            "       \"percentiles\": {\n" +
+            "           \"field\": \"load_time\",\n" +
+            "           \"percents\": [99],\n" +
+            "           \"ddsketch\": {\n" +
+            "               \"relative_accuracy\": 0.005\n" +
+            "           }\n" +
+            "   }\n" +
+            "}";
+        XContentParser parser = createParser(JsonXContent.jsonXContent, agg);
+        assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+        assertEquals(XContentParser.Token.FIELD_NAME, parser.nextToken());
+        PercentilesAggregationBuilder builder = PercentilesAggregationBuilder.parse("myPercentiles", parser);
+        assertEquals(new PercentilesConfig.DDSketch(0.005), builder.percentilesConfig());
+    }
+
+    public void testDDSketchNotSerializedToOldVersions() throws IOException {
+        PercentilesAggregationBuilder builder = new PercentilesAggregationBuilder("testAgg")
+            .percentilesConfig(new PercentilesConfig.DDSketch());
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_7_10_2);
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> builder.writeTo(out));
+            assertEquals("[ddsketch] is not supported on versions before 7.10.3", e.getMessage());
+        }
+    }
 }
@@ -39,11 +39,16 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.io.IOException;
+
 import static org.opensearch.search.lookup.LeafDocLookup.TYPES_DEPRECATION_MESSAGE;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 public class LeafDocLookupTests extends OpenSearchTestCase {
@@ -88,6 +93,19 @@ public class LeafDocLookupTests extends OpenSearchTestCase {
         assertWarnings(TYPES_DEPRECATION_MESSAGE);
     }
 
+    public void testPositionsDocValuesOncePerDocument() throws IOException {
+        docLookup.setDocument(1);
+        docLookup.get("field");
+        docLookup.get("field");
+        verify(docValues, times(1)).setNextDocId(1);
+
+        docLookup.setDocument(3);
+        docLookup.get("field");
+        docLookup.get("field");
+        verify(docValues, times(1)).setNextDocId(3);
+        verifyNoMoreInteractions(docValues);
+    }
+
     private IndexFieldData<?> createFieldData(ScriptDocValues scriptDocValues) {
         LeafFieldData leafFieldData = mock(LeafFieldData.class);
         doReturn(scriptDocValues).when(leafFieldData).getScriptValues();
@@ -33,6 +33,14 @@
 package org.opensearch.threadpool;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.GroupedRunnable;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.containsString;
 
@@ -121,4 +129,72 @@ public class AutoQueueAdjustingExecutorBuilderTests extends OpenSearchThreadPool
         assertSettingDeprecationsAndWarnings(new String[]{"thread_pool.test.min_queue_size", "thread_pool.test.max_queue_size"});
     }
 
+    public void testSchedulingSettings() throws InterruptedException {
+        Settings settings = Settings.builder()
+            .put("thread_pool.test.scheduling.policy", "index")
+            .put("thread_pool.test.scheduling.header", "tenant")
+            .put("thread_pool.test.scheduling.weights.a", 2)
+            .build();
+        AutoQueueAdjustingExecutorBuilder test =
+            new AutoQueueAdjustingExecutorBuilder(settings, "test", 1, 1000, 1000, 1000, 2000, false, true);
+        AutoQueueAdjustingExecutorBuilder.AutoExecutorSettings s = test.getSettings(settings);
+        assertEquals(AutoQueueAdjustingExecutorBuilder.SchedulingPolicy.INDEX, s.schedulingPolicy);
+        assertEquals("tenant", s.schedulingHeader);
+        assertEquals(Integer.valueOf(2), s.schedulingWeights.get("a"));
+        assertNull(s.schedulingWeights.get("b"));
+
+        // the single thread is blocked so that all tasks are queued, group [a] then runs two tasks per round and group [b] one
+        final ExecutorService executor = test.build(s, new ThreadContext(Settings.EMPTY)).executor();
+        try {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            final CountDownLatch done = new CountDownLatch(6);
+            final List<String> executed = new CopyOnWriteArrayList<>();
+            executor.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            for (String task : Arrays.asList("a1", "a2", "a3", "a4", "b1", "b2")) {
+                executor.execute(new GroupedRunnable() {
+                    @Override
+                    public String schedulingGroup() {
+                        return task.substring(0, 1);
+                    }
+
+                    @Override
+                    public void run() {
+                        executed.add(task);
+                        done.countDown();
+                    }
+                });
+            }
+            blocked.countDown();
+            done.await();
+            assertEquals(Arrays.asList("a1", "a2", "b1", "a3", "a4", "b2"), executed);
+        } finally {
+            terminate(executor);
+        }
+    }
+
+    public void testSchedulingSettingsNotRegisteredByDefault() {
+        AutoQueueAdjustingExecutorBuilder test =
+            new AutoQueueAdjustingExecutorBuilder(Settings.EMPTY, "test", 1, 1000, 1000, 1000, 2000);
+        AutoQueueAdjustingExecutorBuilder.AutoExecutorSettings s = test.getSettings(Settings.EMPTY);
+        assertEquals(AutoQueueAdjustingExecutorBuilder.SchedulingPolicy.FIFO, s.schedulingPolicy);
+        assertTrue(test.getRegisteredSettings().stream().noneMatch(setting -> setting.getKey().contains("scheduling")));
+    }
+
+    public void testInvalidSchedulingSettings() {
+        final Settings policy = Settings.builder().put("thread_pool.test.scheduling.policy", "lifo").build();
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> new AutoQueueAdjustingExecutorBuilder(policy, "test", 1, 1000, 1000, 1000, 2000, false, true).getSettings(policy));
+        assertThat(e.getMessage(), containsString("unknown scheduling policy [lifo]"));
+
+        final Settings weights = Settings.builder().put("thread_pool.test.scheduling.weights.a", 0).build();
+        expectThrows(IllegalArgumentException.class,
+            () -> new AutoQueueAdjustingExecutorBuilder(weights, "test", 1, 1000, 1000, 1000, 2000, false, true).getSettings(weights));
+    }
+
 }
@@ -39,6 +39,7 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.test.OpenSearchTestCase;
@@ -206,6 +207,46 @@ public class InboundAggregatorTests extends OpenSearchTestCase {
         assertFalse(aggregated3.isShortCircuit());
     }
 
+    public void testRetainedContentKeepsBreakerReservation() throws IOException {
+        Header header = new Header(randomInt(), randomNonNegativeLong(), TransportStatus.setRequest((byte) 0), Version.CURRENT);
+        header.headers = new Tuple<>(Collections.emptyMap(), Collections.emptyMap());
+        header.actionName = "action_name";
+        // Initiate Message
+        aggregator.headerReceived(header);
+
+        try (BytesStreamOutput streamOutput = new BytesStreamOutput()) {
+            streamOutput.writeBytesReference(new BytesArray(randomByteArrayOfLength(between(1, 100))));
+            final ReleasableBytesReference content = ReleasableBytesReference.wrap(streamOutput.bytes());
+            aggregator.aggregate(content);
+            content.close();
+
+            // Signal EOS
+            InboundMessage aggregated = aggregator.finishAggregation();
+
+            assertThat(aggregated, notNullValue());
+            assertFalse(aggregated.isShortCircuit());
+            assertEquals(content.length(), circuitBreaker.getUsed());
+
+            final Releasable breakerRelease = aggregated.takeBreakerReleaseControl();
+            final ReleasableBytesReference retained = aggregated.openOrGetStreamInput().readReleasableBytesReference();
+            if (randomBoolean()) {
+                aggregated.close();
+                breakerRelease.close();
+            } else {
+                breakerRelease.close();
+                aggregated.close();
+            }
+
+            // the retained slice pins the content so its bytes stay accounted for
+            assertEquals(1, content.refCount());
+            assertEquals(content.length(), circuitBreaker.getUsed());
+
+            retained.close();
+            assertEquals(0, content.refCount());
+            assertEquals(0, circuitBreaker.getUsed());
+        }
+    }
+
     public void testCloseWillCloseContent() {
         long requestId = randomNonNegativeLong();
         Header header = new Header(randomInt(), requestId, TransportStatus.setRequest((byte) 0), Version.CURRENT);
@@ -38,6 +38,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.common.breaker.TestCircuitBreaker;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
@@ -46,6 +47,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.InputStreamStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -65,7 +67,9 @@ import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 
 public class InboundHandlerTests extends OpenSearchTestCase {
@@ -192,6 +196,62 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testRequestContentIsReleasedAfterHandling() throws Exception {
+        final String action = "test-retaining-request";
+        final boolean fail = randomBoolean();
+        final boolean retain = fail == false && randomBoolean();
+        final AtomicReference<RetainingRequest> requestCaptor = new AtomicReference<>();
+        final AtomicReference<ReleasableBytesReference> retainedCaptor = new AtomicReference<>();
+        RequestHandlerRegistry<RetainingRequest> registry = new RequestHandlerRegistry<>(action, RetainingRequest::new, taskManager,
+            (request, channel, task) -> {
+                requestCaptor.set(request);
+                if (fail) {
+                    throw new OpenSearchException("boom");
+                }
+                if (retain) {
+                    retainedCaptor.set(request.content.retain());
+                }
+                channel.sendResponse(TransportResponse.Empty.INSTANCE);
+            }, randomFrom(ThreadPool.Names.SAME, ThreadPool.Names.GENERIC), false, true);
+        requestHandlers.registerHandler(registry);
+
+        final TestCircuitBreaker circuitBreaker = new TestCircuitBreaker();
+        final InboundAggregator aggregator = new InboundAggregator(() -> circuitBreaker, (Predicate<String>) a -> true);
+        final long requestId = randomNonNegativeLong();
+        final RetainingRequest retainingRequest = new RetainingRequest(new BytesArray(randomByteArrayOfLength(between(1, 100))));
+        OutboundMessage.Request request = new OutboundMessage.Request(threadPool.getThreadContext(), new String[0], retainingRequest,
+            version, action, requestId, false, false);
+        int headerSize = TcpHeader.headerSize(version);
+        BytesReference fullRequestBytes = request.serialize(new BytesStreamOutput());
+        aggregator.headerReceived(new Header(fullRequestBytes.length() - 6, requestId, TransportStatus.setRequest((byte) 0), version));
+        final ReleasableBytesReference content =
+            ReleasableBytesReference.wrap(fullRequestBytes.slice(headerSize, fullRequestBytes.length() - headerSize));
+        aggregator.aggregate(content);
+        content.close();
+        try (InboundMessage requestMessage = aggregator.finishAggregation()) {
+            assertFalse(requestMessage.isShortCircuit());
+            assertThat(circuitBreaker.getUsed(), greaterThan(0L));
+            handler.inboundMessage(channel, requestMessage);
+        }
+
+        // wait for the handler to complete, after which only the references it acquired itself remain
+        assertBusy(() -> {
+            assertNotNull(requestCaptor.get());
+            assertEquals(retain ? 1 : 0, requestCaptor.get().content.refCount());
+        });
+        final BytesReference response = channel.getMessageCaptor().get();
+        assertNotNull(response);
+        assertEquals(fail, TransportStatus.isError(response.get(TcpHeader.VERSION_POSITION - TcpHeader.STATUS_SIZE)));
+
+        if (retain) {
+            assertEquals(1, content.refCount());
+            assertThat(circuitBreaker.getUsed(), greaterThan(0L));
+            retainedCaptor.get().close();
+        }
+        assertEquals(0, content.refCount());
+        assertEquals(0, circuitBreaker.getUsed());
+    }
+
     public void testSendsErrorResponseToHandshakeFromCompatibleVersion() throws Exception {
         // Nodes use their minimum compatibility version for the TCP handshake, so a node from v(major-1).x will report its version as
         // v(major-2).last in the TCP handshake, with which we are not really compatible. We put extra effort into making sure that if
@@ -309,4 +369,38 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         };
     }
 
+    private static class RetainingRequest extends TransportRequest {
+
+        private final ReleasableBytesReference content;
+
+        RetainingRequest(BytesReference content) {
+            this.content = ReleasableBytesReference.wrap(content);
+        }
+
+        RetainingRequest(StreamInput in) throws IOException {
+            super(in);
+            content = in.readReleasableBytesReference();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeBytesReference(content);
+        }
+
+        @Override
+        public void incRef() {
+            content.incRef();
+        }
+
+        @Override
+        public boolean tryIncRef() {
+            return content.tryIncRef();
+        }
+
+        @Override
+        public boolean decRef() {
+            return content.decRef();
+        }
+    }
 }
@@ -36,10 +36,12 @@ import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TestCircuitBreaker extends NoopCircuitBreaker {
 
     private final AtomicBoolean shouldBreak = new AtomicBoolean(false);
+    private final AtomicLong used = new AtomicLong();
 
     public TestCircuitBreaker() {
         super("test");
@@ -50,7 +52,17 @@ public class TestCircuitBreaker extends NoopCircuitBreaker {
         if (shouldBreak.get()) {
             throw new CircuitBreakingException("broken", getDurability());
         }
-        return 0;
+        return used.addAndGet(bytes);
+    }
+
+    @Override
+    public long addWithoutBreaking(long bytes) {
+        return used.addAndGet(bytes);
+    }
+
+    @Override
+    public long getUsed() {
+        return used.get();
     }
 
     public void startBreaking() {
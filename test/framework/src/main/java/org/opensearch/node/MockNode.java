@@ -147,7 +147,7 @@ public class MockNode extends Node {
                 responseCollectorService, circuitBreakerService);
         }
         return new MockSearchService(clusterService, indicesService, threadPool, scriptService,
-            bigArrays, fetchPhase, circuitBreakerService);
+            bigArrays, getEnvironment().tmpFile(), fetchPhase, circuitBreakerService);
     }
 
     @Override
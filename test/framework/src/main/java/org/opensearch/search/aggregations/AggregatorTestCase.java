@@ -322,6 +322,7 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
          */
         BigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), circuitBreakerService).withCircuitBreaking();
         when(searchContext.bigArrays()).thenReturn(bigArrays);
+        when(searchContext.spillDirectory()).thenReturn(createTempDir());
 
         // TODO: now just needed for top_hits, this will need to be revised for other agg unit tests:
         MapperService mapperService = mapperServiceMock();
@@ -74,6 +74,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -315,6 +316,11 @@ public class TestSearchContext extends SearchContext {
         return bigArrays;
     }
 
+    @Override
+    public Path spillDirectory() {
+        return null;
+    }
+
     @Override
     public BitsetFilterCache bitsetFilterCache() {
         return fixedBitSetFilterCache;